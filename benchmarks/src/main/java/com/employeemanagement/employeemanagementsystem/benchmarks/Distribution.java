@@ -0,0 +1,31 @@
+package com.employeemanagement.employeemanagementsystem.benchmarks;
+
+import com.employeemanagement.employeemanagementsystem.model.workload.WorkforceGenerator;
+
+import java.util.Locale;
+
+/**
+ * Shape of the generated employee attributes
+ */
+public enum Distribution {
+    // Every department, salary, rating and experience value equally likely
+    UNIFORM,
+    // Zipf-skewed departments, log-normal salaries, ratings clustered around 3.5
+    SKEWED;
+
+    WorkforceGenerator generator(long seed) {
+        WorkforceGenerator.Builder builder = WorkforceGenerator.builder().seed(seed).nameCardinality(20, 20);
+        if (this == UNIFORM) {
+            builder.departmentSkew(0).uniformSalaries(30_000, 150_000).uniformRatings().meanExperience(20).activeRatio(0.9);
+        } else {
+            builder.departmentSkew(1.2).logNormalSalaries(60_000, 0.4).normalRatings(3.5, 0.8).meanExperience(8).activeRatio(0.95);
+        }
+        return builder.build();
+    }
+
+    // Lower-cased last name of employee 0, so name searches match the generated names (about 1 in 20 employees)
+    static String nameSearchTerm(WorkforceGenerator generator) {
+        String name = generator.employee(0).getEmployeeName();
+        return name.substring(name.indexOf(' ') + 1).toLowerCase(Locale.ROOT);
+    }
+}
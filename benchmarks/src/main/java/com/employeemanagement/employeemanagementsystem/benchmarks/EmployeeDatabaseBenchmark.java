@@ -0,0 +1,225 @@
+package com.employeemanagement.employeemanagementsystem.benchmarks;
+
+import com.employeemanagement.employeemanagementsystem.exceptions.EmployeeNotFoundException;
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidDepartmentException;
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidSalaryException;
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
+import com.employeemanagement.employeemanagementsystem.model.cache.QueryResultCache;
+import com.employeemanagement.employeemanagementsystem.model.workload.WorkforceGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the EmployeeDatabase operations the UI and reports depend on
+ * Run through BenchmarkRunner so the GC profiler reports allocation per operation next to throughput.
+ * The query cache is off by default so searches and sorts measure the scan itself, pass
+ * -p queryCache=true to measure cached repeats instead.
+ * 10M employees need roughly 6 GB of heap, the fork is started with -Xmx8g.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx8g"})
+public class EmployeeDatabaseBenchmark {
+
+    private static final long SEED = 0x5EEDL;
+
+    @State(Scope.Benchmark)
+    public static class DatabaseState {
+
+        @Param({"1000", "100000", "1000000", "10000000"})
+        public int size;
+
+        @Param({"UNIFORM", "SKEWED"})
+        public Distribution distribution;
+
+        @Param({"false"})
+        public boolean queryCache;
+
+        // Past this many raises salaries grow large enough to distort results, so the data is rebuilt
+        private static final int MAX_RAISES = 1_000;
+
+        EmployeeDatabase<Integer> database;
+        String nameTerm;
+        private WorkforceGenerator generator;
+
+        // Pre-drawn inputs so the measured code doesn't pay for random number generation
+        private int[] lookupIds;
+        private Employee<Integer>[] newEmployees;
+        private int lookupCursor;
+        private int addCursor;
+        private int nextNewId;
+        private boolean employeesAdded;
+        private int salaryCounter;
+        private int raises;
+
+        @Setup(Level.Trial)
+        @SuppressWarnings("unchecked")
+        public void createDatabase() throws InvalidSalaryException {
+            generator = distribution.generator(SEED);
+            nameTerm = Distribution.nameSearchTerm(generator);
+            buildDatabase();
+
+            SplittableRandom random = new SplittableRandom(SEED + 1);
+            lookupIds = new int[1 << 16];
+            for (int i = 0; i < lookupIds.length; i++) {
+                lookupIds[i] = random.nextInt(size);
+            }
+            newEmployees = (Employee<Integer>[]) new Employee<?>[1 << 12];
+            nextNewId = size;
+        }
+
+        // Fresh records for the next addEmployee calls, created outside the measurement
+        @Setup(Level.Iteration)
+        public void prepareNewEmployees() {
+            for (int i = 0; i < newEmployees.length; i++) {
+                newEmployees[i] = generator.employee(nextNewId + i);
+            }
+            addCursor = 0;
+        }
+
+        // Keeps the dataset at its nominal size and drops history built up by updates
+        @TearDown(Level.Iteration)
+        public void restoreDatabase() throws InvalidSalaryException {
+            if (raises > MAX_RAISES) {
+                buildDatabase();
+            } else if (employeesAdded) {
+                int firstAdded = size;
+                database.deleteEmployeesMatching(employee -> employee.getEmployeeId() >= firstAdded);
+            }
+            database.compactHistoryBefore(Instant.now());
+            nextNewId = size;
+            employeesAdded = false;
+        }
+
+        private void buildDatabase() throws InvalidSalaryException {
+            QueryResultCache cache = queryCache ? new QueryResultCache() : new QueryResultCache(0, 0);
+            database = new EmployeeDatabase<>(Clock.systemUTC(), cache);
+            generator.populate(database, size);
+            raises = 0;
+        }
+
+        int nextLookupId() {
+            int id = lookupIds[lookupCursor];
+            lookupCursor = (lookupCursor + 1) & (lookupIds.length - 1);
+            return id;
+        }
+
+        Employee<Integer> nextNewEmployee() {
+            if (addCursor == newEmployees.length) {
+                // Out of prepared records, refill with the next block of IDs
+                nextNewId += newEmployees.length;
+                for (int i = 0; i < newEmployees.length; i++) {
+                    newEmployees[i] = generator.employee(nextNewId + i);
+                }
+                addCursor = 0;
+            }
+            employeesAdded = true;
+            return newEmployees[addCursor++];
+        }
+
+        // A different value on every call, so each update is a real change
+        double nextSalary() {
+            salaryCounter = (salaryCounter + 1) & 1023;
+            return 40_000.0 + salaryCounter;
+        }
+    }
+
+    // CRUD
+
+    @Benchmark
+    public void addEmployee(DatabaseState state) throws InvalidSalaryException {
+        state.database.addEmployee(state.nextNewEmployee());
+    }
+
+    @Benchmark
+    public Employee<Integer> getEmployee(DatabaseState state) throws EmployeeNotFoundException {
+        return state.database.getEmployee(state.nextLookupId());
+    }
+
+    @Benchmark
+    public void updateEmployeeDetails(DatabaseState state)
+            throws EmployeeNotFoundException, InvalidSalaryException, InvalidDepartmentException {
+        state.database.updateEmployeeDetails(state.nextLookupId(), "employeeSalary", state.nextSalary());
+    }
+
+    // Searches
+
+    @Benchmark
+    public List<Employee<Integer>> findEmployeesByDepartment(DatabaseState state) throws InvalidDepartmentException {
+        return state.database.findEmployeesByDepartment(EEmployeeDepartment.FINANCE.name());
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> findEmployeesByName(DatabaseState state) {
+        return state.database.findEmployeesByName(state.nameTerm);
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> findEmployeesByMinRating(DatabaseState state) {
+        return state.database.findEmployeesByMinRating(4.0);
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> findEmployeesBySalaryRange(DatabaseState state) throws InvalidSalaryException {
+        return state.database.findEmployeesBySalaryRange(50_000, 80_000);
+    }
+
+    // Sorts
+
+    @Benchmark
+    public List<Employee<Integer>> getEmployeesSortedByExperience(DatabaseState state) {
+        return state.database.getEmployeesSortedByExperience();
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> getEmployeesSortedBySalary(DatabaseState state) {
+        return state.database.getEmployeesSortedBySalary();
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> getEmployeesSortedByPerformance(DatabaseState state) {
+        return state.database.getEmployeesSortedByPerformance();
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> getTopPaidEmployees(DatabaseState state) {
+        return state.database.getTopPaidEmployees(10);
+    }
+
+    // Aggregates and bulk updates
+
+    @Benchmark
+    public int giveSalaryRaiseToHighPerformers(DatabaseState state) {
+        state.raises++;
+        return state.database.giveSalaryRaiseToHighPerformers();
+    }
+
+    @Benchmark
+    public void calculateAverageSalaryByDepartment(DatabaseState state, Blackhole blackhole) throws InvalidDepartmentException {
+        for (EEmployeeDepartment department : EEmployeeDepartment.values()) {
+            blackhole.consume(state.database.calculateAverageSalaryByDepartment(department.name()));
+        }
+    }
+}
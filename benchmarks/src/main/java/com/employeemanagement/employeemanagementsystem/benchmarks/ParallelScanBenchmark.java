@@ -0,0 +1,104 @@
+package com.employeemanagement.employeemanagementsystem.benchmarks;
+
+import com.employeemanagement.employeemanagementsystem.exceptions.EmployeeNotFoundException;
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidDepartmentException;
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidSalaryException;
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
+import com.employeemanagement.employeemanagementsystem.model.cache.QueryResultCache;
+import com.employeemanagement.employeemanagementsystem.model.scan.ParallelScanEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling of searches and aggregates with the number of scan threads
+ * Each trial gives the database a ParallelScanEngine on its own pool of the given size, with the query cache
+ * off so every call scans. Compare the scores across the threads parameter: threads=1 is the sequential baseline.
+ * The updateThen benchmarks write before every scan, so a split scan also pays for a new flat copy of the rows.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+public class ParallelScanBenchmark {
+
+    private static final long SEED = 0x5EEDL;
+
+    @State(Scope.Benchmark)
+    public static class ScanState {
+
+        @Param({"1", "2", "4", "8"})
+        public int threads;
+
+        @Param({"1000000"})
+        public int size;
+
+        @Param({"UNIFORM"})
+        public Distribution distribution;
+
+        EmployeeDatabase<Integer> database;
+        private ForkJoinPool pool;
+        private int updateCursor;
+
+        @Setup(Level.Trial)
+        public void createDatabase() throws InvalidSalaryException {
+            database = new EmployeeDatabase<>(Clock.systemUTC(), new QueryResultCache(0, 0));
+            distribution.generator(SEED).populate(database, size);
+            pool = new ForkJoinPool(threads);
+            database.setScanEngine(new ParallelScanEngine(pool, ParallelScanEngine.DEFAULT_PARALLEL_THRESHOLD,
+                    ParallelScanEngine.DEFAULT_RANGE_SIZE));
+        }
+
+        @TearDown(Level.Trial)
+        public void shutdownPool() {
+            pool.shutdown();
+        }
+
+        // Steps through every ID, 7919 is prime so the walk doesn't stay in one part of the trie
+        int nextUpdateId() {
+            updateCursor = (updateCursor + 7919) % size;
+            return updateCursor;
+        }
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> findEmployeesByMinRating(ScanState state) {
+        return state.database.findEmployeesByMinRating(4.0);
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> findEmployeesBySalaryRange(ScanState state) throws InvalidSalaryException {
+        return state.database.findEmployeesBySalaryRange(50_000, 80_000);
+    }
+
+    @Benchmark
+    public double calculateAverageSalaryByDepartment(ScanState state) throws InvalidDepartmentException {
+        return state.database.calculateAverageSalaryByDepartment(EEmployeeDepartment.FINANCE.name());
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> updateThenFindEmployeesByMinRating(ScanState state)
+            throws EmployeeNotFoundException, InvalidSalaryException, InvalidDepartmentException {
+        int employeeId = state.nextUpdateId();
+        state.database.updateEmployeeDetails(employeeId, "employeeSalary", 40_000.0 + employeeId % 1024);
+        return state.database.findEmployeesByMinRating(4.0);
+    }
+}
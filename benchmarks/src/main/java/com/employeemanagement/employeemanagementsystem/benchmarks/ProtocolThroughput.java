@@ -0,0 +1,119 @@
+package com.employeemanagement.employeemanagementsystem.benchmarks;
+
+import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
+import com.employeemanagement.employeemanagementsystem.model.cluster.ClusterNode;
+import com.employeemanagement.employeemanagementsystem.model.cluster.NodeClient;
+import com.employeemanagement.employeemanagementsystem.model.protocol.EmployeeClient;
+import com.employeemanagement.employeemanagementsystem.model.protocol.EmployeeServer;
+import com.employeemanagement.employeemanagementsystem.model.workload.WorkforceGenerator;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loopback throughput of the binary protocol against the JSON/HTTP node API, on the same database
+ * Each binary run sends `requests` getEmployee (or updateEmployeeDetails salary) calls over one connection with at
+ * most `window` of them in flight; a window of 1 waits for every response like a plain RPC client.
+ * Usage: java -cp benchmarks.jar ...benchmarks.ProtocolThroughput [--size 100000] [--requests 500000]
+ * [--windows 1,16,128,1024] [--operation get|update] [--http-requests 5000] [--seed 24301]
+ */
+public final class ProtocolThroughput {
+
+    private ProtocolThroughput() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int size = Integer.parseInt(options.getOrDefault("size", "100000"));
+        int requests = Integer.parseInt(options.getOrDefault("requests", "500000"));
+        String[] windows = options.getOrDefault("windows", "1,16,128,1024").split(",");
+        boolean updates = "update".equals(options.getOrDefault("operation", "get"));
+        int httpRequests = Integer.parseInt(options.getOrDefault("http-requests", "5000"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "24301"));
+
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        WorkforceGenerator.withSeed(seed).populate(database, size);
+        System.out.printf("Loaded %,d employees, %s over loopback%n%n", size, updates ? "salary updates" : "lookups");
+        System.out.printf("%-22s %14s %12s%n", "Transport", "requests/s", "us/request");
+
+        if (httpRequests > 0) {
+            try (ClusterNode node = new ClusterNode("benchmark",
+                    new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), database).start()) {
+                NodeClient http = new NodeClient("benchmark", node.getAddress());
+                runHttp(http, size, Math.min(httpRequests, 1000), seed, updates);
+                print("JSON/HTTP", httpRequests, runHttp(http, size, httpRequests, seed, updates));
+            }
+        }
+
+        try (EmployeeServer server = new EmployeeServer(database, 0).start()) {
+            for (String window : windows) {
+                int inFlight = Integer.parseInt(window.trim());
+                try (EmployeeClient client = new EmployeeClient(server.getAddress(), inFlight)) {
+                    runBinary(client, size, Math.min(requests, 50_000), seed, updates);
+                    print("binary, window " + inFlight, requests, runBinary(client, size, requests, seed, updates));
+                }
+            }
+        }
+    }
+
+    private static long runHttp(NodeClient client, int size, int requests, long seed, boolean updates) throws Exception {
+        SplittableRandom random = new SplittableRandom(seed);
+        long started = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            int employeeId = random.nextInt(size);
+            if (updates) {
+                client.updateEmployeeDetails(employeeId, "employeeSalary", 3000.0 + random.nextInt(9000));
+            } else {
+                client.getEmployee(employeeId);
+            }
+        }
+        return System.nanoTime() - started;
+    }
+
+    private static long runBinary(EmployeeClient client, int size, int requests, long seed, boolean updates) throws Exception {
+        SplittableRandom random = new SplittableRandom(seed);
+        AtomicLong failures = new AtomicLong();
+        CompletableFuture<?> last = null;
+        long started = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            int employeeId = random.nextInt(size);
+            CompletableFuture<?> future = updates
+                    ? client.updateEmployeeDetailsAsync(employeeId, "employeeSalary", 3000.0 + random.nextInt(9000))
+                    : client.getEmployeeAsync(employeeId);
+            last = future.whenComplete((result, error) -> {
+                if (error != null) {
+                    failures.incrementAndGet();
+                }
+            });
+        }
+        // Responses arrive in request order, so the last one completes after all others
+        if (last != null) {
+            last.handle((result, error) -> null).join();
+        }
+        long elapsed = System.nanoTime() - started;
+        if (failures.get() > 0) {
+            throw new IllegalStateException(failures.get() + " requests failed");
+        }
+        return elapsed;
+    }
+
+    private static void print(String transport, int requests, long elapsedNanos) {
+        System.out.printf("%-22s %,14.0f %12.2f%n", transport, requests * 1e9 / elapsedNanos, elapsedNanos / 1e3 / requests);
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 == args.length) {
+                throw new IllegalArgumentException("Expected --name value pairs, got: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+}
@@ -0,0 +1,150 @@
+package com.employeemanagement.employeemanagementsystem.benchmarks;
+
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidDepartmentException;
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidSalaryException;
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
+import com.employeemanagement.employeemanagementsystem.model.cache.QueryResultCache;
+import com.employeemanagement.employeemanagementsystem.model.scan.EmployeeBuffer;
+import com.employeemanagement.employeemanagementsystem.model.scan.EmployeeScanIterator;
+import com.employeemanagement.employeemanagementsystem.model.workload.WorkforceGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Allocation of the list-returning queries next to their buffer, visitor and iterator variants
+ * Run through BenchmarkRunner and compare gc.alloc.rate.norm: the variants should report 0 bytes per operation
+ * once the buffer has grown to the result size. The query cache is off so every call scans.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+public class QueryAllocationBenchmark {
+
+    private static final long SEED = 0x5EEDL;
+
+    @State(Scope.Benchmark)
+    public static class DatabaseState {
+
+        @Param({"100000"})
+        public int size;
+
+        @Param({"UNIFORM"})
+        public Distribution distribution;
+
+        EmployeeDatabase<Integer> database;
+        String nameTerm;
+
+        @Setup
+        public void createDatabase() throws InvalidSalaryException {
+            WorkforceGenerator generator = distribution.generator(SEED);
+            database = new EmployeeDatabase<>(Clock.systemUTC(), new QueryResultCache(0, 0));
+            generator.populate(database, size);
+            nameTerm = Distribution.nameSearchTerm(generator);
+        }
+    }
+
+    // Reused by every call of one benchmark thread, and the salary consumer itself so no bound lambda is created
+    @State(Scope.Thread)
+    public static class ResultState implements DoubleConsumer {
+        final EmployeeBuffer<Integer> buffer = new EmployeeBuffer<>();
+        final EmployeeScanIterator<Integer> iterator = new EmployeeScanIterator<>();
+        double salaryTotal;
+
+        @Override
+        public void accept(double salary) {
+            salaryTotal += salary;
+        }
+    }
+
+    private static boolean isHighPerformer(Employee<Integer> employee) {
+        return employee.getPerformanceRating() >= 4.0;
+    }
+
+    // Lists
+
+    @Benchmark
+    public List<Employee<Integer>> findEmployeesByMinRating(DatabaseState state) {
+        return state.database.findEmployeesByMinRating(4.0);
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> findEmployeesBySalaryRange(DatabaseState state) throws InvalidSalaryException {
+        return state.database.findEmployeesBySalaryRange(50_000, 80_000);
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> findEmployeesByDepartment(DatabaseState state) throws InvalidDepartmentException {
+        return state.database.findEmployeesByDepartment(EEmployeeDepartment.FINANCE.name());
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> findEmployeesByName(DatabaseState state) {
+        return state.database.findEmployeesByName(state.nameTerm);
+    }
+
+    @Benchmark
+    public double sumHighPerformerSalariesFromList(DatabaseState state) {
+        double total = 0;
+        for (Employee<Integer> employee : state.database.findEmployeesByMinRating(4.0)) {
+            total += employee.getEmployeeSalary();
+        }
+        return total;
+    }
+
+    // Buffers
+
+    @Benchmark
+    public int findEmployeesByMinRatingIntoBuffer(DatabaseState state, ResultState result) {
+        return state.database.findEmployeesByMinRating(4.0, result.buffer);
+    }
+
+    @Benchmark
+    public int findEmployeesBySalaryRangeIntoBuffer(DatabaseState state, ResultState result) throws InvalidSalaryException {
+        return state.database.findEmployeesBySalaryRange(50_000, 80_000, result.buffer);
+    }
+
+    @Benchmark
+    public int findEmployeesByDepartmentIntoBuffer(DatabaseState state, ResultState result) throws InvalidDepartmentException {
+        return state.database.findEmployeesByDepartment(EEmployeeDepartment.FINANCE.name(), result.buffer);
+    }
+
+    @Benchmark
+    public int findEmployeesByNameIntoBuffer(DatabaseState state, ResultState result) {
+        return state.database.findEmployeesByName(state.nameTerm, result.buffer);
+    }
+
+    // Visitors and iterators
+
+    @Benchmark
+    public double sumHighPerformerSalariesWithVisitor(DatabaseState state, ResultState result) {
+        result.salaryTotal = 0;
+        state.database.forEachMatching(QueryAllocationBenchmark::isHighPerformer, Employee::getEmployeeSalary, result);
+        return result.salaryTotal;
+    }
+
+    @Benchmark
+    public void iterateHighPerformers(DatabaseState state, ResultState result, Blackhole blackhole) {
+        for (Employee<Integer> employee : state.database.iterateMatching(QueryAllocationBenchmark::isHighPerformer, result.iterator)) {
+            blackhole.consume(employee);
+        }
+    }
+}
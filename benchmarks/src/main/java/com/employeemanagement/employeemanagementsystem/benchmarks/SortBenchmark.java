@@ -0,0 +1,92 @@
+package com.employeemanagement.employeemanagementsystem.benchmarks;
+
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.sort.EmployeeSortEngine;
+import com.employeemanagement.employeemanagementsystem.model.sort.EmployeeSortKey;
+import com.employeemanagement.employeemanagementsystem.model.sort.EmployeeSortOrder;
+import com.employeemanagement.employeemanagementsystem.model.sort.SortColumn;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Packed-key radix sorts of EmployeeSortEngine against the equivalent chained Comparator sorts
+ * Both sides sort the same unsorted list and return a new list, so each pays for one copy of the references.
+ * The multi-column order is department, then rating descending, then salary descending, with the ID tie-break
+ * of EmployeeSortOrder.toComparator() on the comparator side.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+public class SortBenchmark {
+
+    private static final long SEED = 0x5EEDL;
+
+    @State(Scope.Benchmark)
+    public static class EmployeesState {
+
+        @Param({"10000", "100000", "1000000"})
+        public int size;
+
+        @Param({"UNIFORM", "SKEWED"})
+        public Distribution distribution;
+
+        List<Employee<Integer>> employees;
+        EmployeeSortOrder order;
+        Comparator<Employee<Integer>> chainedComparator;
+        Comparator<Employee<Integer>> salaryComparator;
+
+        @Setup
+        public void createEmployees() {
+            employees = distribution.generator(SEED).generate(size);
+            order = EmployeeSortOrder.by(SortColumn.DEPARTMENT)
+                    .thenDescending(SortColumn.PERFORMANCE)
+                    .thenDescending(SortColumn.SALARY);
+            chainedComparator = order.toComparator();
+            salaryComparator = Comparator.comparingDouble(Employee<Integer>::getEmployeeSalary).reversed();
+        }
+    }
+
+    // Multi-column
+
+    @Benchmark
+    public List<Employee<Integer>> multiColumnPackedKeys(EmployeesState state) {
+        return EmployeeSortEngine.sort(state.employees, state.order);
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> multiColumnChainedComparator(EmployeesState state) {
+        List<Employee<Integer>> sorted = new ArrayList<>(state.employees);
+        sorted.sort(state.chainedComparator);
+        return sorted;
+    }
+
+    // Single column
+
+    @Benchmark
+    public List<Employee<Integer>> salaryRadixSort(EmployeesState state) {
+        return EmployeeSortEngine.sortDescending(state.employees, EmployeeSortKey.SALARY);
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> salaryComparator(EmployeesState state) {
+        List<Employee<Integer>> sorted = new ArrayList<>(state.employees);
+        sorted.sort(state.salaryComparator);
+        return sorted;
+    }
+}
@@ -0,0 +1,87 @@
+package com.employeemanagement.employeemanagementsystem.benchmarks;
+
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidSalaryException;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeStore;
+import com.employeemanagement.employeemanagementsystem.model.lsm.LsmEmployeeStore;
+import com.employeemanagement.employeemanagementsystem.model.workload.OperationMix;
+import com.employeemanagement.employeemanagementsystem.model.workload.WorkforceGenerator;
+import com.employeemanagement.employeemanagementsystem.model.workload.WorkloadDriver;
+import com.employeemanagement.employeemanagementsystem.model.workload.WorkloadReport;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command line workload run: builds a generated dataset, warms up, then replays a mixed workload and prints
+ * throughput and latency percentiles per operation.
+ * Usage: java -cp benchmarks.jar ...benchmarks.WorkloadRunner [--size 1000000] [--distribution SKEWED]
+ * [--mix read-heavy|balanced|write-heavy|read-only] [--threads 1] [--seconds 30] [--warmup 10] [--seed 24301]
+ * [--engine heap|lsm] [--data-dir path]
+ * The lsm engine keeps its files in --data-dir, a fresh temporary directory when that is not given.
+ */
+public final class WorkloadRunner {
+
+    private WorkloadRunner() {
+    }
+
+    public static void main(String[] args) throws InvalidSalaryException, InterruptedException, IOException {
+        Map<String, String> options = parse(args);
+        int size = Integer.parseInt(options.getOrDefault("size", "1000000"));
+        Distribution distribution = Distribution.valueOf(options.getOrDefault("distribution", "SKEWED"));
+        OperationMix mix = OperationMix.named(options.getOrDefault("mix", "read-heavy"));
+        int threads = Integer.parseInt(options.getOrDefault("threads", "1"));
+        long seconds = Long.parseLong(options.getOrDefault("seconds", "30"));
+        long warmup = Long.parseLong(options.getOrDefault("warmup", "10"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "24301"));
+        String engine = options.getOrDefault("engine", "heap");
+
+        WorkforceGenerator generator = distribution.generator(seed);
+        EmployeeStore<Integer> database = open(engine, options.get("data-dir"));
+        try {
+            long started = System.nanoTime();
+            generator.populate(database, size);
+            System.out.printf("Loaded %,d %s employees into the %s engine in %.1f s%n", size, distribution, engine,
+                    (System.nanoTime() - started) / 1e9);
+
+            WorkloadDriver driver = new WorkloadDriver(database, generator, mix, threads);
+            if (warmup > 0) {
+                driver.run(Duration.ofSeconds(warmup));
+            }
+            WorkloadReport report = driver.run(Duration.ofSeconds(seconds));
+            System.out.print(report);
+        } finally {
+            if (database instanceof LsmEmployeeStore) {
+                ((LsmEmployeeStore) database).close();
+            }
+        }
+    }
+
+    private static EmployeeStore<Integer> open(String engine, String dataDir) throws IOException {
+        switch (engine) {
+            case "heap":
+                return new EmployeeDatabase<>();
+            case "lsm":
+                Path directory = dataDir != null ? Paths.get(dataDir) : Files.createTempDirectory("employees-lsm");
+                return new LsmEmployeeStore(directory);
+            default:
+                throw new IllegalArgumentException("Unknown engine, expected heap or lsm: " + engine);
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 == args.length) {
+                throw new IllegalArgumentException("Expected --name value pairs, got: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+}
@@ -2,11 +2,16 @@ package com.employeemanagement.employeemanagementsystem;
 
 import com.employeemanagement.employeemanagementsystem.controller.EmployeeController;
 import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
+import com.employeemanagement.employeemanagementsystem.model.metrics.MetricsHttpServer;
+import com.employeemanagement.employeemanagementsystem.model.metrics.MetricsRegistry;
 import com.employeemanagement.employeemanagementsystem.view.MainView;
 import javafx.application.Application;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 
+import java.io.IOException;
+import java.time.Duration;
+
 /**
  * Main application class for the Employee Management System
  */
@@ -14,6 +19,11 @@ public class EmployeeManagementApp extends Application {
 
     private static EmployeeDatabase<Integer> employeeDatabase;
 
+    // Interval of the metrics snapshots shown in the metrics panel
+    private static final Duration METRICS_INTERVAL = Duration.ofSeconds(5);
+
+    private MetricsHttpServer metricsServer;
+
     @Override
     public void start(Stage primaryStage) {
         // Initialize the database
@@ -25,6 +35,11 @@ public class EmployeeManagementApp extends Application {
         // Create and set up the controller
         EmployeeController controller = new EmployeeController(employeeDatabase, mainView);
 
+        // Snapshot metrics periodically and serve them to Prometheus on localhost
+        MetricsRegistry metrics = employeeDatabase.getMetrics();
+        metrics.startPeriodicSnapshots(METRICS_INTERVAL);
+        startMetricsServer(metrics, mainView);
+
         // Create scene and set stage
         Scene scene = new Scene(mainView, 1366, 660);
         primaryStage.setTitle("Employee Management System");
@@ -32,6 +47,29 @@ public class EmployeeManagementApp extends Application {
         primaryStage.show();
     }
 
+    @Override
+    public void stop() {
+        if (metricsServer != null) {
+            metricsServer.close();
+        }
+        employeeDatabase.getMetrics().close();
+    }
+
+    // Port comes from -Dmetrics.port, a negative port leaves the endpoint off
+    private void startMetricsServer(MetricsRegistry metrics, MainView mainView) {
+        int port = Integer.getInteger("metrics.port", MetricsHttpServer.DEFAULT_PORT);
+        if (port < 0) {
+            return;
+        }
+        try {
+            metricsServer = new MetricsHttpServer(metrics, port).start();
+            mainView.getMetricsView().setEndpoint(metricsServer.getUrl());
+        } catch (IOException e) {
+            // The app works without the endpoint, e.g. when another instance already holds the port
+            System.err.println("Could not start the metrics endpoint on port " + port + ": " + e.getMessage());
+        }
+    }
+
     /**
      * Gets the employee database instance
      */
@@ -6,14 +6,26 @@ import com.employeemanagement.employeemanagementsystem.exceptions.InvalidSalaryE
 import com.employeemanagement.employeemanagementsystem.model.Employee;
 import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
 import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.changelog.ChangeEvent;
+import com.employeemanagement.employeemanagementsystem.model.changelog.ChangeListener;
+import com.employeemanagement.employeemanagementsystem.model.changelog.ChangeLog;
+import com.employeemanagement.employeemanagementsystem.model.changelog.ChangeSubscription;
+import com.employeemanagement.employeemanagementsystem.model.metrics.MetricsRegistry;
+import com.employeemanagement.employeemanagementsystem.model.metrics.OperationTimer;
+import com.employeemanagement.employeemanagementsystem.model.sort.EmployeeSortOrder;
+import com.employeemanagement.employeemanagementsystem.model.sort.SortColumn;
 import com.employeemanagement.employeemanagementsystem.view.MainView;
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
+import javafx.scene.control.ButtonType;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Controller class that handles interaction between views and the employee database
@@ -23,10 +35,27 @@ public class EmployeeController {
     private EmployeeDatabase<Integer> employeeDB;
     private MainView mainView;
 
+    // Latency of every UI action, kept next to the database timers
+    private final MetricsRegistry metrics;
+
+    // Timers of the UI actions indexed by ordinal, looked up once instead of on every action
+    private final OperationTimer[] actionTimers;
+
+    // Set while a table reload triggered by the change log is waiting on the FX thread
+    private final AtomicBoolean tableReloadPending = new AtomicBoolean();
+
+    // First change log offset the table doesn't show yet, changes below it were already loaded by this controller
+    private volatile long tableOffset;
+
     //Constructor
     public EmployeeController(EmployeeDatabase<Integer> employeeDB, MainView mainView) {
         this.employeeDB = employeeDB;
         this.mainView = mainView;
+        this.metrics = employeeDB.getMetrics();
+        this.actionTimers = new OperationTimer[UiAction.values().length];
+        for (UiAction action : UiAction.values()) {
+            actionTimers[action.ordinal()] = metrics.timer("controller", action.metricName);
+        }
 
         // Initialize the table with data
         refreshEmployeeTable();
@@ -36,6 +65,48 @@ public class EmployeeController {
 
         // Set up event handlers
         setupEventHandlers();
+
+        // Keep the table in sync with changes made outside this controller
+        subscribeToChanges();
+
+        // Show each periodic metrics snapshot in the metrics panel
+        metrics.addSnapshotListener(snapshot -> Platform.runLater(() -> mainView.getMetricsView().showSnapshot(snapshot)));
+    }
+
+    //Reloads the table whenever the change log reports committed mutations
+    private void subscribeToChanges() {
+        ChangeLog<Integer> changeLog = employeeDB.getChangeLog();
+        changeLog.subscribe(changeLog.getNextOffset(), new ChangeListener<>() {
+            @Override
+            public void onEvents(List<ChangeEvent<Integer>> events) {
+                // Skips changes the controller made itself, it reloaded the table right after them
+                if (events.get(events.size() - 1).getOffset() >= tableOffset) {
+                    scheduleTableReload();
+                }
+            }
+
+            @Override
+            public void onTruncated(ChangeSubscription subscription, long firstAvailableOffset) {
+                // The reload reads the full table anyway, so just continue from the end of the log
+                subscription.seek(changeLog.getNextOffset());
+                scheduleTableReload();
+            }
+        });
+    }
+
+    //Coalesces bursts of changes into a single table reload on the FX thread
+    private void scheduleTableReload() {
+        if (tableReloadPending.compareAndSet(false, true)) {
+            Platform.runLater(() -> {
+                long started = System.nanoTime();
+                tableReloadPending.set(false);
+                // A refresh may have run while the reload was queued
+                if (employeeDB.snapshot().getOffset() > tableOffset) {
+                    loadEmployeeTable();
+                    recordLatency(UiAction.RELOAD_TABLE, started);
+                }
+            });
+        }
     }
 
     //Set up all event handlers for the UI components
@@ -74,19 +145,39 @@ public class EmployeeController {
         mainView.getSalaryManagementView().getSalaryRaiseButton().setOnAction(e -> giveRaisesToHighPerformers());
         mainView.getSalaryManagementView().getTopPaidButton().setOnAction(e -> showTopPaidEmployees());
         mainView.getSalaryManagementView().getAvgSalaryButton().setOnAction(e -> calculateAverageSalary());
+        mainView.getSalaryManagementView().getPercentilesButton().setOnAction(e -> showSalaryPercentiles());
 
         // Initialize department dropdown in salary management view
         mainView.getSalaryManagementView().populateDepartments(getDepartmentNames());
 
+        // Bulk operation event handlers
+        mainView.getBulkOperationsView().getOffboardButton().setOnAction(e -> offboardDepartment());
+        mainView.getBulkOperationsView().getDeactivateButton().setOnAction(e -> deactivateLowPerformers());
+        mainView.getBulkOperationsView().populateDepartments(getDepartmentNames());
+
         // Console report button handler
         mainView.getTableView().getConsoleReportButton().setOnAction(e -> printEmployeeReportsToConsole());
     }
 
     //Refreshes the employee table with all employees
     public void refreshEmployeeTable() {
-        List<Employee<Integer>> employees = employeeDB.getAllEmployees();
-        mainView.getTableView().updateEmployeeTable(employees);
+        long started = System.nanoTime();
+        loadEmployeeTable();
         mainView.getFormView().clearForm();
+        recordLatency(UiAction.REFRESH_TABLE, started);
+    }
+
+    //Shows all employees and remembers which changes the table now reflects
+    private void loadEmployeeTable() {
+        // Read before the employees, so every change below it is in the list
+        long offset = employeeDB.snapshot().getOffset();
+        mainView.getTableView().updateEmployeeTable(employeeDB.getAllEmployees());
+        tableOffset = Math.max(tableOffset, offset);
+    }
+
+    //Records how long a UI action took, measured before any dialog is shown
+    private void recordLatency(UiAction action, long startNanos) {
+        actionTimers[action.ordinal()].recordSince(startNanos);
     }
 
     //Generates a unique random Id
@@ -145,10 +236,12 @@ public class EmployeeController {
             // Create and add employee
             Employee<Integer> employee = new Employee<>(id, name, department, salary, rating, experience, active);
 
+            long started = System.nanoTime();
             try {
                 employeeDB.addEmployee(employee);
                 mainView.getFormView().clearForm();
                 refreshEmployeeTable();
+                recordLatency(UiAction.ADD_EMPLOYEE, started);
                 showAlert("info", "Success","Employee added successfully!");
             } catch (InvalidSalaryException | IllegalArgumentException e) {
                 showAlert("Error","System Error", e.getMessage());
@@ -214,6 +307,7 @@ public class EmployeeController {
                 return;
             }
 
+            long started = System.nanoTime();
             try {
                 // Update employee using updateEmployeeDetails method for each field
                 employeeDB.updateEmployeeDetails(id, "employeeName", name);
@@ -225,6 +319,7 @@ public class EmployeeController {
 
                 mainView.getFormView().clearForm();
                 refreshEmployeeTable();
+                recordLatency(UiAction.UPDATE_EMPLOYEE, started);
                 showAlert("info", "Success","Employee updated successfully!");
             } catch (EmployeeNotFoundException | InvalidSalaryException | InvalidDepartmentException e) {
                 showAlert("Error","System Error", e.getMessage());
@@ -242,10 +337,12 @@ public class EmployeeController {
             return;
         }
 
+        long started = System.nanoTime();
         try {
             employeeDB.deleteEmployee(selectedEmployee.getEmployeeId());
             mainView.getFormView().clearForm();
             refreshEmployeeTable();
+            recordLatency(UiAction.DELETE_EMPLOYEE, started);
             showAlert("info", "Success","Employee deleted successfully!");
         } catch (EmployeeNotFoundException e) {
             showAlert("Error","System Error", e.getMessage());
@@ -268,6 +365,7 @@ public class EmployeeController {
         }
 
         List<Employee<Integer>> results;
+        long started = System.nanoTime();
 
         try {
         switch (searchType) {
@@ -340,6 +438,7 @@ public class EmployeeController {
             // Update table with search results
             mainView.getSearchView().clearForm();
             mainView.getTableView().updateEmployeeTable(results);
+            recordLatency(UiAction.SEARCH_EMPLOYEES, started);
 
             // Show message if no results found
             if (results.isEmpty()) {
@@ -354,7 +453,36 @@ public class EmployeeController {
     //Sorts employees based on the selected criteria
     private void sortEmployees() {
         String sortType = mainView.getSearchView().getSortComboBox().getValue();
+        String thenBy = mainView.getSearchView().getThenByComboBox().getValue();
+        String thenBy2 = mainView.getSearchView().getThenByComboBox2().getValue();
         List<Employee<Integer>> sortedList;
+        long started = System.nanoTime();
+
+        // Several columns (or a column without a single-key sort) use a multi-column sort order
+        boolean multiColumn = !"None".equals(thenBy) || !"None".equals(thenBy2);
+        if (multiColumn || "Department".equals(sortType) || "Name".equals(sortType)) {
+            EmployeeSortOrder order = null;
+            for (String column : new String[]{sortType, thenBy, thenBy2}) {
+                if (column == null || column.equals("None")) {
+                    continue;
+                }
+                SortColumn sortColumn = toSortColumn(column);
+                if (sortColumn == null) {
+                    showAlert("Error", "Sort Error","Invalid sort type!");
+                    return;
+                }
+                // Text columns sort A-Z, numeric columns highest first like the single-column sorts
+                boolean descending = sortColumn != SortColumn.DEPARTMENT && sortColumn != SortColumn.NAME;
+                if (order == null) {
+                    order = descending ? EmployeeSortOrder.byDescending(sortColumn) : EmployeeSortOrder.by(sortColumn);
+                } else {
+                    order = descending ? order.thenDescending(sortColumn) : order.then(sortColumn);
+                }
+            }
+            mainView.getTableView().updateEmployeeTable(employeeDB.getEmployeesSortedBy(order));
+            recordLatency(UiAction.SORT_EMPLOYEES, started);
+            return;
+        }
 
         switch (sortType) {
             case "Experience":
@@ -374,6 +502,25 @@ public class EmployeeController {
         // Update table with sorted results
         ObservableList<Employee<Integer>> employeeList = FXCollections.observableArrayList(sortedList);
         mainView.getTableView().updateEmployeeTable(sortedList);
+        recordLatency(UiAction.SORT_EMPLOYEES, started);
+    }
+
+    //Maps a sort dropdown value to its sort column
+    private SortColumn toSortColumn(String column) {
+        switch (column) {
+            case "Department":
+                return SortColumn.DEPARTMENT;
+            case "Name":
+                return SortColumn.NAME;
+            case "Experience":
+                return SortColumn.EXPERIENCE;
+            case "Salary":
+                return SortColumn.SALARY;
+            case "Performance":
+                return SortColumn.PERFORMANCE;
+            default:
+                return null;
+        }
     }
 
     //Shows an alert dialog
@@ -386,6 +533,15 @@ public class EmployeeController {
         alert.showAndWait();
     }
 
+    //Asks the user to confirm a destructive action
+    private boolean confirmAction(String title, String message) {
+        Alert alert = new Alert(AlertType.CONFIRMATION);
+        alert.setTitle(title);
+        alert.setHeaderText(null);
+        alert.setContentText(message);
+        return alert.showAndWait().filter(ButtonType.OK::equals).isPresent();
+    }
+
     //Gets all department names as strings
     private String[] getDepartmentNames() {
         return Arrays.stream(EEmployeeDepartment.values())
@@ -395,9 +551,13 @@ public class EmployeeController {
 
     // Implement the salary management methods
     private void giveRaisesToHighPerformers() {
+        long started = System.nanoTime();
         int count = employeeDB.giveSalaryRaiseToHighPerformers();
         if (count > 0) {
             refreshEmployeeTable();
+        }
+        recordLatency(UiAction.SALARY_RAISE, started);
+        if (count > 0) {
             showAlert("info","Salary Raise", count + " employee(s) with 3.5 and above high performance received a salary raise of 2%.");
         }else {
             showAlert("info","Salary Raise", "No employee with high performance Found!");
@@ -413,10 +573,12 @@ public class EmployeeController {
                 return;
             }
 
+            long started = System.nanoTime();
             List<Employee<Integer>> topPaid = employeeDB.getTopPaidEmployees(topN);
 
             // Display the top paid employees in the table
             mainView.getTableView().updateEmployeeTable(topPaid);
+            recordLatency(UiAction.TOP_PAID, started);
 
             if (topPaid.isEmpty()) {
                 showAlert("info","Top Paid Employees", "No employees found.");
@@ -436,7 +598,9 @@ public class EmployeeController {
         }
 
         try {
+            long started = System.nanoTime();
             double avgSalary = employeeDB.calculateAverageSalaryByDepartment(department);
+            recordLatency(UiAction.AVERAGE_SALARY, started);
 
             if (avgSalary >= 0) {
                 showAlert("info","Average Salary",
@@ -449,6 +613,77 @@ public class EmployeeController {
         }
     }
 
+    private void showSalaryPercentiles() {
+        String department = mainView.getSalaryManagementView().getDepartmentComboBox().getValue();
+        if (department == null) {
+            showAlert("Error", "Invalid Input","Please select a department.");
+            return;
+        }
+
+        try {
+            long started = System.nanoTime();
+            if (employeeDB.getEmployeeCountByDepartment(department) == 0) {
+                showAlert("info","Salary Percentiles", "No employees found in the " + department + " department.");
+                return;
+            }
+
+            double median = employeeDB.estimateSalaryQuantileByDepartment(department, 0.5);
+            double p90 = employeeDB.estimateSalaryQuantileByDepartment(department, 0.9);
+            double p99 = employeeDB.estimateSalaryQuantileByDepartment(department, 0.99);
+            recordLatency(UiAction.SALARY_PERCENTILES, started);
+            showAlert("info","Salary Percentiles",
+                    "Salary percentiles in the " + department + " department:\n" +
+                            "Median: $" + String.format("%.2f", median) + "\n" +
+                            "90th percentile: $" + String.format("%.2f", p90) + "\n" +
+                            "99th percentile: $" + String.format("%.2f", p99));
+        } catch (InvalidDepartmentException e) {
+            showAlert("Error","Invalid Input", e.getMessage());
+        }
+    }
+
+    // Bulk operations, each one runs in a single database pass followed by a single table refresh
+
+    private void offboardDepartment() {
+        String department = mainView.getBulkOperationsView().getDepartmentComboBox().getValue();
+        if (department == null) {
+            showAlert("Error", "Invalid Input","Please select a department.");
+            return;
+        }
+        if (!confirmAction("Offboard Department", "Delete every employee in the " + department + " department?")) {
+            return;
+        }
+
+        try {
+            long started = System.nanoTime();
+            int count = employeeDB.deleteEmployeesByDepartment(department);
+            refreshEmployeeTable();
+            recordLatency(UiAction.OFFBOARD_DEPARTMENT, started);
+            showAlert("info","Offboard Department", count + " employee(s) removed from the " + department + " department.");
+        } catch (InvalidDepartmentException e) {
+            showAlert("Error","Invalid Input", e.getMessage());
+        }
+    }
+
+    private void deactivateLowPerformers() {
+        try {
+            double threshold = Double.parseDouble(mainView.getBulkOperationsView().getRatingThresholdField().getText());
+            if (threshold < 0 || threshold > 5) {
+                showAlert("Error", "Rating Error","Rating must be between 0 and 5!");
+                return;
+            }
+
+            long started = System.nanoTime();
+            int count = employeeDB.deactivateEmployeesBelowRating(threshold);
+            if (count > 0) {
+                refreshEmployeeTable();
+            }
+            recordLatency(UiAction.DEACTIVATE_LOW_PERFORMERS, started);
+            showAlert("info","Deactivate Employees", count + " employee(s) rated below " + threshold + " were deactivated.");
+        } catch (NumberFormatException e) {
+            showAlert("Error", "Invalid Input","Please enter a valid number for rating (0-5)!");
+        }
+    }
+
     // Prints employee reports to the console
     private void printEmployeeReportsToConsole() {
         // Check if there are employees to display
@@ -458,6 +693,7 @@ public class EmployeeController {
         }
 
         // Print reports to console
+        long started = System.nanoTime();
         System.out.println("\n========== EMPLOYEE MANAGEMENT SYSTEM REPORTS ==========");
         System.out.println("Report generated at: " + java.time.LocalDateTime.now());
         System.out.println("\n--- Report using For-Each Loop ---");
@@ -466,8 +702,34 @@ public class EmployeeController {
         System.out.println("\n--- Report using Stream API ---");
         employeeDB.displayEmployeesWithStreams();
 
+        System.out.println("\n--- Query Cache ---");
+        System.out.println(employeeDB.getQueryCacheStats());
+        recordLatency(UiAction.CONSOLE_REPORT, started);
+
+        System.out.println("\n--- Operation Metrics (since startup) ---");
+        System.out.print(metrics.snapshot());
+
         // Show confirmation dialog
         showAlert("info","Console Report", "Employee reports have been printed to the console.");
     }
 
+    // UI actions timed under the controller component
+    private enum UiAction {
+        RELOAD_TABLE,
+        REFRESH_TABLE,
+        ADD_EMPLOYEE,
+        UPDATE_EMPLOYEE,
+        DELETE_EMPLOYEE,
+        SEARCH_EMPLOYEES,
+        SORT_EMPLOYEES,
+        SALARY_RAISE,
+        TOP_PAID,
+        AVERAGE_SALARY,
+        SALARY_PERCENTILES,
+        OFFBOARD_DEPARTMENT,
+        DEACTIVATE_LOW_PERFORMERS,
+        CONSOLE_REPORT;
+
+        private final String metricName = name().toLowerCase(Locale.ROOT);
+    }
 }
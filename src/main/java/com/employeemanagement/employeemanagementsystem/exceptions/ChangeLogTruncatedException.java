@@ -0,0 +1,31 @@
+package com.employeemanagement.employeemanagementsystem.exceptions;
+
+import java.io.Serial;
+
+/**
+ * Exception thrown when a change log reader asks for events that are no longer retained
+ */
+public class ChangeLogTruncatedException extends Exception {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final long requestedOffset;
+    private final long firstAvailableOffset;
+
+    //Constructs a new ChangeLogTruncatedException for the requested and oldest retained offsets
+    public ChangeLogTruncatedException(long requestedOffset, long firstAvailableOffset) {
+        super("Change log offset " + requestedOffset + " is no longer retained, oldest available offset is " +
+                firstAvailableOffset);
+        this.requestedOffset = requestedOffset;
+        this.firstAvailableOffset = firstAvailableOffset;
+    }
+
+    public long getRequestedOffset() {
+        return requestedOffset;
+    }
+
+    public long getFirstAvailableOffset() {
+        return firstAvailableOffset;
+    }
+}
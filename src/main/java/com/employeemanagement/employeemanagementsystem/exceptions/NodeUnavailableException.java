@@ -0,0 +1,22 @@
+package com.employeemanagement.employeemanagementsystem.exceptions;
+
+import java.io.Serial;
+
+/**
+ * Exception thrown when a cluster node (or too many replicas of a range) cannot be reached
+ */
+public class NodeUnavailableException extends Exception {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    //Constructs a new NodeUnavailableException with the specified detail message
+    public NodeUnavailableException(String message) {
+        super(message);
+    }
+
+    //Constructs a new NodeUnavailableException with the specified detail message and cause
+    public NodeUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
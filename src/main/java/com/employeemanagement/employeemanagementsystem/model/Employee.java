@@ -6,12 +6,17 @@ package com.employeemanagement.employeemanagementsystem.model;
 * Defining the natural sorting order of the Employee objects.
 */
 
+import com.employeemanagement.employeemanagementsystem.model.names.EmployeeNamePool;
+import com.employeemanagement.employeemanagementsystem.model.names.NameToken;
+
 import java.util.Objects;
 
 public class Employee<T> implements Comparable<Employee<T>> {
 
     private T employeeId;
-    private String employeeName;
+    // Shared name parts from the name pool, the String is built on demand
+    private NameToken firstName;
+    private NameToken lastName;
     private EEmployeeDepartment employeeDepartment;
     private double employeeSalary;
     private double performanceRating;
@@ -21,7 +26,8 @@ public class Employee<T> implements Comparable<Employee<T>> {
     // Constructor
     public Employee(T employeeId, String employeeName, EEmployeeDepartment employeeDepartment, double employeeSalary, double performanceRating, int yearsOfExperience, boolean isActive) {
         this.employeeId = employeeId;
-        this.employeeName = employeeName;
+        this.firstName = EmployeeNamePool.shared().internFirstName(employeeName);
+        this.lastName = EmployeeNamePool.shared().internLastName(employeeName);
         this.employeeDepartment = employeeDepartment;
         this.employeeSalary = employeeSalary;
         this.performanceRating = performanceRating;
@@ -29,6 +35,18 @@ public class Employee<T> implements Comparable<Employee<T>> {
         this.isActive = isActive;
     }
 
+    // Copy constructor
+    public Employee(Employee<T> other) {
+        this.employeeId = other.employeeId;
+        this.firstName = other.firstName;
+        this.lastName = other.lastName;
+        this.employeeDepartment = other.employeeDepartment;
+        this.employeeSalary = other.employeeSalary;
+        this.performanceRating = other.performanceRating;
+        this.yearsOfExperience = other.yearsOfExperience;
+        this.isActive = other.isActive;
+    }
+
     public T getEmployeeId() {
         return employeeId;
     }
@@ -38,11 +56,22 @@ public class Employee<T> implements Comparable<Employee<T>> {
     }
 
     public String getEmployeeName() {
-        return employeeName;
+        return EmployeeNamePool.resolve(firstName, lastName);
     }
 
     public void setEmployeeName(String employeeName) {
-        this.employeeName = employeeName;
+        this.firstName = EmployeeNamePool.shared().internFirstName(employeeName);
+        this.lastName = EmployeeNamePool.shared().internLastName(employeeName);
+    }
+
+    // Name part before the first space, null when the name is null
+    public NameToken getFirstNameToken() {
+        return firstName;
+    }
+
+    // Name part after the first space, null when the name has none
+    public NameToken getLastNameToken() {
+        return lastName;
     }
 
     public EEmployeeDepartment getEmployeeDepartment() {
@@ -112,7 +141,7 @@ public class Employee<T> implements Comparable<Employee<T>> {
     public String toString() {
         return "Employee{" +
                 "id=" + employeeId +
-                ", name='" + employeeName + '\'' +
+                ", name='" + getEmployeeName() + '\'' +
                 ", department='" + employeeDepartment + '\'' +
                 ", salary=" + employeeSalary +
                 ", rating=" + performanceRating +
@@ -0,0 +1,147 @@
+package com.employeemanagement.employeemanagementsystem.model;
+
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidDepartmentException;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Binary encoding of one employee, shared by the wire protocol, replication, checkpoints and the LSM store
+ * Big-endian: int32 ID, uint16 name byte length (NO_NAME for an employee without a name), UTF-8 name,
+ * uint8 department ordinal (NO_DEPARTMENT for an employee without one), float64 salary, float64 rating,
+ * int32 experience, uint8 active. The DataOutput and ByteBuffer variants write the same bytes; the *Fields
+ * variants leave out the ID for formats that store it in front of other data.
+ */
+public final class EmployeeCodec {
+
+    // Name length of an employee without a name
+    public static final int NO_NAME = 0xFFFF;
+    // Department code of an employee without a department
+    public static final byte NO_DEPARTMENT = (byte) 0xFF;
+    public static final int MAX_NAME_BYTES = NO_NAME - 1;
+
+    private static final EEmployeeDepartment[] DEPARTMENTS = EEmployeeDepartment.values();
+
+    private EmployeeCodec() {
+    }
+
+    // UTF-8 bytes of a name, null for no name; fails before anything is written when the name is too long
+    public static byte[] encodeName(String name) {
+        if (name == null) {
+            return null;
+        }
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_NAME_BYTES) {
+            throw new IllegalArgumentException("Name is longer than " + MAX_NAME_BYTES + " bytes");
+        }
+        return bytes;
+    }
+
+    // Encoded size of an employee whose name was encoded with encodeName
+    public static int encodedSize(byte[] encodedName) {
+        return 4 + 2 + (encodedName == null ? 0 : encodedName.length) + 1 + 8 + 8 + 4 + 1;
+    }
+
+    public static byte departmentCode(EEmployeeDepartment department) {
+        return department == null ? NO_DEPARTMENT : (byte) department.ordinal();
+    }
+
+    // Null for NO_DEPARTMENT
+    public static EEmployeeDepartment department(byte code) throws InvalidDepartmentException {
+        if (code == NO_DEPARTMENT) {
+            return null;
+        }
+        int ordinal = code & 0xFF;
+        if (ordinal >= DEPARTMENTS.length) {
+            throw new InvalidDepartmentException("Invalid department code: " + ordinal);
+        }
+        return DEPARTMENTS[ordinal];
+    }
+
+    // Streams
+
+    public static void write(DataOutput out, Employee<Integer> employee) throws IOException {
+        out.writeInt(employee.getEmployeeId());
+        writeFields(out, employee);
+    }
+
+    public static void writeFields(DataOutput out, Employee<Integer> employee) throws IOException {
+        byte[] name = encodeName(employee.getEmployeeName());
+        if (name == null) {
+            out.writeShort(NO_NAME);
+        } else {
+            out.writeShort(name.length);
+            out.write(name);
+        }
+        out.writeByte(departmentCode(employee.getEmployeeDepartment()));
+        out.writeDouble(employee.getEmployeeSalary());
+        out.writeDouble(employee.getPerformanceRating());
+        out.writeInt(employee.getYearsOfExperience());
+        out.writeBoolean(employee.isActive());
+    }
+
+    public static Employee<Integer> read(DataInput in) throws IOException {
+        return readFields(in, in.readInt());
+    }
+
+    public static Employee<Integer> readFields(DataInput in, int employeeId) throws IOException {
+        int length = in.readUnsignedShort();
+        String name = null;
+        if (length != NO_NAME) {
+            byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            name = new String(bytes, StandardCharsets.UTF_8);
+        }
+        EEmployeeDepartment department;
+        try {
+            department = department(in.readByte());
+        } catch (InvalidDepartmentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        double salary = in.readDouble();
+        double rating = in.readDouble();
+        int experience = in.readInt();
+        boolean active = in.readBoolean();
+        return new Employee<>(employeeId, name, department, salary, rating, experience, active);
+    }
+
+    // Buffers
+
+    // The name is encoded by the caller with encodeName, so nothing can fail once writing has started
+    public static void put(ByteBuffer buffer, Employee<Integer> employee, byte[] encodedName) {
+        buffer.putInt(employee.getEmployeeId());
+        if (encodedName == null) {
+            buffer.putShort((short) NO_NAME);
+        } else {
+            buffer.putShort((short) encodedName.length).put(encodedName);
+        }
+        buffer.put(departmentCode(employee.getEmployeeDepartment()))
+                .putDouble(employee.getEmployeeSalary())
+                .putDouble(employee.getPerformanceRating())
+                .putInt(employee.getYearsOfExperience())
+                .put((byte) (employee.isActive() ? 1 : 0));
+    }
+
+    // Reads an employee from a heap buffer, a name running past the buffer is an IllegalArgumentException
+    public static Employee<Integer> get(ByteBuffer buffer) throws InvalidDepartmentException {
+        int employeeId = buffer.getInt();
+        int length = buffer.getShort() & 0xFFFF;
+        String name = null;
+        if (length != NO_NAME) {
+            if (length > buffer.remaining()) {
+                throw new IllegalArgumentException("Name length " + length + " exceeds the buffer");
+            }
+            name = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        }
+        EEmployeeDepartment department = department(buffer.get());
+        double salary = buffer.getDouble();
+        double rating = buffer.getDouble();
+        int experience = buffer.getInt();
+        boolean active = buffer.get() != 0;
+        return new Employee<>(employeeId, name, department, salary, rating, experience, active);
+    }
+}
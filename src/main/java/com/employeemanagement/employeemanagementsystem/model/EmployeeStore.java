@@ -0,0 +1,45 @@
+package com.employeemanagement.employeemanagementsystem.model;
+
+import com.employeemanagement.employeemanagementsystem.exceptions.EmployeeNotFoundException;
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidDepartmentException;
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidSalaryException;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Record operations and queries shared by the storage engines, EmployeeDatabase keeps everything on the heap
+ * and LsmEmployeeStore keeps it in sorted files on disk. Workloads written against this run on either.
+ */
+public interface EmployeeStore<T> {
+
+    void addEmployee(Employee<T> employee) throws InvalidSalaryException;
+
+    Employee<T> getEmployee(T employeeId) throws EmployeeNotFoundException;
+
+    void updateEmployeeDetails(T employeeId, String field, Object newValue) throws EmployeeNotFoundException, InvalidSalaryException, InvalidDepartmentException;
+
+    void deleteEmployee(T employeeId) throws EmployeeNotFoundException;
+
+    List<Employee<T>> findEmployeesByDepartment(String department) throws InvalidDepartmentException;
+
+    List<Employee<T>> findEmployeesByName(String searchTerm);
+
+    List<Employee<T>> findEmployeesByMinRating(Double minRating);
+
+    List<Employee<T>> findEmployeesBySalaryRange(double minSalary, double maxSalary) throws InvalidSalaryException;
+
+    List<Employee<T>> getTopPaidEmployees(int n);
+
+    // Raises the salary of every employee rated 3.5 or better by 2%, returns how many got one
+    int giveSalaryRaiseToHighPerformers();
+
+    double calculateAverageSalaryByDepartment(String department) throws InvalidDepartmentException;
+
+    long getEmployeeCountByDepartment(String department) throws InvalidDepartmentException;
+
+    int getTotalEmployeeCount();
+
+    // Visits every employee, the employees passed in must be treated as read-only
+    void forEachEmployee(Consumer<? super Employee<T>> action);
+}
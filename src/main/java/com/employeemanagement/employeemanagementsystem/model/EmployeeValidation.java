@@ -0,0 +1,55 @@
+package com.employeemanagement.employeemanagementsystem.model;
+
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidDepartmentException;
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidSalaryException;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Argument checks shared by every EmployeeStore, so they all accept the same input and report it the same way
+ */
+public final class EmployeeValidation {
+
+    private EmployeeValidation() {
+    }
+
+    // Parses a department name into its enum value, ignoring case
+    public static EEmployeeDepartment parseDepartment(String department) throws InvalidDepartmentException {
+        if (department == null || department.trim().isEmpty()) {
+            throw new InvalidDepartmentException("Department name cannot be empty");
+        }
+        try {
+            return EEmployeeDepartment.valueOf(department.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidDepartmentException("Invalid department: '" + department + "'. Valid departments are: " +
+                    Arrays.toString(EEmployeeDepartment.values()));
+        }
+    }
+
+    //Validates a minimum performance rating
+    public static void validateMinRating(Double minRating) {
+        if (minRating == null) {
+            throw new IllegalArgumentException("Minimum rating cannot be null");
+        }
+        validateRating(minRating);
+    }
+
+    //Validates a performance rating threshold
+    public static void validateRating(double rating) {
+        if (rating < 0 || rating > 5) {
+            throw new IllegalArgumentException("Rating must be between 0 and 5, provided: " + rating);
+        }
+    }
+
+    //Validates a salary range
+    public static void validateSalaryRange(double minSalary, double maxSalary) throws InvalidSalaryException {
+        if (minSalary < 0) {
+            throw new InvalidSalaryException("Minimum salary cannot be negative: " + minSalary);
+        }
+        if (maxSalary < minSalary) {
+            throw new InvalidSalaryException("Maximum salary (" + maxSalary +
+                    ") cannot be less than minimum salary (" + minSalary + ")");
+        }
+    }
+}
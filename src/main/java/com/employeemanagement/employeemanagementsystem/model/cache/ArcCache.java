@@ -0,0 +1,241 @@
+package com.employeemanagement.employeemanagementsystem.model.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache with adaptive replacement (ARC), sized in bytes
+ * Resident entries sit in two LRU lists: recent (seen once) and frequent (hit at least once since they were
+ * cached). Keys evicted from each list are remembered without their values in a ghost list. A miss on a key in
+ * the recent ghost list means the recent list was too small, so its byte target grows; a miss in the frequent
+ * ghost list shrinks it. A scan therefore only churns the recent list and can't flush the frequently used entries.
+ * Misses don't populate the cache by themselves: the caller loads the value and offers it with fill(), which is
+ * dropped when the same key was put or removed since the stamp taken before loading, so a slow load never caches
+ * a value older than a concurrent write. The stamp of the last write is remembered for the most recently written
+ * keys; a fill for a key written longer ago is only dropped if it is older than every remembered write.
+ */
+public class ArcCache<K, V> {
+
+    // Keys whose last write stamp is remembered, older writes are folded into forgottenStamp
+    private static final int WRITE_HISTORY = 1024;
+
+    private final long maxBytes;
+
+    // Iteration order is least recently used first
+    private final LinkedHashMap<K, Entry<V>> recent = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, Entry<V>> frequent = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, Long> recentGhosts = new LinkedHashMap<>();
+    private final LinkedHashMap<K, Long> frequentGhosts = new LinkedHashMap<>();
+    private long recentBytes;
+    private long frequentBytes;
+    private long recentGhostBytes;
+    private long frequentGhostBytes;
+
+    // Bytes the recent list may hold before eviction prefers it, adapted on ghost hits
+    private long recentTarget;
+    // Bumped by every put and remove
+    private long stamp;
+    // Stamp of the last write of each recently written key, oldest write first
+    private final LinkedHashMap<K, Long> writeStamps = new LinkedHashMap<>();
+    // Newest stamp dropped from writeStamps, every key not in it was last written at or before this stamp
+    private long forgottenStamp;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public ArcCache(long maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("Maximum bytes cannot be negative: " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    // Returns the cached value, or null on a miss
+    public synchronized V get(K key) {
+        Entry<V> entry = recent.remove(key);
+        if (entry != null) {
+            recentBytes -= entry.bytes;
+            frequent.put(key, entry);
+            frequentBytes += entry.bytes;
+            hits++;
+            return entry.value;
+        }
+        entry = frequent.get(key);
+        if (entry != null) {
+            hits++;
+            return entry.value;
+        }
+        misses++;
+        return null;
+    }
+
+    // Taken before loading a value after a miss, see fill()
+    public synchronized long stamp() {
+        return stamp;
+    }
+
+    // Caches a loaded value unless the key was written to since the stamp
+    public synchronized void fill(K key, V value, long bytes, long loadedAt) {
+        Long writtenAt = writeStamps.get(key);
+        if ((writtenAt != null ? writtenAt : forgottenStamp) <= loadedAt
+                && !recent.containsKey(key) && !frequent.containsKey(key)) {
+            insert(key, value, bytes);
+        }
+    }
+
+    // Write-through: replaces the cached value, or caches it like a loaded one
+    public synchronized void put(K key, V value, long bytes) {
+        recordWrite(key);
+        Entry<V> entry = recent.get(key);
+        if (entry == null) {
+            entry = frequent.get(key);
+        }
+        if (entry == null) {
+            insert(key, value, bytes);
+            return;
+        }
+        if (bytes > maxBytes) {
+            remove(key);
+            return;
+        }
+        long delta = bytes - entry.bytes;
+        if (recent.containsKey(key)) {
+            recentBytes += delta;
+        } else {
+            frequentBytes += delta;
+        }
+        entry.value = value;
+        entry.bytes = bytes;
+        evict(0, false);
+    }
+
+    public synchronized void remove(K key) {
+        recordWrite(key);
+        Entry<V> entry = recent.remove(key);
+        if (entry != null) {
+            recentBytes -= entry.bytes;
+        }
+        entry = frequent.remove(key);
+        if (entry != null) {
+            frequentBytes -= entry.bytes;
+        }
+    }
+
+    // Drops every entry and ghost, the counters keep their history
+    public synchronized void clear() {
+        stamp++;
+        writeStamps.clear();
+        forgottenStamp = stamp;
+        evictions += recent.size() + frequent.size();
+        recent.clear();
+        frequent.clear();
+        recentGhosts.clear();
+        frequentGhosts.clear();
+        recentBytes = 0;
+        frequentBytes = 0;
+        recentGhostBytes = 0;
+        frequentGhostBytes = 0;
+        recentTarget = 0;
+    }
+
+    // Metrics
+
+    public synchronized RecordCacheStats getStats() {
+        return new RecordCacheStats(hits, misses, evictions, recent.size(), frequent.size(), recentBytes + frequentBytes,
+                maxBytes, recentTarget);
+    }
+
+    // Moves the key to the end of the write history with a new stamp, forgetting the oldest write when full
+    private void recordWrite(K key) {
+        stamp++;
+        writeStamps.remove(key);
+        writeStamps.put(key, stamp);
+        if (writeStamps.size() > WRITE_HISTORY) {
+            Iterator<Long> oldest = writeStamps.values().iterator();
+            forgottenStamp = oldest.next();
+            oldest.remove();
+        }
+    }
+
+    // Replacement
+
+    private void insert(K key, V value, long bytes) {
+        if (bytes > maxBytes) {
+            return;
+        }
+        Long ghostBytes = recentGhosts.remove(key);
+        if (ghostBytes != null) {
+            // Evicted from the recent list too early
+            recentGhostBytes -= ghostBytes;
+            long step = Math.max(1, frequentGhostBytes / Math.max(1, recentGhostBytes)) * bytes;
+            recentTarget = Math.min(maxBytes, recentTarget + step);
+            evict(bytes, false);
+            frequent.put(key, new Entry<>(value, bytes));
+            frequentBytes += bytes;
+            return;
+        }
+        ghostBytes = frequentGhosts.remove(key);
+        if (ghostBytes != null) {
+            // The frequent list was too small
+            frequentGhostBytes -= ghostBytes;
+            long step = Math.max(1, recentGhostBytes / Math.max(1, frequentGhostBytes)) * bytes;
+            recentTarget = Math.max(0, recentTarget - step);
+            evict(bytes, true);
+            frequent.put(key, new Entry<>(value, bytes));
+            frequentBytes += bytes;
+            return;
+        }
+        evict(bytes, false);
+        recent.put(key, new Entry<>(value, bytes));
+        recentBytes += bytes;
+    }
+
+    // Evicts until the resident entries and the incoming bytes fit, then trims each ghost list to the cache size
+    private void evict(long incomingBytes, boolean frequentGhostHit) {
+        while (recentBytes + frequentBytes + incomingBytes > maxBytes && !(recent.isEmpty() && frequent.isEmpty())) {
+            boolean fromRecent = !recent.isEmpty() && (recentBytes > recentTarget
+                    || (frequentGhostHit && recentBytes == recentTarget) || frequent.isEmpty());
+            if (fromRecent) {
+                Map.Entry<K, Entry<V>> eldest = eldest(recent);
+                recent.remove(eldest.getKey());
+                recentBytes -= eldest.getValue().bytes;
+                recentGhosts.put(eldest.getKey(), eldest.getValue().bytes);
+                recentGhostBytes += eldest.getValue().bytes;
+            } else {
+                Map.Entry<K, Entry<V>> eldest = eldest(frequent);
+                frequent.remove(eldest.getKey());
+                frequentBytes -= eldest.getValue().bytes;
+                frequentGhosts.put(eldest.getKey(), eldest.getValue().bytes);
+                frequentGhostBytes += eldest.getValue().bytes;
+            }
+            evictions++;
+        }
+        recentGhostBytes = trim(recentGhosts, recentGhostBytes, maxBytes - recentBytes);
+        frequentGhostBytes = trim(frequentGhosts, frequentGhostBytes, maxBytes - frequentBytes);
+    }
+
+    private static <K, E> Map.Entry<K, E> eldest(LinkedHashMap<K, E> list) {
+        return list.entrySet().iterator().next();
+    }
+
+    private static <K> long trim(LinkedHashMap<K, Long> ghosts, long bytes, long limit) {
+        Iterator<Long> iterator = ghosts.values().iterator();
+        while (bytes > Math.max(0, limit) && iterator.hasNext()) {
+            bytes -= iterator.next();
+            iterator.remove();
+        }
+        return bytes;
+    }
+
+    private static final class Entry<V> {
+        private V value;
+        private long bytes;
+
+        Entry(V value, long bytes) {
+            this.value = value;
+            this.bytes = bytes;
+        }
+    }
+}
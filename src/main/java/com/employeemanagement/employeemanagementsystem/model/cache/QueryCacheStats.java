@@ -0,0 +1,66 @@
+package com.employeemanagement.employeemanagementsystem.model.cache;
+
+/**
+ * Point-in-time snapshot of the query result cache counters
+ */
+public final class QueryCacheStats {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final int entryCount;
+    private final long retainedBytes;
+    private final int maxEntries;
+    private final long maxBytes;
+
+    // Constructor
+    public QueryCacheStats(long hitCount, long missCount, long evictionCount, int entryCount,
+                           long retainedBytes, int maxEntries, long maxBytes) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.entryCount = entryCount;
+        this.retainedBytes = retainedBytes;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    // Fraction of lookups answered from the cache, 0 before the first lookup
+    public double getHitRate() {
+        long lookups = hitCount + missCount;
+        return lookups == 0 ? 0 : (double) hitCount / lookups;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    public long getRetainedBytes() {
+        return retainedBytes;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Query cache: %d entries (%.1f KB), hit rate %.1f%% (%d hits, %d misses), %d evictions",
+                entryCount, retainedBytes / 1024.0, getHitRate() * 100, hitCount, missCount, evictionCount);
+    }
+}
@@ -0,0 +1,171 @@
+package com.employeemanagement.employeemanagementsystem.model.cache;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of query results keyed by a normalized query string
+ * Every entry remembers the version of the data it was computed from: a department partition for
+ * department queries, or the whole dataset otherwise. Mutations bump those versions, so an entry
+ * computed before a write is never served after it.
+ * Sizes are estimates (compressed oops): one reference per cached list element plus a fixed entry overhead.
+ */
+public class QueryResultCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 256;
+    public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+    // LinkedHashMap entry, cache entry, key String and its array, result list header
+    private static final long ENTRY_OVERHEAD_BYTES = 160;
+    private static final long REFERENCE_BYTES = 4;
+
+    private static final int DEPARTMENT_COUNT = EEmployeeDepartment.values().length;
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final LinkedHashMap<String, Entry> entries;
+
+    private long datasetVersion;
+    private final long[] partitionVersions;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long retainedBytes;
+
+    // Constructor
+    public QueryResultCache() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES);
+    }
+
+    public QueryResultCache(int maxEntries, long maxBytes) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("Maximum entries cannot be negative: " + maxEntries);
+        }
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("Maximum bytes cannot be negative: " + maxBytes);
+        }
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        // Access order turns iteration order into least recently used first
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.partitionVersions = new long[DEPARTMENT_COUNT];
+    }
+
+    // Returns the cached result, or null on a miss or when the entry is older than its data
+    public synchronized Object get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        if (entry.version != versionOf(entry.partition)) {
+            removeEntry(key, entry);
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.value;
+    }
+
+    // Caches a result computed from the current data of the partition (null partition = whole dataset)
+    public synchronized void put(String key, EEmployeeDepartment partition, Object value, int elementCount) {
+        long bytes = ENTRY_OVERHEAD_BYTES + 2L * key.length() + REFERENCE_BYTES * elementCount;
+        if (maxEntries == 0 || bytes > maxBytes) {
+            return;
+        }
+        Entry previous = entries.remove(key);
+        if (previous != null) {
+            retainedBytes -= previous.bytes;
+        }
+        entries.put(key, new Entry(partition, versionOf(partition), value, bytes));
+        retainedBytes += bytes;
+        evictIfNeeded();
+    }
+
+    // Called on every mutation touching the department (null when the department is unknown)
+    public synchronized void invalidate(EEmployeeDepartment department) {
+        datasetVersion++;
+        if (department != null) {
+            partitionVersions[department.ordinal()]++;
+        } else {
+            for (int i = 0; i < DEPARTMENT_COUNT; i++) {
+                partitionVersions[i]++;
+            }
+        }
+    }
+
+    // Drops every entry, the hit and miss counters keep their history
+    public synchronized void clear() {
+        evictions += entries.size();
+        entries.clear();
+        retainedBytes = 0;
+    }
+
+    // Metrics
+
+    public synchronized QueryCacheStats getStats() {
+        return new QueryCacheStats(hits, misses, evictions, entries.size(), retainedBytes, maxEntries, maxBytes);
+    }
+
+    public synchronized long getDatasetVersion() {
+        return datasetVersion;
+    }
+
+    public synchronized long getPartitionVersion(EEmployeeDepartment department) {
+        return partitionVersions[department.ordinal()];
+    }
+
+    // Eviction
+
+    private long versionOf(EEmployeeDepartment partition) {
+        return partition == null ? datasetVersion : partitionVersions[partition.ordinal()];
+    }
+
+    private void evictIfNeeded() {
+        if (entries.size() <= maxEntries && retainedBytes <= maxBytes) {
+            return;
+        }
+        // Outdated entries can never be served again, they go first
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next().getValue();
+            if (entry.version != versionOf(entry.partition)) {
+                iterator.remove();
+                retainedBytes -= entry.bytes;
+                evictions++;
+            }
+        }
+        // Then least recently used
+        iterator = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || retainedBytes > maxBytes) && iterator.hasNext()) {
+            Entry entry = iterator.next().getValue();
+            iterator.remove();
+            retainedBytes -= entry.bytes;
+            evictions++;
+        }
+    }
+
+    private void removeEntry(String key, Entry entry) {
+        entries.remove(key);
+        retainedBytes -= entry.bytes;
+        evictions++;
+    }
+
+    private static class Entry {
+        private final EEmployeeDepartment partition;
+        private final long version;
+        private final Object value;
+        private final long bytes;
+
+        Entry(EEmployeeDepartment partition, long version, Object value, long bytes) {
+            this.partition = partition;
+            this.version = version;
+            this.value = value;
+            this.bytes = bytes;
+        }
+    }
+}
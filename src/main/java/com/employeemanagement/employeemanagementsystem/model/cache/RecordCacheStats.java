@@ -0,0 +1,80 @@
+package com.employeemanagement.employeemanagementsystem.model.cache;
+
+/**
+ * Point-in-time snapshot of the record cache counters
+ */
+public final class RecordCacheStats {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final int recentCount;
+    private final int frequentCount;
+    private final long retainedBytes;
+    private final long maxBytes;
+    private final long recentTargetBytes;
+
+    // Constructor
+    public RecordCacheStats(long hitCount, long missCount, long evictionCount, int recentCount, int frequentCount,
+                            long retainedBytes, long maxBytes, long recentTargetBytes) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.recentCount = recentCount;
+        this.frequentCount = frequentCount;
+        this.retainedBytes = retainedBytes;
+        this.maxBytes = maxBytes;
+        this.recentTargetBytes = recentTargetBytes;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    // Fraction of lookups answered from the cache, 0 before the first lookup
+    public double getHitRate() {
+        long lookups = hitCount + missCount;
+        return lookups == 0 ? 0 : (double) hitCount / lookups;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public int getEntryCount() {
+        return recentCount + frequentCount;
+    }
+
+    // Entries seen once since they were cached
+    public int getRecentCount() {
+        return recentCount;
+    }
+
+    // Entries hit again after they were cached
+    public int getFrequentCount() {
+        return frequentCount;
+    }
+
+    public long getRetainedBytes() {
+        return retainedBytes;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    // Share of the budget the recent list currently gets before eviction prefers it
+    public long getRecentTargetBytes() {
+        return recentTargetBytes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Record cache: %d entries (%d recent, %d frequent, %.1f KB), hit rate %.1f%% (%d hits, %d misses), %d evictions",
+                getEntryCount(), recentCount, frequentCount, retainedBytes / 1024.0, getHitRate() * 100, hitCount,
+                missCount, evictionCount);
+    }
+}
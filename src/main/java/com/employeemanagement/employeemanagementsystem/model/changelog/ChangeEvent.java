@@ -0,0 +1,60 @@
+package com.employeemanagement.employeemanagementsystem.model.changelog;
+
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.history.EmployeeField;
+
+import java.time.Instant;
+
+/**
+ * One committed mutation, identified by its position in the change log
+ * The employee is a private copy: the state after the change, or the last state for a deletion.
+ */
+public final class ChangeEvent<T> {
+    private final long offset;
+    private final ChangeType type;
+    private final T employeeId;
+    private final EmployeeField field;
+    private final Employee<T> employee;
+    private final Instant timestamp;
+
+    // Constructor
+    public ChangeEvent(long offset, ChangeType type, T employeeId, EmployeeField field, Employee<T> employee, Instant timestamp) {
+        this.offset = offset;
+        this.type = type;
+        this.employeeId = employeeId;
+        this.field = field;
+        this.employee = employee;
+        this.timestamp = timestamp;
+    }
+
+    public long getOffset() {
+        return offset;
+    }
+
+    public ChangeType getType() {
+        return type;
+    }
+
+    public T getEmployeeId() {
+        return employeeId;
+    }
+
+    // Changed field for updates, null for creations and deletions
+    public EmployeeField getField() {
+        return field;
+    }
+
+    // Returns a copy so consumers can't alter the logged state
+    public Employee<T> getEmployee() {
+        return new Employee<>(employee);
+    }
+
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return "#" + offset + " " + type + " " + employeeId + (field != null ? " " + field : "") + " at " + timestamp;
+    }
+}
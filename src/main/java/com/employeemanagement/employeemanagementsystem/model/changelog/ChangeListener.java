@@ -0,0 +1,15 @@
+package com.employeemanagement.employeemanagementsystem.model.changelog;
+
+import java.util.List;
+
+/**
+ * Receives change log events pushed to a subscription, always on the change log's dispatch thread
+ */
+public interface ChangeListener<T> {
+
+    // Called with the next batch of events, in offset order
+    void onEvents(List<ChangeEvent<T>> events);
+
+    // Called when the subscription fell behind retention, the subscription stops until it is moved with seek()
+    void onTruncated(ChangeSubscription subscription, long firstAvailableOffset);
+}
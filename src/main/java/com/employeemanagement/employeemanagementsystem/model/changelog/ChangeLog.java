@@ -0,0 +1,210 @@
+package com.employeemanagement.employeemanagementsystem.model.changelog;
+
+import com.employeemanagement.employeemanagementsystem.exceptions.ChangeLogTruncatedException;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.history.EmployeeField;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-memory ring buffer of committed mutations with monotonically increasing offsets
+ * The newest capacity events are retained. Readers can pull batches with read(), or subscribe and have
+ * batches pushed on a single daemon dispatch thread, so listeners never run inside the writer's lock.
+ */
+public class ChangeLog<T> {
+
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+    public static final int MAX_BATCH_SIZE = 1024;
+
+    private final ChangeEvent<T>[] ring;
+    private final int mask;
+    private long nextOffset;
+
+    private final List<PushSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean dispatchScheduled = new AtomicBoolean();
+    private ExecutorService dispatcher;
+
+    // Constructor
+    public ChangeLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    @SuppressWarnings("unchecked")
+    public ChangeLog(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive, provided: " + capacity);
+        }
+        // Rounded up to a power of two so offsets map to slots with a mask
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.ring = (ChangeEvent<T>[]) new ChangeEvent<?>[size];
+        this.mask = size - 1;
+    }
+
+    // Appends an event and returns its offset, the employee is copied
+    public long append(ChangeType type, T employeeId, EmployeeField field, Employee<T> employee, Instant timestamp) {
+        long offset;
+        synchronized (this) {
+            offset = nextOffset++;
+            Employee<T> copy = employee != null ? new Employee<>(employee) : null;
+            ring[(int) (offset & mask)] = new ChangeEvent<>(offset, type, employeeId, field, copy, timestamp);
+        }
+        if (!subscriptions.isEmpty()) {
+            scheduleDispatch();
+        }
+        return offset;
+    }
+
+    // Reads up to maxEvents events starting at fromOffset, an empty list means the reader is caught up
+    public synchronized List<ChangeEvent<T>> read(long fromOffset, int maxEvents) throws ChangeLogTruncatedException {
+        if (maxEvents < 0) {
+            throw new IllegalArgumentException("Maximum events cannot be negative: " + maxEvents);
+        }
+        if (fromOffset > nextOffset) {
+            throw new IllegalArgumentException("Offset " + fromOffset + " is beyond the end of the log (" + nextOffset + ")");
+        }
+        long first = getFirstOffset();
+        if (fromOffset < first) {
+            throw new ChangeLogTruncatedException(fromOffset, first);
+        }
+        int count = (int) Math.min(maxEvents, nextOffset - fromOffset);
+        List<ChangeEvent<T>> events = new ArrayList<>(count);
+        for (long offset = fromOffset; offset < fromOffset + count; offset++) {
+            events.add(ring[(int) (offset & mask)]);
+        }
+        return events;
+    }
+
+    // Oldest offset still retained
+    public synchronized long getFirstOffset() {
+        return Math.max(0, nextOffset - ring.length);
+    }
+
+    // Offset the next appended event will get
+    public synchronized long getNextOffset() {
+        return nextOffset;
+    }
+
+    public int getCapacity() {
+        return ring.length;
+    }
+
+    // Pushes events from fromOffset onwards to the listener
+    public ChangeSubscription subscribe(long fromOffset, ChangeListener<T> listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        if (fromOffset < 0 || fromOffset > getNextOffset()) {
+            throw new IllegalArgumentException("Offset " + fromOffset + " is outside the log (0.." + getNextOffset() + ")");
+        }
+        PushSubscription subscription = new PushSubscription(fromOffset, listener);
+        subscriptions.add(subscription);
+        scheduleDispatch();
+        return subscription;
+    }
+
+    // Dispatch
+
+    private synchronized ExecutorService dispatcher() {
+        if (dispatcher == null) {
+            dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "employee-change-log");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return dispatcher;
+    }
+
+    // Coalesces wake-ups: at most one dispatch pass is queued at a time
+    private void scheduleDispatch() {
+        if (dispatchScheduled.compareAndSet(false, true)) {
+            dispatcher().execute(this::dispatch);
+        }
+    }
+
+    private void dispatch() {
+        dispatchScheduled.set(false);
+        boolean more = false;
+        for (PushSubscription subscription : subscriptions) {
+            try {
+                more |= subscription.deliverBatch();
+            } catch (RuntimeException e) {
+                // A failing listener is dropped so it can't stall the others
+                subscription.cancel();
+                Thread current = Thread.currentThread();
+                current.getUncaughtExceptionHandler().uncaughtException(current, e);
+            }
+        }
+        if (more) {
+            scheduleDispatch();
+        }
+    }
+
+    private final class PushSubscription implements ChangeSubscription {
+        private final ChangeListener<T> listener;
+        private volatile long position;
+        private volatile boolean cancelled;
+        private volatile boolean truncated;
+
+        PushSubscription(long position, ChangeListener<T> listener) {
+            this.position = position;
+            this.listener = listener;
+        }
+
+        // Delivers one batch, returns true if more events are already waiting
+        boolean deliverBatch() {
+            if (cancelled || truncated) {
+                return false;
+            }
+            List<ChangeEvent<T>> events;
+            try {
+                events = read(position, MAX_BATCH_SIZE);
+            } catch (ChangeLogTruncatedException e) {
+                truncated = true;
+                listener.onTruncated(this, e.getFirstAvailableOffset());
+                return !truncated;
+            }
+            if (events.isEmpty()) {
+                return false;
+            }
+            position = events.get(events.size() - 1).getOffset() + 1;
+            listener.onEvents(events);
+            return position < getNextOffset();
+        }
+
+        @Override
+        public long getPosition() {
+            return position;
+        }
+
+        @Override
+        public void seek(long offset) {
+            if (offset < 0 || offset > getNextOffset()) {
+                throw new IllegalArgumentException("Offset " + offset + " is outside the log (0.." + getNextOffset() + ")");
+            }
+            position = offset;
+            truncated = false;
+            scheduleDispatch();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            subscriptions.remove(this);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.employeemanagement.employeemanagementsystem.model.changelog;
+
+/**
+ * Handle to a push subscription on a change log
+ */
+public interface ChangeSubscription {
+
+    // Offset of the next event the listener will receive
+    long getPosition();
+
+    // Continues delivery from the given offset, typically the offset of a freshly loaded snapshot
+    void seek(long offset);
+
+    // Stops delivery, events already being delivered may still arrive
+    void cancel();
+
+    boolean isCancelled();
+}
@@ -0,0 +1,8 @@
+package com.employeemanagement.employeemanagementsystem.model.changelog;
+
+/**
+ * Kind of mutation recorded in the change log
+ */
+public enum ChangeType {
+    CREATED, UPDATED, DELETED
+}
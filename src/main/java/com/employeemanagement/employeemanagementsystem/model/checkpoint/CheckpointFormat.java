@@ -0,0 +1,161 @@
+package com.employeemanagement.employeemanagementsystem.model.checkpoint;
+
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeCodec;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Layout of checkpoint files, written with DataOutput (big-endian)
+ * Header: int32 MAGIC, uint8 VERSION, uint8 kind (BASE or INCREMENT), int64 sequence, int64 change log offset,
+ * int32 record count. Each record is a uint8 tag, then int32 ID for a TOMBSTONE or the employee for a PUT
+ * (EmployeeCodec encoding).
+ * The file ends with the CRC32 of everything before it as an int64, so a damaged file is detected on recovery.
+ */
+final class CheckpointFormat {
+
+    static final int MAGIC = 0x454D434B;
+    static final int VERSION = 2;
+
+    static final byte BASE = 'B';
+    static final byte INCREMENT = 'I';
+
+    static final byte PUT = 1;
+    static final byte TOMBSTONE = 0;
+
+    private CheckpointFormat() {
+    }
+
+    // Records to write, in file order
+    interface RecordSource {
+        void writeTo(Writer writer) throws IOException;
+    }
+
+    // Receives the records of a file while it is read
+    interface RecordSink {
+        void put(Employee<Integer> employee);
+
+        void tombstone(int employeeId);
+    }
+
+    // Header of a file that was read
+    static final class Header {
+        final byte kind;
+        final long sequence;
+        final long offset;
+        final int count;
+
+        Header(byte kind, long sequence, long offset, int count) {
+            this.kind = kind;
+            this.sequence = sequence;
+            this.offset = offset;
+            this.count = count;
+        }
+    }
+
+    static final class Writer {
+        private final DataOutputStream out;
+
+        Writer(DataOutputStream out) {
+            this.out = out;
+        }
+
+        void put(Employee<Integer> employee) throws IOException {
+            out.writeByte(PUT);
+            EmployeeCodec.write(out, employee);
+        }
+
+        void tombstone(int employeeId) throws IOException {
+            out.writeByte(TOMBSTONE);
+            out.writeInt(employeeId);
+        }
+    }
+
+    // Writes the file next to its destination, forces it to disk and renames it into place, returns its size
+    static long write(Path file, byte kind, long sequence, long offset, int count, RecordSource records) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        CRC32 crc = new CRC32();
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream unclosable = new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024);
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(unclosable, crc));
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeByte(kind);
+            out.writeLong(sequence);
+            out.writeLong(offset);
+            out.writeInt(count);
+            records.writeTo(new Writer(out));
+            new DataOutputStream(unclosable).writeLong(crc.getValue());
+            unclosable.flush();
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+        Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return Files.size(file);
+    }
+
+    // Reads a whole file into the sink and checks its CRC
+    static Header read(Path file, RecordSink sink) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream raw = new BufferedInputStream(Files.newInputStream(file), 64 * 1024)) {
+            DataInputStream in = new DataInputStream(new CheckedInputStream(raw, crc));
+            if (in.readInt() != MAGIC || in.readUnsignedByte() != VERSION) {
+                throw new IOException(file + " is not a checkpoint file");
+            }
+            byte kind = in.readByte();
+            if (kind != BASE && kind != INCREMENT) {
+                throw new IOException(file + " has an unknown checkpoint kind " + kind);
+            }
+            Header header = new Header(kind, in.readLong(), in.readLong(), in.readInt());
+            for (int i = 0; i < header.count; i++) {
+                byte tag = in.readByte();
+                if (tag == PUT) {
+                    sink.put(EmployeeCodec.read(in));
+                } else if (tag == TOMBSTONE) {
+                    sink.tombstone(in.readInt());
+                } else {
+                    throw new IOException(file + " has an unknown record tag " + tag);
+                }
+            }
+            long expected = crc.getValue();
+            if (new DataInputStream(raw).readLong() != expected) {
+                throw new IOException(file + " failed its checksum");
+            }
+            return header;
+        }
+    }
+
+    // Sink that applies records to a map of live employees
+    static RecordSink into(Map<Integer, Employee<Integer>> employees) {
+        return new RecordSink() {
+            @Override
+            public void put(Employee<Integer> employee) {
+                employees.put(employee.getEmployeeId(), employee);
+            }
+
+            @Override
+            public void tombstone(int employeeId) {
+                employees.remove(employeeId);
+            }
+        };
+    }
+}
@@ -0,0 +1,62 @@
+package com.employeemanagement.employeemanagementsystem.model.checkpoint;
+
+/**
+ * What one checkpoint wrote: a full base image or an increment of changed records and tombstones
+ */
+public final class CheckpointResult {
+
+    private final boolean base;
+    private final long sequence;
+    private final long offset;
+    private final int records;
+    private final int tombstones;
+    private final long bytes;
+
+    CheckpointResult(boolean base, long sequence, long offset, int records, int tombstones, long bytes) {
+        this.base = base;
+        this.sequence = sequence;
+        this.offset = offset;
+        this.records = records;
+        this.tombstones = tombstones;
+        this.bytes = bytes;
+    }
+
+    // True for a full image, false for an increment
+    public boolean isBase() {
+        return base;
+    }
+
+    // Sequence number of the file written, unchanged when nothing was dirty
+    public long getSequence() {
+        return sequence;
+    }
+
+    // Change log offset of the snapshot the checkpoint was taken from
+    public long getOffset() {
+        return offset;
+    }
+
+    // Employees written in full
+    public int getRecords() {
+        return records;
+    }
+
+    // Deleted employees recorded
+    public int getTombstones() {
+        return tombstones;
+    }
+
+    // Size of the file written, 0 when nothing was dirty
+    public long getBytes() {
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        if (bytes == 0) {
+            return "nothing to checkpoint";
+        }
+        return (base ? "base " : "increment ") + sequence + ": " + records + " record(s), " + tombstones +
+                " tombstone(s), " + bytes + " bytes";
+    }
+}
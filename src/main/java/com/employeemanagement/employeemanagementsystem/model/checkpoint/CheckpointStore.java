@@ -0,0 +1,328 @@
+package com.employeemanagement.employeemanagementsystem.model.checkpoint;
+
+import com.employeemanagement.employeemanagementsystem.exceptions.EmployeeNotFoundException;
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidSalaryException;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
+import com.employeemanagement.employeemanagementsystem.model.mvcc.DirtyRecords;
+import com.employeemanagement.employeemanagementsystem.model.mvcc.EmployeeSnapshot;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Checkpoints an EmployeeDatabase to a directory, writing only what changed since the previous checkpoint
+ * The first checkpoint writes a base image of every employee. Later ones write an increment holding the employees
+ * added or changed since, and a tombstone for each one deleted, using the database's dirty record tracking.
+ * Once enough increments pile up, a background thread merges them into a new base image and deletes the old
+ * files; checkpoints keep going while it runs. Every file is written to a temporary name, forced to disk and
+ * renamed, so a crash leaves either the old or the new file. One store per database, it owns the dirty records.
+ */
+public class CheckpointStore implements AutoCloseable {
+
+    public static final int DEFAULT_COMPACT_AFTER = 8;
+
+    private static final Pattern FILE_NAME = Pattern.compile("(base|incr)-(\\d{16})\\.ckpt");
+
+    private final Path directory;
+    private final int compactAfter;
+
+    // Guarded by this: the current base image and the increments written after it
+    private long baseSequence = -1;
+    private final TreeSet<Long> increments = new TreeSet<>();
+    private long lastSequence = -1;
+    // Set when a checkpoint failed, its dirty IDs are gone so the next one writes a full base image
+    private boolean baseRequired;
+
+    // Held for a whole compaction, so only one runs at a time
+    private final Object compactionLock = new Object();
+    private final AtomicBoolean compactionScheduled = new AtomicBoolean();
+    private ExecutorService compactor;
+
+    public CheckpointStore(Path directory) throws IOException {
+        this(directory, DEFAULT_COMPACT_AFTER);
+    }
+
+    // Compacts in the background once compactAfter increments exist, 0 leaves compaction to compact()
+    public CheckpointStore(Path directory, int compactAfter) throws IOException {
+        if (directory == null) {
+            throw new IllegalArgumentException("Directory cannot be null");
+        }
+        if (compactAfter < 0) {
+            throw new IllegalArgumentException("Compaction threshold cannot be negative: " + compactAfter);
+        }
+        this.directory = directory;
+        this.compactAfter = compactAfter;
+        Files.createDirectories(directory);
+        scanDirectory();
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    // Sequence number of the current base image, -1 before the first checkpoint
+    public synchronized long getBaseSequence() {
+        return baseSequence;
+    }
+
+    // Increments not yet merged into the base image
+    public synchronized int getIncrementCount() {
+        return increments.size();
+    }
+
+    // Checkpoints
+
+    //Writes the employees changed since the previous checkpoint, or a full base image when there is none yet
+    public synchronized CheckpointResult checkpoint(EmployeeDatabase<Integer> database) throws IOException {
+        if (database == null) {
+            throw new IllegalArgumentException("Database cannot be null");
+        }
+        DirtyRecords<Integer> dirty = database.drainDirtyRecords();
+        EmployeeSnapshot<Integer> snapshot = dirty.getSnapshot();
+        try {
+            if (dirty.isComplete() || baseSequence < 0 || baseRequired) {
+                return writeBase(snapshot);
+            }
+            if (dirty.getDirtyIds().isEmpty()) {
+                return new CheckpointResult(false, lastSequence, snapshot.getOffset(), 0, 0, 0);
+            }
+            return writeIncrement(snapshot, dirty);
+        } catch (IOException | RuntimeException e) {
+            baseRequired = true;
+            throw e;
+        }
+    }
+
+    private CheckpointResult writeBase(EmployeeSnapshot<Integer> snapshot) throws IOException {
+        long sequence = lastSequence + 1;
+        long bytes = CheckpointFormat.write(file("base", sequence), CheckpointFormat.BASE, sequence, snapshot.getOffset(),
+                snapshot.size(), writer -> {
+                    for (Employee<Integer> employee : snapshot) {
+                        writer.put(employee);
+                    }
+                });
+        long previousBase = baseSequence;
+        List<Long> replaced = new ArrayList<>(increments);
+        baseSequence = sequence;
+        lastSequence = sequence;
+        baseRequired = false;
+        increments.clear();
+        deleteFiles(previousBase, replaced);
+        return new CheckpointResult(true, sequence, snapshot.getOffset(), snapshot.size(), 0, bytes);
+    }
+
+    private CheckpointResult writeIncrement(EmployeeSnapshot<Integer> snapshot, DirtyRecords<Integer> dirty) throws IOException {
+        List<Employee<Integer>> changed = new ArrayList<>();
+        List<Integer> deleted = new ArrayList<>();
+        for (Integer employeeId : dirty.getDirtyIds()) {
+            try {
+                changed.add(snapshot.getEmployee(employeeId));
+            } catch (EmployeeNotFoundException e) {
+                deleted.add(employeeId);
+            }
+        }
+        long sequence = lastSequence + 1;
+        long bytes = CheckpointFormat.write(file("incr", sequence), CheckpointFormat.INCREMENT, sequence, snapshot.getOffset(),
+                changed.size() + deleted.size(), writer -> {
+                    for (Employee<Integer> employee : changed) {
+                        writer.put(employee);
+                    }
+                    for (Integer employeeId : deleted) {
+                        writer.tombstone(employeeId);
+                    }
+                });
+        increments.add(sequence);
+        lastSequence = sequence;
+        if (compactAfter > 0 && increments.size() >= compactAfter) {
+            scheduleCompaction();
+        }
+        return new CheckpointResult(false, sequence, snapshot.getOffset(), changed.size(), deleted.size(), bytes);
+    }
+
+    // Recovery
+
+    //Reads the base image and replays every increment on top of it, returns the employees by ID
+    public synchronized Map<Integer, Employee<Integer>> recover() throws IOException {
+        Map<Integer, Employee<Integer>> employees = new HashMap<>();
+        if (baseSequence >= 0) {
+            CheckpointFormat.read(file("base", baseSequence), CheckpointFormat.into(employees));
+        }
+        for (long sequence : increments) {
+            CheckpointFormat.read(file("incr", sequence), CheckpointFormat.into(employees));
+        }
+        return employees;
+    }
+
+    //Loads the checkpointed employees into an empty database, later checkpoints of it are incremental again
+    public synchronized int restore(EmployeeDatabase<Integer> database) throws IOException {
+        if (database == null) {
+            throw new IllegalArgumentException("Database cannot be null");
+        }
+        if (database.getTotalEmployeeCount() != 0) {
+            throw new IllegalArgumentException("Checkpoints can only be restored into an empty database");
+        }
+        TreeMap<Integer, Employee<Integer>> employees = new TreeMap<>(recover());
+        for (Employee<Integer> employee : employees.values()) {
+            try {
+                database.addEmployee(employee);
+            } catch (InvalidSalaryException e) {
+                throw new IOException("Checkpoint holds an invalid employee " + employee.getEmployeeId(), e);
+            }
+        }
+        // The restored state is what the files already hold, only changes made from here on are dirty
+        database.drainDirtyRecords();
+        return employees.size();
+    }
+
+    // Compaction
+
+    //Merges the base image and the increments written so far into a new base image, then deletes them
+    public void compact() throws IOException {
+        synchronized (compactionLock) {
+            long base;
+            List<Long> merged;
+            synchronized (this) {
+                if (increments.isEmpty()) {
+                    return;
+                }
+                base = baseSequence;
+                merged = new ArrayList<>(increments);
+            }
+            Map<Integer, Employee<Integer>> employees = new HashMap<>();
+            long offset = 0;
+            if (base >= 0) {
+                offset = CheckpointFormat.read(file("base", base), CheckpointFormat.into(employees)).offset;
+            }
+            for (long sequence : merged) {
+                offset = CheckpointFormat.read(file("incr", sequence), CheckpointFormat.into(employees)).offset;
+            }
+            // Takes the sequence of the last increment it contains, newer increments still apply on top
+            long target = merged.get(merged.size() - 1);
+            List<Employee<Integer>> sorted = new ArrayList<>(new TreeMap<>(employees).values());
+            Path output = file("base", target);
+            CheckpointFormat.write(output, CheckpointFormat.BASE, target, offset, sorted.size(), writer -> {
+                for (Employee<Integer> employee : sorted) {
+                    writer.put(employee);
+                }
+            });
+            synchronized (this) {
+                if (baseSequence != base) {
+                    // A checkpoint wrote a newer base image meanwhile
+                    Files.deleteIfExists(output);
+                    return;
+                }
+                baseSequence = target;
+                increments.headSet(target, true).clear();
+                deleteFiles(base, merged);
+            }
+        }
+    }
+
+    private void scheduleCompaction() {
+        if (compactionScheduled.compareAndSet(false, true)) {
+            compactor().execute(() -> {
+                compactionScheduled.set(false);
+                try {
+                    compact();
+                } catch (IOException e) {
+                    // The increments stay in place, the next checkpoint past the threshold tries again
+                }
+            });
+        }
+    }
+
+    private synchronized ExecutorService compactor() {
+        if (compactor == null) {
+            compactor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "checkpoint-compactor");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return compactor;
+    }
+
+    // Waits for a running compaction to finish
+    @Override
+    public void close() {
+        ExecutorService running;
+        synchronized (this) {
+            running = compactor;
+            compactor = null;
+        }
+        if (running != null) {
+            running.shutdown();
+            try {
+                running.awaitTermination(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // Files
+
+    private Path file(String kind, long sequence) {
+        return directory.resolve(String.format("%s-%016d.ckpt", kind, sequence));
+    }
+
+    // Picks up the files of an earlier run, leftovers of interrupted writes and compactions are removed
+    private void scanDirectory() throws IOException {
+        List<Long> bases = new ArrayList<>();
+        List<Long> written = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path path : files) {
+                String name = path.getFileName().toString();
+                if (name.endsWith(".ckpt.tmp")) {
+                    Files.deleteIfExists(path);
+                    continue;
+                }
+                Matcher matcher = FILE_NAME.matcher(name);
+                if (matcher.matches()) {
+                    long sequence = Long.parseLong(matcher.group(2));
+                    (matcher.group(1).equals("base") ? bases : written).add(sequence);
+                    lastSequence = Math.max(lastSequence, sequence);
+                }
+            }
+        }
+        for (long base : bases) {
+            baseSequence = Math.max(baseSequence, base);
+        }
+        for (long base : bases) {
+            if (base != baseSequence) {
+                Files.deleteIfExists(file("base", base));
+            }
+        }
+        for (long sequence : written) {
+            if (sequence > baseSequence) {
+                increments.add(sequence);
+            } else {
+                Files.deleteIfExists(file("incr", sequence));
+            }
+        }
+    }
+
+    private void deleteFiles(long base, List<Long> replaced) throws IOException {
+        if (base >= 0) {
+            Files.deleteIfExists(file("base", base));
+        }
+        for (long sequence : replaced) {
+            Files.deleteIfExists(file("incr", sequence));
+        }
+    }
+}
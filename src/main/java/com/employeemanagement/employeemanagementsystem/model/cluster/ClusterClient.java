@@ -0,0 +1,370 @@
+package com.employeemanagement.employeemanagementsystem.model.cluster;
+
+import com.employeemanagement.employeemanagementsystem.exceptions.EmployeeNotFoundException;
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidDepartmentException;
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidSalaryException;
+import com.employeemanagement.employeemanagementsystem.exceptions.NodeUnavailableException;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Client-side router for a cluster of ClusterNodes: every employee ID lives on `replicas` nodes of a consistent-hash ring
+ * Writes go to every replica, primary first, and succeed once writeQuorum replicas acknowledged them. Validation errors
+ * come from the first replica that can be reached, before any other replica is written. Reads go to the primary and
+ * fall back to the other replicas while nodes are unreachable.
+ * Adding or removing a node copies only the ranges whose replica set changes, then switches routing to the new ring and
+ * finally drops the ranges from nodes that no longer own them. Operations of this client wait while that happens.
+ */
+public class ClusterClient implements AutoCloseable {
+
+    public static final int DEFAULT_REPLICAS = 2;
+
+    private final int replicas;
+    private final int writeQuorum;
+    private final HttpClient http;
+    private final Duration timeout;
+
+    // Guards the ring and the node clients, membership changes take the write lock
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private ConsistentHashRing ring;
+    private final Map<String, NodeClient> nodes = new TreeMap<>();
+
+    // Constructor with two replicas per range, both of which must acknowledge a write
+    public ClusterClient() {
+        this(DEFAULT_REPLICAS, DEFAULT_REPLICAS, ConsistentHashRing.DEFAULT_VIRTUAL_NODES, NodeClient.DEFAULT_TIMEOUT);
+    }
+
+    public ClusterClient(int replicas, int writeQuorum, int virtualNodes, Duration timeout) {
+        if (replicas < 1) {
+            throw new IllegalArgumentException("Replication factor must be at least 1, provided: " + replicas);
+        }
+        if (writeQuorum < 1 || writeQuorum > replicas) {
+            throw new IllegalArgumentException("Write quorum must be between 1 and " + replicas + ", provided: " + writeQuorum);
+        }
+        this.replicas = replicas;
+        this.writeQuorum = writeQuorum;
+        this.timeout = timeout;
+        this.http = HttpClient.newBuilder().connectTimeout(timeout).build();
+        this.ring = new ConsistentHashRing(virtualNodes);
+    }
+
+    // Membership
+
+    // Adds a node to the ring and copies it the ranges it now replicates
+    public RebalanceResult addNode(String nodeId, URI address) throws NodeUnavailableException {
+        lock.writeLock().lock();
+        try {
+            NodeClient node = new NodeClient(nodeId, address, http, timeout);
+            ConsistentHashRing newRing = ring.withNode(nodeId);
+            nodes.put(nodeId, node);
+            try {
+                return rebalance(newRing);
+            } catch (NodeUnavailableException | RuntimeException e) {
+                nodes.remove(nodeId);
+                throw e;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Removes a node from the ring after copying its ranges to their new replicas. The node may already be down,
+    // as long as another replica of each of its ranges is still up.
+    public RebalanceResult removeNode(String nodeId) throws NodeUnavailableException {
+        lock.writeLock().lock();
+        try {
+            RebalanceResult result = rebalance(ring.withoutNode(nodeId));
+            nodes.remove(nodeId);
+            return result;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Routes to a node that another client already added, without moving any data
+    public void connectNode(String nodeId, URI address) {
+        lock.writeLock().lock();
+        try {
+            ring = ring.withNode(nodeId);
+            nodes.put(nodeId, new NodeClient(nodeId, address, http, timeout));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public ConsistentHashRing getRing() {
+        lock.readLock().lock();
+        try {
+            return ring;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public NodeClient getNode(String nodeId) {
+        lock.readLock().lock();
+        try {
+            return nodes.get(nodeId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Nodes storing the employee, primary first
+    public List<String> getReplicas(int employeeId) {
+        return getRing().getReplicas(employeeId, replicas);
+    }
+
+    public int getReplicationFactor() {
+        return replicas;
+    }
+
+    public int getWriteQuorum() {
+        return writeQuorum;
+    }
+
+    // Routed operations
+
+    public void addEmployee(Employee<Integer> employee) throws InvalidSalaryException, NodeUnavailableException {
+        if (employee == null || employee.getEmployeeId() == null) {
+            throw new IllegalArgumentException("Employee and employee ID cannot be null");
+        }
+        lock.readLock().lock();
+        try {
+            List<NodeClient> targets = replicaClients(employee.getEmployeeId());
+            int acknowledged = 0;
+            NodeUnavailableException failure = null;
+            for (NodeClient node : targets) {
+                try {
+                    node.addEmployee(employee);
+                    acknowledged++;
+                } catch (NodeUnavailableException e) {
+                    failure = e;
+                }
+            }
+            requireQuorum("add employee " + employee.getEmployeeId(), acknowledged, targets.size(), failure);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Employee<Integer> getEmployee(int employeeId) throws EmployeeNotFoundException, NodeUnavailableException {
+        lock.readLock().lock();
+        try {
+            NodeUnavailableException failure = null;
+            for (NodeClient node : replicaClients(employeeId)) {
+                try {
+                    return node.getEmployee(employeeId);
+                } catch (NodeUnavailableException e) {
+                    failure = e;
+                }
+            }
+            throw noReplica("read employee " + employeeId, failure);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void updateEmployeeDetails(int employeeId, String field, Object newValue)
+            throws EmployeeNotFoundException, InvalidSalaryException, InvalidDepartmentException, NodeUnavailableException {
+        lock.readLock().lock();
+        try {
+            List<NodeClient> targets = replicaClients(employeeId);
+            int acknowledged = 0;
+            NodeUnavailableException failure = null;
+            for (NodeClient node : targets) {
+                try {
+                    node.updateEmployeeDetails(employeeId, field, newValue);
+                    acknowledged++;
+                } catch (NodeUnavailableException e) {
+                    failure = e;
+                }
+            }
+            requireQuorum("update employee " + employeeId, acknowledged, targets.size(), failure);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void deleteEmployee(int employeeId) throws EmployeeNotFoundException, NodeUnavailableException {
+        lock.readLock().lock();
+        try {
+            List<NodeClient> targets = replicaClients(employeeId);
+            int acknowledged = 0;
+            NodeUnavailableException failure = null;
+            for (NodeClient node : targets) {
+                try {
+                    node.deleteEmployee(employeeId);
+                    acknowledged++;
+                } catch (NodeUnavailableException e) {
+                    failure = e;
+                }
+            }
+            requireQuorum("delete employee " + employeeId, acknowledged, targets.size(), failure);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Asks every node and keeps one copy of each employee, ordered by ID
+    public List<Employee<Integer>> getAllEmployees() throws NodeUnavailableException {
+        return gather(NodeClient::getAllEmployees);
+    }
+
+    public List<Employee<Integer>> findEmployeesByDepartment(String department)
+            throws InvalidDepartmentException, NodeUnavailableException {
+        return gather(node -> node.findEmployeesByDepartment(department));
+    }
+
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            nodes.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        // Waits for requests still in flight, then stops the client's threads
+        http.close();
+    }
+
+    // Routing helpers
+
+    private List<NodeClient> replicaClients(int employeeId) throws NodeUnavailableException {
+        List<String> owners = ring.getReplicas(employeeId, replicas);
+        if (owners.isEmpty()) {
+            throw new NodeUnavailableException("The cluster has no nodes");
+        }
+        List<NodeClient> clients = new ArrayList<>(owners.size());
+        for (String owner : owners) {
+            clients.add(nodes.get(owner));
+        }
+        return clients;
+    }
+
+    private void requireQuorum(String operation, int acknowledged, int targets, NodeUnavailableException failure)
+            throws NodeUnavailableException {
+        // A cluster smaller than the replication factor can only acknowledge as many copies as it has nodes
+        if (acknowledged < Math.min(writeQuorum, targets)) {
+            throw new NodeUnavailableException("Could not " + operation + ": " + acknowledged + " of " + targets +
+                    " replicas acknowledged, " + writeQuorum + " required", failure);
+        }
+    }
+
+    private static NodeUnavailableException noReplica(String operation, NodeUnavailableException failure) {
+        return new NodeUnavailableException("Could not " + operation + ": no replica is reachable", failure);
+    }
+
+    // Query sent to every node of a scatter-gather read
+    private interface NodeQuery<E extends Exception> {
+        List<Employee<Integer>> run(NodeClient node) throws E, NodeUnavailableException;
+    }
+
+    // A range is only missing once all of its replicas are down, so up to replicas - 1 nodes may fail
+    private <E extends Exception> List<Employee<Integer>> gather(NodeQuery<E> query) throws E, NodeUnavailableException {
+        lock.readLock().lock();
+        try {
+            Map<Integer, Employee<Integer>> merged = new TreeMap<>();
+            List<String> unreachable = new ArrayList<>();
+            NodeUnavailableException failure = null;
+            for (NodeClient node : nodes.values()) {
+                List<Employee<Integer>> employees;
+                try {
+                    employees = query.run(node);
+                } catch (NodeUnavailableException e) {
+                    unreachable.add(node.getNodeId());
+                    failure = e;
+                    continue;
+                }
+                for (Employee<Integer> employee : employees) {
+                    // The primary's copy wins over the other replicas
+                    if (ring.getReplicas(employee.getEmployeeId(), 1).contains(node.getNodeId())) {
+                        merged.put(employee.getEmployeeId(), employee);
+                    } else {
+                        merged.putIfAbsent(employee.getEmployeeId(), employee);
+                    }
+                }
+            }
+            if (!unreachable.isEmpty() && unreachable.size() >= replicas) {
+                throw new NodeUnavailableException("Nodes " + unreachable + " are unreachable, some ranges have no replica left", failure);
+            }
+            return new ArrayList<>(merged.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Rebalancing
+
+    // Copies changed ranges to their new replicas, switches to the new ring, then drops them from former replicas.
+    // Called with the write lock held.
+    private RebalanceResult rebalance(ConsistentHashRing newRing) throws NodeUnavailableException {
+        List<RangeTransfer> transfers = ConsistentHashRing.transfers(ring, newRing, replicas);
+
+        // One export per (new replica, candidate sources) pair instead of one per range
+        Map<String, Map<List<String>, List<TokenRange>>> copies = new LinkedHashMap<>();
+        Map<String, List<TokenRange>> drops = new LinkedHashMap<>();
+        for (RangeTransfer transfer : transfers) {
+            if (!transfer.getPreviousReplicas().isEmpty()) {
+                for (String gained : transfer.getGainedReplicas()) {
+                    copies.computeIfAbsent(gained, node -> new LinkedHashMap<>())
+                            .computeIfAbsent(transfer.getPreviousReplicas(), sources -> new ArrayList<>())
+                            .add(transfer.getRange());
+                }
+            }
+            for (String lost : transfer.getLostReplicas()) {
+                drops.computeIfAbsent(lost, node -> new ArrayList<>()).add(transfer.getRange());
+            }
+        }
+
+        long copied = 0;
+        for (Map.Entry<String, Map<List<String>, List<TokenRange>>> target : copies.entrySet()) {
+            NodeClient destination = nodes.get(target.getKey());
+            for (Map.Entry<List<String>, List<TokenRange>> batch : target.getValue().entrySet()) {
+                List<Employee<Integer>> employees = exportFromAnyReplica(batch.getKey(), batch.getValue());
+                if (!employees.isEmpty()) {
+                    copied += destination.importEmployees(employees);
+                }
+            }
+        }
+
+        ring = newRing;
+
+        long dropped = 0;
+        for (Map.Entry<String, List<TokenRange>> drop : drops.entrySet()) {
+            NodeClient node = nodes.get(drop.getKey());
+            try {
+                dropped += node.dropRanges(drop.getValue());
+            } catch (NodeUnavailableException e) {
+                // A departed node that is down keeps its stale copies, nothing routes to it anymore
+                if (newRing.getNodes().contains(drop.getKey())) {
+                    throw e;
+                }
+            }
+        }
+        return new RebalanceResult(transfers, copied, dropped);
+    }
+
+    private List<Employee<Integer>> exportFromAnyReplica(List<String> sources, List<TokenRange> ranges)
+            throws NodeUnavailableException {
+        NodeUnavailableException failure = null;
+        for (String source : sources) {
+            try {
+                return nodes.get(source).exportRanges(ranges);
+            } catch (NodeUnavailableException e) {
+                failure = e;
+            }
+        }
+        throw new NodeUnavailableException("No replica of " + ranges.size() + " range(s) is reachable among " + sources, failure);
+    }
+}
@@ -0,0 +1,320 @@
+package com.employeemanagement.employeemanagementsystem.model.cluster;
+
+import com.employeemanagement.employeemanagementsystem.exceptions.EmployeeNotFoundException;
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidDepartmentException;
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidSalaryException;
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * One cluster member: an EmployeeDatabase served over HTTP with JSON bodies
+ * The node knows nothing about the ring, clients route each ID to its replicas and move ranges between nodes.
+ * Endpoints:
+ *   GET /health                       node ID and employee count
+ *   POST /employees                   add an employee
+ *   GET /employees[?department=X]     all employees, or those of one department
+ *   GET|PATCH|DELETE /employees/{id}  read, update one field ({"field":...,"value":...}) or delete an employee
+ *   POST /ranges/export               employees whose token falls in any of the posted ranges
+ *   POST /ranges/import               add or overwrite the posted employees
+ *   POST /ranges/drop                 delete employees whose token falls in any of the posted ranges
+ * Run as a process with: ClusterNode --id node-1 [--port 7401] [--host 127.0.0.1]
+ */
+public class ClusterNode implements AutoCloseable {
+
+    private static final String JSON = "application/json; charset=utf-8";
+
+    static {
+        // The JDK server writes headers and body separately, without TCP_NODELAY every small response waits for
+        // the client's delayed ACK (about 40 ms). Only takes effect if no HttpServer was created before.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final String nodeId;
+    private final EmployeeDatabase<Integer> database;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    // Binds the node to the loopback address, port 0 picks a free port
+    public ClusterNode(String nodeId, int port) throws IOException {
+        this(nodeId, new InetSocketAddress(InetAddress.getLoopbackAddress(), port), new EmployeeDatabase<>());
+    }
+
+    public ClusterNode(String nodeId, InetSocketAddress address, EmployeeDatabase<Integer> database) throws IOException {
+        if (nodeId == null || nodeId.isBlank()) {
+            throw new IllegalArgumentException("Node ID cannot be empty");
+        }
+        if (database == null) {
+            throw new IllegalArgumentException("Database cannot be null");
+        }
+        this.nodeId = nodeId;
+        this.database = database;
+        this.server = HttpServer.create(address, 0);
+        this.executor = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()), runnable -> {
+            Thread thread = new Thread(runnable, "cluster-node-" + nodeId);
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/health", exchange -> handle(exchange, this::health));
+        server.createContext("/employees", exchange -> handle(exchange, this::employees));
+        server.createContext("/ranges", exchange -> handle(exchange, this::ranges));
+    }
+
+    public ClusterNode start() {
+        server.start();
+        return this;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public EmployeeDatabase<Integer> getDatabase() {
+        return database;
+    }
+
+    public URI getAddress() {
+        InetSocketAddress address = server.getAddress();
+        return URI.create("http://" + address.getHostString() + ":" + address.getPort());
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public static void main(String[] args) throws IOException {
+        String nodeId = null;
+        String host = InetAddress.getLoopbackAddress().getHostAddress();
+        int port = 0;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--id": nodeId = args[i + 1]; break;
+                case "--host": host = args[i + 1]; break;
+                case "--port": port = Integer.parseInt(args[i + 1]); break;
+                default: throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        if (nodeId == null) {
+            System.err.println("Usage: ClusterNode --id <node id> [--port <port>] [--host <address>]");
+            System.exit(2);
+        }
+        ClusterNode node = new ClusterNode(nodeId, new InetSocketAddress(host, port), new EmployeeDatabase<>()).start();
+        Runtime.getRuntime().addShutdownHook(new Thread(node::close));
+        // LocalCluster waits for this line before routing to the node
+        System.out.println("Node " + nodeId + " listening on " + node.getAddress());
+        System.out.flush();
+    }
+
+    // Request handling
+
+    // Produces the response body for a request, or throws to send an error
+    private interface Route {
+        String respond(String method, String path, Map<String, String> query, String body) throws Exception;
+    }
+
+    private void handle(HttpExchange exchange, Route route) throws IOException {
+        try (exchange) {
+            int status = 200;
+            String response;
+            try {
+                String body;
+                try (InputStream in = exchange.getRequestBody()) {
+                    body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                }
+                response = route.respond(exchange.getRequestMethod(), exchange.getRequestURI().getPath(),
+                        parseQuery(exchange.getRequestURI().getRawQuery()), body);
+            } catch (EmployeeNotFoundException e) {
+                status = 404;
+                response = EmployeeJson.errorToJson(e.getClass().getSimpleName(), e.getMessage());
+            } catch (UnsupportedOperationException e) {
+                status = 405;
+                response = EmployeeJson.errorToJson(e.getClass().getSimpleName(), e.getMessage());
+            } catch (InvalidSalaryException | InvalidDepartmentException | IllegalArgumentException | ClassCastException e) {
+                status = 400;
+                response = EmployeeJson.errorToJson(e.getClass().getSimpleName(), e.getMessage());
+            } catch (Exception e) {
+                status = 500;
+                response = EmployeeJson.errorToJson(e.getClass().getSimpleName(), e.getMessage());
+            }
+            byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", JSON);
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    private String health(String method, String path, Map<String, String> query, String body) {
+        return "{\"nodeId\":\"" + nodeId + "\",\"employees\":" + database.getTotalEmployeeCount() + "}";
+    }
+
+    private String employees(String method, String path, Map<String, String> query, String body) throws Exception {
+        String[] segments = path.split("/");
+        // "/employees" splits into ["", "employees"], "/employees/7" into ["", "employees", "7"]
+        if (segments.length == 2) {
+            switch (method) {
+                case "GET":
+                    String department = query.get("department");
+                    return EmployeeJson.toJson(department == null
+                            ? database.getAllEmployees()
+                            : database.findEmployeesByDepartment(department));
+                case "POST":
+                    database.addEmployee(EmployeeJson.employeeFromJson(body));
+                    return "{}";
+                default:
+                    throw new UnsupportedOperationException(method + " is not supported on /employees");
+            }
+        }
+        if (segments.length != 3) {
+            throw new IllegalArgumentException("Unknown path: " + path);
+        }
+        int employeeId = parseId(segments[2]);
+        switch (method) {
+            case "GET":
+                return EmployeeJson.toJson(database.getEmployee(employeeId));
+            case "PATCH":
+                Map<String, Object> update = EmployeeJson.objectFromJson(body);
+                String field = (String) update.get("field");
+                if (field == null) {
+                    throw new IllegalArgumentException("Update has no field");
+                }
+                database.updateEmployeeDetails(employeeId, field, toFieldValue(field, update.get("value")));
+                return "{}";
+            case "DELETE":
+                database.deleteEmployee(employeeId);
+                return "{}";
+            default:
+                throw new UnsupportedOperationException(method + " is not supported on /employees/{id}");
+        }
+    }
+
+    private String ranges(String method, String path, Map<String, String> query, String body) throws Exception {
+        if (!"POST".equals(method)) {
+            throw new UnsupportedOperationException(method + " is not supported on " + path);
+        }
+        switch (path) {
+            case "/ranges/export": {
+                List<TokenRange> ranges = EmployeeJson.rangesFromJson(body);
+                List<Employee<Integer>> employees = new ArrayList<>();
+                for (Employee<Integer> employee : database.snapshot()) {
+                    if (inAnyRange(employee.getEmployeeId(), ranges)) {
+                        employees.add(employee);
+                    }
+                }
+                return EmployeeJson.toJson(employees);
+            }
+            case "/ranges/import": {
+                List<Employee<Integer>> employees = EmployeeJson.employeesFromJson(body);
+                for (Employee<Integer> employee : employees) {
+                    importEmployee(employee);
+                }
+                return "{\"imported\":" + employees.size() + "}";
+            }
+            case "/ranges/drop": {
+                List<TokenRange> ranges = EmployeeJson.rangesFromJson(body);
+                int dropped = database.deleteEmployeesMatching(employee -> inAnyRange(employee.getEmployeeId(), ranges));
+                return "{\"dropped\":" + dropped + "}";
+            }
+            default:
+                throw new IllegalArgumentException("Unknown path: " + path);
+        }
+    }
+
+    // Adds the employee, or brings an existing copy up to date field by field
+    private void importEmployee(Employee<Integer> employee) throws Exception {
+        Employee<Integer> existing;
+        try {
+            existing = database.getEmployee(employee.getEmployeeId());
+        } catch (EmployeeNotFoundException e) {
+            database.addEmployee(employee);
+            return;
+        }
+        Integer id = employee.getEmployeeId();
+        if (!existing.getEmployeeName().equals(employee.getEmployeeName())) {
+            database.updateEmployeeDetails(id, "employeeName", employee.getEmployeeName());
+        }
+        database.updateEmployeeDetails(id, "employeeDepartment", employee.getEmployeeDepartment());
+        database.updateEmployeeDetails(id, "employeeSalary", employee.getEmployeeSalary());
+        database.updateEmployeeDetails(id, "performanceRating", employee.getPerformanceRating());
+        database.updateEmployeeDetails(id, "yearOfExperience", employee.getYearsOfExperience());
+        database.updateEmployeeDetails(id, "active", employee.isActive());
+    }
+
+    private static boolean inAnyRange(Integer employeeId, List<TokenRange> ranges) {
+        long token = ConsistentHashRing.token(employeeId);
+        for (TokenRange range : ranges) {
+            if (range.contains(token)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Converts a JSON value to the type updateEmployeeDetails expects for the field
+    private static Object toFieldValue(String field, Object value) throws InvalidDepartmentException {
+        if (value == null) {
+            return null;
+        }
+        switch (field.toLowerCase()) {
+            case "employeedepartment":
+                try {
+                    return EEmployeeDepartment.valueOf(value.toString().toUpperCase());
+                } catch (IllegalArgumentException e) {
+                    throw new InvalidDepartmentException("Invalid department value: " + value);
+                }
+            case "employeesalary":
+            case "performancerating":
+                return value instanceof Number ? ((Number) value).doubleValue() : value;
+            case "yearofexperience":
+                return value instanceof Number ? ((Number) value).intValue() : value;
+            default:
+                return value;
+        }
+    }
+
+    private static int parseId(String segment) {
+        try {
+            return Integer.parseInt(segment);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid employee ID: " + segment);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            if (equals > 0) {
+                query.put(URLDecoder.decode(pair.substring(0, equals), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return query;
+    }
+}
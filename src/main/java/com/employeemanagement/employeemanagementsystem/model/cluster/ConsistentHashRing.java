@@ -0,0 +1,188 @@
+package com.employeemanagement.employeemanagementsystem.model.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Immutable consistent-hash ring mapping employee IDs to the nodes that store them
+ * Every node owns many virtual tokens, so ranges spread evenly and a joining or leaving node only takes ranges
+ * from (or hands ranges to) its neighbours on the ring. An ID is stored on the first `replicas` distinct nodes
+ * found walking clockwise from its token, the first of them is its primary.
+ */
+public final class ConsistentHashRing {
+
+    public static final int DEFAULT_VIRTUAL_NODES = 64;
+
+    private final int virtualNodes;
+    private final Set<String> nodes;
+    private final NavigableMap<Long, String> tokens;
+
+    // Creates an empty ring
+    public ConsistentHashRing() {
+        this(DEFAULT_VIRTUAL_NODES);
+    }
+
+    public ConsistentHashRing(int virtualNodes) {
+        this(virtualNodes, Collections.emptySet(), new TreeMap<>());
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("A node needs at least one virtual node, provided: " + virtualNodes);
+        }
+    }
+
+    private ConsistentHashRing(int virtualNodes, Set<String> nodes, NavigableMap<Long, String> tokens) {
+        this.virtualNodes = virtualNodes;
+        this.nodes = Collections.unmodifiableSet(nodes);
+        this.tokens = tokens;
+    }
+
+    // Token of an employee ID, the same on every client and node
+    public static long token(Object employeeId) {
+        return mix64(employeeId.hashCode());
+    }
+
+    // Ring with one more node, this ring is left unchanged
+    public ConsistentHashRing withNode(String nodeId) {
+        if (nodeId == null || nodeId.isBlank()) {
+            throw new IllegalArgumentException("Node ID cannot be empty");
+        }
+        if (nodes.contains(nodeId)) {
+            throw new IllegalArgumentException("Node " + nodeId + " is already part of the ring");
+        }
+        NavigableMap<Long, String> newTokens = new TreeMap<>(tokens);
+        for (int i = 0; i < virtualNodes; i++) {
+            long token = nodeToken(nodeId, i);
+            // On a token collision the smaller node ID wins, so the ring doesn't depend on join order
+            String owner = newTokens.get(token);
+            if (owner == null || owner.compareTo(nodeId) > 0) {
+                newTokens.put(token, nodeId);
+            }
+        }
+        Set<String> newNodes = new TreeSet<>(nodes);
+        newNodes.add(nodeId);
+        return new ConsistentHashRing(virtualNodes, newNodes, newTokens);
+    }
+
+    // Ring without the node, this ring is left unchanged
+    public ConsistentHashRing withoutNode(String nodeId) {
+        if (!nodes.contains(nodeId)) {
+            throw new IllegalArgumentException("Node " + nodeId + " is not part of the ring");
+        }
+        ConsistentHashRing ring = new ConsistentHashRing(virtualNodes);
+        for (String node : nodes) {
+            if (!node.equals(nodeId)) {
+                ring = ring.withNode(node);
+            }
+        }
+        return ring;
+    }
+
+    // Nodes storing the employee, primary first
+    public List<String> getReplicas(Object employeeId, int replicas) {
+        return getReplicasForToken(token(employeeId), replicas);
+    }
+
+    public List<String> getReplicasForToken(long token, int replicas) {
+        if (replicas < 1) {
+            throw new IllegalArgumentException("Replication factor must be at least 1, provided: " + replicas);
+        }
+        int wanted = Math.min(replicas, nodes.size());
+        List<String> owners = new ArrayList<>(wanted);
+        if (wanted == 0) {
+            return owners;
+        }
+        // Walk clockwise from the token, wrapping around once
+        for (String node : tokens.tailMap(token, true).values()) {
+            if (!owners.contains(node) && owners.add(node) && owners.size() == wanted) {
+                return owners;
+            }
+        }
+        for (String node : tokens.values()) {
+            if (!owners.contains(node) && owners.add(node) && owners.size() == wanted) {
+                return owners;
+            }
+        }
+        return owners;
+    }
+
+    public Set<String> getNodes() {
+        return nodes;
+    }
+
+    public int getVirtualNodes() {
+        return virtualNodes;
+    }
+
+    // Fraction of the token space each node is primary for
+    public Map<String, Double> getOwnership() {
+        Map<String, Double> ownership = new TreeMap<>();
+        if (tokens.isEmpty()) {
+            return ownership;
+        }
+        long previous = tokens.lastKey();
+        for (Map.Entry<Long, String> entry : tokens.entrySet()) {
+            // Unsigned width of (previous, token], the first range wraps around the end of the ring
+            double width = tokens.size() == 1 ? Math.pow(2, 64) : unsignedToDouble(entry.getKey() - previous);
+            ownership.merge(entry.getValue(), width / Math.pow(2, 64), Double::sum);
+            previous = entry.getKey();
+        }
+        return ownership;
+    }
+
+    // Ranges whose replica set differs between the two rings, adjacent ranges with the same change are merged.
+    // Ranges whose replicas only change order need no data movement and are left out.
+    public static List<RangeTransfer> transfers(ConsistentHashRing before, ConsistentHashRing after, int replicas) {
+        TreeSet<Long> boundaries = new TreeSet<>(before.tokens.keySet());
+        boundaries.addAll(after.tokens.keySet());
+        List<RangeTransfer> transfers = new ArrayList<>();
+        if (boundaries.isEmpty()) {
+            return transfers;
+        }
+
+        long previous = boundaries.last();
+        for (long boundary : boundaries) {
+            List<String> oldOwners = before.getReplicasForToken(boundary, replicas);
+            List<String> newOwners = after.getReplicasForToken(boundary, replicas);
+            if (!new HashSet<>(oldOwners).equals(new HashSet<>(newOwners))) {
+                RangeTransfer last = transfers.isEmpty() ? null : transfers.get(transfers.size() - 1);
+                if (last != null && last.getRange().getEnd() == previous
+                        && last.getPreviousReplicas().equals(oldOwners) && last.getReplicas().equals(newOwners)) {
+                    transfers.set(transfers.size() - 1,
+                            new RangeTransfer(new TokenRange(last.getRange().getStart(), boundary), oldOwners, newOwners));
+                } else {
+                    transfers.add(new RangeTransfer(new TokenRange(previous, boundary), oldOwners, newOwners));
+                }
+            }
+            previous = boundary;
+        }
+        return transfers;
+    }
+
+    private static long nodeToken(String nodeId, int virtualNode) {
+        // FNV-1a over "node#index", then mixed so similar node names land far apart
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : (nodeId + "#" + virtualNode).getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        return mix64(hash);
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static double unsignedToDouble(long value) {
+        double result = (double) (value >>> 1) * 2.0;
+        return result + (value & 1);
+    }
+}
@@ -0,0 +1,338 @@
+package com.employeemanagement.employeemanagementsystem.model.cluster;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON encoding of employees, token ranges and errors exchanged between cluster clients and nodes
+ * Only the flat objects and arrays used by the node API are supported, e.g.
+ * {"employeeId":101,"employeeName":"Kevin Ganza","employeeDepartment":"IT","employeeSalary":6000.0,
+ * "performanceRating":2.2,"yearsOfExperience":5,"active":true}
+ */
+public final class EmployeeJson {
+
+    private EmployeeJson() {
+    }
+
+    // Encoding
+
+    public static String toJson(Employee<Integer> employee) {
+        StringBuilder json = new StringBuilder(160);
+        appendEmployee(json, employee);
+        return json.toString();
+    }
+
+    public static String toJson(List<Employee<Integer>> employees) {
+        StringBuilder json = new StringBuilder(employees.size() * 160 + 2);
+        json.append('[');
+        for (int i = 0; i < employees.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            appendEmployee(json, employees.get(i));
+        }
+        return json.append(']').toString();
+    }
+
+    public static String rangesToJson(List<TokenRange> ranges) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < ranges.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"start\":").append(ranges.get(i).getStart())
+                    .append(",\"end\":").append(ranges.get(i).getEnd()).append('}');
+        }
+        return json.append(']').toString();
+    }
+
+    // Body of a field update, the value keeps its JSON type (string, number or boolean)
+    public static String updateToJson(String field, Object value) {
+        StringBuilder json = new StringBuilder("{\"field\":");
+        appendString(json, field);
+        json.append(",\"value\":");
+        if (value == null) {
+            json.append("null");
+        } else if (value instanceof Number || value instanceof Boolean) {
+            json.append(value);
+        } else {
+            appendString(json, value instanceof Enum ? ((Enum<?>) value).name() : value.toString());
+        }
+        return json.append('}').toString();
+    }
+
+    public static String errorToJson(String error, String message) {
+        StringBuilder json = new StringBuilder("{\"error\":");
+        appendString(json, error);
+        json.append(",\"message\":");
+        appendString(json, message == null ? "" : message);
+        return json.append('}').toString();
+    }
+
+    private static void appendEmployee(StringBuilder json, Employee<Integer> employee) {
+        json.append("{\"employeeId\":").append(employee.getEmployeeId());
+        json.append(",\"employeeName\":");
+        appendString(json, employee.getEmployeeName());
+        json.append(",\"employeeDepartment\":");
+        if (employee.getEmployeeDepartment() == null) {
+            json.append("null");
+        } else {
+            appendString(json, employee.getEmployeeDepartment().name());
+        }
+        json.append(",\"employeeSalary\":").append(employee.getEmployeeSalary());
+        json.append(",\"performanceRating\":").append(employee.getPerformanceRating());
+        json.append(",\"yearsOfExperience\":").append(employee.getYearsOfExperience());
+        json.append(",\"active\":").append(employee.isActive());
+        json.append('}');
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        if (value == null) {
+            json.append("null");
+            return;
+        }
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': json.append("\\\""); break;
+                case '\\': json.append("\\\\"); break;
+                case '\n': json.append("\\n"); break;
+                case '\r': json.append("\\r"); break;
+                case '\t': json.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+            }
+        }
+        json.append('"');
+    }
+
+    // Decoding
+
+    public static Employee<Integer> employeeFromJson(String json) {
+        Parser parser = new Parser(json);
+        Employee<Integer> employee = toEmployee(parser.readObject());
+        parser.expectEnd();
+        return employee;
+    }
+
+    public static List<Employee<Integer>> employeesFromJson(String json) {
+        Parser parser = new Parser(json);
+        List<Employee<Integer>> employees = new ArrayList<>();
+        for (Map<String, Object> object : parser.readArray()) {
+            employees.add(toEmployee(object));
+        }
+        parser.expectEnd();
+        return employees;
+    }
+
+    public static List<TokenRange> rangesFromJson(String json) {
+        Parser parser = new Parser(json);
+        List<TokenRange> ranges = new ArrayList<>();
+        for (Map<String, Object> object : parser.readArray()) {
+            ranges.add(new TokenRange(toLong(object.get("start")), toLong(object.get("end"))));
+        }
+        parser.expectEnd();
+        return ranges;
+    }
+
+    // Flat object such as a field update or an error, numbers are returned as Long or Double
+    public static Map<String, Object> objectFromJson(String json) {
+        Parser parser = new Parser(json);
+        Map<String, Object> object = parser.readObject();
+        parser.expectEnd();
+        return object;
+    }
+
+    private static Employee<Integer> toEmployee(Map<String, Object> object) {
+        Object department = object.get("employeeDepartment");
+        return new Employee<>(
+                (int) toLong(object.get("employeeId")),
+                (String) object.get("employeeName"),
+                department == null ? null : EEmployeeDepartment.valueOf((String) department),
+                toDouble(object.get("employeeSalary")),
+                toDouble(object.get("performanceRating")),
+                (int) toLong(object.get("yearsOfExperience")),
+                Boolean.TRUE.equals(object.get("active")));
+    }
+
+    private static long toLong(Object value) {
+        if (!(value instanceof Long)) {
+            throw new IllegalArgumentException("Expected an integer, found: " + value);
+        }
+        return (Long) value;
+    }
+
+    private static double toDouble(Object value) {
+        if (!(value instanceof Number)) {
+            throw new IllegalArgumentException("Expected a number, found: " + value);
+        }
+        return ((Number) value).doubleValue();
+    }
+
+    // Recursive-descent reader for flat objects and arrays of flat objects
+    private static final class Parser {
+        private final String json;
+        private int position;
+
+        Parser(String json) {
+            if (json == null) {
+                throw new IllegalArgumentException("JSON cannot be null");
+            }
+            this.json = json;
+        }
+
+        List<Map<String, Object>> readArray() {
+            expect('[');
+            List<Map<String, Object>> objects = new ArrayList<>();
+            if (peek() == ']') {
+                position++;
+                return objects;
+            }
+            do {
+                objects.add(readObject());
+            } while (consume(','));
+            expect(']');
+            return objects;
+        }
+
+        Map<String, Object> readObject() {
+            expect('{');
+            Map<String, Object> object = new LinkedHashMap<>();
+            if (peek() == '}') {
+                position++;
+                return object;
+            }
+            do {
+                String key = readString();
+                expect(':');
+                object.put(key, readValue());
+            } while (consume(','));
+            expect('}');
+            return object;
+        }
+
+        void expectEnd() {
+            skipWhitespace();
+            if (position != json.length()) {
+                throw error("Unexpected trailing content");
+            }
+        }
+
+        private Object readValue() {
+            char c = peek();
+            if (c == '"') {
+                return readString();
+            }
+            if (json.startsWith("true", position)) {
+                position += 4;
+                return Boolean.TRUE;
+            }
+            if (json.startsWith("false", position)) {
+                position += 5;
+                return Boolean.FALSE;
+            }
+            if (json.startsWith("null", position)) {
+                position += 4;
+                return null;
+            }
+            return readNumber();
+        }
+
+        private Object readNumber() {
+            int start = position;
+            while (position < json.length() && "+-0123456789.eE".indexOf(json.charAt(position)) >= 0) {
+                position++;
+            }
+            String number = json.substring(start, position);
+            if (number.isEmpty()) {
+                throw error("Expected a value");
+            }
+            try {
+                if (number.indexOf('.') < 0 && number.indexOf('e') < 0 && number.indexOf('E') < 0) {
+                    return Long.parseLong(number);
+                }
+                return Double.parseDouble(number);
+            } catch (NumberFormatException e) {
+                throw error("Invalid number '" + number + "'");
+            }
+        }
+
+        private String readString() {
+            expect('"');
+            StringBuilder value = new StringBuilder();
+            while (position < json.length()) {
+                char c = json.charAt(position++);
+                if (c == '"') {
+                    return value.toString();
+                }
+                if (c != '\\') {
+                    value.append(c);
+                    continue;
+                }
+                if (position >= json.length()) {
+                    break;
+                }
+                char escaped = json.charAt(position++);
+                switch (escaped) {
+                    case 'n': value.append('\n'); break;
+                    case 'r': value.append('\r'); break;
+                    case 't': value.append('\t'); break;
+                    case 'b': value.append('\b'); break;
+                    case 'f': value.append('\f'); break;
+                    case 'u':
+                        if (position + 4 > json.length()) {
+                            throw error("Truncated escape");
+                        }
+                        value.append((char) Integer.parseInt(json.substring(position, position + 4), 16));
+                        position += 4;
+                        break;
+                    default: value.append(escaped);
+                }
+            }
+            throw error("Unterminated string");
+        }
+
+        private char peek() {
+            skipWhitespace();
+            if (position >= json.length()) {
+                throw error("Unexpected end of input");
+            }
+            return json.charAt(position);
+        }
+
+        private boolean consume(char c) {
+            if (peek() == c) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char c) {
+            if (peek() != c) {
+                throw error("Expected '" + c + "'");
+            }
+            position++;
+        }
+
+        private void skipWhitespace() {
+            while (position < json.length() && Character.isWhitespace(json.charAt(position))) {
+                position++;
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " at position " + position + " of JSON input");
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.employeemanagement.employeemanagementsystem.model.cluster;
+
+import com.employeemanagement.employeemanagementsystem.exceptions.NodeUnavailableException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a cluster on this machine, each ClusterNode in its own JVM process started with the current Java and classpath
+ * Nodes are named node-1, node-2, ... in the order they join, and the returned ClusterClient routes to all of them.
+ */
+public class LocalCluster implements AutoCloseable {
+
+    private static final String LISTENING = " listening on ";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ClusterClient client;
+    private final Map<String, Process> processes = new LinkedHashMap<>();
+    private int nextNode = 1;
+
+    public LocalCluster(int replicas) {
+        this(new ClusterClient(replicas, replicas, ConsistentHashRing.DEFAULT_VIRTUAL_NODES, NodeClient.DEFAULT_TIMEOUT));
+    }
+
+    public LocalCluster(ClusterClient client) {
+        this.client = client;
+    }
+
+    // Starts a cluster of the given size, replicating every range on `replicas` nodes
+    public static LocalCluster start(int nodes, int replicas) throws IOException, NodeUnavailableException {
+        LocalCluster cluster = new LocalCluster(replicas);
+        try {
+            for (int i = 0; i < nodes; i++) {
+                cluster.addNode();
+            }
+        } catch (IOException | NodeUnavailableException | RuntimeException e) {
+            cluster.close();
+            throw e;
+        }
+        return cluster;
+    }
+
+    public ClusterClient getClient() {
+        return client;
+    }
+
+    public List<String> getNodeIds() {
+        synchronized (processes) {
+            return new ArrayList<>(processes.keySet());
+        }
+    }
+
+    // Launches a new node process and rebalances the ranges it takes over onto it
+    public RebalanceResult addNode() throws IOException, NodeUnavailableException {
+        String nodeId;
+        synchronized (processes) {
+            nodeId = "node-" + nextNode++;
+        }
+        Process process = launch(nodeId);
+        URI address;
+        try {
+            address = awaitAddress(nodeId, process);
+        } catch (IOException e) {
+            process.destroyForcibly();
+            throw e;
+        }
+        synchronized (processes) {
+            processes.put(nodeId, process);
+        }
+        return client.addNode(nodeId, address);
+    }
+
+    // Moves the node's ranges to the remaining nodes, then stops its process
+    public RebalanceResult removeNode(String nodeId) throws NodeUnavailableException {
+        RebalanceResult result = client.removeNode(nodeId);
+        stop(nodeId);
+        return result;
+    }
+
+    // Stops the node's process without rebalancing, as a crash would
+    public void killNode(String nodeId) {
+        Process process;
+        synchronized (processes) {
+            process = processes.get(nodeId);
+        }
+        if (process != null) {
+            process.destroyForcibly();
+            waitFor(process);
+        }
+    }
+
+    @Override
+    public void close() {
+        client.close();
+        for (String nodeId : getNodeIds()) {
+            stop(nodeId);
+        }
+    }
+
+    // Process management
+
+    private void stop(String nodeId) {
+        Process process;
+        synchronized (processes) {
+            process = processes.remove(nodeId);
+        }
+        if (process != null) {
+            // Lets the node's shutdown hook close its server before forcing it
+            process.destroy();
+            if (!waitFor(process)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static boolean waitFor(Process process) {
+        try {
+            return process.waitFor(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // Same Java binary, and the same module path or classpath, as this JVM
+    private static Process launch(String nodeId) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(javaExecutable());
+        String modulePath = System.getProperty("jdk.module.path");
+        Module module = ClusterNode.class.getModule();
+        if (modulePath != null && module.isNamed()) {
+            command.add("-p");
+            command.add(modulePath);
+            command.add("-m");
+            command.add(module.getName() + "/" + ClusterNode.class.getName());
+        } else {
+            command.add("-cp");
+            command.add(System.getProperty("java.class.path"));
+            command.add(ClusterNode.class.getName());
+        }
+        command.add("--id");
+        command.add(nodeId);
+        return new ProcessBuilder(command)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+    }
+
+    private static String javaExecutable() {
+        return ProcessHandle.current().info().command()
+                .orElseGet(() -> {
+                    Path java = Paths.get(System.getProperty("java.home"), "bin", "java");
+                    return java.toString();
+                });
+    }
+
+    // Reads the node's standard output until it prints its address
+    private static URI awaitAddress(String nodeId, Process process) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        String line;
+        // readLine blocks, a node that hangs before printing is only noticed once it exits or the watchdog kills it
+        Thread watchdog = new Thread(() -> {
+            try {
+                if (!process.waitFor(STARTUP_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "cluster-startup-" + nodeId);
+        watchdog.setDaemon(true);
+        watchdog.start();
+        try {
+            while ((line = reader.readLine()) != null) {
+                int at = line.indexOf(LISTENING);
+                if (at >= 0) {
+                    drain(nodeId, reader);
+                    return URI.create(line.substring(at + LISTENING.length()).trim());
+                }
+                if (System.nanoTime() > deadline) {
+                    break;
+                }
+            }
+        } finally {
+            watchdog.interrupt();
+        }
+        throw new IOException("Node " + nodeId + " exited or timed out before listening");
+    }
+
+    // Keeps reading the node's output so it never blocks on a full pipe
+    private static void drain(String nodeId, BufferedReader reader) {
+        Thread thread = new Thread(() -> {
+            try {
+                while (reader.readLine() != null) {
+                    // Discarded, errors go to the inherited standard error
+                }
+            } catch (IOException ignored) {
+                // The process exited
+            }
+        }, "cluster-output-" + nodeId);
+        thread.setDaemon(true);
+        thread.start();
+    }
+}
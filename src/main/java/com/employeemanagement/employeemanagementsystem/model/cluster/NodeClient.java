@@ -0,0 +1,197 @@
+package com.employeemanagement.employeemanagementsystem.model.cluster;
+
+import com.employeemanagement.employeemanagementsystem.exceptions.EmployeeNotFoundException;
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidDepartmentException;
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidSalaryException;
+import com.employeemanagement.employeemanagementsystem.exceptions.NodeUnavailableException;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HTTP client for a single ClusterNode, errors reported by the node are rethrown as the matching exception
+ * Any failure to reach the node, including a timeout or a server error, becomes a NodeUnavailableException.
+ */
+public class NodeClient {
+
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+
+    private final String nodeId;
+    private final URI address;
+    private final HttpClient http;
+    private final Duration timeout;
+
+    public NodeClient(String nodeId, URI address) {
+        this(nodeId, address, HttpClient.newHttpClient(), DEFAULT_TIMEOUT);
+    }
+
+    // Clients of several nodes can share one HttpClient and its connection pool
+    public NodeClient(String nodeId, URI address, HttpClient http, Duration timeout) {
+        if (nodeId == null || address == null || http == null || timeout == null) {
+            throw new IllegalArgumentException("Node ID, address, HTTP client and timeout are required");
+        }
+        this.nodeId = nodeId;
+        this.address = address;
+        this.http = http;
+        this.timeout = timeout;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public URI getAddress() {
+        return address;
+    }
+
+    // Number of employees stored on the node
+    public int getEmployeeCount() throws NodeUnavailableException {
+        Map<String, Object> health = EmployeeJson.objectFromJson(send("GET", "/health", null).body());
+        return (int) (long) (Long) health.get("employees");
+    }
+
+    public void addEmployee(Employee<Integer> employee) throws InvalidSalaryException, NodeUnavailableException {
+        HttpResponse<String> response = send("POST", "/employees", EmployeeJson.toJson(employee));
+        if (response.statusCode() != 200) {
+            Map<String, Object> error = EmployeeJson.objectFromJson(response.body());
+            if ("InvalidSalaryException".equals(error.get("error"))) {
+                throw new InvalidSalaryException((String) error.get("message"));
+            }
+            throw unexpected(response, error);
+        }
+    }
+
+    public Employee<Integer> getEmployee(int employeeId) throws EmployeeNotFoundException, NodeUnavailableException {
+        HttpResponse<String> response = send("GET", "/employees/" + employeeId, null);
+        if (response.statusCode() == 404) {
+            throw new EmployeeNotFoundException(message(response));
+        }
+        requireOk(response);
+        return EmployeeJson.employeeFromJson(response.body());
+    }
+
+    public List<Employee<Integer>> getAllEmployees() throws NodeUnavailableException {
+        HttpResponse<String> response = send("GET", "/employees", null);
+        requireOk(response);
+        return EmployeeJson.employeesFromJson(response.body());
+    }
+
+    public List<Employee<Integer>> findEmployeesByDepartment(String department)
+            throws InvalidDepartmentException, NodeUnavailableException {
+        HttpResponse<String> response = send("GET",
+                "/employees?department=" + URLEncoder.encode(department == null ? "" : department, StandardCharsets.UTF_8), null);
+        if (response.statusCode() == 400 && "InvalidDepartmentException".equals(errorType(response))) {
+            throw new InvalidDepartmentException(message(response));
+        }
+        requireOk(response);
+        return EmployeeJson.employeesFromJson(response.body());
+    }
+
+    public void updateEmployeeDetails(int employeeId, String field, Object newValue)
+            throws EmployeeNotFoundException, InvalidSalaryException, InvalidDepartmentException, NodeUnavailableException {
+        HttpResponse<String> response = send("PATCH", "/employees/" + employeeId, EmployeeJson.updateToJson(field, newValue));
+        if (response.statusCode() == 404) {
+            throw new EmployeeNotFoundException(message(response));
+        }
+        if (response.statusCode() == 400) {
+            String error = errorType(response);
+            if ("InvalidSalaryException".equals(error)) {
+                throw new InvalidSalaryException(message(response));
+            }
+            if ("InvalidDepartmentException".equals(error)) {
+                throw new InvalidDepartmentException(message(response));
+            }
+        }
+        requireOk(response);
+    }
+
+    public void deleteEmployee(int employeeId) throws EmployeeNotFoundException, NodeUnavailableException {
+        HttpResponse<String> response = send("DELETE", "/employees/" + employeeId, null);
+        if (response.statusCode() == 404) {
+            throw new EmployeeNotFoundException(message(response));
+        }
+        requireOk(response);
+    }
+
+    // Range transfer, used while rebalancing
+
+    public List<Employee<Integer>> exportRanges(List<TokenRange> ranges) throws NodeUnavailableException {
+        HttpResponse<String> response = send("POST", "/ranges/export", EmployeeJson.rangesToJson(ranges));
+        requireOk(response);
+        return EmployeeJson.employeesFromJson(response.body());
+    }
+
+    public int importEmployees(List<Employee<Integer>> employees) throws NodeUnavailableException {
+        HttpResponse<String> response = send("POST", "/ranges/import", EmployeeJson.toJson(employees));
+        requireOk(response);
+        return (int) (long) (Long) EmployeeJson.objectFromJson(response.body()).get("imported");
+    }
+
+    public int dropRanges(List<TokenRange> ranges) throws NodeUnavailableException {
+        HttpResponse<String> response = send("POST", "/ranges/drop", EmployeeJson.rangesToJson(ranges));
+        requireOk(response);
+        return (int) (long) (Long) EmployeeJson.objectFromJson(response.body()).get("dropped");
+    }
+
+    @Override
+    public String toString() {
+        return nodeId + "@" + address;
+    }
+
+    // HTTP helpers
+
+    private HttpResponse<String> send(String method, String path, String body) throws NodeUnavailableException {
+        HttpRequest request = HttpRequest.newBuilder(address.resolve(path))
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+                .build();
+        HttpResponse<String> response;
+        try {
+            response = http.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new NodeUnavailableException("Node " + this + " is unreachable: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NodeUnavailableException("Interrupted while calling node " + this, e);
+        }
+        if (response.statusCode() >= 500) {
+            throw new NodeUnavailableException("Node " + this + " failed: " + message(response));
+        }
+        return response;
+    }
+
+    private void requireOk(HttpResponse<String> response) {
+        if (response.statusCode() != 200) {
+            throw unexpected(response, EmployeeJson.objectFromJson(response.body()));
+        }
+    }
+
+    // Client errors that have no checked counterpart, e.g. a duplicate ID or an invalid field name
+    private static IllegalArgumentException unexpected(HttpResponse<String> response, Map<String, Object> error) {
+        return new IllegalArgumentException(error.get("message") + " (HTTP " + response.statusCode() + ")");
+    }
+
+    private static String errorType(HttpResponse<String> response) {
+        return (String) EmployeeJson.objectFromJson(response.body()).get("error");
+    }
+
+    private static String message(HttpResponse<String> response) {
+        try {
+            return (String) EmployeeJson.objectFromJson(response.body()).get("message");
+        } catch (IllegalArgumentException e) {
+            return "HTTP " + response.statusCode();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.employeemanagement.employeemanagementsystem.model.cluster;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A token range whose replica set changes between two rings, with the nodes it was and will be stored on
+ */
+public final class RangeTransfer {
+
+    private final TokenRange range;
+    private final List<String> previousReplicas;
+    private final List<String> replicas;
+
+    RangeTransfer(TokenRange range, List<String> previousReplicas, List<String> replicas) {
+        this.range = range;
+        this.previousReplicas = Collections.unmodifiableList(new ArrayList<>(previousReplicas));
+        this.replicas = Collections.unmodifiableList(new ArrayList<>(replicas));
+    }
+
+    public TokenRange getRange() {
+        return range;
+    }
+
+    // Replicas before the change, primary first
+    public List<String> getPreviousReplicas() {
+        return previousReplicas;
+    }
+
+    // Replicas after the change, primary first
+    public List<String> getReplicas() {
+        return replicas;
+    }
+
+    // Nodes that have to receive a copy of the range
+    public List<String> getGainedReplicas() {
+        List<String> gained = new ArrayList<>(replicas);
+        gained.removeAll(previousReplicas);
+        return gained;
+    }
+
+    // Nodes that can drop the range once the new owners have it
+    public List<String> getLostReplicas() {
+        List<String> lost = new ArrayList<>(previousReplicas);
+        lost.removeAll(replicas);
+        return lost;
+    }
+
+    @Override
+    public String toString() {
+        return range + " " + previousReplicas + " -> " + replicas;
+    }
+}
@@ -0,0 +1,40 @@
+package com.employeemanagement.employeemanagementsystem.model.cluster;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * What a node joining or leaving moved: the ranges whose replicas changed and how many employees were copied and dropped
+ */
+public final class RebalanceResult {
+
+    private final List<RangeTransfer> transfers;
+    private final long copiedEmployees;
+    private final long droppedEmployees;
+
+    RebalanceResult(List<RangeTransfer> transfers, long copiedEmployees, long droppedEmployees) {
+        this.transfers = Collections.unmodifiableList(transfers);
+        this.copiedEmployees = copiedEmployees;
+        this.droppedEmployees = droppedEmployees;
+    }
+
+    public List<RangeTransfer> getTransfers() {
+        return transfers;
+    }
+
+    // Employee copies sent to nodes that became replicas of a range
+    public long getCopiedEmployees() {
+        return copiedEmployees;
+    }
+
+    // Employee copies deleted from nodes that stopped being replicas of a range
+    public long getDroppedEmployees() {
+        return droppedEmployees;
+    }
+
+    @Override
+    public String toString() {
+        return transfers.size() + " range(s) moved, " + copiedEmployees + " employee copies sent, " +
+                droppedEmployees + " dropped";
+    }
+}
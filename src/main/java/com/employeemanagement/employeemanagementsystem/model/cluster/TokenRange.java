@@ -0,0 +1,54 @@
+package com.employeemanagement.employeemanagementsystem.model.cluster;
+
+import java.util.Objects;
+
+/**
+ * Arc of the hash ring from start (exclusive) to end (inclusive), clockwise
+ * An arc whose start is not below its end wraps past Long.MAX_VALUE, and start == end covers the whole ring.
+ */
+public final class TokenRange {
+
+    private final long start;
+    private final long end;
+
+    public TokenRange(long start, long end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    public long getStart() {
+        return start;
+    }
+
+    public long getEnd() {
+        return end;
+    }
+
+    public boolean contains(long token) {
+        if (start < end) {
+            return token > start && token <= end;
+        }
+        if (start == end) {
+            return true;
+        }
+        return token > start || token <= end;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof TokenRange)) return false;
+        TokenRange other = (TokenRange) obj;
+        return start == other.start && end == other.end;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return "(" + start + ", " + end + "]";
+    }
+}
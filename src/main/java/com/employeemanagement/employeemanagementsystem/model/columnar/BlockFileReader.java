@@ -0,0 +1,180 @@
+package com.employeemanagement.employeemanagementsystem.model.columnar;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Reads a BlockFileWriter file, skipping blocks whose statistics rule out the scan predicate
+ * Only the block index is kept on the heap. A block that might match is read with one positional read and
+ * filtered on its salary, rating, experience and department columns; names are decoded and employees built for
+ * matching rows only. Scans may run concurrently.
+ */
+public final class BlockFileReader implements AutoCloseable {
+
+    private static final EEmployeeDepartment[] DEPARTMENTS = EEmployeeDepartment.values();
+
+    private final FileChannel channel;
+    private final long rowCount;
+    private final long[] blockOffsets;
+    private final int[] blockLengths;
+    private final int[] blockChecksums;
+    private final List<BlockStatistics> statistics;
+
+    private BlockFileReader(FileChannel channel, long rowCount, long[] blockOffsets, int[] blockLengths,
+                            int[] blockChecksums, List<BlockStatistics> statistics) {
+        this.channel = channel;
+        this.rowCount = rowCount;
+        this.blockOffsets = blockOffsets;
+        this.blockLengths = blockLengths;
+        this.blockChecksums = blockChecksums;
+        this.statistics = Collections.unmodifiableList(statistics);
+    }
+
+    public static BlockFileReader open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < 5 + BlockFileWriter.FOOTER_SIZE) {
+                throw new IOException(file + " is too short to be a block file");
+            }
+            ByteBuffer header = read(channel, 0, 5);
+            if (header.getInt() != BlockFileWriter.MAGIC) {
+                throw new IOException(file + " is not a block file");
+            }
+            int version = header.get() & 0xFF;
+            if (version != BlockFileWriter.VERSION) {
+                throw new IOException("Unsupported block file version " + version);
+            }
+            ByteBuffer footer = read(channel, size - BlockFileWriter.FOOTER_SIZE, BlockFileWriter.FOOTER_SIZE);
+            long indexOffset = footer.getLong();
+            int blocks = footer.getInt();
+            long rows = footer.getLong();
+            int checksum = footer.getInt();
+            if (footer.getInt() != BlockFileWriter.MAGIC || indexOffset < 5 || indexOffset > size - BlockFileWriter.FOOTER_SIZE) {
+                throw new IOException(file + " has a damaged footer");
+            }
+            byte[] index = read(channel, indexOffset, (int) (size - BlockFileWriter.FOOTER_SIZE - indexOffset)).array();
+            CRC32 crc = new CRC32();
+            crc.update(index);
+            if ((int) crc.getValue() != checksum) {
+                throw new IOException(file + " has a damaged block index");
+            }
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(index));
+            long[] offsets = new long[blocks];
+            int[] lengths = new int[blocks];
+            int[] checksums = new int[blocks];
+            List<BlockStatistics> statistics = new ArrayList<>(blocks);
+            for (int block = 0; block < blocks; block++) {
+                offsets[block] = in.readLong();
+                lengths[block] = in.readInt();
+                checksums[block] = in.readInt();
+                statistics.add(BlockStatistics.readFrom(in));
+            }
+            return new BlockFileReader(channel, rows, offsets, lengths, checksums, statistics);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public int getBlockCount() {
+        return statistics.size();
+    }
+
+    public List<BlockStatistics> getBlockStatistics() {
+        return statistics;
+    }
+
+    // Passes every matching employee to the action, in file order
+    public BlockScanResult scan(ScanPredicate predicate, Consumer<? super Employee<Integer>> action) throws IOException {
+        int read = 0;
+        int skipped = 0;
+        long scanned = 0;
+        long matched = 0;
+        for (int block = 0; block < statistics.size(); block++) {
+            BlockStatistics stats = statistics.get(block);
+            if (!predicate.mightMatch(stats)) {
+                skipped++;
+                continue;
+            }
+            read++;
+            scanned += stats.getRowCount();
+            matched += scanBlock(block, stats.getRowCount(), predicate, action);
+        }
+        return new BlockScanResult(read, skipped, scanned, matched);
+    }
+
+    public List<Employee<Integer>> findEmployees(ScanPredicate predicate) throws IOException {
+        List<Employee<Integer>> result = new ArrayList<>();
+        scan(predicate, result::add);
+        return result;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int scanBlock(int block, int rows, ScanPredicate predicate, Consumer<? super Employee<Integer>> action) throws IOException {
+        ByteBuffer bytes = read(channel, blockOffsets[block], blockLengths[block]);
+        CRC32 crc = new CRC32();
+        crc.update(bytes.array());
+        if ((int) crc.getValue() != blockChecksums[block]) {
+            throw new IOException("Block " + block + " is damaged");
+        }
+        int salaries = rows * Integer.BYTES;
+        int ratings = salaries + rows * Double.BYTES;
+        int experience = ratings + rows * Double.BYTES;
+        int departments = experience + rows * Integer.BYTES;
+        int active = departments + rows;
+        int nameLengths = active + rows;
+        int nameOffset = nameLengths + rows * Integer.BYTES;
+        int matched = 0;
+        for (int row = 0; row < rows; row++) {
+            int nameLength = bytes.getInt(nameLengths + row * Integer.BYTES);
+            double salary = bytes.getDouble(salaries + row * Double.BYTES);
+            double rating = bytes.getDouble(ratings + row * Double.BYTES);
+            int years = bytes.getInt(experience + row * Integer.BYTES);
+            int department = bytes.get(departments + row);
+            if (predicate.matches(salary, rating, years, department)) {
+                String name = new String(bytes.array(), nameOffset, nameLength, StandardCharsets.UTF_8);
+                action.accept(new Employee<>(bytes.getInt(row * Integer.BYTES), name,
+                        department < 0 ? null : DEPARTMENTS[department],
+                        salary, rating, years, bytes.get(active + row) != 0));
+                matched++;
+            }
+            nameOffset += nameLength;
+        }
+        return matched;
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Block file ends before offset " + (position + length));
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+}
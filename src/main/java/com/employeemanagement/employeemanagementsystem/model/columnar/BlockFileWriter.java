@@ -0,0 +1,235 @@
+package com.employeemanagement.employeemanagementsystem.model.columnar;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Writes employees into a block-oriented columnar file, read back by BlockFileReader
+ * Layout, big-endian: int32 MAGIC, uint8 VERSION, then the blocks, then the block index and a footer.
+ * A block holds up to rowsPerBlock rows stored column after column: int32 IDs, float64 salaries, float64 ratings,
+ * int32 experience, uint8 department ordinals (NO_DEPARTMENT when unset), uint8 active flags, int32 name lengths,
+ * then the UTF-8 names.
+ * The index holds per block: int64 offset, int32 length, int32 CRC32 of the block and its BlockStatistics
+ * (row count, min/max salary, rating and experience, department mask).
+ * Footer: int64 index offset, int32 block count, int64 row count, int32 CRC32 of the index, int32 MAGIC.
+ * The file is written under a temporary name and renamed into place on close, abort drops it and leaves the
+ * previous file in place.
+ */
+public final class BlockFileWriter implements AutoCloseable {
+
+    static final int MAGIC = 0x45424346;
+    static final int VERSION = 1;
+    static final int FOOTER_SIZE = 28;
+    // Department byte of an employee without a department
+    static final byte NO_DEPARTMENT = (byte) 0xFF;
+
+    public static final int DEFAULT_ROWS_PER_BLOCK = 8192;
+
+    private final Path file;
+    private final Path temporary;
+    private final int rowsPerBlock;
+    private final FileChannel channel;
+    private final DataOutputStream out;
+    private long position;
+
+    // Columns of the open block
+    private final int[] ids;
+    private final double[] salaries;
+    private final double[] ratings;
+    private final int[] experience;
+    private final byte[] departments;
+    private final byte[] active;
+    private final byte[][] names;
+    private int rows;
+
+    private final ByteArrayOutputStream index = new ByteArrayOutputStream();
+    private final DataOutputStream indexOut = new DataOutputStream(index);
+    private int blockCount;
+    private long rowCount;
+    private boolean closed;
+
+    public BlockFileWriter(Path file) throws IOException {
+        this(file, DEFAULT_ROWS_PER_BLOCK);
+    }
+
+    public BlockFileWriter(Path file, int rowsPerBlock) throws IOException {
+        if (rowsPerBlock < 1) {
+            throw new IllegalArgumentException("Rows per block must be positive: " + rowsPerBlock);
+        }
+        this.file = file;
+        this.temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        this.rowsPerBlock = rowsPerBlock;
+        this.ids = new int[rowsPerBlock];
+        this.salaries = new double[rowsPerBlock];
+        this.ratings = new double[rowsPerBlock];
+        this.experience = new int[rowsPerBlock];
+        this.departments = new byte[rowsPerBlock];
+        this.active = new byte[rowsPerBlock];
+        this.names = new byte[rowsPerBlock][];
+        this.channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024));
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        position = 5;
+    }
+
+    // Writes every employee into a new file, returns the number of rows; on failure the previous file is kept
+    public static long export(Iterable<Employee<Integer>> employees, Path file, int rowsPerBlock) throws IOException {
+        BlockFileWriter writer = new BlockFileWriter(file, rowsPerBlock);
+        try {
+            for (Employee<Integer> employee : employees) {
+                writer.add(employee);
+            }
+        } catch (IOException | RuntimeException e) {
+            writer.abort();
+            throw e;
+        }
+        writer.close();
+        return writer.getRowCount();
+    }
+
+    public void add(Employee<Integer> employee) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("The writer is closed");
+        }
+        ids[rows] = employee.getEmployeeId();
+        salaries[rows] = employee.getEmployeeSalary();
+        ratings[rows] = employee.getPerformanceRating();
+        experience[rows] = employee.getYearsOfExperience();
+        EEmployeeDepartment department = employee.getEmployeeDepartment();
+        departments[rows] = department == null ? NO_DEPARTMENT : (byte) department.ordinal();
+        active[rows] = (byte) (employee.isActive() ? 1 : 0);
+        names[rows] = employee.getEmployeeName().getBytes(StandardCharsets.UTF_8);
+        rows++;
+        rowCount++;
+        if (rows == rowsPerBlock) {
+            finishBlock();
+        }
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public int getBlockCount() {
+        return blockCount + (rows > 0 ? 1 : 0);
+    }
+
+    // Writes the last block, the index and the footer, then moves the file into place
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            finishBlock();
+            byte[] indexBytes = index.toByteArray();
+            CRC32 crc = new CRC32();
+            crc.update(indexBytes);
+            long indexOffset = position;
+            out.write(indexBytes);
+            out.writeLong(indexOffset);
+            out.writeInt(blockCount);
+            out.writeLong(rowCount);
+            out.writeInt((int) crc.getValue());
+            out.writeInt(MAGIC);
+            out.flush();
+            channel.force(true);
+            channel.close();
+        } catch (IOException | RuntimeException e) {
+            discard();
+            throw e;
+        }
+        Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    // Drops the partly written file without touching the previous one, close does nothing afterwards
+    public void abort() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        discard();
+    }
+
+    private void discard() throws IOException {
+        try {
+            channel.close();
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private void finishBlock() throws IOException {
+        if (rows == 0) {
+            return;
+        }
+        double minSalary = Double.POSITIVE_INFINITY;
+        double maxSalary = Double.NEGATIVE_INFINITY;
+        double minRating = Double.POSITIVE_INFINITY;
+        double maxRating = Double.NEGATIVE_INFINITY;
+        int minExperience = Integer.MAX_VALUE;
+        int maxExperience = Integer.MIN_VALUE;
+        int departmentMask = 0;
+
+        ByteArrayOutputStream block = new ByteArrayOutputStream(rows * 48);
+        DataOutputStream blockOut = new DataOutputStream(block);
+        for (int row = 0; row < rows; row++) {
+            blockOut.writeInt(ids[row]);
+        }
+        for (int row = 0; row < rows; row++) {
+            blockOut.writeDouble(salaries[row]);
+            minSalary = Math.min(minSalary, salaries[row]);
+            maxSalary = Math.max(maxSalary, salaries[row]);
+        }
+        for (int row = 0; row < rows; row++) {
+            blockOut.writeDouble(ratings[row]);
+            minRating = Math.min(minRating, ratings[row]);
+            maxRating = Math.max(maxRating, ratings[row]);
+        }
+        for (int row = 0; row < rows; row++) {
+            blockOut.writeInt(experience[row]);
+            minExperience = Math.min(minExperience, experience[row]);
+            maxExperience = Math.max(maxExperience, experience[row]);
+        }
+        blockOut.write(departments, 0, rows);
+        for (int row = 0; row < rows; row++) {
+            departmentMask |= BlockStatistics.departmentBit(departments[row]);
+        }
+        blockOut.write(active, 0, rows);
+        for (int row = 0; row < rows; row++) {
+            blockOut.writeInt(names[row].length);
+        }
+        for (int row = 0; row < rows; row++) {
+            blockOut.write(names[row]);
+            names[row] = null;
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(block.toByteArray());
+        indexOut.writeLong(position);
+        indexOut.writeInt(block.size());
+        indexOut.writeInt((int) crc.getValue());
+        new BlockStatistics(rows, minSalary, maxSalary, minRating, maxRating, minExperience, maxExperience,
+                departmentMask).writeTo(indexOut);
+        block.writeTo(out);
+        position += block.size();
+        blockCount++;
+        rows = 0;
+    }
+}
@@ -0,0 +1,42 @@
+package com.employeemanagement.employeemanagementsystem.model.columnar;
+
+/**
+ * Outcome of one BlockFileReader scan: how many blocks were read or skipped from their statistics alone
+ */
+public final class BlockScanResult {
+    private final int blocksRead;
+    private final int blocksSkipped;
+    private final long rowsScanned;
+    private final long rowsMatched;
+
+    // Constructor
+    public BlockScanResult(int blocksRead, int blocksSkipped, long rowsScanned, long rowsMatched) {
+        this.blocksRead = blocksRead;
+        this.blocksSkipped = blocksSkipped;
+        this.rowsScanned = rowsScanned;
+        this.rowsMatched = rowsMatched;
+    }
+
+    public int getBlocksRead() {
+        return blocksRead;
+    }
+
+    public int getBlocksSkipped() {
+        return blocksSkipped;
+    }
+
+    // Rows of the blocks that were read
+    public long getRowsScanned() {
+        return rowsScanned;
+    }
+
+    public long getRowsMatched() {
+        return rowsMatched;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Read %d blocks, skipped %d, %d of %d rows matched",
+                blocksRead, blocksSkipped, rowsMatched, rowsScanned);
+    }
+}
@@ -0,0 +1,101 @@
+package com.employeemanagement.employeemanagementsystem.model.columnar;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Row count, value ranges and department mask of one block of a BlockFileWriter file
+ * Bit d of the department mask is set when the block holds an employee of the department with ordinal d,
+ * NO_DEPARTMENT_BIT when it holds an employee without a department.
+ */
+public final class BlockStatistics {
+
+    static final int NO_DEPARTMENT_BIT = 1 << 31;
+
+    private final int rowCount;
+    private final double minSalary;
+    private final double maxSalary;
+    private final double minRating;
+    private final double maxRating;
+    private final int minExperience;
+    private final int maxExperience;
+    private final int departmentMask;
+
+    BlockStatistics(int rowCount, double minSalary, double maxSalary, double minRating, double maxRating,
+                    int minExperience, int maxExperience, int departmentMask) {
+        this.rowCount = rowCount;
+        this.minSalary = minSalary;
+        this.maxSalary = maxSalary;
+        this.minRating = minRating;
+        this.maxRating = maxRating;
+        this.minExperience = minExperience;
+        this.maxExperience = maxExperience;
+        this.departmentMask = departmentMask;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public double getMinSalary() {
+        return minSalary;
+    }
+
+    public double getMaxSalary() {
+        return maxSalary;
+    }
+
+    public double getMinRating() {
+        return minRating;
+    }
+
+    public double getMaxRating() {
+        return maxRating;
+    }
+
+    public int getMinExperience() {
+        return minExperience;
+    }
+
+    public int getMaxExperience() {
+        return maxExperience;
+    }
+
+    public int getDepartmentMask() {
+        return departmentMask;
+    }
+
+    public boolean containsDepartment(EEmployeeDepartment department) {
+        return (departmentMask & (1 << department.ordinal())) != 0;
+    }
+
+    // Mask bit of a department ordinal, negative (a NO_DEPARTMENT column byte) for no department
+    static int departmentBit(int departmentOrdinal) {
+        return departmentOrdinal < 0 ? NO_DEPARTMENT_BIT : 1 << departmentOrdinal;
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeInt(rowCount);
+        out.writeDouble(minSalary);
+        out.writeDouble(maxSalary);
+        out.writeDouble(minRating);
+        out.writeDouble(maxRating);
+        out.writeInt(minExperience);
+        out.writeInt(maxExperience);
+        out.writeInt(departmentMask);
+    }
+
+    static BlockStatistics readFrom(DataInput in) throws IOException {
+        return new BlockStatistics(in.readInt(), in.readDouble(), in.readDouble(), in.readDouble(), in.readDouble(),
+                in.readInt(), in.readInt(), in.readInt());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d rows, salary %.2f-%.2f, rating %.2f-%.2f, experience %d-%d, departments 0x%x",
+                rowCount, minSalary, maxSalary, minRating, maxRating, minExperience, maxExperience, departmentMask);
+    }
+}
@@ -0,0 +1,189 @@
+package com.employeemanagement.employeemanagementsystem.model.columnar;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.mvcc.EmployeeSnapshot;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Writes a snapshot of the database as one file per column, sorted by employee ID, for MappedEmployeeColumns
+ * Every column is a plain little-endian array with one value per row, so a mapped file is queried as it is:
+ *  - ids.col int32, salary.col float64, rating.col float64, experience.col int32
+ *  - department.col uint8 ordinal (NO_DEPARTMENT when unset), active.col uint8 (0 or 1)
+ *  - name-offsets.col int64 (rows + 1 entries), each name is the UTF-8 bytes between two offsets in names.dat
+ * columns.meta (big-endian: int32 MAGIC, uint8 VERSION, int32 rows, int64 change log offset, int64 name bytes) is
+ * written last and replaced atomically; it is removed first, so an interrupted export is never opened. Columns
+ * are written under a temporary name and renamed into place, readers that still map the previous export keep
+ * reading the old files.
+ */
+public final class ColumnExporter {
+
+    static final int MAGIC = 0x454D434C;
+    static final int VERSION = 1;
+
+    // Department byte of an employee without a department, never matches a department scan
+    static final byte NO_DEPARTMENT = (byte) 0xFF;
+
+    static final String META = "columns.meta";
+    static final String IDS = "ids.col";
+    static final String SALARIES = "salary.col";
+    static final String RATINGS = "rating.col";
+    static final String EXPERIENCE = "experience.col";
+    static final String DEPARTMENTS = "department.col";
+    static final String ACTIVE = "active.col";
+    static final String NAME_OFFSETS = "name-offsets.col";
+    static final String NAMES = "names.dat";
+
+    private ColumnExporter() {
+    }
+
+    // Buffered little-endian writes to one column file
+    private static final class ColumnOutput implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024).order(ByteOrder.LITTLE_ENDIAN);
+
+        ColumnOutput(Path file) throws IOException {
+            this.channel = FileChannel.open(temporary(file), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        }
+
+        void putInt(int value) throws IOException {
+            ensure(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        void putLong(long value) throws IOException {
+            ensure(Long.BYTES);
+            buffer.putLong(value);
+        }
+
+        void putDouble(double value) throws IOException {
+            ensure(Double.BYTES);
+            buffer.putDouble(value);
+        }
+
+        void putByte(byte value) throws IOException {
+            ensure(1);
+            buffer.put(value);
+        }
+
+        void putBytes(byte[] bytes) throws IOException {
+            int written = 0;
+            while (written < bytes.length) {
+                ensure(1);
+                int chunk = Math.min(buffer.remaining(), bytes.length - written);
+                buffer.put(bytes, written, chunk);
+                written += chunk;
+            }
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                drain();
+            }
+        }
+
+        private void drain() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                drain();
+                channel.force(true);
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    // Exports the snapshot into the directory, replacing an earlier export there; returns the number of rows
+    public static int export(EmployeeSnapshot<Integer> snapshot, Path directory) throws IOException {
+        if (snapshot == null || directory == null) {
+            throw new IllegalArgumentException("Snapshot and directory are required");
+        }
+        Files.createDirectories(directory);
+        Files.deleteIfExists(directory.resolve(META));
+
+        List<Employee<Integer>> rows = new ArrayList<>(snapshot.values());
+        // The widest columns (8 bytes a row) have to fit in one mapping
+        if (rows.size() > Integer.MAX_VALUE / Long.BYTES - 1) {
+            throw new IOException("Too many employees for one column file: " + rows.size());
+        }
+        rows.sort(Comparator.comparing(Employee::getEmployeeId));
+
+        try (ColumnOutput ids = new ColumnOutput(directory.resolve(IDS));
+             ColumnOutput salaries = new ColumnOutput(directory.resolve(SALARIES));
+             ColumnOutput ratings = new ColumnOutput(directory.resolve(RATINGS));
+             ColumnOutput experience = new ColumnOutput(directory.resolve(EXPERIENCE));
+             ColumnOutput departments = new ColumnOutput(directory.resolve(DEPARTMENTS));
+             ColumnOutput active = new ColumnOutput(directory.resolve(ACTIVE))) {
+            for (Employee<Integer> employee : rows) {
+                ids.putInt(employee.getEmployeeId());
+                salaries.putDouble(employee.getEmployeeSalary());
+                ratings.putDouble(employee.getPerformanceRating());
+                experience.putInt(employee.getYearsOfExperience());
+                EEmployeeDepartment department = employee.getEmployeeDepartment();
+                departments.putByte(department == null ? NO_DEPARTMENT : (byte) department.ordinal());
+                active.putByte((byte) (employee.isActive() ? 1 : 0));
+            }
+        }
+
+        long nameBytes = 0;
+        try (ColumnOutput offsets = new ColumnOutput(directory.resolve(NAME_OFFSETS));
+             ColumnOutput names = new ColumnOutput(directory.resolve(NAMES))) {
+            offsets.putLong(0);
+            for (Employee<Integer> employee : rows) {
+                byte[] name = employee.getEmployeeName().getBytes(StandardCharsets.UTF_8);
+                names.putBytes(name);
+                nameBytes += name.length;
+                offsets.putLong(nameBytes);
+            }
+        }
+        if (nameBytes > Integer.MAX_VALUE) {
+            throw new IOException("Names take " + nameBytes + " bytes, more than one mapping can hold");
+        }
+        for (String column : new String[]{IDS, SALARIES, RATINGS, EXPERIENCE, DEPARTMENTS, ACTIVE, NAME_OFFSETS, NAMES}) {
+            Path file = directory.resolve(column);
+            Files.move(temporary(file), file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        Path meta = directory.resolve(META);
+        try (FileChannel channel = FileChannel.open(temporary(meta), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream out = new DataOutputStream(Channels.newOutputStream(channel));
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeInt(rows.size());
+            out.writeLong(snapshot.getOffset());
+            out.writeLong(nameBytes);
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temporary(meta), meta, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return rows.size();
+    }
+
+    private static Path temporary(Path file) {
+        return file.resolveSibling(file.getFileName() + ".tmp");
+    }
+}
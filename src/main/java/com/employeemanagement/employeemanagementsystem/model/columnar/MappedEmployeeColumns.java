@@ -0,0 +1,265 @@
+package com.employeemanagement.employeemanagementsystem.model.columnar;
+
+import com.employeemanagement.employeemanagementsystem.exceptions.EmployeeNotFoundException;
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidDepartmentException;
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidSalaryException;
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeValidation;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Read-only view of a ColumnExporter export, queried directly in the memory-mapped column files
+ * Nothing is loaded onto the heap when opening: scans read the mapped salary, rating and department columns
+ * in place, so the OS page cache is the only cache and only the columns a query touches are paged in. Rows are
+ * sorted by employee ID, lookups by ID binary search the ID column. The row visitors don't allocate; the list
+ * queries build an Employee only for the rows that match. Safe for concurrent readers. There is nothing to close,
+ * the files are unmapped once the instance is garbage collected.
+ */
+public final class MappedEmployeeColumns {
+
+    private static final EEmployeeDepartment[] DEPARTMENTS = EEmployeeDepartment.values();
+
+    private final int rowCount;
+    private final long changeLogOffset;
+    private final IntBuffer ids;
+    private final DoubleBuffer salaries;
+    private final DoubleBuffer ratings;
+    private final IntBuffer experience;
+    private final ByteBuffer departments;
+    private final ByteBuffer active;
+    private final LongBuffer nameOffsets;
+    private final ByteBuffer names;
+
+    private MappedEmployeeColumns(int rowCount, long changeLogOffset, IntBuffer ids, DoubleBuffer salaries,
+                                  DoubleBuffer ratings, IntBuffer experience, ByteBuffer departments, ByteBuffer active,
+                                  LongBuffer nameOffsets, ByteBuffer names) {
+        this.rowCount = rowCount;
+        this.changeLogOffset = changeLogOffset;
+        this.ids = ids;
+        this.salaries = salaries;
+        this.ratings = ratings;
+        this.experience = experience;
+        this.departments = departments;
+        this.active = active;
+        this.nameOffsets = nameOffsets;
+        this.names = names;
+    }
+
+    // Maps the column files of an export
+    public static MappedEmployeeColumns open(Path directory) throws IOException {
+        Path meta = directory.resolve(ColumnExporter.META);
+        if (!Files.exists(meta)) {
+            throw new IOException("No complete column export in " + directory);
+        }
+        int rows;
+        long offset;
+        long nameBytes;
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(meta))) {
+            if (in.readInt() != ColumnExporter.MAGIC) {
+                throw new IOException(meta + " is not a column export");
+            }
+            int version = in.readUnsignedByte();
+            if (version != ColumnExporter.VERSION) {
+                throw new IOException("Unsupported column export version " + version);
+            }
+            rows = in.readInt();
+            offset = in.readLong();
+            nameBytes = in.readLong();
+        }
+        if (rows < 0 || rows > Integer.MAX_VALUE / Long.BYTES - 1 || nameBytes < 0 || nameBytes > Integer.MAX_VALUE) {
+            throw new IOException(meta + " is corrupt: " + rows + " rows, " + nameBytes + " name bytes");
+        }
+        LongBuffer nameOffsets = map(directory, ColumnExporter.NAME_OFFSETS, (long) (rows + 1) * Long.BYTES).asLongBuffer();
+        // Only the two ends are checked, so opening still pages in nothing but one page of each end
+        if (nameOffsets.get(0) != 0 || nameOffsets.get(rows) != nameBytes) {
+            throw new IOException(ColumnExporter.NAME_OFFSETS + " runs from " + nameOffsets.get(0) + " to " +
+                    nameOffsets.get(rows) + ", the export expects 0 to " + nameBytes);
+        }
+        return new MappedEmployeeColumns(rows, offset,
+                map(directory, ColumnExporter.IDS, (long) rows * Integer.BYTES).asIntBuffer(),
+                map(directory, ColumnExporter.SALARIES, (long) rows * Double.BYTES).asDoubleBuffer(),
+                map(directory, ColumnExporter.RATINGS, (long) rows * Double.BYTES).asDoubleBuffer(),
+                map(directory, ColumnExporter.EXPERIENCE, (long) rows * Integer.BYTES).asIntBuffer(),
+                map(directory, ColumnExporter.DEPARTMENTS, rows),
+                map(directory, ColumnExporter.ACTIVE, rows),
+                nameOffsets,
+                map(directory, ColumnExporter.NAMES, nameBytes));
+    }
+
+    // The channel can be closed right away, the mapping stays valid until the buffer is collected
+    private static ByteBuffer map(Path directory, String column, long expectedBytes) throws IOException {
+        Path file = directory.resolve(column);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() != expectedBytes) {
+                throw new IOException(file + " holds " + channel.size() + " bytes, the export expects " + expectedBytes);
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, expectedBytes).order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    public int size() {
+        return rowCount;
+    }
+
+    // Change log offset of the snapshot that was exported
+    public long getChangeLogOffset() {
+        return changeLogOffset;
+    }
+
+    // Row accessors, rows are numbered 0 to size() - 1 in ID order
+
+    public int getEmployeeId(int row) {
+        return ids.get(row);
+    }
+
+    public double getEmployeeSalary(int row) {
+        return salaries.get(row);
+    }
+
+    public double getPerformanceRating(int row) {
+        return ratings.get(row);
+    }
+
+    public int getYearsOfExperience(int row) {
+        return experience.get(row);
+    }
+
+    // Null for an employee exported without a department
+    public EEmployeeDepartment getEmployeeDepartment(int row) {
+        byte department = departments.get(row);
+        return department == ColumnExporter.NO_DEPARTMENT ? null : DEPARTMENTS[department];
+    }
+
+    public boolean isActive(int row) {
+        return active.get(row) != 0;
+    }
+
+    // Decodes the name, the only accessor that allocates
+    public String getEmployeeName(int row) {
+        int start = (int) nameOffsets.get(row);
+        byte[] bytes = new byte[(int) nameOffsets.get(row + 1) - start];
+        names.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public Employee<Integer> toEmployee(int row) {
+        return new Employee<>(getEmployeeId(row), getEmployeeName(row), getEmployeeDepartment(row),
+                getEmployeeSalary(row), getPerformanceRating(row), getYearsOfExperience(row), isActive(row));
+    }
+
+    // Row of the employee, -1 if the export doesn't hold it
+    public int rowOf(int employeeId) {
+        int low = 0;
+        int high = rowCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int id = ids.get(mid);
+            if (id < employeeId) {
+                low = mid + 1;
+            } else if (id > employeeId) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    // Row visitors, each a single pass over the columns it filters on
+
+    public void forEachRowWithMinRating(double minRating, IntConsumer rows) {
+        for (int row = 0; row < rowCount; row++) {
+            if (ratings.get(row) >= minRating) {
+                rows.accept(row);
+            }
+        }
+    }
+
+    public void forEachRowInSalaryRange(double minSalary, double maxSalary, IntConsumer rows) {
+        for (int row = 0; row < rowCount; row++) {
+            double salary = salaries.get(row);
+            if (salary >= minSalary && salary <= maxSalary) {
+                rows.accept(row);
+            }
+        }
+    }
+
+    public void forEachRowInDepartment(EEmployeeDepartment department, IntConsumer rows) {
+        byte ordinal = (byte) department.ordinal();
+        for (int row = 0; row < rowCount; row++) {
+            if (departments.get(row) == ordinal) {
+                rows.accept(row);
+            }
+        }
+    }
+
+    // Queries, validated like the EmployeeDatabase methods of the same name
+
+    public Employee<Integer> getEmployee(int employeeId) throws EmployeeNotFoundException {
+        int row = rowOf(employeeId);
+        if (row < 0) {
+            throw new EmployeeNotFoundException("Employee with ID " + employeeId + " not found");
+        }
+        return toEmployee(row);
+    }
+
+    public List<Employee<Integer>> findEmployeesByMinRating(Double minRating) {
+        EmployeeValidation.validateMinRating(minRating);
+        List<Employee<Integer>> result = new ArrayList<>();
+        forEachRowWithMinRating(minRating, row -> result.add(toEmployee(row)));
+        return result;
+    }
+
+    public List<Employee<Integer>> findEmployeesBySalaryRange(double minSalary, double maxSalary) throws InvalidSalaryException {
+        EmployeeValidation.validateSalaryRange(minSalary, maxSalary);
+        List<Employee<Integer>> result = new ArrayList<>();
+        forEachRowInSalaryRange(minSalary, maxSalary, row -> result.add(toEmployee(row)));
+        return result;
+    }
+
+    public List<Employee<Integer>> findEmployeesByDepartment(String department) throws InvalidDepartmentException {
+        List<Employee<Integer>> result = new ArrayList<>();
+        forEachRowInDepartment(EmployeeValidation.parseDepartment(department), row -> result.add(toEmployee(row)));
+        return result;
+    }
+
+    public long getEmployeeCountByDepartment(String department) throws InvalidDepartmentException {
+        byte ordinal = (byte) EmployeeValidation.parseDepartment(department).ordinal();
+        long count = 0;
+        for (int row = 0; row < rowCount; row++) {
+            if (departments.get(row) == ordinal) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public double calculateAverageSalaryByDepartment(String department) throws InvalidDepartmentException {
+        byte ordinal = (byte) EmployeeValidation.parseDepartment(department).ordinal();
+        double sum = 0;
+        long count = 0;
+        for (int row = 0; row < rowCount; row++) {
+            if (departments.get(row) == ordinal) {
+                sum += salaries.get(row);
+                count++;
+            }
+        }
+        return count == 0 ? 0 : sum / count;
+    }
+}
@@ -0,0 +1,93 @@
+package com.employeemanagement.employeemanagementsystem.model.columnar;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Conjunction of a salary range, a minimum rating, an experience range and a set of departments
+ * Immutable; each with... method returns a narrowed copy. mightMatch decides from a block's statistics whether
+ * the block can hold a matching row at all, matches tests one row.
+ */
+public final class ScanPredicate {
+
+    private static final int ALL_DEPARTMENTS = ((1 << EEmployeeDepartment.values().length) - 1)
+            | BlockStatistics.NO_DEPARTMENT_BIT;
+    private static final ScanPredicate ALL = new ScanPredicate(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY,
+            Double.NEGATIVE_INFINITY, Integer.MIN_VALUE, Integer.MAX_VALUE, ALL_DEPARTMENTS);
+
+    private final double minSalary;
+    private final double maxSalary;
+    private final double minRating;
+    private final int minExperience;
+    private final int maxExperience;
+    private final int departmentMask;
+
+    private ScanPredicate(double minSalary, double maxSalary, double minRating, int minExperience, int maxExperience,
+                          int departmentMask) {
+        this.minSalary = minSalary;
+        this.maxSalary = maxSalary;
+        this.minRating = minRating;
+        this.minExperience = minExperience;
+        this.maxExperience = maxExperience;
+        this.departmentMask = departmentMask;
+    }
+
+    // Matches every row
+    public static ScanPredicate all() {
+        return ALL;
+    }
+
+    // Salary within [minSalary, maxSalary]
+    public ScanPredicate withSalaryRange(double minSalary, double maxSalary) {
+        if (maxSalary < minSalary) {
+            throw new IllegalArgumentException("Maximum salary (" + maxSalary + ") cannot be less than minimum salary (" + minSalary + ")");
+        }
+        return new ScanPredicate(Math.max(this.minSalary, minSalary), Math.min(this.maxSalary, maxSalary), minRating,
+                minExperience, maxExperience, departmentMask);
+    }
+
+    public ScanPredicate withMinRating(double minRating) {
+        return new ScanPredicate(minSalary, maxSalary, Math.max(this.minRating, minRating), minExperience,
+                maxExperience, departmentMask);
+    }
+
+    // Years of experience within [minExperience, maxExperience]
+    public ScanPredicate withExperienceRange(int minExperience, int maxExperience) {
+        if (maxExperience < minExperience) {
+            throw new IllegalArgumentException("Maximum experience (" + maxExperience + ") cannot be less than minimum experience (" + minExperience + ")");
+        }
+        return new ScanPredicate(minSalary, maxSalary, minRating, Math.max(this.minExperience, minExperience),
+                Math.min(this.maxExperience, maxExperience), departmentMask);
+    }
+
+    // Department is one of the given ones
+    public ScanPredicate withDepartments(Set<EEmployeeDepartment> departments) {
+        if (departments == null || departments.isEmpty()) {
+            throw new IllegalArgumentException("At least one department is required");
+        }
+        int mask = 0;
+        for (EEmployeeDepartment department : EnumSet.copyOf(departments)) {
+            mask |= 1 << department.ordinal();
+        }
+        return new ScanPredicate(minSalary, maxSalary, minRating, minExperience, maxExperience, departmentMask & mask);
+    }
+
+    // False when no row of the block can match, the block is skipped without being read
+    public boolean mightMatch(BlockStatistics block) {
+        return block.getRowCount() > 0
+                && block.getMaxSalary() >= minSalary && block.getMinSalary() <= maxSalary
+                && block.getMaxRating() >= minRating
+                && block.getMaxExperience() >= minExperience && block.getMinExperience() <= maxExperience
+                && (block.getDepartmentMask() & departmentMask) != 0;
+    }
+
+    // A negative department ordinal is an employee without one, it only matches when no department is required
+    public boolean matches(double salary, double rating, int experience, int departmentOrdinal) {
+        return salary >= minSalary && salary <= maxSalary
+                && rating >= minRating
+                && experience >= minExperience && experience <= maxExperience
+                && (departmentMask & BlockStatistics.departmentBit(departmentOrdinal)) != 0;
+    }
+}
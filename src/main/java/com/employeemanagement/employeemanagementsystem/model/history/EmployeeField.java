@@ -0,0 +1,81 @@
+package com.employeemanagement.employeemanagementsystem.model.history;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+
+/**
+ * Mutable employee fields that can be recorded as history deltas
+ */
+public enum EmployeeField {
+    NAME("employeename"),
+    DEPARTMENT("employeedepartment"),
+    SALARY("employeesalary"),
+    RATING("performancerating"),
+    EXPERIENCE("yearofexperience"),
+    ACTIVE("active");
+
+    // Field name accepted by EmployeeDatabase.updateEmployeeDetails (lower case)
+    private final String updateFieldName;
+
+    EmployeeField(String updateFieldName) {
+        this.updateFieldName = updateFieldName;
+    }
+
+    // Resolves the field name used by updateEmployeeDetails, returns null if unknown
+    public static EmployeeField fromUpdateFieldName(String field) {
+        if (field == null) {
+            return null;
+        }
+        for (EmployeeField employeeField : values()) {
+            if (employeeField.updateFieldName.equalsIgnoreCase(field)) {
+                return employeeField;
+            }
+        }
+        return null;
+    }
+
+    public String getUpdateFieldName() {
+        return updateFieldName;
+    }
+
+    // Reads the current value of this field
+    public Object read(Employee<?> employee) {
+        switch (this) {
+            case NAME:
+                return employee.getEmployeeName();
+            case DEPARTMENT:
+                return employee.getEmployeeDepartment();
+            case SALARY:
+                return employee.getEmployeeSalary();
+            case RATING:
+                return employee.getPerformanceRating();
+            case EXPERIENCE:
+                return employee.getYearsOfExperience();
+            default:
+                return employee.isActive();
+        }
+    }
+
+    // Writes a value previously returned by read
+    public void write(Employee<?> employee, Object value) {
+        switch (this) {
+            case NAME:
+                employee.setEmployeeName((String) value);
+                break;
+            case DEPARTMENT:
+                employee.setEmployeeDepartment((EEmployeeDepartment) value);
+                break;
+            case SALARY:
+                employee.setEmployeeSalary((Double) value);
+                break;
+            case RATING:
+                employee.setPerformanceRating((Double) value);
+                break;
+            case EXPERIENCE:
+                employee.setYearsOfExperience((Integer) value);
+                break;
+            default:
+                employee.setActive((Boolean) value);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.employeemanagement.employeemanagementsystem.model.history;
+
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Versioned history of employee records
+ * Every mutation is stored as a small delta (timestamp, field, new value) instead of a full copy.
+ * A full checkpoint is taken every CHECKPOINT_INTERVAL deltas, so an "as of" read replays at most
+ * that many deltas. compactBefore folds old versions into a single checkpoint to bound storage.
+ */
+public class EmployeeHistory<T> {
+
+    public static final int CHECKPOINT_INTERVAL = 16;
+
+    private final Clock clock;
+    private final Map<T, VersionChain<T>> chains;
+    private long lastTimestamp;
+
+    // Constructor
+    public EmployeeHistory(Clock clock) {
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        this.clock = clock;
+        this.chains = new HashMap<>();
+    }
+
+    // Recording
+
+    // Records a newly added employee (also used when an ID is reused after a delete)
+    public void recordCreated(Employee<T> employee) {
+        long timestamp = nextTimestamp();
+        chains.computeIfAbsent(employee.getEmployeeId(), id -> new VersionChain<>())
+                .addCheckpoint(timestamp, new Employee<>(employee));
+    }
+
+    // Records the current value of one field of an existing employee
+    public void recordChange(Employee<T> employee, EmployeeField field) {
+        VersionChain<T> chain = chains.get(employee.getEmployeeId());
+        if (chain == null) {
+            recordCreated(employee);
+            return;
+        }
+        long timestamp = nextTimestamp();
+        chain.addDelta(timestamp, field, field.read(employee));
+        if (chain.deltasSinceCheckpoint() >= CHECKPOINT_INTERVAL) {
+            chain.addCheckpoint(timestamp, new Employee<>(employee));
+        }
+    }
+
+    // Records the removal of an employee
+    public void recordDeleted(T employeeId) {
+        VersionChain<T> chain = chains.get(employeeId);
+        if (chain != null) {
+            chain.addDelta(nextTimestamp(), null, null);
+        }
+    }
+
+    // Time travel reads
+
+    // Returns a copy of the employee as it was at the given instant, or null if it did not exist then
+    public Employee<T> getEmployeeAsOf(T employeeId, Instant asOf) {
+        VersionChain<T> chain = chains.get(employeeId);
+        return chain == null ? null : chain.stateAsOf(asOf.toEpochMilli());
+    }
+
+    // Returns copies of every employee that existed at the given instant
+    public List<Employee<T>> getAllEmployeesAsOf(Instant asOf) {
+        long timestamp = asOf.toEpochMilli();
+        List<Employee<T>> result = new ArrayList<>();
+        for (VersionChain<T> chain : chains.values()) {
+            Employee<T> employee = chain.stateAsOf(timestamp);
+            if (employee != null) {
+                result.add(employee);
+            }
+        }
+        return result;
+    }
+
+    // Compaction
+
+    // Folds every version older than the cutoff into one checkpoint per employee, returns versions removed
+    public int compactBefore(Instant cutoff) {
+        long timestamp = cutoff.toEpochMilli();
+        int removed = 0;
+        Iterator<VersionChain<T>> iterator = chains.values().iterator();
+        while (iterator.hasNext()) {
+            VersionChain<T> chain = iterator.next();
+            removed += chain.compactBefore(timestamp);
+            if (chain.isEmpty()) {
+                iterator.remove();
+            }
+        }
+        return removed;
+    }
+
+    // Total number of stored deltas and checkpoints
+    public int getVersionCount() {
+        int count = 0;
+        for (VersionChain<T> chain : chains.values()) {
+            count += chain.versionCount();
+        }
+        return count;
+    }
+
+    // Timestamps never go backwards, even if the wall clock does
+    private long nextTimestamp() {
+        lastTimestamp = Math.max(lastTimestamp, clock.millis());
+        return lastTimestamp;
+    }
+
+    /**
+     * History of a single employee: parallel delta arrays plus a list of checkpoints
+     * A checkpoint holds the full record after the first deltaIndex deltas were applied;
+     * a null record marks a tombstone left by compaction.
+     */
+    private static class VersionChain<T> {
+        private long[] deltaTimes = new long[4];
+        private byte[] deltaFields = new byte[4];
+        private Object[] deltaValues = new Object[4];
+        private int deltaCount;
+
+        private final List<Checkpoint<T>> checkpoints = new ArrayList<>();
+
+        // Field code used for delete tombstones
+        private static final byte DELETED = -1;
+
+        void addDelta(long timestamp, EmployeeField field, Object value) {
+            if (deltaCount == deltaTimes.length) {
+                int capacity = deltaCount * 2;
+                deltaTimes = Arrays.copyOf(deltaTimes, capacity);
+                deltaFields = Arrays.copyOf(deltaFields, capacity);
+                deltaValues = Arrays.copyOf(deltaValues, capacity);
+            }
+            deltaTimes[deltaCount] = timestamp;
+            deltaFields[deltaCount] = field == null ? DELETED : (byte) field.ordinal();
+            deltaValues[deltaCount] = value;
+            deltaCount++;
+        }
+
+        void addCheckpoint(long timestamp, Employee<T> state) {
+            checkpoints.add(new Checkpoint<>(timestamp, deltaCount, state));
+        }
+
+        int deltasSinceCheckpoint() {
+            return checkpoints.isEmpty() ? deltaCount : deltaCount - checkpoints.get(checkpoints.size() - 1).deltaIndex;
+        }
+
+        Employee<T> stateAsOf(long timestamp) {
+            int checkpointIndex = latestCheckpointAtOrBefore(timestamp);
+            if (checkpointIndex < 0) {
+                return null;
+            }
+            Checkpoint<T> checkpoint = checkpoints.get(checkpointIndex);
+            Employee<T> state = checkpoint.state == null ? null : new Employee<>(checkpoint.state);
+
+            // Replay deltas up to the next checkpoint, it would have been chosen if it were in range
+            int end = checkpointIndex + 1 < checkpoints.size() ? checkpoints.get(checkpointIndex + 1).deltaIndex : deltaCount;
+            for (int i = checkpoint.deltaIndex; i < end && deltaTimes[i] <= timestamp; i++) {
+                if (deltaFields[i] == DELETED) {
+                    state = null;
+                } else if (state != null) {
+                    EmployeeField.values()[deltaFields[i]].write(state, deltaValues[i]);
+                }
+            }
+            return state;
+        }
+
+        private int latestCheckpointAtOrBefore(long timestamp) {
+            int low = 0;
+            int high = checkpoints.size() - 1;
+            int found = -1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (checkpoints.get(mid).timestamp <= timestamp) {
+                    found = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return found;
+        }
+
+        int compactBefore(long cutoff) {
+            int checkpointIndex = latestCheckpointAtOrBefore(cutoff);
+            if (checkpointIndex < 0) {
+                return 0;
+            }
+            // Replace everything before the cutoff by the state at the cutoff
+            Employee<T> state = stateAsOf(cutoff);
+            int firstKeptDelta = checkpoints.get(checkpointIndex).deltaIndex;
+            while (firstKeptDelta < deltaCount && deltaTimes[firstKeptDelta] <= cutoff) {
+                firstKeptDelta++;
+            }
+            int removed = checkpointIndex + firstKeptDelta;
+
+            int remaining = deltaCount - firstKeptDelta;
+            System.arraycopy(deltaTimes, firstKeptDelta, deltaTimes, 0, remaining);
+            System.arraycopy(deltaFields, firstKeptDelta, deltaFields, 0, remaining);
+            System.arraycopy(deltaValues, firstKeptDelta, deltaValues, 0, remaining);
+            Arrays.fill(deltaValues, remaining, deltaCount, null);
+            deltaCount = remaining;
+
+            List<Checkpoint<T>> later = new ArrayList<>(checkpoints.subList(checkpointIndex + 1, checkpoints.size()));
+            checkpoints.clear();
+            checkpoints.add(new Checkpoint<>(cutoff, 0, state));
+            for (Checkpoint<T> checkpoint : later) {
+                checkpoints.add(new Checkpoint<>(checkpoint.timestamp, checkpoint.deltaIndex - firstKeptDelta, checkpoint.state));
+            }
+            return removed;
+        }
+
+        // A chain that only remembers a deletion carries no information
+        boolean isEmpty() {
+            return deltaCount == 0 && checkpoints.size() == 1 && checkpoints.get(0).state == null;
+        }
+
+        int versionCount() {
+            return deltaCount + checkpoints.size();
+        }
+    }
+
+    private static class Checkpoint<T> {
+        private final long timestamp;
+        private final int deltaIndex;
+        private final Employee<T> state;
+
+        Checkpoint(long timestamp, int deltaIndex, Employee<T> state) {
+            this.timestamp = timestamp;
+            this.deltaIndex = deltaIndex;
+            this.state = state;
+        }
+    }
+}
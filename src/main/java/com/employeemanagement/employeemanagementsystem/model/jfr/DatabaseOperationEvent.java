@@ -0,0 +1,154 @@
+package com.employeemanagement.employeemanagementsystem.model.jfr;
+
+import com.employeemanagement.employeemanagementsystem.model.metrics.DatabaseOperation;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+import java.util.List;
+
+/**
+ * Flight Recorder event for one EmployeeDatabase call: the operation, its parameters, the rows it scanned and returned
+ * Only calls slower than the threshold (1 ms unless the recording says otherwise) are committed, and parameters are
+ * only formatted for committed calls, so a fast event costs two timestamp reads. While no recording enables the event
+ * start() hands out one shared inert instance, so the call allocates nothing.
+ */
+@Name(DatabaseOperationEvent.NAME)
+@Label("Database Operation")
+@Category({"Employee Management", "Database"})
+@Description("A query, sort, mutation, bulk update or report run against the employee database")
+@Threshold("1 ms")
+public final class DatabaseOperationEvent extends Event {
+
+    public static final String NAME = "com.employeemanagement.DatabaseOperation";
+
+    // Returned by start() while the event is disabled, never begun or committed
+    private static final DatabaseOperationEvent DISABLED = new DatabaseOperationEvent();
+
+    private static final EventType TYPE = EventType.getEventType(DatabaseOperationEvent.class);
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Kind")
+    private String kind;
+
+    @Label("Parameters")
+    private String parameters;
+
+    @Label("Rows Scanned")
+    @Description("Records examined, 0 when the result came from the query cache")
+    private long rowsScanned;
+
+    @Label("Rows Returned")
+    @Description("Rows returned by a query, or records changed by a mutation")
+    private long rowsReturned;
+
+    @Label("Succeeded")
+    @Description("False when the call threw an exception")
+    private boolean succeeded;
+
+    // Creates the event and starts its clock
+    public static DatabaseOperationEvent start(DatabaseOperation operation) {
+        // Checked on the type, asking an instance would mean allocating it first
+        if (!TYPE.isEnabled()) {
+            return DISABLED;
+        }
+        DatabaseOperationEvent event = new DatabaseOperationEvent();
+        event.operation = operation.getMetricName();
+        event.kind = operation.getKind().getLabel();
+        event.begin();
+        return event;
+    }
+
+    public void scanned(long rows) {
+        if (this != DISABLED) {
+            rowsScanned += rows;
+        }
+    }
+
+    // Marks the call as completed with the given number of rows returned or changed
+    public void succeeded(long rows) {
+        if (this != DISABLED) {
+            rowsReturned = rows;
+            succeeded = true;
+        }
+    }
+
+    // Marks the call as completed and passes its result through
+    public <E> List<E> returning(List<E> rows) {
+        succeeded(rows.size());
+        return rows;
+    }
+
+    // Ends the event and commits it if it ran longer than the threshold
+
+    public void finish() {
+        if (this == DISABLED) {
+            return;
+        }
+        end();
+        if (shouldCommit()) {
+            commit();
+        }
+    }
+
+    public void finish(String name, Object value) {
+        if (this == DISABLED) {
+            return;
+        }
+        end();
+        if (shouldCommit()) {
+            parameters = name + "=" + value;
+            commit();
+        }
+    }
+
+    public void finish(String name, long value) {
+        if (this == DISABLED) {
+            return;
+        }
+        end();
+        if (shouldCommit()) {
+            parameters = name + "=" + value;
+            commit();
+        }
+    }
+
+    public void finish(String name, double value) {
+        if (this == DISABLED) {
+            return;
+        }
+        end();
+        if (shouldCommit()) {
+            parameters = name + "=" + value;
+            commit();
+        }
+    }
+
+    public void finish(String firstName, Object firstValue, String secondName, Object secondValue) {
+        if (this == DISABLED) {
+            return;
+        }
+        end();
+        if (shouldCommit()) {
+            parameters = firstName + "=" + firstValue + ", " + secondName + "=" + secondValue;
+            commit();
+        }
+    }
+
+    public void finish(String firstName, double firstValue, String secondName, double secondValue) {
+        if (this == DISABLED) {
+            return;
+        }
+        end();
+        if (shouldCommit()) {
+            parameters = firstName + "=" + firstValue + ", " + secondName + "=" + secondValue;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.employeemanagement.employeemanagementsystem.model.jfr;
+
+import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Summarizes the database operation events of a .jfr file: time per operation and the slowest calls with their callers
+ * Usage: RecordingAnalyzer recording.jfr [slowest calls to list, default 20]
+ */
+public final class RecordingAnalyzer {
+
+    public static final int DEFAULT_SLOWEST = 20;
+
+    // Frames of the database and of the event itself are skipped when looking for the code that made a call
+    private static final String DATABASE_CLASS = EmployeeDatabase.class.getName();
+    private static final String EVENT_CLASS = DatabaseOperationEvent.class.getName();
+
+    private RecordingAnalyzer() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Usage: RecordingAnalyzer <recording.jfr> [slowest calls, default " + DEFAULT_SLOWEST + "]");
+            System.exit(2);
+        }
+        int slowest = args.length == 2 ? Integer.parseInt(args[1]) : DEFAULT_SLOWEST;
+        System.out.print(analyze(Path.of(args[0]), slowest));
+    }
+
+    // Streams the recording once, keeping only the slowest calls in memory
+    public static RecordingReport analyze(Path recording, int slowest) throws IOException {
+        if (slowest < 0) {
+            throw new IllegalArgumentException("Number of slowest calls cannot be negative: " + slowest);
+        }
+        Map<String, RecordingReport.OperationSummary> operations = new HashMap<>();
+        PriorityQueue<RecordedEvent> slowestEvents = new PriorityQueue<>(Comparator.comparing(RecordedEvent::getDuration));
+        long eventCount = 0;
+
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                if (!event.getEventType().getName().equals(DatabaseOperationEvent.NAME)) {
+                    continue;
+                }
+                eventCount++;
+                String operation = event.getString("operation");
+                operations.computeIfAbsent(operation, name -> new RecordingReport.OperationSummary(name, event.getString("kind")))
+                        .add(event.getDuration().toNanos(), event.getBoolean("succeeded"),
+                                event.getLong("rowsScanned"), event.getLong("rowsReturned"));
+                if (slowest > 0) {
+                    slowestEvents.add(event);
+                    if (slowestEvents.size() > slowest) {
+                        slowestEvents.poll();
+                    }
+                }
+            }
+        }
+
+        List<RecordingReport.OperationSummary> summaries = new ArrayList<>(operations.values());
+        summaries.sort(Comparator.comparingLong(RecordingReport.OperationSummary::getTotalNanos).reversed()
+                .thenComparing(RecordingReport.OperationSummary::getOperation));
+
+        List<RecordingReport.SlowCall> slowestCalls = new ArrayList<>(slowestEvents.size());
+        while (!slowestEvents.isEmpty()) {
+            slowestCalls.add(toSlowCall(slowestEvents.poll()));
+        }
+        // The queue hands out the fastest of the kept calls first
+        Collections.reverse(slowestCalls);
+        return new RecordingReport(eventCount, summaries, slowestCalls);
+    }
+
+    private static RecordingReport.SlowCall toSlowCall(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        return new RecordingReport.SlowCall(event.getStartTime(), event.getDuration().toNanos(),
+                event.getString("operation"), event.getString("parameters"),
+                event.getLong("rowsScanned"), event.getLong("rowsReturned"), event.getBoolean("succeeded"),
+                thread == null ? "" : thread.getJavaName(), findCaller(event.getStackTrace()));
+    }
+
+    // First frame outside the database, e.g. the controller method that ran the query
+    private static String findCaller(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return null;
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String className = frame.getMethod().getType().getName();
+            if (!className.equals(EVENT_CLASS) && !className.equals(DATABASE_CLASS)
+                    && !className.startsWith(DATABASE_CLASS + "$")) {
+                return describe(frame);
+            }
+        }
+        return null;
+    }
+
+    private static String describe(RecordedFrame frame) {
+        String className = frame.getMethod().getType().getName();
+        String simpleName = className.substring(className.lastIndexOf('.') + 1);
+        int line = frame.getLineNumber();
+        return simpleName + "." + frame.getMethod().getName() + (line > 0 ? ":" + line : "");
+    }
+}
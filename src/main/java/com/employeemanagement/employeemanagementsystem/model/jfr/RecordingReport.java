@@ -0,0 +1,209 @@
+package com.employeemanagement.employeemanagementsystem.model.jfr;
+
+import com.employeemanagement.employeemanagementsystem.model.metrics.LatencyHistogram;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Database operations found in a Flight Recorder recording: totals per operation and the slowest individual calls
+ */
+public class RecordingReport {
+
+    private final long eventCount;
+    private final List<OperationSummary> operations;
+    private final List<SlowCall> slowestCalls;
+
+    RecordingReport(long eventCount, List<OperationSummary> operations, List<SlowCall> slowestCalls) {
+        this.eventCount = eventCount;
+        this.operations = Collections.unmodifiableList(operations);
+        this.slowestCalls = Collections.unmodifiableList(slowestCalls);
+    }
+
+    public long getEventCount() {
+        return eventCount;
+    }
+
+    // One summary per operation, the one with the most total time first
+    public List<OperationSummary> getOperations() {
+        return operations;
+    }
+
+    public OperationSummary getOperation(String operation) {
+        for (OperationSummary summary : operations) {
+            if (summary.getOperation().equals(operation)) {
+                return summary;
+            }
+        }
+        return null;
+    }
+
+    // Slowest calls, slowest first
+    public List<SlowCall> getSlowestCalls() {
+        return slowestCalls;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%,d database operation event(s)%n%n", eventCount));
+        report.append(String.format("%-24s %-12s %8s %7s %10s %9s %9s %9s %12s %12s%n",
+                "operation", "kind", "count", "failed", "total ms", "p50 ms", "p99 ms", "max ms", "scanned", "returned"));
+        for (OperationSummary summary : operations) {
+            report.append(String.format("%-24s %-12s %,8d %,7d %10.1f %9.2f %9.2f %9.2f %,12d %,12d%n",
+                    summary.getOperation(), summary.getKind(), summary.getCount(), summary.getFailures(),
+                    summary.getTotalNanos() / 1e6, summary.getP50() / 1e6, summary.getP99() / 1e6,
+                    summary.getMax() / 1e6, summary.getRowsScanned(), summary.getRowsReturned()));
+        }
+        if (!slowestCalls.isEmpty()) {
+            report.append(String.format("%nSlowest calls%n"));
+            report.append(String.format("%9s  %-24s %10s %10s  %-20s %s%n",
+                    "ms", "operation", "scanned", "returned", "thread", "parameters / caller"));
+            for (SlowCall call : slowestCalls) {
+                report.append(String.format("%9.2f  %-24s %,10d %,10d  %-20s %s%n",
+                        call.getDurationNanos() / 1e6, call.getOperation() + (call.isSucceeded() ? "" : " (failed)"),
+                        call.getRowsScanned(), call.getRowsReturned(), call.getThread(),
+                        call.getParameters() == null ? "" : call.getParameters()));
+                if (call.getCaller() != null) {
+                    report.append(String.format("%79s %s%n", "at", call.getCaller()));
+                }
+            }
+        }
+        return report.toString();
+    }
+
+    /**
+     * Call count, failures, latency (nanoseconds) and row totals of one operation
+     */
+    public static final class OperationSummary {
+        private final String operation;
+        private final String kind;
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private long failures;
+        private long totalNanos;
+        private long rowsScanned;
+        private long rowsReturned;
+
+        OperationSummary(String operation, String kind) {
+            this.operation = operation;
+            this.kind = kind;
+        }
+
+        void add(long durationNanos, boolean succeeded, long scanned, long returned) {
+            latencies.record(durationNanos);
+            totalNanos += durationNanos;
+            rowsScanned += scanned;
+            rowsReturned += returned;
+            if (!succeeded) {
+                failures++;
+            }
+        }
+
+        public String getOperation() {
+            return operation;
+        }
+
+        public String getKind() {
+            return kind;
+        }
+
+        public long getCount() {
+            return latencies.getCount();
+        }
+
+        public long getFailures() {
+            return failures;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public long getP50() {
+            return latencies.getValueAtPercentile(50);
+        }
+
+        public long getP99() {
+            return latencies.getValueAtPercentile(99);
+        }
+
+        public long getMax() {
+            return latencies.getMax();
+        }
+
+        public long getRowsScanned() {
+            return rowsScanned;
+        }
+
+        public long getRowsReturned() {
+            return rowsReturned;
+        }
+    }
+
+    /**
+     * One recorded call, with the first application frame outside the database that made it
+     */
+    public static final class SlowCall {
+        private final Instant startTime;
+        private final long durationNanos;
+        private final String operation;
+        private final String parameters;
+        private final long rowsScanned;
+        private final long rowsReturned;
+        private final boolean succeeded;
+        private final String thread;
+        private final String caller;
+
+        SlowCall(Instant startTime, long durationNanos, String operation, String parameters, long rowsScanned,
+                 long rowsReturned, boolean succeeded, String thread, String caller) {
+            this.startTime = startTime;
+            this.durationNanos = durationNanos;
+            this.operation = operation;
+            this.parameters = parameters;
+            this.rowsScanned = rowsScanned;
+            this.rowsReturned = rowsReturned;
+            this.succeeded = succeeded;
+            this.thread = thread;
+            this.caller = caller;
+        }
+
+        public Instant getStartTime() {
+            return startTime;
+        }
+
+        public long getDurationNanos() {
+            return durationNanos;
+        }
+
+        public String getOperation() {
+            return operation;
+        }
+
+        // Null for operations without parameters
+        public String getParameters() {
+            return parameters;
+        }
+
+        public long getRowsScanned() {
+            return rowsScanned;
+        }
+
+        public long getRowsReturned() {
+            return rowsReturned;
+        }
+
+        public boolean isSucceeded() {
+            return succeeded;
+        }
+
+        public String getThread() {
+            return thread;
+        }
+
+        // Null when the recording has no stack traces
+        public String getCaller() {
+            return caller;
+        }
+    }
+}
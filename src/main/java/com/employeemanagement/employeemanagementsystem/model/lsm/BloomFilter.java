@@ -0,0 +1,85 @@
+package com.employeemanagement.employeemanagementsystem.model.lsm;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Bloom filter over employee IDs, stored in a segment's footer
+ * With 10 bits per ID and 7 probes about 1% of lookups for an ID the segment doesn't hold read a block anyway.
+ * Probes use double hashing of two mixes of the ID.
+ */
+final class BloomFilter {
+
+    static final int BITS_PER_KEY = 10;
+    static final int PROBES = 7;
+
+    private final long[] bits;
+    private final int probes;
+
+    private BloomFilter(long[] bits, int probes) {
+        this.bits = bits;
+        this.probes = probes;
+    }
+
+    static BloomFilter forKeys(int expectedKeys) {
+        long bitCount = Math.max(64, (long) expectedKeys * BITS_PER_KEY);
+        return new BloomFilter(new long[(int) ((bitCount + 63) / 64)], PROBES);
+    }
+
+    void add(int employeeId) {
+        long bitCount = (long) bits.length * 64;
+        int h1 = mix(employeeId);
+        int h2 = mix(h1 ^ 0x5bd1e995);
+        for (int i = 0; i < probes; i++) {
+            long bit = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+            bits[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    // False means the ID is certainly not in the segment
+    boolean mightContain(int employeeId) {
+        long bitCount = (long) bits.length * 64;
+        int h1 = mix(employeeId);
+        int h2 = mix(h1 ^ 0x5bd1e995);
+        for (int i = 0; i < probes; i++) {
+            long bit = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+            if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeByte(probes);
+        out.writeInt(bits.length);
+        for (long word : bits) {
+            out.writeLong(word);
+        }
+    }
+
+    static BloomFilter readFrom(DataInput in) throws IOException {
+        int probes = in.readUnsignedByte();
+        int words = in.readInt();
+        if (probes == 0 || words <= 0) {
+            throw new IOException("Invalid Bloom filter header");
+        }
+        long[] bits = new long[words];
+        for (int i = 0; i < words; i++) {
+            bits[i] = in.readLong();
+        }
+        return new BloomFilter(bits, probes);
+    }
+
+    // Murmur3 finalizer
+    private static int mix(int value) {
+        int h = value;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
@@ -0,0 +1,988 @@
+package com.employeemanagement.employeemanagementsystem.model.lsm;
+
+import com.employeemanagement.employeemanagementsystem.exceptions.EmployeeNotFoundException;
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidDepartmentException;
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidSalaryException;
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeStore;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeValidation;
+import com.employeemanagement.employeemanagementsystem.model.cache.ArcCache;
+import com.employeemanagement.employeemanagementsystem.model.cache.RecordCacheStats;
+import com.employeemanagement.employeemanagementsystem.model.history.EmployeeField;
+import com.employeemanagement.employeemanagementsystem.model.names.EmployeeNamePool;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Employee store for datasets larger than the heap, organised as a log-structured merge tree in a directory
+ * Writes are appended to a write-ahead log and kept in a sorted memtable. A full memtable is flushed to an
+ * immutable level 0 segment; every segment has a block index and a Bloom filter on employee ID, so a lookup
+ * reads at most one block from each segment whose filter doesn't rule the ID out. A background thread compacts
+ * level by level: once LEVEL0_COMPACTION_TRIGGER level 0 segments exist they are merged into level 1, and a
+ * level n >= 1, whose segments never overlap, spills one segment at a time into level n + 1 while it holds more
+ * than LEVEL_SIZE_RATIO^(n-1) times level 1's budget. Queries other than lookups by ID scan every live employee
+ * in ID order, there are no secondary indexes. Storage failures surface as UncheckedIOException.
+ * Records returned by getEmployee are kept in an ARC cache with a byte budget; writes go through to it.
+ */
+public final class LsmEmployeeStore implements EmployeeStore<Integer>, AutoCloseable {
+
+    public static final long DEFAULT_MEMTABLE_BYTES = 4L << 20;
+    public static final int LEVEL0_COMPACTION_TRIGGER = 4;
+    public static final int LEVEL_SIZE_RATIO = 10;
+    public static final int MAX_LEVELS = 7;
+    public static final long DEFAULT_CACHE_BYTES = 32L << 20;
+
+    // Employee, Integer ID and cache map entry (compressed oops), names live in the shared pool
+    private static final long CACHED_EMPLOYEE_BYTES = 120;
+
+    // Writers wait while this many full memtables are still being flushed
+    private static final int MAX_IMMUTABLE_MEMTABLES = 2;
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("seg-(\\d{16})\\.sst");
+    private static final Pattern LOG_NAME = Pattern.compile("wal-(\\d{16})\\.log");
+    private static final String MANIFEST = "MANIFEST";
+
+    // Memtables and segments at one point in time, replaced as a whole under the store's monitor
+    private static final class Version {
+        final Memtable active;
+        // Full memtables waiting to be flushed, newest first
+        final List<Memtable> immutables;
+        // Level 0 newest first, the other levels sorted by ID
+        final List<List<Segment>> levels;
+
+        Version(Memtable active, List<Memtable> immutables, List<List<Segment>> levels) {
+            this.active = active;
+            this.immutables = Collections.unmodifiableList(immutables);
+            List<List<Segment>> frozen = new ArrayList<>(levels.size());
+            for (List<Segment> level : levels) {
+                frozen.add(Collections.unmodifiableList(level));
+            }
+            this.levels = Collections.unmodifiableList(frozen);
+        }
+
+        List<List<Segment>> copyLevels() {
+            List<List<Segment>> copy = new ArrayList<>(levels.size());
+            for (List<Segment> level : levels) {
+                copy.add(new ArrayList<>(level));
+            }
+            return copy;
+        }
+    }
+
+    private final Path directory;
+    private final long memtableBytes;
+    private final long level1Bytes;
+
+    private volatile Version version;
+    // Guarded by this
+    private WriteAheadLog log;
+    private long nextFileNumber;
+    private boolean closed;
+    private volatile int employeeCount;
+
+    // Lookups hold the read side while they probe, scans only while they retain their segments; a replaced segment
+    // drops the store's reference under the write side and is closed once the last scan reading it releases it
+    private final ReadWriteLock segmentsLock = new ReentrantReadWriteLock();
+
+    // Flushes and compactions, one at a time
+    private final ExecutorService background;
+    private final AtomicBoolean backgroundScheduled = new AtomicBoolean();
+    private volatile IOException backgroundFailure;
+    // Highest ID of the segment each level spilled last, compaction walks every level round robin
+    private final int[] compactionCursor = new int[MAX_LEVELS];
+
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder compactions = new LongAdder();
+    private final LongAdder bloomFilterSkips = new LongAdder();
+
+    private final ArcCache<Integer, Employee<Integer>> cache;
+
+    public LsmEmployeeStore(Path directory) throws IOException {
+        this(directory, DEFAULT_MEMTABLE_BYTES);
+    }
+
+    public LsmEmployeeStore(Path directory, long memtableBytes) throws IOException {
+        this(directory, memtableBytes, DEFAULT_CACHE_BYTES);
+    }
+
+    // Opens or creates the store, memtableBytes is also the target size of a segment; a cacheBytes of 0 disables the cache
+    public LsmEmployeeStore(Path directory, long memtableBytes, long cacheBytes) throws IOException {
+        if (directory == null) {
+            throw new IllegalArgumentException("Directory cannot be null");
+        }
+        if (memtableBytes < 4096) {
+            throw new IllegalArgumentException("Memtable size must be at least 4096 bytes: " + memtableBytes);
+        }
+        this.directory = directory;
+        this.memtableBytes = memtableBytes;
+        this.level1Bytes = memtableBytes * LEVEL_SIZE_RATIO;
+        this.cache = new ArcCache<>(cacheBytes);
+        Arrays.fill(compactionCursor, Integer.MIN_VALUE);
+        this.background = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "lsm-compaction-" + directory.getFileName());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Files.createDirectories(directory);
+        recover();
+        // Last, every field is set by now; the class is final so no subclass state is left to initialize
+        scheduleBackgroundWork();
+    }
+
+    // Record operations
+
+    @Override
+    public synchronized void addEmployee(Employee<Integer> employee) throws InvalidSalaryException {
+        if (employee == null) {
+            throw new IllegalArgumentException("Employee cannot be null");
+        }
+        if (employee.getEmployeeSalary() < 0) {
+            throw new InvalidSalaryException("Employee salary cannot be negative");
+        }
+        if (isLive(find(employee.getEmployeeId()))) {
+            throw new IllegalArgumentException("Employee with ID " + employee.getEmployeeId() + " already exists");
+        }
+        write(LsmEntry.put(employee));
+        cache.put(employee.getEmployeeId(), employee, CACHED_EMPLOYEE_BYTES);
+        employeeCount++;
+    }
+
+    @Override
+    public Employee<Integer> getEmployee(Integer employeeId) throws EmployeeNotFoundException {
+        if (employeeId == null) {
+            throw new EmployeeNotFoundException("Employee ID cannot be null");
+        }
+        Employee<Integer> cached = cache.get(employeeId);
+        if (cached != null) {
+            return cached;
+        }
+        long loadedAt = cache.stamp();
+        LsmEntry entry = find(employeeId);
+        if (!isLive(entry)) {
+            throw new EmployeeNotFoundException("Employee with ID " + employeeId + " not found");
+        }
+        cache.fill(employeeId, entry.employee, CACHED_EMPLOYEE_BYTES, loadedAt);
+        return entry.employee;
+    }
+
+    @Override
+    public synchronized void updateEmployeeDetails(Integer employeeId, String field, Object newValue) throws EmployeeNotFoundException, InvalidSalaryException, InvalidDepartmentException {
+        Employee<Integer> employee = new Employee<>(getEmployee(employeeId));
+        EmployeeField target = EmployeeField.fromUpdateFieldName(field);
+        if (target == null) {
+            throw new IllegalArgumentException("Invalid field name: " + field);
+        }
+        Object previousValue = target.read(employee);
+        try {
+            switch (target) {
+                case NAME:
+                    if (newValue == null || ((String) newValue).trim().isEmpty()) {
+                        throw new IllegalArgumentException("Employee name cannot be empty");
+                    }
+                    break;
+                case DEPARTMENT:
+                    if (newValue == null) {
+                        throw new InvalidDepartmentException("Department cannot be null");
+                    }
+                    if (!(newValue instanceof EEmployeeDepartment)) {
+                        throw new InvalidDepartmentException("Invalid department value: " + newValue);
+                    }
+                    break;
+                case SALARY:
+                    if ((Double) newValue < 0) {
+                        throw new InvalidSalaryException("Salary cannot be negative");
+                    }
+                    break;
+                default:
+                    break;
+            }
+            target.write(employee, newValue);
+        } catch (ClassCastException e) {
+            throw new IllegalArgumentException("Invalid value type for field " + field + ": " + newValue +
+                    " (" + (newValue != null ? newValue.getClass().getSimpleName() : "null") + ")");
+        }
+        if (!previousValue.equals(target.read(employee))) {
+            write(LsmEntry.put(employee));
+            cache.put(employeeId, employee, CACHED_EMPLOYEE_BYTES);
+        }
+    }
+
+    @Override
+    public synchronized void deleteEmployee(Integer employeeId) throws EmployeeNotFoundException {
+        getEmployee(employeeId);
+        write(LsmEntry.tombstone(employeeId));
+        cache.remove(employeeId);
+        employeeCount--;
+    }
+
+    // Readers may see part of the raises while they are being written, unlike EmployeeDatabase's snapshot
+    @Override
+    public synchronized int giveSalaryRaiseToHighPerformers() {
+        List<Employee<Integer>> raised = new ArrayList<>();
+        forEachEmployee(employee -> {
+            if (employee.getPerformanceRating() >= 3.5) {
+                Employee<Integer> copy = new Employee<>(employee);
+                copy.setEmployeeSalary(employee.getEmployeeSalary() * (1 + 2.0 / 100));
+                raised.add(copy);
+            }
+        });
+        for (Employee<Integer> employee : raised) {
+            write(LsmEntry.put(employee));
+            cache.put(employee.getEmployeeId(), employee, CACHED_EMPLOYEE_BYTES);
+        }
+        return raised.size();
+    }
+
+    // Range scans
+
+    //Visits the employees with IDs in [fromId, toId] in ID order
+    public void forEachEmployeeInRange(int fromId, int toId, Consumer<? super Employee<Integer>> action) {
+        if (fromId > toId) {
+            throw new IllegalArgumentException("Range start " + fromId + " is after its end " + toId);
+        }
+        scan(fromId, toId, action);
+    }
+
+    //Gets the employees with IDs in [fromId, toId] in ID order
+    public List<Employee<Integer>> getEmployeesInRange(int fromId, int toId) {
+        List<Employee<Integer>> result = new ArrayList<>();
+        forEachEmployeeInRange(fromId, toId, result::add);
+        return result;
+    }
+
+    @Override
+    public void forEachEmployee(Consumer<? super Employee<Integer>> action) {
+        scan(Integer.MIN_VALUE, Integer.MAX_VALUE, action);
+    }
+
+    // Queries, each one scan in ID order
+
+    @Override
+    public List<Employee<Integer>> findEmployeesByDepartment(String department) throws InvalidDepartmentException {
+        EEmployeeDepartment deptEnum = EmployeeValidation.parseDepartment(department);
+        return collect(employee -> employee.getEmployeeDepartment() == deptEnum);
+    }
+
+    @Override
+    public List<Employee<Integer>> findEmployeesByName(String searchTerm) {
+        if (searchTerm == null) {
+            throw new IllegalArgumentException("Search term cannot be null");
+        }
+        String normalizedTerm = EmployeeNamePool.toLowerCase(searchTerm.trim());
+        if (normalizedTerm.isEmpty()) {
+            throw new IllegalArgumentException("Search term cannot be empty");
+        }
+        return collect(employee -> EmployeeNamePool.nameContains(employee.getFirstNameToken(), employee.getLastNameToken(),
+                normalizedTerm));
+    }
+
+    @Override
+    public List<Employee<Integer>> findEmployeesByMinRating(Double minRating) {
+        EmployeeValidation.validateMinRating(minRating);
+        return collect(employee -> employee.getPerformanceRating() >= minRating);
+    }
+
+    @Override
+    public List<Employee<Integer>> findEmployeesBySalaryRange(double minSalary, double maxSalary) throws InvalidSalaryException {
+        EmployeeValidation.validateSalaryRange(minSalary, maxSalary);
+        return collect(employee -> employee.getEmployeeSalary() >= minSalary && employee.getEmployeeSalary() <= maxSalary);
+    }
+
+    // Highest salary first, ties by ID; keeps only n employees while scanning
+    @Override
+    public List<Employee<Integer>> getTopPaidEmployees(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Number of employees cannot be negative: " + n);
+        }
+        Comparator<Employee<Integer>> bySalary = Comparator.comparingDouble((Employee<Integer> e) -> e.getEmployeeSalary())
+                .reversed().thenComparing(Employee::getEmployeeId);
+        PriorityQueue<Employee<Integer>> top = new PriorityQueue<>(Math.max(1, n + 1), bySalary.reversed());
+        if (n > 0) {
+            forEachEmployee(employee -> {
+                top.add(employee);
+                if (top.size() > n) {
+                    top.poll();
+                }
+            });
+        }
+        List<Employee<Integer>> result = new ArrayList<>(top);
+        result.sort(bySalary);
+        return result;
+    }
+
+    @Override
+    public double calculateAverageSalaryByDepartment(String department) throws InvalidDepartmentException {
+        EEmployeeDepartment deptEnum = EmployeeValidation.parseDepartment(department);
+        double[] sum = new double[1];
+        long[] count = new long[1];
+        forEachEmployee(employee -> {
+            if (employee.getEmployeeDepartment() == deptEnum) {
+                sum[0] += employee.getEmployeeSalary();
+                count[0]++;
+            }
+        });
+        return count[0] == 0 ? 0 : sum[0] / count[0];
+    }
+
+    @Override
+    public long getEmployeeCountByDepartment(String department) throws InvalidDepartmentException {
+        EEmployeeDepartment deptEnum = EmployeeValidation.parseDepartment(department);
+        long[] count = new long[1];
+        forEachEmployee(employee -> {
+            if (employee.getEmployeeDepartment() == deptEnum) {
+                count[0]++;
+            }
+        });
+        return count[0];
+    }
+
+    @Override
+    public int getTotalEmployeeCount() {
+        return employeeCount;
+    }
+
+    // Maintenance
+
+    //Flushes the memtable to a level 0 segment and waits until every full memtable is on disk
+    public synchronized void flush() throws IOException {
+        checkOpen();
+        if (!version.active.isEmpty()) {
+            rotate();
+        }
+        try {
+            while (!version.immutables.isEmpty() && backgroundFailure == null) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while flushing");
+        }
+        if (backgroundFailure != null) {
+            throw backgroundFailure;
+        }
+    }
+
+    //Runs every compaction that is due and waits for it
+    public void compact() throws IOException {
+        try {
+            background.submit(this::backgroundWork).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while compacting");
+        } catch (ExecutionException e) {
+            throw new IOException("Compaction failed", e.getCause());
+        }
+        if (backgroundFailure != null) {
+            throw backgroundFailure;
+        }
+    }
+
+    //Forces the write-ahead log to disk, writes before this survive a machine crash
+    public synchronized void sync() throws IOException {
+        checkOpen();
+        log.sync();
+    }
+
+    public int getSegmentCount(int level) {
+        return version.levels.get(level).size();
+    }
+
+    public long getLevelBytes(int level) {
+        long bytes = 0;
+        for (Segment segment : version.levels.get(level)) {
+            bytes += segment.getSize();
+        }
+        return bytes;
+    }
+
+    public long getFlushCount() {
+        return flushes.sum();
+    }
+
+    public long getCompactionCount() {
+        return compactions.sum();
+    }
+
+    public RecordCacheStats getRecordCacheStats() {
+        return cache.getStats();
+    }
+
+    // Lookups whose ID fell in a segment's range but was ruled out by its Bloom filter
+    public long getBloomFilterSkips() {
+        return bloomFilterSkips.sum();
+    }
+
+    // Unflushed writes stay in the write-ahead log and are replayed on the next open
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            log.close();
+            notifyAll();
+        }
+        background.shutdown();
+        try {
+            background.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        segmentsLock.writeLock().lock();
+        try {
+            for (List<Segment> level : version.levels) {
+                for (Segment segment : level) {
+                    segment.close();
+                }
+            }
+        } finally {
+            segmentsLock.writeLock().unlock();
+        }
+    }
+
+    // Reads
+
+    private static boolean isLive(LsmEntry entry) {
+        return entry != null && !entry.isTombstone();
+    }
+
+    // Newest entry for the ID: memtables first, then level 0 newest first, then one segment per deeper level
+    private LsmEntry find(int employeeId) {
+        segmentsLock.readLock().lock();
+        try {
+            Version current = version;
+            LsmEntry entry = current.active.get(employeeId);
+            if (entry != null) {
+                return entry;
+            }
+            for (Memtable memtable : current.immutables) {
+                entry = memtable.get(employeeId);
+                if (entry != null) {
+                    return entry;
+                }
+            }
+            for (Segment segment : current.levels.get(0)) {
+                entry = probe(segment, employeeId);
+                if (entry != null) {
+                    return entry;
+                }
+            }
+            for (int level = 1; level < current.levels.size(); level++) {
+                Segment segment = segmentFor(current.levels.get(level), employeeId);
+                if (segment != null) {
+                    entry = probe(segment, employeeId);
+                    if (entry != null) {
+                        return entry;
+                    }
+                }
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            segmentsLock.readLock().unlock();
+        }
+    }
+
+    private LsmEntry probe(Segment segment, int employeeId) throws IOException {
+        if (!segment.overlaps(employeeId, employeeId)) {
+            return null;
+        }
+        if (!segment.mightContain(employeeId)) {
+            bloomFilterSkips.increment();
+            return null;
+        }
+        return segment.get(employeeId);
+    }
+
+    // The segment of a sorted, non-overlapping level whose range holds the ID
+    private static Segment segmentFor(List<Segment> level, int employeeId) {
+        int low = 0;
+        int high = level.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            Segment segment = level.get(mid);
+            if (employeeId < segment.getMinId()) {
+                high = mid - 1;
+            } else if (employeeId > segment.getMaxId()) {
+                low = mid + 1;
+            } else {
+                return segment;
+            }
+        }
+        return null;
+    }
+
+    // Merges every memtable and overlapping segment, skipping deleted employees
+    // The segments are retained under the read lock and read after releasing it, so a slow action or one that
+    // calls back into the store doesn't hold up compactions or close()
+    private void scan(int fromId, int toId, Consumer<? super Employee<Integer>> action) {
+        Version current;
+        List<Segment> retained = new ArrayList<>();
+        segmentsLock.readLock().lock();
+        try {
+            current = version;
+            for (List<Segment> level : current.levels) {
+                for (Segment segment : level) {
+                    if (segment.overlaps(fromId, toId)) {
+                        segment.retain();
+                        retained.add(segment);
+                    }
+                }
+            }
+        } finally {
+            segmentsLock.readLock().unlock();
+        }
+        try {
+            List<Iterator<LsmEntry>> sources = new ArrayList<>();
+            sources.add(current.active.iterator(fromId, toId));
+            for (Memtable memtable : current.immutables) {
+                sources.add(memtable.iterator(fromId, toId));
+            }
+            for (Segment segment : retained) {
+                sources.add(segment.iterator(fromId, toId));
+            }
+            MergingIterator merged = new MergingIterator(sources);
+            while (merged.hasNext()) {
+                LsmEntry entry = merged.next();
+                if (!entry.isTombstone()) {
+                    action.accept(entry.employee);
+                }
+            }
+        } finally {
+            releaseAll(retained);
+        }
+    }
+
+    private static void releaseAll(List<Segment> segments) {
+        IOException failure = null;
+        for (Segment segment : segments) {
+            try {
+                segment.release();
+            } catch (IOException e) {
+                failure = failure == null ? e : failure;
+            }
+        }
+        if (failure != null) {
+            throw new UncheckedIOException(failure);
+        }
+    }
+
+    private List<Employee<Integer>> collect(Predicate<Employee<Integer>> filter) {
+        List<Employee<Integer>> result = new ArrayList<>();
+        forEachEmployee(employee -> {
+            if (filter.test(employee)) {
+                result.add(employee);
+            }
+        });
+        return result;
+    }
+
+    // Writes, callers hold the monitor
+
+    private void write(LsmEntry entry) {
+        checkOpen();
+        if (backgroundFailure != null) {
+            throw new UncheckedIOException("Background flush failed, the store is read-only", backgroundFailure);
+        }
+        try {
+            log.append(entry);
+            version.active.put(entry);
+            if (version.active.getBytes() >= memtableBytes) {
+                rotate();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Starts a new memtable and log, the full one is flushed in the background
+    private void rotate() throws IOException {
+        try {
+            while (version.immutables.size() >= MAX_IMMUTABLE_MEMTABLES && backgroundFailure == null && !closed) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a memtable flush");
+        }
+        checkOpen();
+        Path logFile = logFile(nextFileNumber++);
+        WriteAheadLog next = new WriteAheadLog(logFile);
+        log.close();
+        log = next;
+        Version current = version;
+        List<Memtable> immutables = new ArrayList<>();
+        immutables.add(current.active);
+        immutables.addAll(current.immutables);
+        version = new Version(new Memtable(logFile), immutables, current.copyLevels());
+        scheduleBackgroundWork();
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("The store is closed");
+        }
+    }
+
+    // Background work
+
+    private void scheduleBackgroundWork() {
+        if (backgroundScheduled.compareAndSet(false, true)) {
+            try {
+                background.execute(() -> {
+                    backgroundScheduled.set(false);
+                    backgroundWork();
+                });
+            } catch (java.util.concurrent.RejectedExecutionException e) {
+                // Closing, the write-ahead logs are replayed on the next open
+                backgroundScheduled.set(false);
+            }
+        }
+    }
+
+    // Flushes take priority, a compaction only starts when no memtable is waiting
+    private void backgroundWork() {
+        try {
+            while (true) {
+                if (!version.immutables.isEmpty()) {
+                    flushOldest();
+                } else if (!compactOnce()) {
+                    return;
+                }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            backgroundFailure = e instanceof IOException ? (IOException) e : ((UncheckedIOException) e).getCause();
+            synchronized (this) {
+                notifyAll();
+            }
+        }
+    }
+
+    private void flushOldest() throws IOException {
+        Memtable memtable;
+        synchronized (this) {
+            List<Memtable> immutables = version.immutables;
+            memtable = immutables.get(immutables.size() - 1);
+        }
+        Segment segment = memtable.isEmpty() ? null : writeSegment(memtable.iterator(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        synchronized (this) {
+            Version current = version;
+            List<Memtable> immutables = new ArrayList<>(current.immutables);
+            immutables.remove(memtable);
+            List<List<Segment>> levels = current.copyLevels();
+            if (segment != null) {
+                levels.get(0).add(0, segment);
+            }
+            writeManifest(levels);
+            version = new Version(current.active, immutables, levels);
+            notifyAll();
+        }
+        Files.deleteIfExists(memtable.getLogFile());
+        flushes.increment();
+    }
+
+    // Picks and runs one compaction, false when every level is within its budget
+    private boolean compactOnce() throws IOException {
+        List<Segment> inputs;
+        List<Segment> overlapping;
+        int inputLevel;
+        boolean dropTombstones;
+        synchronized (this) {
+            if (closed) {
+                return false;
+            }
+            Version current = version;
+            List<Segment> level0 = current.levels.get(0);
+            if (level0.size() >= LEVEL0_COMPACTION_TRIGGER) {
+                inputLevel = 0;
+                inputs = new ArrayList<>(level0);
+                int fromId = Integer.MAX_VALUE;
+                int toId = Integer.MIN_VALUE;
+                for (Segment segment : inputs) {
+                    fromId = Math.min(fromId, segment.getMinId());
+                    toId = Math.max(toId, segment.getMaxId());
+                }
+                overlapping = overlapping(current.levels.get(1), fromId, toId);
+            } else {
+                inputLevel = -1;
+                for (int level = 1; level < MAX_LEVELS - 1; level++) {
+                    if (levelBytes(current.levels.get(level)) > levelBudget(level)) {
+                        inputLevel = level;
+                        break;
+                    }
+                }
+                if (inputLevel < 0) {
+                    return false;
+                }
+                Segment chosen = null;
+                for (Segment segment : current.levels.get(inputLevel)) {
+                    if (segment.getMinId() > compactionCursor[inputLevel]) {
+                        chosen = segment;
+                        break;
+                    }
+                }
+                if (chosen == null) {
+                    chosen = current.levels.get(inputLevel).get(0);
+                }
+                compactionCursor[inputLevel] = chosen.getMaxId();
+                inputs = Collections.singletonList(chosen);
+                overlapping = overlapping(current.levels.get(inputLevel + 1), chosen.getMinId(), chosen.getMaxId());
+            }
+            // Nothing older can hide below the output level, so deletions have done their job
+            dropTombstones = true;
+            for (int level = inputLevel + 2; level < MAX_LEVELS; level++) {
+                dropTombstones &= current.levels.get(level).isEmpty();
+            }
+        }
+
+        List<Iterator<LsmEntry>> sources = new ArrayList<>();
+        for (Segment segment : inputs) {
+            sources.add(segment.iterator(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        }
+        for (Segment segment : overlapping) {
+            sources.add(segment.iterator(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        }
+        List<Segment> outputs = writeSegments(new MergingIterator(sources), dropTombstones);
+
+        int outputLevel = inputLevel + 1;
+        synchronized (this) {
+            Version current = version;
+            List<List<Segment>> levels = current.copyLevels();
+            levels.get(inputLevel).removeAll(inputs);
+            levels.get(outputLevel).removeAll(overlapping);
+            levels.get(outputLevel).addAll(outputs);
+            levels.get(outputLevel).sort(Comparator.comparingInt(Segment::getMinId));
+            writeManifest(levels);
+            version = new Version(current.active, current.immutables, levels);
+        }
+        segmentsLock.writeLock().lock();
+        try {
+            for (Segment segment : inputs) {
+                segment.delete();
+            }
+            for (Segment segment : overlapping) {
+                segment.delete();
+            }
+        } finally {
+            segmentsLock.writeLock().unlock();
+        }
+        compactions.increment();
+        return true;
+    }
+
+    private static List<Segment> overlapping(List<Segment> level, int fromId, int toId) {
+        List<Segment> result = new ArrayList<>();
+        for (Segment segment : level) {
+            if (segment.overlaps(fromId, toId)) {
+                result.add(segment);
+            }
+        }
+        return result;
+    }
+
+    private long levelBudget(int level) {
+        long budget = level1Bytes;
+        for (int i = 1; i < level; i++) {
+            budget *= LEVEL_SIZE_RATIO;
+        }
+        return budget;
+    }
+
+    private static long levelBytes(List<Segment> level) {
+        long bytes = 0;
+        for (Segment segment : level) {
+            bytes += segment.getSize();
+        }
+        return bytes;
+    }
+
+    // Files
+
+    private Segment writeSegment(Iterator<LsmEntry> entries) throws IOException {
+        List<Segment> written = writeSegments(entries, false, Long.MAX_VALUE);
+        return written.get(0);
+    }
+
+    private List<Segment> writeSegments(Iterator<LsmEntry> entries, boolean dropTombstones) throws IOException {
+        return writeSegments(entries, dropTombstones, memtableBytes);
+    }
+
+    // Splits the entries into segments of about targetBytes each
+    private List<Segment> writeSegments(Iterator<LsmEntry> entries, boolean dropTombstones, long targetBytes) throws IOException {
+        List<Segment> outputs = new ArrayList<>();
+        SegmentWriter writer = null;
+        long number = 0;
+        try {
+            while (entries.hasNext()) {
+                LsmEntry entry = entries.next();
+                if (dropTombstones && entry.isTombstone()) {
+                    continue;
+                }
+                if (writer == null) {
+                    number = allocateFileNumber();
+                    writer = new SegmentWriter(segmentFile(number));
+                }
+                writer.add(entry);
+                if (writer.getBytes() >= targetBytes) {
+                    outputs.add(writer.finish(number));
+                    writer = null;
+                }
+            }
+            if (writer != null) {
+                outputs.add(writer.finish(number));
+                writer = null;
+            }
+            return outputs;
+        } catch (IOException | RuntimeException e) {
+            if (writer != null) {
+                writer.close();
+                Files.deleteIfExists(segmentFile(number));
+            }
+            for (Segment segment : outputs) {
+                segment.delete();
+            }
+            throw e;
+        }
+    }
+
+    private synchronized long allocateFileNumber() {
+        return nextFileNumber++;
+    }
+
+    private Path segmentFile(long number) {
+        return directory.resolve(String.format("seg-%016d.sst", number));
+    }
+
+    private Path logFile(long number) {
+        return directory.resolve(String.format("wal-%016d.log", number));
+    }
+
+    // Lists the live segments, level 0 newest first; replaced atomically, callers hold the monitor
+    private void writeManifest(List<List<Segment>> levels) throws IOException {
+        StringBuilder manifest = new StringBuilder("next ").append(nextFileNumber).append('\n');
+        for (int level = 0; level < levels.size(); level++) {
+            for (Segment segment : levels.get(level)) {
+                manifest.append(level).append(' ').append(segment.getNumber()).append('\n');
+            }
+        }
+        Path temporary = directory.resolve(MANIFEST + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer bytes = ByteBuffer.wrap(manifest.toString().getBytes(StandardCharsets.US_ASCII));
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, directory.resolve(MANIFEST), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    // Opens the segments listed in the manifest, removes files it doesn't list and replays the write-ahead logs
+    private void recover() throws IOException {
+        List<List<Segment>> levels = new ArrayList<>(MAX_LEVELS);
+        for (int level = 0; level < MAX_LEVELS; level++) {
+            levels.add(new ArrayList<>());
+        }
+        Map<Long, Integer> listed = new HashMap<>();
+        Path manifest = directory.resolve(MANIFEST);
+        if (Files.exists(manifest)) {
+            for (String line : Files.readAllLines(manifest, StandardCharsets.US_ASCII)) {
+                String[] parts = line.trim().split(" ");
+                if (parts.length != 2) {
+                    continue;
+                }
+                if (parts[0].equals("next")) {
+                    nextFileNumber = Math.max(nextFileNumber, Long.parseLong(parts[1]));
+                } else {
+                    listed.put(Long.parseLong(parts[1]), Integer.parseInt(parts[0]));
+                }
+            }
+        }
+        TreeMap<Long, Path> logs = new TreeMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path path : files) {
+                String name = path.getFileName().toString();
+                Matcher segment = SEGMENT_NAME.matcher(name);
+                Matcher log = LOG_NAME.matcher(name);
+                if (segment.matches()) {
+                    long number = Long.parseLong(segment.group(1));
+                    nextFileNumber = Math.max(nextFileNumber, number + 1);
+                    Integer level = listed.remove(number);
+                    if (level == null) {
+                        // Output of a flush or compaction that never made it into the manifest
+                        Files.delete(path);
+                    } else {
+                        levels.get(level).add(Segment.open(path, number));
+                    }
+                } else if (log.matches()) {
+                    long number = Long.parseLong(log.group(1));
+                    nextFileNumber = Math.max(nextFileNumber, number + 1);
+                    logs.put(number, path);
+                } else if (name.equals(MANIFEST + ".tmp")) {
+                    Files.delete(path);
+                }
+            }
+        }
+        if (!listed.isEmpty()) {
+            throw new IOException("Segments listed in the manifest are missing: " + listed.keySet());
+        }
+        levels.get(0).sort(Comparator.comparingLong(Segment::getNumber).reversed());
+        for (int level = 1; level < MAX_LEVELS; level++) {
+            levels.get(level).sort(Comparator.comparingInt(Segment::getMinId));
+        }
+
+        Memtable replayed = new Memtable(null);
+        for (Path logFile : logs.values()) {
+            WriteAheadLog.replay(logFile, replayed::put);
+        }
+        if (!replayed.isEmpty()) {
+            levels.get(0).add(0, writeSegment(replayed.iterator(Integer.MIN_VALUE, Integer.MAX_VALUE)));
+        }
+        Path logFile = logFile(nextFileNumber++);
+        log = new WriteAheadLog(logFile);
+        writeManifest(levels);
+        for (Path old : logs.values()) {
+            Files.delete(old);
+        }
+        version = new Version(new Memtable(logFile), new ArrayList<>(), levels);
+
+        int[] count = new int[1];
+        scan(Integer.MIN_VALUE, Integer.MAX_VALUE, employee -> count[0]++);
+        employeeCount = count[0];
+    }
+}
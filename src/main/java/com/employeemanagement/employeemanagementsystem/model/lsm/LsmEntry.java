@@ -0,0 +1,70 @@
+package com.employeemanagement.employeemanagementsystem.model.lsm;
+
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeCodec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * One version of an employee in the memtable, the write-ahead log or a segment: the full record or a tombstone
+ * Encoded as int32 ID, uint8 tag, then for a PUT the EmployeeCodec fields after the ID.
+ */
+final class LsmEntry {
+
+    private static final byte PUT = 1;
+    private static final byte TOMBSTONE = 0;
+
+    final int employeeId;
+    // Null for a tombstone
+    final Employee<Integer> employee;
+
+    private LsmEntry(int employeeId, Employee<Integer> employee) {
+        this.employeeId = employeeId;
+        this.employee = employee;
+    }
+
+    static LsmEntry put(Employee<Integer> employee) {
+        return new LsmEntry(employee.getEmployeeId(), employee);
+    }
+
+    static LsmEntry tombstone(int employeeId) {
+        return new LsmEntry(employeeId, null);
+    }
+
+    boolean isTombstone() {
+        return employee == null;
+    }
+
+    // Memtable accounting, close to the encoded size plus object overhead
+    int estimatedBytes() {
+        if (employee == null) {
+            return 32;
+        }
+        String name = employee.getEmployeeName();
+        return 96 + (name == null ? 0 : 2 * name.length());
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeInt(employeeId);
+        if (employee == null) {
+            out.writeByte(TOMBSTONE);
+            return;
+        }
+        out.writeByte(PUT);
+        EmployeeCodec.writeFields(out, employee);
+    }
+
+    static LsmEntry readFrom(DataInput in) throws IOException {
+        int employeeId = in.readInt();
+        byte tag = in.readByte();
+        if (tag == TOMBSTONE) {
+            return tombstone(employeeId);
+        }
+        if (tag != PUT) {
+            throw new IOException("Invalid entry tag " + tag);
+        }
+        return new LsmEntry(employeeId, EmployeeCodec.readFields(in, employeeId));
+    }
+}
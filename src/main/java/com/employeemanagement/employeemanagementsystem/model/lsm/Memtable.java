@@ -0,0 +1,49 @@
+package com.employeemanagement.employeemanagementsystem.model.lsm;
+
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sorted in-memory buffer of the latest writes, backed by its own write-ahead log file
+ * Written by one thread at a time and read concurrently; once full it becomes immutable and is flushed to a
+ * level 0 segment, after which its log file is deleted.
+ */
+final class Memtable {
+
+    private final ConcurrentSkipListMap<Integer, LsmEntry> entries = new ConcurrentSkipListMap<>();
+    private final AtomicLong bytes = new AtomicLong();
+    private final Path logFile;
+
+    Memtable(Path logFile) {
+        this.logFile = logFile;
+    }
+
+    void put(LsmEntry entry) {
+        LsmEntry previous = entries.put(entry.employeeId, entry);
+        bytes.addAndGet(entry.estimatedBytes() - (previous != null ? previous.estimatedBytes() : 0));
+    }
+
+    // Latest entry for the ID, null if this memtable has none
+    LsmEntry get(int employeeId) {
+        return entries.get(employeeId);
+    }
+
+    // Entries with IDs in [fromId, toId], in ID order
+    Iterator<LsmEntry> iterator(int fromId, int toId) {
+        return entries.subMap(fromId, true, toId, true).values().iterator();
+    }
+
+    long getBytes() {
+        return bytes.get();
+    }
+
+    boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    Path getLogFile() {
+        return logFile;
+    }
+}
@@ -0,0 +1,67 @@
+package com.employeemanagement.employeemanagementsystem.model.lsm;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Merges sorted entry iterators into one in ID order, keeping only the newest entry for each ID
+ * Sources are given newest first; when several hold the same ID the earliest source wins. Tombstones are passed
+ * through, the caller decides whether they still matter.
+ */
+final class MergingIterator implements Iterator<LsmEntry> {
+
+    private static final class Cursor {
+        final Iterator<LsmEntry> source;
+        final int rank;
+        LsmEntry head;
+
+        Cursor(Iterator<LsmEntry> source, int rank) {
+            this.source = source;
+            this.rank = rank;
+            this.head = source.next();
+        }
+    }
+
+    private final PriorityQueue<Cursor> cursors = new PriorityQueue<>((a, b) -> {
+        int byId = Integer.compare(a.head.employeeId, b.head.employeeId);
+        return byId != 0 ? byId : Integer.compare(a.rank, b.rank);
+    });
+
+    MergingIterator(List<Iterator<LsmEntry>> newestFirst) {
+        for (int rank = 0; rank < newestFirst.size(); rank++) {
+            Iterator<LsmEntry> source = newestFirst.get(rank);
+            if (source.hasNext()) {
+                cursors.add(new Cursor(source, rank));
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !cursors.isEmpty();
+    }
+
+    @Override
+    public LsmEntry next() {
+        Cursor newest = cursors.poll();
+        if (newest == null) {
+            throw new NoSuchElementException();
+        }
+        LsmEntry entry = newest.head;
+        advance(newest);
+        // Older versions of the same employee are shadowed
+        while (!cursors.isEmpty() && cursors.peek().head.employeeId == entry.employeeId) {
+            advance(cursors.poll());
+        }
+        return entry;
+    }
+
+    private void advance(Cursor cursor) {
+        if (cursor.source.hasNext()) {
+            cursor.head = cursor.source.next();
+            cursors.add(cursor);
+        }
+    }
+}
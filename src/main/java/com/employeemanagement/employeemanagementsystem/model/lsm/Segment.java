@@ -0,0 +1,276 @@
+package com.employeemanagement.employeemanagementsystem.model.lsm;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+
+/**
+ * Immutable sorted file of employee entries, written once by SegmentWriter and read with positional reads
+ * Layout: data blocks of about 4 KiB holding entries in ascending ID order, then the block index (int32 count,
+ * then per block int32 first ID, int32 last ID, int64 offset, int32 length) and the Bloom filter, then a footer:
+ * int64 index offset, int32 entry count, int32 min ID, int32 max ID, int32 CRC32 of index and filter, int32 MAGIC.
+ * The index and filter stay on the heap, blocks are read on demand and cached only by the OS page cache.
+ * The store holds one reference while the segment is live and every scan reading it one more; the file is closed,
+ * and removed if the segment was replaced, when the last reference is released.
+ */
+final class Segment implements AutoCloseable {
+
+    static final int MAGIC = 0x454D5353;
+    private static final int FOOTER_SIZE = 28;
+
+    private final Path file;
+    private final long number;
+    private final FileChannel channel;
+    private final long size;
+    private final int entryCount;
+    private final int minId;
+    private final int maxId;
+    private final int[] blockFirstIds;
+    private final int[] blockLastIds;
+    private final long[] blockOffsets;
+    private final int[] blockLengths;
+    private final BloomFilter bloom;
+    private final AtomicInteger references = new AtomicInteger(1);
+    private volatile boolean replaced;
+
+    private Segment(Path file, long number, FileChannel channel, long size, int entryCount, int minId, int maxId,
+                    int[] blockFirstIds, int[] blockLastIds, long[] blockOffsets, int[] blockLengths, BloomFilter bloom) {
+        this.file = file;
+        this.number = number;
+        this.channel = channel;
+        this.size = size;
+        this.entryCount = entryCount;
+        this.minId = minId;
+        this.maxId = maxId;
+        this.blockFirstIds = blockFirstIds;
+        this.blockLastIds = blockLastIds;
+        this.blockOffsets = blockOffsets;
+        this.blockLengths = blockLengths;
+        this.bloom = bloom;
+    }
+
+    static Segment open(Path file, long number) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < FOOTER_SIZE) {
+                throw new IOException(file + " is too short to be a segment");
+            }
+            ByteBuffer footer = read(channel, size - FOOTER_SIZE, FOOTER_SIZE);
+            long indexOffset = footer.getLong();
+            int entryCount = footer.getInt();
+            int minId = footer.getInt();
+            int maxId = footer.getInt();
+            int checksum = footer.getInt();
+            if (footer.getInt() != MAGIC || indexOffset < 0 || indexOffset > size - FOOTER_SIZE) {
+                throw new IOException(file + " is not a segment file");
+            }
+            byte[] meta = read(channel, indexOffset, (int) (size - FOOTER_SIZE - indexOffset)).array();
+            CRC32 crc = new CRC32();
+            crc.update(meta);
+            if ((int) crc.getValue() != checksum) {
+                throw new IOException(file + " has a damaged index");
+            }
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(meta));
+            int blocks = in.readInt();
+            int[] firstIds = new int[blocks];
+            int[] lastIds = new int[blocks];
+            long[] offsets = new long[blocks];
+            int[] lengths = new int[blocks];
+            for (int i = 0; i < blocks; i++) {
+                firstIds[i] = in.readInt();
+                lastIds[i] = in.readInt();
+                offsets[i] = in.readLong();
+                lengths[i] = in.readInt();
+            }
+            BloomFilter bloom = BloomFilter.readFrom(in);
+            return new Segment(file, number, channel, size, entryCount, minId, maxId, firstIds, lastIds, offsets, lengths, bloom);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    // Sequence number of the file, a higher number holds newer data within level 0
+    long getNumber() {
+        return number;
+    }
+
+    long getSize() {
+        return size;
+    }
+
+    int getEntryCount() {
+        return entryCount;
+    }
+
+    int getMinId() {
+        return minId;
+    }
+
+    int getMaxId() {
+        return maxId;
+    }
+
+    boolean overlaps(int fromId, int toId) {
+        return minId <= toId && maxId >= fromId;
+    }
+
+    // False when the Bloom filter rules the ID out, no block has to be read then
+    boolean mightContain(int employeeId) {
+        return employeeId >= minId && employeeId <= maxId && bloom.mightContain(employeeId);
+    }
+
+    // Entry for the ID, null if the segment has none
+    LsmEntry get(int employeeId) throws IOException {
+        if (!mightContain(employeeId)) {
+            return null;
+        }
+        int block = blockFor(employeeId);
+        if (block < 0 || employeeId > blockLastIds[block]) {
+            return null;
+        }
+        DataInputStream in = readBlock(block);
+        while (true) {
+            LsmEntry entry;
+            try {
+                entry = LsmEntry.readFrom(in);
+            } catch (EOFException e) {
+                return null;
+            }
+            if (entry.employeeId == employeeId) {
+                return entry;
+            }
+            if (entry.employeeId > employeeId) {
+                return null;
+            }
+        }
+    }
+
+    // Entries with IDs in [fromId, toId] in ID order, reading one block at a time
+    Iterator<LsmEntry> iterator(int fromId, int toId) {
+        return new Iterator<>() {
+            private int block = Math.max(0, blockFor(fromId));
+            private DataInputStream in;
+            private LsmEntry next = advance();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public LsmEntry next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                LsmEntry current = next;
+                next = advance();
+                return current;
+            }
+
+            private LsmEntry advance() {
+                try {
+                    while (true) {
+                        if (in == null) {
+                            if (block >= blockFirstIds.length || blockFirstIds[block] > toId) {
+                                return null;
+                            }
+                            in = readBlock(block++);
+                        }
+                        LsmEntry entry;
+                        try {
+                            entry = LsmEntry.readFrom(in);
+                        } catch (EOFException e) {
+                            in = null;
+                            continue;
+                        }
+                        if (entry.employeeId > toId) {
+                            return null;
+                        }
+                        if (entry.employeeId >= fromId) {
+                            return entry;
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+    }
+
+    // Takes a reference for a scan, the caller holds the store's segments read lock so the segment is still live
+    void retain() {
+        references.incrementAndGet();
+    }
+
+    // Drops a reference, the last one closes the file and removes it if the segment was replaced
+    void release() throws IOException {
+        if (references.decrementAndGet() == 0) {
+            channel.close();
+            if (replaced) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    // Drops the store's reference
+    @Override
+    public void close() throws IOException {
+        release();
+    }
+
+    // Drops the store's reference to a replaced segment, its file is removed once no scan reads it any more
+    void delete() throws IOException {
+        replaced = true;
+        release();
+    }
+
+    // Last block whose first ID is at most the ID, -1 if the ID is before the first block
+    private int blockFor(int employeeId) {
+        int low = 0;
+        int high = blockFirstIds.length - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (blockFirstIds[mid] <= employeeId) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    private DataInputStream readBlock(int block) throws IOException {
+        ByteBuffer bytes = read(channel, blockOffsets[block], blockLengths[block]);
+        return new DataInputStream(new ByteArrayInputStream(bytes.array()));
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Segment ends before offset " + (position + length));
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+}
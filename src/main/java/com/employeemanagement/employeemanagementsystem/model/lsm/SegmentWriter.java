@@ -0,0 +1,124 @@
+package com.employeemanagement.employeemanagementsystem.model.lsm;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * Writes entries in ascending ID order into a new segment file (see Segment for the layout)
+ */
+final class SegmentWriter implements AutoCloseable {
+
+    // Entries are read a block at a time, a point lookup reads one block
+    static final int BLOCK_SIZE = 4096;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final DataOutputStream out;
+    private long position;
+
+    private final ByteArrayOutputStream block = new ByteArrayOutputStream(BLOCK_SIZE + 512);
+    private final DataOutputStream blockOut = new DataOutputStream(block);
+    private int blockFirstId;
+    private int blockLastId;
+
+    private final ByteArrayOutputStream index = new ByteArrayOutputStream();
+    private final DataOutputStream indexOut = new DataOutputStream(index);
+    private int blockCount;
+
+    private int[] ids = new int[1024];
+    private int entryCount;
+
+    SegmentWriter(Path file) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        this.out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024));
+    }
+
+    void add(LsmEntry entry) throws IOException {
+        if (entryCount > 0 && entry.employeeId <= ids[entryCount - 1]) {
+            throw new IllegalArgumentException("Entries must be added in ascending ID order: " + entry.employeeId);
+        }
+        if (block.size() == 0) {
+            blockFirstId = entry.employeeId;
+        }
+        entry.writeTo(blockOut);
+        blockLastId = entry.employeeId;
+        if (entryCount == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+        }
+        ids[entryCount++] = entry.employeeId;
+        if (block.size() >= BLOCK_SIZE) {
+            finishBlock();
+        }
+    }
+
+    int getEntryCount() {
+        return entryCount;
+    }
+
+    // Bytes written so far, including the open block
+    long getBytes() {
+        return position + block.size();
+    }
+
+    // Writes the index, Bloom filter and footer, forces the file to disk and opens it for reading
+    Segment finish(long number) throws IOException {
+        if (entryCount == 0) {
+            throw new IllegalStateException("A segment needs at least one entry");
+        }
+        finishBlock();
+        BloomFilter bloom = BloomFilter.forKeys(entryCount);
+        for (int i = 0; i < entryCount; i++) {
+            bloom.add(ids[i]);
+        }
+        ByteArrayOutputStream meta = new ByteArrayOutputStream(index.size() + entryCount * 2 + 64);
+        DataOutputStream metaOut = new DataOutputStream(meta);
+        metaOut.writeInt(blockCount);
+        index.writeTo(metaOut);
+        bloom.writeTo(metaOut);
+        byte[] metaBytes = meta.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(metaBytes);
+
+        long indexOffset = position;
+        out.write(metaBytes);
+        out.writeLong(indexOffset);
+        out.writeInt(entryCount);
+        out.writeInt(ids[0]);
+        out.writeInt(ids[entryCount - 1]);
+        out.writeInt((int) crc.getValue());
+        out.writeInt(Segment.MAGIC);
+        out.flush();
+        channel.force(true);
+        channel.close();
+        return Segment.open(file, number);
+    }
+
+    // Drops a segment that won't be finished
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void finishBlock() throws IOException {
+        if (block.size() == 0) {
+            return;
+        }
+        indexOut.writeInt(blockFirstId);
+        indexOut.writeInt(blockLastId);
+        indexOut.writeLong(position);
+        indexOut.writeInt(block.size());
+        blockCount++;
+        block.writeTo(out);
+        position += block.size();
+        block.reset();
+    }
+}
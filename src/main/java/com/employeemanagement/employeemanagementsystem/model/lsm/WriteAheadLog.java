@@ -0,0 +1,87 @@
+package com.employeemanagement.employeemanagementsystem.model.lsm;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of the writes held by a memtable, replayed when the store is reopened
+ * Each record is int32 length, int32 CRC32 of the entry, then the entry. Every append is handed to the OS before
+ * the write is acknowledged, so the data survives the process crashing; sync() also survives the machine crashing.
+ * Replay stops at the first incomplete or damaged record, which is where a crash interrupted an append.
+ */
+final class WriteAheadLog implements AutoCloseable {
+
+    private final FileChannel channel;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+    private final DataOutputStream out = new DataOutputStream(buffer);
+    private final CRC32 crc = new CRC32();
+
+    WriteAheadLog(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    // Called by one writer at a time
+    void append(LsmEntry entry) throws IOException {
+        buffer.reset();
+        out.writeInt(0);
+        out.writeInt(0);
+        entry.writeTo(out);
+        byte[] record = buffer.toByteArray();
+        crc.reset();
+        crc.update(record, 8, record.length - 8);
+        ByteBuffer bytes = ByteBuffer.wrap(record);
+        bytes.putInt(0, record.length - 8);
+        bytes.putInt(4, (int) crc.getValue());
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+
+    void sync() throws IOException {
+        channel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // Feeds every intact record of the log to the consumer, returns how many there were
+    static int replay(Path file, Consumer<LsmEntry> consumer) throws IOException {
+        byte[] content = Files.readAllBytes(file);
+        ByteBuffer bytes = ByteBuffer.wrap(content);
+        CRC32 crc = new CRC32();
+        int replayed = 0;
+        while (bytes.remaining() >= 8) {
+            int length = bytes.getInt();
+            int checksum = bytes.getInt();
+            if (length <= 0 || length > bytes.remaining()) {
+                break;
+            }
+            crc.reset();
+            crc.update(content, bytes.position(), length);
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            try {
+                consumer.accept(LsmEntry.readFrom(new DataInputStream(new ByteArrayInputStream(content, bytes.position(), length))));
+            } catch (EOFException e) {
+                break;
+            }
+            bytes.position(bytes.position() + length);
+            replayed++;
+        }
+        return replayed;
+    }
+}
@@ -0,0 +1,83 @@
+package com.employeemanagement.employeemanagementsystem.model.metrics;
+
+import java.util.Locale;
+
+/**
+ * EmployeeDatabase operations that are timed by the metrics registry and recorded as Flight Recorder events
+ */
+public enum DatabaseOperation {
+    ADD_EMPLOYEE(Kind.MUTATION, 1),
+    // A lookup takes about as long as timing it, so only one call in 16 is timed
+    GET_EMPLOYEE(Kind.QUERY, 16),
+    GET_ALL_EMPLOYEES(Kind.QUERY, 1),
+    UPDATE_EMPLOYEE(Kind.MUTATION, 1),
+    DELETE_EMPLOYEE(Kind.MUTATION, 1),
+    DELETE_MATCHING(Kind.BULK_UPDATE, 1),
+    DEACTIVATE_MATCHING(Kind.BULK_UPDATE, 1),
+    APPLY_REPLICATED(Kind.BULK_UPDATE, 1),
+    FIND_BY_DEPARTMENT(Kind.QUERY, 1),
+    FIND_BY_NAME(Kind.QUERY, 1),
+    FIND_BY_MIN_RATING(Kind.QUERY, 1),
+    FIND_BY_SALARY_RANGE(Kind.QUERY, 1),
+    FIND_MATCHING(Kind.QUERY, 1),
+    FOR_EACH_MATCHING(Kind.QUERY, 1),
+    // Only re-pointing the iterator is timed, which includes rebuilding the flat copy; the caller runs the scan
+    ITERATE_MATCHING(Kind.QUERY, 1),
+    SORT_BY_EXPERIENCE(Kind.SORT, 1),
+    SORT_BY_SALARY(Kind.SORT, 1),
+    SORT_BY_PERFORMANCE(Kind.SORT, 1),
+    SORT_BY_COLUMNS(Kind.SORT, 1),
+    SALARY_RAISE(Kind.BULK_UPDATE, 1),
+    TOP_PAID(Kind.REPORT, 1),
+    AVERAGE_SALARY(Kind.REPORT, 1),
+    SALARY_QUANTILE(Kind.REPORT, 1),
+    COUNT_BY_DEPARTMENT(Kind.REPORT, 1),
+    GET_EMPLOYEE_AS_OF(Kind.HISTORY, 1),
+    GET_ALL_EMPLOYEES_AS_OF(Kind.HISTORY, 1),
+    COMPACT_HISTORY(Kind.HISTORY, 1),
+    PRINT_EMPLOYEES(Kind.REPORT, 1),
+    PRINT_REPORT(Kind.REPORT, 1);
+
+    private final String metricName = name().toLowerCase(Locale.ROOT);
+    private final Kind kind;
+    private final int sampleEvery;
+
+    DatabaseOperation(Kind kind, int sampleEvery) {
+        this.kind = kind;
+        this.sampleEvery = sampleEvery;
+    }
+
+    // Name used in metric labels, e.g. find_by_name
+    public String getMetricName() {
+        return metricName;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    // One call in this many has its latency recorded
+    public int getSampleEvery() {
+        return sampleEvery;
+    }
+
+    // What an operation does with the records, recorded with every Flight Recorder event
+    public enum Kind {
+        QUERY("Query"),
+        SORT("Sort"),
+        MUTATION("Mutation"),
+        BULK_UPDATE("Bulk Update"),
+        REPORT("Report"),
+        HISTORY("History");
+
+        private final String label;
+
+        Kind(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.employeemanagement.employeemanagementsystem.model.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of latencies in nanoseconds with log-linear buckets
+ * Values below 16 get their own bucket. Above that every power of two is split into 16 buckets,
+ * so a reported percentile is within 6.25% of the true value while the whole range up to
+ * Long.MAX_VALUE fits in 960 counters (7.5 KB).
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    // The total count is the sum of the buckets, so recording touches one counter less
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    // Records one latency, negative values count as zero
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(bucketOf(value));
+        sum.add(value);
+        if (value > max.get()) {
+            max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    public long getCount() {
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public double getMean() {
+        long total = getCount();
+        return total == 0 ? 0 : (double) sum.sum() / total;
+    }
+
+    // Latency at the percentile (0-100), 0 when nothing was recorded
+    public long getValueAtPercentile(double percentile) {
+        return snapshot().getValueAtPercentile(percentile);
+    }
+
+    // Copies the counters, so several percentiles can be read from one consistent set of counts
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+            total += copy[i];
+        }
+        return new Snapshot(copy, total, sum.sum(), max.get());
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        sum.reset();
+        max.set(0);
+    }
+
+    // Bucket math
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long lowerBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = bucket % SUB_BUCKETS;
+        return (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    // Middle of the bucket, the value reported for anything that fell into it
+    static long representative(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        long lower = lowerBound(bucket);
+        long width = 1L << (bucket / SUB_BUCKETS - 1);
+        return lower + (width - 1) / 2;
+    }
+
+    /**
+     * Immutable copy of the histogram counters
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long max;
+
+        private Snapshot(long[] counts, long count, long sum, long max) {
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.max = max;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getSum() {
+            return sum;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        public double getMean() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+
+        public long getValueAtPercentile(double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("Percentile must be between 0 and 100, provided: " + percentile);
+            }
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+            if (rank == count) {
+                return max;
+            }
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    // Never report more than the largest value actually recorded
+                    return Math.min(representative(i), max);
+                }
+            }
+            return max;
+        }
+
+        // Values recorded after the earlier snapshot of the same histogram was taken
+        public Snapshot minus(Snapshot earlier) {
+            long[] difference = new long[counts.length];
+            int highest = -1;
+            for (int i = 0; i < counts.length; i++) {
+                difference[i] = Math.max(0, counts[i] - earlier.counts[i]);
+                if (difference[i] > 0) {
+                    highest = i;
+                }
+            }
+            // The exact maximum of the interval is unknown, the top of its highest bucket bounds it
+            long intervalMax = highest < 0 ? 0
+                    : highest + 1 == counts.length ? max : Math.min(max, lowerBound(highest + 1) - 1);
+            return new Snapshot(difference, Math.max(0, count - earlier.count), Math.max(0, sum - earlier.sum), intervalMax);
+        }
+
+        // Number of values recorded at or below the given latency, by whole buckets
+        public long getCountAtOrBelow(long nanos) {
+            long total = 0;
+            for (int i = 0; i < counts.length && lowerBound(i) <= nanos; i++) {
+                total += counts[i];
+            }
+            return total;
+        }
+    }
+}
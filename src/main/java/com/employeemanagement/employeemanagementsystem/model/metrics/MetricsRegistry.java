@@ -0,0 +1,284 @@
+package com.employeemanagement.employeemanagementsystem.model.metrics;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Named operation timers, counters and gauges shared by the database and the controller
+ * Timers and counters are lock-free, callers look them up once and keep the reference. Periodic snapshots
+ * turn the cumulative histograms into per-interval percentiles for the in-app view; the Prometheus text
+ * exposition always reports cumulative values, as Prometheus expects.
+ */
+public class MetricsRegistry implements AutoCloseable {
+
+    public static final String DEFAULT_NAMESPACE = "employee_management";
+    public static final int DEFAULT_SNAPSHOT_HISTORY = 60;
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final String namespace;
+    private final Clock clock;
+    private final int snapshotHistory;
+    private final long createdNanos;
+
+    // Sorted so snapshots and the exposition list metrics in a stable order
+    private final Map<String, OperationTimer> timers = new ConcurrentSkipListMap<>();
+    private final Map<String, Metric> metrics = new ConcurrentSkipListMap<>();
+
+    // Periodic snapshot state, guarded by this
+    private final ArrayDeque<MetricsSnapshot> history = new ArrayDeque<>();
+    private final Map<String, LatencyHistogram.Snapshot> previousLatencies = new HashMap<>();
+    private long previousSnapshotNanos;
+    private ScheduledExecutorService scheduler;
+    private final List<Consumer<MetricsSnapshot>> listeners = new CopyOnWriteArrayList<>();
+
+    // Constructor
+    public MetricsRegistry() {
+        this(DEFAULT_NAMESPACE, Clock.systemUTC(), DEFAULT_SNAPSHOT_HISTORY);
+    }
+
+    public MetricsRegistry(String namespace, Clock clock, int snapshotHistory) {
+        if (namespace == null || !namespace.matches("[a-zA-Z_][a-zA-Z0-9_]*")) {
+            throw new IllegalArgumentException("Invalid metric namespace: " + namespace);
+        }
+        if (snapshotHistory < 1) {
+            throw new IllegalArgumentException("Snapshot history must be positive: " + snapshotHistory);
+        }
+        this.namespace = namespace;
+        this.clock = clock;
+        this.snapshotHistory = snapshotHistory;
+        this.createdNanos = System.nanoTime();
+        this.previousSnapshotNanos = createdNanos;
+    }
+
+    // Registration
+
+    // Gets or creates the timer of an operation, timing every call
+    public OperationTimer timer(String component, String operation) {
+        return timer(component, operation, 1);
+    }
+
+    // Gets or creates the timer of an operation that times one call in sampleEvery (a power of two)
+    public OperationTimer timer(String component, String operation, int sampleEvery) {
+        requireName(component);
+        requireName(operation);
+        return timers.computeIfAbsent(component + "/" + operation, key -> new OperationTimer(component, operation, sampleEvery));
+    }
+
+    // Gets or creates a counter that the caller increments
+    public LongAdder counter(String name, String help) {
+        requireName(name);
+        Metric metric = metrics.computeIfAbsent(name, key -> {
+            LongAdder adder = new LongAdder();
+            return new Metric(true, help, adder::sum, adder);
+        });
+        if (metric.adder == null) {
+            throw new IllegalArgumentException("Metric " + name + " is already registered as a function");
+        }
+        return metric.adder;
+    }
+
+    // Registers a counter whose value is read from elsewhere, e.g. cache hits, replacing any earlier one
+    public void counter(String name, String help, DoubleSupplier value) {
+        requireName(name);
+        metrics.put(name, new Metric(true, help, value, null));
+    }
+
+    // Registers a value that can go up and down, e.g. the number of employees, replacing any earlier one
+    public void gauge(String name, String help, DoubleSupplier value) {
+        requireName(name);
+        metrics.put(name, new Metric(false, help, value, null));
+    }
+
+    // Snapshots
+
+    // Latency statistics since the registry was created
+    public MetricsSnapshot snapshot() {
+        long now = System.nanoTime();
+        List<MetricsSnapshot.TimerStats> stats = new ArrayList<>();
+        for (OperationTimer timer : timers.values()) {
+            LatencyHistogram.Snapshot cumulative = timer.getLatencies().snapshot();
+            long calls = cumulative.getCount() * timer.getSampleEvery();
+            stats.add(new MetricsSnapshot.TimerStats(timer.getComponent(), timer.getOperation(),
+                    calls, calls, cumulative, now - createdNanos));
+        }
+        return new MetricsSnapshot(clock.instant(), now - createdNanos, stats, sampleValues());
+    }
+
+    // Latency statistics since the previous call, kept in the history and passed to snapshot listeners
+    public MetricsSnapshot takeIntervalSnapshot() {
+        MetricsSnapshot snapshot;
+        synchronized (this) {
+            long now = System.nanoTime();
+            List<MetricsSnapshot.TimerStats> stats = new ArrayList<>();
+            for (Map.Entry<String, OperationTimer> entry : timers.entrySet()) {
+                OperationTimer timer = entry.getValue();
+                LatencyHistogram.Snapshot cumulative = timer.getLatencies().snapshot();
+                LatencyHistogram.Snapshot previous = previousLatencies.put(entry.getKey(), cumulative);
+                LatencyHistogram.Snapshot interval = previous == null ? cumulative : cumulative.minus(previous);
+                stats.add(new MetricsSnapshot.TimerStats(timer.getComponent(), timer.getOperation(),
+                        cumulative.getCount() * timer.getSampleEvery(), interval.getCount() * timer.getSampleEvery(),
+                        interval, now - previousSnapshotNanos));
+            }
+            snapshot = new MetricsSnapshot(clock.instant(), now - previousSnapshotNanos, stats, sampleValues());
+            previousSnapshotNanos = now;
+            history.addLast(snapshot);
+            while (history.size() > snapshotHistory) {
+                history.removeFirst();
+            }
+        }
+        for (Consumer<MetricsSnapshot> listener : listeners) {
+            listener.accept(snapshot);
+        }
+        return snapshot;
+    }
+
+    // Takes an interval snapshot every period on a daemon thread, restarting the schedule if already running
+    public synchronized void startPeriodicSnapshots(Duration period) {
+        if (period == null || period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("Snapshot period must be positive: " + period);
+        }
+        stopPeriodicSnapshots();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-snapshots");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long nanos = period.toNanos();
+        scheduler.scheduleAtFixedRate(this::takeIntervalSnapshot, nanos, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public synchronized void stopPeriodicSnapshots() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    // Called after every interval snapshot, on the thread that took it
+    public void addSnapshotListener(Consumer<MetricsSnapshot> listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        listeners.add(listener);
+    }
+
+    public void removeSnapshotListener(Consumer<MetricsSnapshot> listener) {
+        listeners.remove(listener);
+    }
+
+    // Most recent interval snapshot, null before the first one
+    public synchronized MetricsSnapshot getLatestSnapshot() {
+        return history.peekLast();
+    }
+
+    // Interval snapshots, oldest first
+    public synchronized List<MetricsSnapshot> getSnapshotHistory() {
+        return new ArrayList<>(history);
+    }
+
+    @Override
+    public void close() {
+        stopPeriodicSnapshots();
+    }
+
+    // Prometheus exposition
+
+    // Every metric in the Prometheus text format (version 0.0.4), latencies as summaries in seconds
+    // Summary counts only include timed calls, the calls counter also estimates the calls a timer sampled out
+    public String toPrometheusText() {
+        StringBuilder text = new StringBuilder();
+        String calls = namespace + "_operation_calls_total";
+        text.append("# HELP ").append(calls).append(" Calls of database and controller operations.\n");
+        text.append("# TYPE ").append(calls).append(" counter\n");
+        for (OperationTimer timer : timers.values()) {
+            text.append(calls).append("{component=\"").append(timer.getComponent()).append("\",operation=\"")
+                    .append(timer.getOperation()).append("\"} ").append(timer.getCallCount()).append('\n');
+        }
+        String family = namespace + "_operation_duration_seconds";
+        text.append("# HELP ").append(family).append(" Duration of database and controller operations.\n");
+        text.append("# TYPE ").append(family).append(" summary\n");
+        for (OperationTimer timer : timers.values()) {
+            LatencyHistogram.Snapshot latencies = timer.getLatencies().snapshot();
+            String labels = "component=\"" + timer.getComponent() + "\",operation=\"" + timer.getOperation() + "\"";
+            for (double quantile : QUANTILES) {
+                text.append(family).append('{').append(labels).append(",quantile=\"").append(quantile).append("\"} ")
+                        .append(seconds(latencies.getValueAtPercentile(quantile * 100))).append('\n');
+            }
+            text.append(family).append("_sum{").append(labels).append("} ").append(seconds(latencies.getSum())).append('\n');
+            text.append(family).append("_count{").append(labels).append("} ").append(latencies.getCount()).append('\n');
+        }
+        for (Map.Entry<String, Metric> entry : metrics.entrySet()) {
+            Metric metric = entry.getValue();
+            String name = namespace + "_" + entry.getKey() + (metric.counter ? "_total" : "");
+            if (metric.help != null) {
+                text.append("# HELP ").append(name).append(' ').append(escapeHelp(metric.help)).append('\n');
+            }
+            text.append("# TYPE ").append(name).append(metric.counter ? " counter\n" : " gauge\n");
+            text.append(name).append(' ').append(format(metric.value.getAsDouble())).append('\n');
+        }
+        return text.toString();
+    }
+
+    private Map<String, Double> sampleValues() {
+        Map<String, Double> values = new LinkedHashMap<>();
+        metrics.forEach((name, metric) -> values.put(name, metric.value.getAsDouble()));
+        return values;
+    }
+
+    private static String seconds(long nanos) {
+        return format(nanos / 1e9);
+    }
+
+    private static String format(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+
+    private static String escapeHelp(String help) {
+        return help.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+
+    private static void requireName(String name) {
+        if (name == null || !name.matches("[a-zA-Z_][a-zA-Z0-9_]*")) {
+            throw new IllegalArgumentException("Metric names may only contain letters, digits and underscores: " + name);
+        }
+    }
+
+    // A counter or gauge, adder is set for counters the registry owns
+    private static final class Metric {
+        private final boolean counter;
+        private final String help;
+        private final DoubleSupplier value;
+        private final LongAdder adder;
+
+        private Metric(boolean counter, String help, DoubleSupplier value, LongAdder adder) {
+            this.counter = counter;
+            this.help = help;
+            this.value = value;
+            this.adder = adder;
+        }
+    }
+}
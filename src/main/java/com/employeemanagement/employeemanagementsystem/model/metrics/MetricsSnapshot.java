@@ -0,0 +1,145 @@
+package com.employeemanagement.employeemanagementsystem.model.metrics;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Point-in-time copy of every metric in a registry
+ * Latency statistics cover the interval since the previous periodic snapshot, or the whole lifetime of the
+ * registry for an on-demand snapshot. Counter and gauge values are always current totals.
+ */
+public final class MetricsSnapshot {
+
+    private final Instant timestamp;
+    private final long intervalNanos;
+    private final List<TimerStats> timers;
+    private final Map<String, Double> values;
+
+    MetricsSnapshot(Instant timestamp, long intervalNanos, List<TimerStats> timers, Map<String, Double> values) {
+        this.timestamp = timestamp;
+        this.intervalNanos = intervalNanos;
+        this.timers = Collections.unmodifiableList(timers);
+        this.values = Collections.unmodifiableMap(values);
+    }
+
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    public long getIntervalNanos() {
+        return intervalNanos;
+    }
+
+    // Every timer, sorted by component then operation
+    public List<TimerStats> getTimers() {
+        return timers;
+    }
+
+    // Statistics of one operation, null if it was never timed
+    public TimerStats getTimer(String component, String operation) {
+        for (TimerStats timer : timers) {
+            if (timer.component.equals(component) && timer.operation.equals(operation)) {
+                return timer;
+            }
+        }
+        return null;
+    }
+
+    // Counter and gauge values by metric name
+    public Map<String, Double> getValues() {
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("Metrics at %s over %.1f s%n", timestamp, intervalNanos / 1e9));
+        text.append(String.format("%-12s %-26s %10s %10s %10s %10s %10s %10s%n",
+                "component", "operation", "calls", "per sec", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        for (TimerStats timer : timers) {
+            if (timer.count == 0) {
+                continue;
+            }
+            text.append(String.format("%-12s %-26s %,10d %10.1f %10.3f %10.3f %10.3f %10.3f%n",
+                    timer.component, timer.operation, timer.count, timer.getRatePerSecond(),
+                    timer.p50 / 1e6, timer.p90 / 1e6, timer.p99 / 1e6, timer.max / 1e6));
+        }
+        values.forEach((name, value) -> text.append(String.format("%-39s %,14.0f%n", name, value)));
+        return text.toString();
+    }
+
+    /**
+     * Call count and latency percentiles (nanoseconds) of one operation
+     * Counts of a sampled timer are estimates, its percentiles come from the timed calls.
+     */
+    public static final class TimerStats {
+        private final String component;
+        private final String operation;
+        private final long totalCount;
+        private final long count;
+        private final long intervalNanos;
+        private final double mean;
+        private final long p50;
+        private final long p90;
+        private final long p99;
+        private final long max;
+
+        TimerStats(String component, String operation, long totalCount, long count,
+                   LatencyHistogram.Snapshot interval, long intervalNanos) {
+            this.component = component;
+            this.operation = operation;
+            this.totalCount = totalCount;
+            this.count = count;
+            this.intervalNanos = intervalNanos;
+            this.mean = interval.getMean();
+            this.p50 = interval.getValueAtPercentile(50);
+            this.p90 = interval.getValueAtPercentile(90);
+            this.p99 = interval.getValueAtPercentile(99);
+            this.max = interval.getMax();
+        }
+
+        public String getComponent() {
+            return component;
+        }
+
+        public String getOperation() {
+            return operation;
+        }
+
+        // Calls since the registry was created
+        public long getTotalCount() {
+            return totalCount;
+        }
+
+        // Calls within the snapshot interval
+        public long getCount() {
+            return count;
+        }
+
+        public double getRatePerSecond() {
+            return intervalNanos == 0 ? 0 : count * 1e9 / intervalNanos;
+        }
+
+        public double getMean() {
+            return mean;
+        }
+
+        public long getP50() {
+            return p50;
+        }
+
+        public long getP90() {
+            return p90;
+        }
+
+        public long getP99() {
+            return p99;
+        }
+
+        public long getMax() {
+            return max;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.employeemanagement.employeemanagementsystem.model.metrics;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latency histogram of one named operation of one component, e.g. database / find_by_name
+ * Operations that take well under a microsecond can be sampled, timing one random call in sampleEvery,
+ * because a pair of System.nanoTime() calls and the histogram update would cost more than the operation.
+ * Call counts of a sampled timer are then estimated as timed calls * sampleEvery.
+ */
+public final class OperationTimer {
+
+    // Returned by start() for calls that are not timed
+    public static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+    private final String component;
+    private final String operation;
+    private final int sampleMask;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+
+    OperationTimer(String component, String operation, int sampleEvery) {
+        if (sampleEvery < 1 || Integer.bitCount(sampleEvery) != 1) {
+            throw new IllegalArgumentException("Sample interval must be a power of two, provided: " + sampleEvery);
+        }
+        this.component = component;
+        this.operation = operation;
+        this.sampleMask = sampleEvery - 1;
+    }
+
+    // Reading to pass to stop() once the operation finishes
+    public long start() {
+        if (sampleMask != 0 && (ThreadLocalRandom.current().nextInt() & sampleMask) != 0) {
+            return NOT_SAMPLED;
+        }
+        return System.nanoTime();
+    }
+
+    public void stop(long started) {
+        if (started != NOT_SAMPLED) {
+            latencies.record(System.nanoTime() - started);
+        }
+    }
+
+    // Records the latency of a call that was timed by the caller
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    public void record(long nanos) {
+        latencies.record(nanos);
+    }
+
+    public String getComponent() {
+        return component;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    // Calls so far, exact unless the timer samples
+    public long getCallCount() {
+        return latencies.getCount() * getSampleEvery();
+    }
+
+    // 1 when every call is timed
+    public int getSampleEvery() {
+        return sampleMask + 1;
+    }
+
+    public LatencyHistogram getLatencies() {
+        return latencies;
+    }
+}
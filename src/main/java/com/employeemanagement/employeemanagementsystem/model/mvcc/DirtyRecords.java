@@ -0,0 +1,33 @@
+package com.employeemanagement.employeemanagementsystem.model.mvcc;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * A committed snapshot together with the IDs of the employees added, changed or deleted since the previous one
+ * An ID in the set that the snapshot doesn't contain was deleted. When the database wasn't tracking changes yet,
+ * isComplete() is true and every employee in the snapshot has to be treated as changed.
+ */
+public final class DirtyRecords<T> {
+    private final EmployeeSnapshot<T> snapshot;
+    private final Set<T> dirtyIds;
+
+    // Constructor, a null set means every record is dirty
+    public DirtyRecords(EmployeeSnapshot<T> snapshot, Set<T> dirtyIds) {
+        this.snapshot = snapshot;
+        this.dirtyIds = dirtyIds != null ? Collections.unmodifiableSet(dirtyIds) : null;
+    }
+
+    public EmployeeSnapshot<T> getSnapshot() {
+        return snapshot;
+    }
+
+    // True when nothing was tracked before this snapshot, getDirtyIds() is then empty
+    public boolean isComplete() {
+        return dirtyIds == null;
+    }
+
+    public Set<T> getDirtyIds() {
+        return dirtyIds != null ? dirtyIds : Collections.emptySet();
+    }
+}
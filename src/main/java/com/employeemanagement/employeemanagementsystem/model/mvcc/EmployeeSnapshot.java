@@ -0,0 +1,71 @@
+package com.employeemanagement.employeemanagementsystem.model.mvcc;
+
+import com.employeemanagement.employeemanagementsystem.exceptions.EmployeeNotFoundException;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Immutable view of every employee as of one committed version of the database
+ * Taking a snapshot costs one volatile read. Later writes build new versions of the trie and never
+ * touch this one, so a snapshot can be read for as long as needed without locks or copies.
+ * Employees in a snapshot are shared with the database and must be treated as read-only.
+ */
+public final class EmployeeSnapshot<T> implements Iterable<Employee<T>> {
+    private final PersistentEmployeeMap<T> employees;
+    private final long offset;
+
+    // Constructor
+    public EmployeeSnapshot(PersistentEmployeeMap<T> employees, long offset) {
+        this.employees = employees;
+        this.offset = offset;
+    }
+
+    //Retrieve employee by employeeId
+    public Employee<T> getEmployee(T employeeId) throws EmployeeNotFoundException {
+        Employee<T> employee = employees.get(employeeId);
+        if (employee == null) {
+            throw new EmployeeNotFoundException("Employee with ID " + employeeId + " not found");
+        }
+        return employee;
+    }
+
+    public boolean containsEmployee(T employeeId) {
+        return employees.containsKey(employeeId);
+    }
+
+    public int size() {
+        return employees.size();
+    }
+
+    public boolean isEmpty() {
+        return employees.isEmpty();
+    }
+
+    // First change log offset not reflected in the snapshot, replaying from here brings it up to date
+    public long getOffset() {
+        return offset;
+    }
+
+    // Read-only collection view of the employees
+    public Collection<Employee<T>> values() {
+        return employees.values();
+    }
+
+    public Stream<Employee<T>> stream() {
+        return employees.values().stream();
+    }
+
+    @Override
+    public Iterator<Employee<T>> iterator() {
+        return employees.iterator();
+    }
+
+    @Override
+    public void forEach(Consumer<? super Employee<T>> action) {
+        employees.forEach(action);
+    }
+}
@@ -0,0 +1,541 @@
+package com.employeemanagement.employeemanagementsystem.model.mvcc;
+
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * Immutable employee map keyed by employee ID, implemented as a persistent hash array mapped trie
+ * Each level consumes 5 bits of the ID hash and keeps a 32-bit bitmap of occupied slots, so a node only
+ * stores the children that exist. Updates copy the path from the root to the changed leaf (at most 7
+ * nodes) and share everything else with the previous version, which therefore stays valid as a snapshot.
+ * Employees are stored directly as leaves, their ID is the key.
+ * An Editor batches many updates: nodes it created itself are changed in place instead of copied again.
+ */
+public final class PersistentEmployeeMap<T> implements Iterable<Employee<T>> {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int MAX_DEPTH = 7;
+
+    private static final PersistentEmployeeMap<?> EMPTY = new PersistentEmployeeMap<>(null, 0);
+
+    private final Node root;
+    private final int size;
+
+    private PersistentEmployeeMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentEmployeeMap<T> empty() {
+        return (PersistentEmployeeMap<T>) EMPTY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Returns the employee with the ID, or null if there is none
+    @SuppressWarnings("unchecked")
+    public Employee<T> get(Object employeeId) {
+        if (root == null || employeeId == null) {
+            return null;
+        }
+        int hash = hash(employeeId);
+        Object current = root;
+        int shift = 0;
+        while (current instanceof Node node) {
+            int bit = bit(hash, shift);
+            if ((node.bitmap & bit) == 0) {
+                return null;
+            }
+            current = node.array[index(node.bitmap, bit)];
+            shift += BITS;
+        }
+        if (current instanceof Collision collision) {
+            int position = collision.indexOf(employeeId);
+            return position < 0 ? null : (Employee<T>) collision.entries[position];
+        }
+        Employee<T> employee = (Employee<T>) current;
+        return employeeId.equals(employee.getEmployeeId()) ? employee : null;
+    }
+
+    public boolean containsKey(Object employeeId) {
+        return get(employeeId) != null;
+    }
+
+    // Returns a map that also contains the employee, replacing any employee with the same ID
+    public PersistentEmployeeMap<T> with(Employee<T> employee) {
+        Editor<T> editor = new Editor<>(this, null);
+        editor.put(employee);
+        return editor.root == root ? this : new PersistentEmployeeMap<>(editor.root, editor.size);
+    }
+
+    // Returns a map without the employee with the ID
+    public PersistentEmployeeMap<T> without(Object employeeId) {
+        Editor<T> editor = new Editor<>(this, null);
+        editor.remove(employeeId);
+        return editor.root == root ? this : new PersistentEmployeeMap<>(editor.root, editor.size);
+    }
+
+    // Starts a batch of updates on top of this map, the map itself stays unchanged
+    public Editor<T> edit() {
+        return new Editor<>(this, new Object());
+    }
+
+    // Read-only collection view, iteration never sees later versions
+    public Collection<Employee<T>> values() {
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<Employee<T>> iterator() {
+                return PersistentEmployeeMap.this.iterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            // Filled by recursion rather than the iterator, this is what ArrayList copies use
+            @Override
+            public Object[] toArray() {
+                Object[] array = new Object[size];
+                int[] position = {0};
+                PersistentEmployeeMap.this.forEach(employee -> array[position[0]++] = employee);
+                return array;
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return o instanceof Employee<?> employee && get(employee.getEmployeeId()) == employee;
+            }
+        };
+    }
+
+    @Override
+    public Iterator<Employee<T>> iterator() {
+        return new TrieIterator<>(this);
+    }
+
+    // Visits every employee, faster than the iterator because it recurses instead of keeping a stack
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super Employee<T>> action) {
+        if (root != null) {
+            forEach(root, (Consumer<Object>) action);
+        }
+    }
+
+    private static void forEach(Object entry, Consumer<Object> action) {
+        if (entry instanceof Node node) {
+            for (Object child : node.array) {
+                forEach(child, action);
+            }
+        } else if (entry instanceof Collision collision) {
+            for (Object employee : collision.entries) {
+                action.accept(employee);
+            }
+        } else {
+            action.accept(entry);
+        }
+    }
+
+    // Trie shape, for memory estimates
+    public int getNodeCount() {
+        return root == null ? 0 : countNodes(root);
+    }
+
+    private static int countNodes(Object entry) {
+        if (!(entry instanceof Node node)) {
+            return entry instanceof Collision ? 1 : 0;
+        }
+        int count = 1;
+        for (Object child : node.array) {
+            count += countNodes(child);
+        }
+        return count;
+    }
+
+    /**
+     * Batch of updates producing a new map
+     * Not thread-safe, and must not be used after toMap().
+     */
+    public static final class Editor<T> {
+        // Marks nodes this editor created, null for single persistent updates
+        private Object edit;
+        private Node root;
+        private int size;
+
+        private Editor(PersistentEmployeeMap<T> base, Object edit) {
+            this.root = base.root;
+            this.size = base.size;
+            this.edit = edit;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        @SuppressWarnings("unchecked")
+        public Employee<T> get(Object employeeId) {
+            return new PersistentEmployeeMap<T>(root, size).get(employeeId);
+        }
+
+        // Adds or replaces the employee with the same ID
+        public void put(Employee<T> employee) {
+            ensureOpen();
+            if (employee == null || employee.getEmployeeId() == null) {
+                throw new IllegalArgumentException("Employee and employee ID cannot be null");
+            }
+            Object key = employee.getEmployeeId();
+            int hash = hash(key);
+            if (root == null) {
+                root = new Node(edit, bit(hash, 0), new Object[]{employee});
+                size = 1;
+                return;
+            }
+            boolean[] added = new boolean[1];
+            root = (Node) put(root, employee, key, hash, 0, added);
+            if (added[0]) {
+                size++;
+            }
+        }
+
+        // Removes the employee with the ID, returns whether it was present
+        public boolean remove(Object employeeId) {
+            ensureOpen();
+            if (root == null || employeeId == null) {
+                return false;
+            }
+            boolean[] removed = new boolean[1];
+            Object result = remove(root, employeeId, hash(employeeId), 0, removed);
+            if (!removed[0]) {
+                return false;
+            }
+            size--;
+            if (result == null) {
+                root = null;
+            } else if (result instanceof Node node) {
+                root = node;
+            } else {
+                // A lone leaf or collision needs a node above it to be reachable from the root
+                root = new Node(edit, bit(leafHash(result), 0), new Object[]{result});
+            }
+            return true;
+        }
+
+        // Finishes the batch
+        public PersistentEmployeeMap<T> toMap() {
+            ensureOpen();
+            if (edit != null) {
+                // Nodes keep the token, but nobody can edit with it any more
+                edit = Closed.TOKEN;
+            }
+            return new PersistentEmployeeMap<>(root, size);
+        }
+
+        private void ensureOpen() {
+            if (edit == Closed.TOKEN) {
+                throw new IllegalStateException("Editor was already turned into a map");
+            }
+        }
+
+        private Object put(Object entry, Employee<T> employee, Object key, int hash, int shift, boolean[] added) {
+            if (entry instanceof Node node) {
+                int bit = bit(hash, shift);
+                int index = index(node.bitmap, bit);
+                if ((node.bitmap & bit) == 0) {
+                    added[0] = true;
+                    Object[] array = new Object[node.array.length + 1];
+                    System.arraycopy(node.array, 0, array, 0, index);
+                    array[index] = employee;
+                    System.arraycopy(node.array, index, array, index + 1, node.array.length - index);
+                    if (owns(node)) {
+                        node.bitmap |= bit;
+                        node.array = array;
+                        return node;
+                    }
+                    return new Node(edit, node.bitmap | bit, array);
+                }
+                Object child = node.array[index];
+                Object updated = put(child, employee, key, hash, shift + BITS, added);
+                return updated == child ? node : replaceChild(node, index, updated);
+            }
+            if (entry instanceof Collision collision) {
+                if (collision.hash != hash) {
+                    added[0] = true;
+                    return merge(collision, collision.hash, employee, hash, shift);
+                }
+                int position = collision.indexOf(key);
+                if (position >= 0) {
+                    if (collision.entries[position] == employee) {
+                        return collision;
+                    }
+                    Object[] entries = owns(collision) ? collision.entries : collision.entries.clone();
+                    entries[position] = employee;
+                    return owns(collision) ? collision : new Collision(edit, hash, entries);
+                }
+                added[0] = true;
+                Object[] entries = new Object[collision.entries.length + 1];
+                System.arraycopy(collision.entries, 0, entries, 0, collision.entries.length);
+                entries[collision.entries.length] = employee;
+                return new Collision(edit, hash, entries);
+            }
+            Employee<?> existing = (Employee<?>) entry;
+            if (key.equals(existing.getEmployeeId())) {
+                return existing == employee ? entry : employee;
+            }
+            added[0] = true;
+            return merge(existing, hash(existing.getEmployeeId()), employee, hash, shift);
+        }
+
+        private Object remove(Object entry, Object key, int hash, int shift, boolean[] removed) {
+            if (entry instanceof Node node) {
+                int bit = bit(hash, shift);
+                if ((node.bitmap & bit) == 0) {
+                    return node;
+                }
+                int index = index(node.bitmap, bit);
+                Object child = node.array[index];
+                Object updated = remove(child, key, hash, shift + BITS, removed);
+                if (updated == child) {
+                    return node;
+                }
+                if (updated != null) {
+                    // A node left with a single leaf collapses into that leaf
+                    if (node.array.length == 1 && !(updated instanceof Node) && shift > 0) {
+                        return updated;
+                    }
+                    return replaceChild(node, index, updated);
+                }
+                if (node.array.length == 1) {
+                    return null;
+                }
+                Object[] array = new Object[node.array.length - 1];
+                System.arraycopy(node.array, 0, array, 0, index);
+                System.arraycopy(node.array, index + 1, array, index, array.length - index);
+                if (array.length == 1 && !(array[0] instanceof Node) && shift > 0) {
+                    return array[0];
+                }
+                if (owns(node)) {
+                    node.bitmap &= ~bit;
+                    node.array = array;
+                    return node;
+                }
+                return new Node(edit, node.bitmap & ~bit, array);
+            }
+            if (entry instanceof Collision collision) {
+                int position = collision.hash == hash ? collision.indexOf(key) : -1;
+                if (position < 0) {
+                    return collision;
+                }
+                removed[0] = true;
+                if (collision.entries.length == 2) {
+                    return collision.entries[1 - position];
+                }
+                Object[] entries = new Object[collision.entries.length - 1];
+                System.arraycopy(collision.entries, 0, entries, 0, position);
+                System.arraycopy(collision.entries, position + 1, entries, position, entries.length - position);
+                return new Collision(edit, hash, entries);
+            }
+            Employee<?> existing = (Employee<?>) entry;
+            if (!key.equals(existing.getEmployeeId())) {
+                return entry;
+            }
+            removed[0] = true;
+            return null;
+        }
+
+        private Node replaceChild(Node node, int index, Object child) {
+            if (owns(node)) {
+                node.array[index] = child;
+                return node;
+            }
+            Object[] array = node.array.clone();
+            array[index] = child;
+            return new Node(edit, node.bitmap, array);
+        }
+
+        // Builds the smallest subtree holding two leaves whose hashes differ or collide completely
+        private Object merge(Object first, int firstHash, Object second, int secondHash, int shift) {
+            if (firstHash == secondHash) {
+                return new Collision(edit, firstHash, new Object[]{first, second});
+            }
+            if (shift >= BITS * MAX_DEPTH) {
+                throw new IllegalStateException("Hashes " + firstHash + " and " + secondHash + " differ beyond the trie depth");
+            }
+            int firstBit = bit(firstHash, shift);
+            int secondBit = bit(secondHash, shift);
+            if (firstBit == secondBit) {
+                return new Node(edit, firstBit, new Object[]{merge(first, firstHash, second, secondHash, shift + BITS)});
+            }
+            Object[] array = Integer.compareUnsigned(firstBit, secondBit) < 0
+                    ? new Object[]{first, second}
+                    : new Object[]{second, first};
+            return new Node(edit, firstBit | secondBit, array);
+        }
+
+        private boolean owns(Node node) {
+            return edit != null && node.edit == edit;
+        }
+
+        private boolean owns(Collision collision) {
+            return edit != null && collision.edit == edit;
+        }
+    }
+
+    // Internals
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int leafHash(Object entry) {
+        return entry instanceof Collision collision ? collision.hash : hash(((Employee<?>) entry).getEmployeeId());
+    }
+
+    private static int bit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private static int index(int bitmap, int bit) {
+        return Integer.bitCount(bitmap & (bit - 1));
+    }
+
+    // Children are either employees, nodes or collisions, in slot order
+    private static final class Node {
+        private final Object edit;
+        private int bitmap;
+        private Object[] array;
+
+        Node(Object edit, int bitmap, Object[] array) {
+            this.edit = edit;
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+    }
+
+    // Employees whose IDs have exactly the same hash
+    private static final class Collision {
+        private final Object edit;
+        private final int hash;
+        private final Object[] entries;
+
+        Collision(Object edit, int hash, Object[] entries) {
+            this.edit = edit;
+            this.hash = hash;
+            this.entries = entries;
+        }
+
+        int indexOf(Object key) {
+            for (int i = 0; i < entries.length; i++) {
+                if (key.equals(((Employee<?>) entries[i]).getEmployeeId())) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    private static final class Closed {
+        private static final Object TOKEN = new Object();
+    }
+
+    /**
+     * Reusable depth-first walk over one version with an explicit stack
+     * open re-points the cursor at a version, so one instance serves any number of scans without allocating.
+     * Not thread-safe.
+     */
+    public static final class Cursor<T> {
+        private final Object[][] arrays = new Object[MAX_DEPTH + 2][];
+        private final int[] positions = new int[MAX_DEPTH + 2];
+        private int depth = -1;
+        private boolean open;
+
+        // Starts a walk over the version, dropping what was left of the previous one
+        public Cursor<T> open(PersistentEmployeeMap<T> map) {
+            close();
+            open = true;
+            if (map.root != null) {
+                push(map.root.array);
+            }
+            return this;
+        }
+
+        // True between open and close, also once the walk has reached the end
+        public boolean isOpen() {
+            return open;
+        }
+
+        // Next employee in trie order, null once every employee has been returned
+        @SuppressWarnings("unchecked")
+        public Employee<T> next() {
+            while (depth >= 0) {
+                if (positions[depth] == arrays[depth].length) {
+                    arrays[depth] = null;
+                    depth--;
+                    continue;
+                }
+                Object entry = arrays[depth][positions[depth]++];
+                if (entry instanceof Node node) {
+                    push(node.array);
+                } else if (entry instanceof Collision collision) {
+                    push(collision.entries);
+                } else {
+                    return (Employee<T>) entry;
+                }
+            }
+            return null;
+        }
+
+        // Releases the version so it can be collected while the cursor waits for its next use
+        public void close() {
+            while (depth >= 0) {
+                arrays[depth--] = null;
+            }
+            open = false;
+        }
+
+        private void push(Object[] array) {
+            depth++;
+            arrays[depth] = array;
+            positions[depth] = 0;
+        }
+    }
+
+    private static final class TrieIterator<T> implements Iterator<Employee<T>> {
+        private final Cursor<T> cursor;
+        private Employee<T> next;
+
+        TrieIterator(PersistentEmployeeMap<T> map) {
+            cursor = new Cursor<T>().open(map);
+            next = cursor.next();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Employee<T> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Employee<T> result = next;
+            next = cursor.next();
+            return result;
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.employeemanagement.employeemanagementsystem.model.names;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Deduplicated storage for employee names
+ * A name is split at its first space into a first name and a last name (the rest). Each distinct part is one
+ * shared NameToken held as Latin-1 bytes (UTF-16 only when a part needs it), and an employee keeps a reference
+ * to its two tokens. Strings are only built when getEmployeeName() is called.
+ * Reads never touch the pool: tokens are immutable and resolve() and nameContains() only read them. Interning
+ * locks one of 16 segments per dictionary, and the dictionaries hold tokens weakly, so a part no employee uses
+ * any more is reclaimed by the garbage collector.
+ */
+public final class EmployeeNamePool {
+
+    private static final int SEGMENT_BITS = 4;
+
+    private static final EmployeeNamePool SHARED = new EmployeeNamePool();
+
+    private final TokenDictionary firstNames = new TokenDictionary();
+    private final TokenDictionary lastNames = new TokenDictionary();
+
+    // Pool used by every Employee instance
+    public static EmployeeNamePool shared() {
+        return SHARED;
+    }
+
+    // Token of the part before the first space (the whole name when there is none), null for a null name
+    public NameToken internFirstName(String name) {
+        if (name == null) {
+            return null;
+        }
+        int space = name.indexOf(' ');
+        return firstNames.intern(name, 0, space < 0 ? name.length() : space);
+    }
+
+    // Token of the part after the first space, null when the name has no space
+    public NameToken internLastName(String name) {
+        if (name == null) {
+            return null;
+        }
+        int space = name.indexOf(' ');
+        return space < 0 ? null : lastNames.intern(name, space + 1, name.length());
+    }
+
+    // Builds the String for a name from its tokens
+    public static String resolve(NameToken firstName, NameToken lastName) {
+        if (firstName == null) {
+            return null;
+        }
+        if (lastName == null) {
+            return firstName.toString();
+        }
+        // Fast path, both parts are Latin-1 so the name is built from one byte array
+        if (firstName.isLatin1() && lastName.isLatin1()) {
+            int firstLength = firstName.length();
+            byte[] bytes = new byte[firstLength + 1 + lastName.length()];
+            firstName.copyBytes(bytes, 0);
+            bytes[firstLength] = ' ';
+            lastName.copyBytes(bytes, firstLength + 1);
+            return new String(bytes, StandardCharsets.ISO_8859_1);
+        }
+        return firstName.toString() + ' ' + lastName.toString();
+    }
+
+    // Lower-cases a search term with the rule nameContains() applies to names: Character.toLowerCase on each char,
+    // whatever the default locale. Returns the term itself when it has no upper-case char.
+    public static String toLowerCase(String term) {
+        for (int i = 0; i < term.length(); i++) {
+            if (Character.toLowerCase(term.charAt(i)) != term.charAt(i)) {
+                char[] chars = term.toCharArray();
+                for (int j = i; j < chars.length; j++) {
+                    chars[j] = Character.toLowerCase(chars[j]);
+                }
+                return new String(chars);
+            }
+        }
+        return term;
+    }
+
+    // Whether the name contains a term lower-cased by toLowerCase(), compared char by char without building the String
+    public static boolean nameContains(NameToken firstName, NameToken lastName, String lowerCaseTerm) {
+        if (firstName == null) {
+            return false;
+        }
+        int firstLength = firstName.length();
+        int length = lastName == null ? firstLength : firstLength + 1 + lastName.length();
+        int termLength = lowerCaseTerm.length();
+        for (int start = 0; start + termLength <= length; start++) {
+            int matched = 0;
+            while (matched < termLength &&
+                    Character.toLowerCase(charAt(firstName, lastName, start + matched)) == lowerCaseTerm.charAt(matched)) {
+                matched++;
+            }
+            if (matched == termLength) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static char charAt(NameToken firstName, NameToken lastName, int index) {
+        int firstLength = firstName.length();
+        if (index < firstLength) {
+            return firstName.charAt(index);
+        }
+        if (index == firstLength) {
+            return ' ';
+        }
+        return lastName.charAt(index - firstLength - 1);
+    }
+
+    // Number of distinct first name parts still in use
+    public int getFirstNameCount() {
+        return firstNames.size();
+    }
+
+    // Number of distinct last name parts still in use
+    public int getLastNameCount() {
+        return lastNames.size();
+    }
+
+    // Bytes held by both dictionaries and their tokens
+    public long getRetainedBytes() {
+        return firstNames.retainedBytes() + lastNames.retainedBytes();
+    }
+
+    /**
+     * Weak hash set of tokens, split into segments locked independently
+     * The segment is picked from the top bits of the hash and the bucket from the low bits.
+     */
+    private static final class TokenDictionary {
+        private final Segment[] segments = new Segment[1 << SEGMENT_BITS];
+
+        TokenDictionary() {
+            for (int i = 0; i < segments.length; i++) {
+                segments[i] = new Segment();
+            }
+        }
+
+        NameToken intern(String source, int start, int end) {
+            int hash = hash(source, start, end);
+            return segments[hash >>> (Integer.SIZE - SEGMENT_BITS)].intern(source, start, end, hash);
+        }
+
+        int size() {
+            int size = 0;
+            for (Segment segment : segments) {
+                size += segment.size();
+            }
+            return size;
+        }
+
+        long retainedBytes() {
+            long bytes = 0;
+            for (Segment segment : segments) {
+                bytes += segment.retainedBytes();
+            }
+            return bytes;
+        }
+
+        private static int hash(String source, int start, int end) {
+            int hash = 0;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + source.charAt(i);
+            }
+            // Spreads String-style hashes over both the segment and the bucket bits
+            hash *= 0x9E3779B9;
+            return hash ^ (hash >>> 16);
+        }
+    }
+
+    // Chained hash table of weak entries, cleared entries are dropped before every lookup
+    private static final class Segment {
+        private final ReferenceQueue<NameToken> cleared = new ReferenceQueue<>();
+        private Entry[] table = new Entry[64];
+        private int size;
+
+        synchronized NameToken intern(String source, int start, int end, int hash) {
+            expungeCleared();
+            int index = hash & (table.length - 1);
+            for (Entry entry = table[index]; entry != null; entry = entry.next) {
+                if (entry.hash == hash) {
+                    NameToken token = entry.get();
+                    if (token != null && token.matches(source, start, end)) {
+                        return token;
+                    }
+                }
+            }
+            NameToken token = new NameToken(source, start, end, hash);
+            table[index] = new Entry(token, table[index], cleared);
+            if (++size > table.length - (table.length >>> 2)) {
+                resize();
+            }
+            return token;
+        }
+
+        synchronized int size() {
+            expungeCleared();
+            return size;
+        }
+
+        synchronized long retainedBytes() {
+            expungeCleared();
+            long bytes = 16 + 4L * table.length;
+            for (Entry head : table) {
+                for (Entry entry = head; entry != null; entry = entry.next) {
+                    NameToken token = entry.get();
+                    bytes += 40 + (token != null ? token.retainedBytes() : 0);
+                }
+            }
+            return bytes;
+        }
+
+        private void expungeCleared() {
+            Reference<? extends NameToken> reference;
+            while ((reference = cleared.poll()) != null) {
+                Entry removed = (Entry) reference;
+                int index = removed.hash & (table.length - 1);
+                Entry previous = null;
+                for (Entry entry = table[index]; entry != null; previous = entry, entry = entry.next) {
+                    if (entry == removed) {
+                        if (previous == null) {
+                            table[index] = entry.next;
+                        } else {
+                            previous.next = entry.next;
+                        }
+                        size--;
+                        break;
+                    }
+                }
+            }
+        }
+
+        private void resize() {
+            Entry[] newTable = new Entry[table.length * 2];
+            int mask = newTable.length - 1;
+            for (Entry head : table) {
+                Entry entry = head;
+                while (entry != null) {
+                    Entry next = entry.next;
+                    int index = entry.hash & mask;
+                    entry.next = newTable[index];
+                    newTable[index] = entry;
+                    entry = next;
+                }
+            }
+            table = newTable;
+        }
+    }
+
+    private static final class Entry extends WeakReference<NameToken> {
+        private final int hash;
+        private Entry next;
+
+        Entry(NameToken token, Entry next, ReferenceQueue<NameToken> queue) {
+            super(token, queue);
+            this.hash = token.hash();
+            this.next = next;
+        }
+    }
+}
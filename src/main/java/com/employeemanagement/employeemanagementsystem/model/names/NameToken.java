@@ -0,0 +1,84 @@
+package com.employeemanagement.employeemanagementsystem.model.names;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * One distinct first or last name part, shared by every employee whose name contains it
+ * Held as Latin-1 bytes when every char fits, as UTF-16 bytes otherwise. Immutable, so it is read without locking.
+ */
+public final class NameToken {
+
+    private final byte[] bytes;
+    private final boolean latin1;
+    private final int hash;
+
+    NameToken(String source, int start, int end, int hash) {
+        boolean fitsLatin1 = true;
+        for (int i = start; i < end; i++) {
+            if (source.charAt(i) > 0xFF) {
+                fitsLatin1 = false;
+                break;
+            }
+        }
+        this.latin1 = fitsLatin1;
+        this.hash = hash;
+        this.bytes = new byte[fitsLatin1 ? end - start : (end - start) * 2];
+        int position = 0;
+        for (int i = start; i < end; i++) {
+            char c = source.charAt(i);
+            if (fitsLatin1) {
+                bytes[position++] = (byte) c;
+            } else {
+                bytes[position++] = (byte) (c >>> 8);
+                bytes[position++] = (byte) c;
+            }
+        }
+    }
+
+    // Number of chars in the token
+    public int length() {
+        return latin1 ? bytes.length : bytes.length / 2;
+    }
+
+    public char charAt(int index) {
+        if (latin1) {
+            return (char) (bytes[index] & 0xFF);
+        }
+        return (char) (((bytes[index * 2] & 0xFF) << 8) | (bytes[index * 2 + 1] & 0xFF));
+    }
+
+    boolean isLatin1() {
+        return latin1;
+    }
+
+    int hash() {
+        return hash;
+    }
+
+    // Copies the Latin-1 bytes into a buffer, only valid for Latin-1 tokens
+    void copyBytes(byte[] target, int offset) {
+        System.arraycopy(bytes, 0, target, offset, bytes.length);
+    }
+
+    boolean matches(String source, int start, int end) {
+        if (length() != end - start) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (charAt(i - start) != source.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Heap held by the token and its bytes (compressed oops)
+    long retainedBytes() {
+        return 24 + 16 + ((bytes.length + 7) & ~7);
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, latin1 ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_16BE);
+    }
+}
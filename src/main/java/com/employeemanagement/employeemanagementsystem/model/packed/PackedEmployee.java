@@ -0,0 +1,73 @@
+package com.employeemanagement.employeemanagementsystem.model.packed;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+
+/**
+ * Reusable read-only view of one record in a PackedEmployeeStore
+ * A flyweight is re-pointed by every read or scan, so callers can reuse one instance instead of
+ * allocating an Employee per row. Use toEmployee() to keep a record beyond the current callback.
+ */
+public class PackedEmployee<T> {
+
+    private PackedEmployeeStore<T> store;
+    private int slot = -1;
+
+    void bind(PackedEmployeeStore<T> store, int slot) {
+        this.store = store;
+        this.slot = slot;
+    }
+
+    // Whether the flyweight currently points at a stored record
+    public boolean isBound() {
+        return store != null && store.isLive(slot);
+    }
+
+    public T getEmployeeId() {
+        return store().idOf(slot);
+    }
+
+    // Builds the name String from the name pool
+    public String getEmployeeName() {
+        return store().nameOf(slot);
+    }
+
+    public EEmployeeDepartment getEmployeeDepartment() {
+        return store().departmentOf(slot);
+    }
+
+    public double getEmployeeSalary() {
+        return store().salaryOf(slot);
+    }
+
+    // Rating rounded to 4 decimals
+    public double getPerformanceRating() {
+        return store().ratingOf(slot);
+    }
+
+    public int getYearsOfExperience() {
+        return store().experienceOf(slot);
+    }
+
+    public boolean isActive() {
+        return store().activeOf(slot);
+    }
+
+    // Copies the current record into a new Employee
+    public Employee<T> toEmployee() {
+        return new Employee<>(getEmployeeId(), getEmployeeName(), getEmployeeDepartment(), getEmployeeSalary(),
+                getPerformanceRating(), getYearsOfExperience(), isActive());
+    }
+
+    private PackedEmployeeStore<T> store() {
+        if (!isBound()) {
+            throw new IllegalStateException("Packed employee is not bound to a stored record");
+        }
+        return store;
+    }
+
+    @Override
+    public String toString() {
+        return isBound() ? "Packed" + toEmployee() : "PackedEmployee{unbound}";
+    }
+}
@@ -0,0 +1,309 @@
+package com.employeemanagement.employeemanagementsystem.model.packed;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.names.EmployeeNamePool;
+import com.employeemanagement.employeemanagementsystem.model.names.NameToken;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Column-packed employee storage read through reusable PackedEmployee flyweights
+ * Each record takes one slot in a few primitive arrays instead of an Employee object:
+ *  - attributes (long): department ordinal + 1 (3 bits), active (1 bit), years of experience (28 bits, signed)
+ *    and performance rating as fixed point with 4 decimals (32 bits, signed)
+ *  - salary (double), the two NameToken references of the name (see EmployeeNamePool) and a reference to the ID
+ * IDs are located with an open-addressing int table, so lookups don't allocate.
+ * Ratings are rounded to 4 decimals; ratings and experience outside the packed ranges saturate.
+ */
+public class PackedEmployeeStore<T> {
+
+    // Rating fixed-point scale (4 decimals)
+    public static final double RATING_SCALE = 10_000.0;
+
+    private static final int DEPARTMENT_BITS = 3;
+    private static final int EXPERIENCE_BITS = 28;
+    private static final int ACTIVE_SHIFT = DEPARTMENT_BITS;
+    private static final int EXPERIENCE_SHIFT = ACTIVE_SHIFT + 1;
+    private static final int RATING_SHIFT = EXPERIENCE_SHIFT + EXPERIENCE_BITS;
+    private static final int MAX_EXPERIENCE = (1 << (EXPERIENCE_BITS - 1)) - 1;
+    private static final int MIN_EXPERIENCE = -(1 << (EXPERIENCE_BITS - 1));
+
+    private static final EEmployeeDepartment[] DEPARTMENTS = EEmployeeDepartment.values();
+
+    private long[] attributes;
+    private double[] salaries;
+    private NameToken[] firstNames;
+    private NameToken[] lastNames;
+    private Object[] ids;
+    private int slotCount;
+
+    // Slots freed by deletes, reused before growing
+    private int[] freeSlots = new int[8];
+    private int freeCount;
+    private int size;
+
+    // Slot + 1 for each ID (0 = empty), linear probing with backward-shift deletes
+    private int[] table;
+
+    // Constructor
+    public PackedEmployeeStore() {
+        this(16);
+    }
+
+    public PackedEmployeeStore(int initialCapacity) {
+        int capacity = Math.max(4, initialCapacity);
+        this.attributes = new long[capacity];
+        this.salaries = new double[capacity];
+        this.firstNames = new NameToken[capacity];
+        this.lastNames = new NameToken[capacity];
+        this.ids = new Object[capacity];
+        this.table = new int[tableSizeFor(capacity)];
+    }
+
+    // Inserts or replaces the record for the employee's ID
+    public void put(Employee<T> employee) {
+        T employeeId = employee.getEmployeeId();
+        if (employeeId == null) {
+            throw new IllegalArgumentException("Employee ID cannot be null");
+        }
+        int slot = findSlot(employeeId);
+        if (slot < 0) {
+            slot = allocateSlot();
+            ids[slot] = employeeId;
+            insertIntoTable(slot);
+            size++;
+        }
+        attributes[slot] = pack(employee);
+        salaries[slot] = employee.getEmployeeSalary();
+        firstNames[slot] = employee.getFirstNameToken();
+        lastNames[slot] = employee.getLastNameToken();
+    }
+
+    // Removes the record for an ID, returns false if it was not stored
+    public boolean remove(T employeeId) {
+        int tableIndex = findTableIndex(employeeId);
+        if (tableIndex < 0) {
+            return false;
+        }
+        int slot = table[tableIndex] - 1;
+        deleteFromTable(tableIndex);
+        ids[slot] = null;
+        // Lets the name parts be reclaimed once no employee uses them
+        firstNames[slot] = null;
+        lastNames[slot] = null;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+        size--;
+        return true;
+    }
+
+    // Points the flyweight at the record for an ID, returns false if it is not stored
+    public boolean read(T employeeId, PackedEmployee<T> target) {
+        int slot = findSlot(employeeId);
+        if (slot < 0) {
+            return false;
+        }
+        target.bind(this, slot);
+        return true;
+    }
+
+    public boolean contains(T employeeId) {
+        return findSlot(employeeId) >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Scans (the flyweight is reused for every record, copy it with toEmployee() to keep one)
+
+    // Visits every stored record
+    public void forEach(PackedEmployee<T> flyweight, Consumer<? super PackedEmployee<T>> consumer) {
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (ids[slot] != null) {
+                flyweight.bind(this, slot);
+                consumer.accept(flyweight);
+            }
+        }
+    }
+
+    // Visits records with a rating at or above the minimum
+    public void forEachWithMinRating(double minRating, PackedEmployee<T> flyweight, Consumer<? super PackedEmployee<T>> consumer) {
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (ids[slot] != null && ratingOf(slot) >= minRating) {
+                flyweight.bind(this, slot);
+                consumer.accept(flyweight);
+            }
+        }
+    }
+
+    // Visits records with a salary in the range (inclusive)
+    public void forEachInSalaryRange(double minSalary, double maxSalary, PackedEmployee<T> flyweight,
+                                     Consumer<? super PackedEmployee<T>> consumer) {
+        for (int slot = 0; slot < slotCount; slot++) {
+            double salary = salaries[slot];
+            if (ids[slot] != null && salary >= minSalary && salary <= maxSalary) {
+                flyweight.bind(this, slot);
+                consumer.accept(flyweight);
+            }
+        }
+    }
+
+    // Visits records in a department
+    public void forEachInDepartment(EEmployeeDepartment department, PackedEmployee<T> flyweight,
+                                    Consumer<? super PackedEmployee<T>> consumer) {
+        long code = department.ordinal() + 1;
+        long mask = (1L << DEPARTMENT_BITS) - 1;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (ids[slot] != null && (attributes[slot] & mask) == code) {
+                flyweight.bind(this, slot);
+                consumer.accept(flyweight);
+            }
+        }
+    }
+
+    // Approximate heap used by the store's arrays
+    public long getRetainedBytes() {
+        long perSlot = Long.BYTES + Double.BYTES + Long.BYTES + Integer.BYTES;
+        return perSlot * attributes.length + (long) Integer.BYTES * (table.length + freeSlots.length);
+    }
+
+    // Decoding, used by PackedEmployee
+
+    @SuppressWarnings("unchecked")
+    T idOf(int slot) {
+        return (T) ids[slot];
+    }
+
+    String nameOf(int slot) {
+        return EmployeeNamePool.resolve(firstNames[slot], lastNames[slot]);
+    }
+
+    EEmployeeDepartment departmentOf(int slot) {
+        int code = (int) (attributes[slot] & ((1L << DEPARTMENT_BITS) - 1));
+        return code == 0 ? null : DEPARTMENTS[code - 1];
+    }
+
+    boolean activeOf(int slot) {
+        return ((attributes[slot] >>> ACTIVE_SHIFT) & 1L) != 0;
+    }
+
+    int experienceOf(int slot) {
+        // Shift left then arithmetic shift right to restore the sign
+        return (int) ((attributes[slot] << (Long.SIZE - RATING_SHIFT)) >> (Long.SIZE - EXPERIENCE_BITS));
+    }
+
+    double ratingOf(int slot) {
+        return ((int) (attributes[slot] >>> RATING_SHIFT)) / RATING_SCALE;
+    }
+
+    double salaryOf(int slot) {
+        return salaries[slot];
+    }
+
+    boolean isLive(int slot) {
+        return slot < slotCount && ids[slot] != null;
+    }
+
+    // Packing
+
+    private static long pack(Employee<?> employee) {
+        EEmployeeDepartment department = employee.getEmployeeDepartment();
+        long departmentCode = department == null ? 0 : department.ordinal() + 1;
+        long active = employee.isActive() ? 1L : 0L;
+        int clampedExperience = Math.max(MIN_EXPERIENCE, Math.min(MAX_EXPERIENCE, employee.getYearsOfExperience()));
+        long experience = clampedExperience & ((1L << EXPERIENCE_BITS) - 1);
+        long scaledRating = Math.round(employee.getPerformanceRating() * RATING_SCALE);
+        long rating = Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, scaledRating)) & 0xFFFFFFFFL;
+        return departmentCode | (active << ACTIVE_SHIFT) | (experience << EXPERIENCE_SHIFT) | (rating << RATING_SHIFT);
+    }
+
+    // Slot management
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (slotCount == attributes.length) {
+            int capacity = slotCount * 2;
+            attributes = Arrays.copyOf(attributes, capacity);
+            salaries = Arrays.copyOf(salaries, capacity);
+            firstNames = Arrays.copyOf(firstNames, capacity);
+            lastNames = Arrays.copyOf(lastNames, capacity);
+            ids = Arrays.copyOf(ids, capacity);
+            rehash(tableSizeFor(capacity));
+        }
+        return slotCount++;
+    }
+
+    // ID table
+
+    private int findSlot(Object employeeId) {
+        int tableIndex = findTableIndex(employeeId);
+        return tableIndex < 0 ? -1 : table[tableIndex] - 1;
+    }
+
+    private int findTableIndex(Object employeeId) {
+        if (employeeId == null) {
+            return -1;
+        }
+        int mask = table.length - 1;
+        int index = hash(employeeId) & mask;
+        while (table[index] != 0) {
+            if (employeeId.equals(ids[table[index] - 1])) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void insertIntoTable(int slot) {
+        int mask = table.length - 1;
+        int index = hash(ids[slot]) & mask;
+        while (table[index] != 0) {
+            index = (index + 1) & mask;
+        }
+        table[index] = slot + 1;
+    }
+
+    // Backward-shift delete keeps probe chains intact without tombstones
+    private void deleteFromTable(int index) {
+        int mask = table.length - 1;
+        int gap = index;
+        int next = (gap + 1) & mask;
+        while (table[next] != 0) {
+            int home = hash(ids[table[next] - 1]) & mask;
+            // Move the entry back if its home is not in (gap, next]
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                table[gap] = table[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        table[gap] = 0;
+    }
+
+    private void rehash(int tableSize) {
+        table = new int[tableSize];
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (ids[slot] != null) {
+                insertIntoTable(slot);
+            }
+        }
+    }
+
+    // Table is kept at most half full
+    private static int tableSizeFor(int capacity) {
+        return Integer.highestOneBit(Math.max(4, capacity) * 2 - 1) << 1;
+    }
+
+    private static int hash(Object employeeId) {
+        int hash = employeeId.hashCode() * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,183 @@
+package com.employeemanagement.employeemanagementsystem.model.protocol;
+
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidDepartmentException;
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeCodec;
+import com.employeemanagement.employeemanagementsystem.model.history.EmployeeField;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Length-prefixed binary protocol spoken by EmployeeServer and EmployeeClient, all numbers are big-endian
+ * Request:  int32 length | uint8 opcode | int32 request ID | payload
+ * Response: int32 length | uint8 status | int32 request ID | payload
+ * The length counts the bytes after the length field. Responses on a connection come back in request order and
+ * echo the request ID, so a client can send many requests before reading any response.
+ *
+ * Payloads:
+ *   GET_EMPLOYEE     int32 ID                          -> employee
+ *   UPDATE_EMPLOYEE  int32 ID, uint8 field, value      -> empty
+ *   ADD_EMPLOYEE     employee                          -> empty
+ *   DELETE_EMPLOYEE  int32 ID                          -> empty
+ *   COUNT            empty                             -> int32 employee count
+ *   error responses  string message
+ * Employee: EmployeeCodec encoding (int32 ID, name, uint8 department, float64 salary, float64 rating,
+ *           int32 experience, uint8 active)
+ * String:   uint16 byte length, UTF-8 bytes
+ * Field values use the type of the field: string, uint8 department, float64, int32 or uint8 boolean.
+ */
+public final class BinaryProtocol {
+
+    // Opcodes
+    public static final byte GET_EMPLOYEE = 1;
+    public static final byte UPDATE_EMPLOYEE = 2;
+    public static final byte ADD_EMPLOYEE = 3;
+    public static final byte DELETE_EMPLOYEE = 4;
+    public static final byte COUNT = 5;
+
+    // Statuses
+    public static final byte OK = 0;
+    public static final byte NOT_FOUND = 1;
+    public static final byte INVALID_SALARY = 2;
+    public static final byte INVALID_DEPARTMENT = 3;
+    public static final byte BAD_REQUEST = 4;
+    public static final byte SERVER_ERROR = 5;
+
+    // Length field, then the opcode or status and the request ID
+    public static final int LENGTH_SIZE = 4;
+    public static final int HEADER_SIZE = 1 + 4;
+    // Frames above this size close the connection, no valid request comes close
+    public static final int MAX_FRAME_SIZE = 1 << 20;
+
+    private static final int MAX_STRING_BYTES = 0xFFFF;
+    private static final EmployeeField[] FIELDS = EmployeeField.values();
+
+    private BinaryProtocol() {
+    }
+
+    // Buffer with room for at least `needed` more bytes, the given one if it already has it
+    static ByteBuffer ensureRemaining(ByteBuffer buffer, int needed) {
+        if (buffer.remaining() >= needed) {
+            return buffer;
+        }
+        int capacity = Math.max(buffer.capacity() * 2, buffer.position() + needed);
+        ByteBuffer larger = ByteBuffer.allocate(capacity);
+        buffer.flip();
+        larger.put(buffer);
+        return larger;
+    }
+
+    // Starts a frame, returns the position of its length field for endFrame
+    static int beginFrame(ByteBuffer buffer, byte type, int requestId) {
+        int start = buffer.position();
+        buffer.putInt(0).put(type).putInt(requestId);
+        return start;
+    }
+
+    static void endFrame(ByteBuffer buffer, int start) {
+        buffer.putInt(start, buffer.position() - start - LENGTH_SIZE);
+    }
+
+    // Strings
+
+    static byte[] encodeString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_BYTES) {
+            throw new IllegalArgumentException("String is longer than " + MAX_STRING_BYTES + " bytes");
+        }
+        return bytes;
+    }
+
+    static void putString(ByteBuffer buffer, byte[] encoded) {
+        buffer.putShort((short) encoded.length).put(encoded);
+    }
+
+    static String getString(ByteBuffer buffer) {
+        int length = buffer.getShort() & 0xFFFF;
+        if (length > buffer.remaining()) {
+            throw new IllegalArgumentException("String length " + length + " exceeds the frame");
+        }
+        String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    // Field updates, the field is sent as its EmployeeField ordinal
+
+    static EmployeeField field(byte code) {
+        int ordinal = code & 0xFF;
+        if (ordinal >= FIELDS.length) {
+            throw new IllegalArgumentException("Invalid field code: " + ordinal);
+        }
+        return FIELDS[ordinal];
+    }
+
+    // Encoded size of the value, after checking it has the type updateEmployeeDetails expects for the field
+    static int valueSize(EmployeeField field, Object value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value of " + field.getUpdateFieldName() + " cannot be null");
+        }
+        switch (field) {
+            case NAME:
+                return 2 + encodeString(cast(field, value, String.class)).length;
+            case DEPARTMENT:
+                cast(field, value, EEmployeeDepartment.class);
+                return 1;
+            case SALARY:
+            case RATING:
+                cast(field, value, Double.class);
+                return 8;
+            case EXPERIENCE:
+                cast(field, value, Integer.class);
+                return 4;
+            default:
+                cast(field, value, Boolean.class);
+                return 1;
+        }
+    }
+
+    static void putValue(ByteBuffer buffer, EmployeeField field, Object value) {
+        switch (field) {
+            case NAME:
+                putString(buffer, encodeString((String) value));
+                break;
+            case DEPARTMENT:
+                buffer.put(EmployeeCodec.departmentCode((EEmployeeDepartment) value));
+                break;
+            case SALARY:
+            case RATING:
+                buffer.putDouble((Double) value);
+                break;
+            case EXPERIENCE:
+                buffer.putInt((Integer) value);
+                break;
+            default:
+                buffer.put((byte) ((Boolean) value ? 1 : 0));
+        }
+    }
+
+    static Object getValue(ByteBuffer buffer, EmployeeField field) throws InvalidDepartmentException {
+        switch (field) {
+            case NAME:
+                return getString(buffer);
+            case DEPARTMENT:
+                return EmployeeCodec.department(buffer.get());
+            case SALARY:
+            case RATING:
+                return buffer.getDouble();
+            case EXPERIENCE:
+                return buffer.getInt();
+            default:
+                return buffer.get() != 0;
+        }
+    }
+
+    private static <V> V cast(EmployeeField field, Object value, Class<V> type) {
+        if (!type.isInstance(value)) {
+            throw new IllegalArgumentException("Invalid value type for field " + field.getUpdateFieldName() + ": " +
+                    value + " (" + value.getClass().getSimpleName() + ")");
+        }
+        return type.cast(value);
+    }
+}
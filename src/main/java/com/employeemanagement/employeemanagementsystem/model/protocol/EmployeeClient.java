@@ -0,0 +1,394 @@
+package com.employeemanagement.employeemanagementsystem.model.protocol;
+
+import com.employeemanagement.employeemanagementsystem.exceptions.EmployeeNotFoundException;
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidDepartmentException;
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidSalaryException;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeCodec;
+import com.employeemanagement.employeemanagementsystem.model.history.EmployeeField;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Client for an EmployeeServer over one connection, safe to share between threads
+ * The *Async methods queue the request and return at once, so many requests can be in flight on the connection.
+ * A request is written immediately when nothing else is in flight; otherwise it waits in the send buffer and is
+ * written together with the others as soon as the next response arrives, so a pipelining caller pays one write
+ * per batch of requests rather than one per request. The socket is non-blocking and a single selector thread reads
+ * responses and finishes writes the kernel could not take at once; futures complete on that thread, callbacks
+ * attached to them should not block.
+ * The blocking methods mirror EmployeeDatabase and throw its exceptions, plus IOException if the connection fails.
+ */
+public class EmployeeClient implements AutoCloseable {
+
+    public static final int DEFAULT_MAX_IN_FLIGHT = 1024;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final SocketChannel channel;
+    private final Selector selector;
+    private final SelectionKey key;
+    private final Semaphore inFlight;
+    private final Thread selectorThread;
+
+    // Guards everything below, writes to the channel never block so they happen with the lock held
+    private final Object lock = new Object();
+    private final ArrayDeque<PendingRequest> pending = new ArrayDeque<>();
+    private int nextRequestId;
+    private ByteBuffer outgoing = ByteBuffer.allocate(BUFFER_SIZE);
+    private IOException failure;
+
+    public EmployeeClient(InetSocketAddress address) throws IOException {
+        this(address, DEFAULT_MAX_IN_FLIGHT);
+    }
+
+    // Sending blocks once maxInFlight requests are waiting for their response
+    public EmployeeClient(InetSocketAddress address, int maxInFlight) throws IOException {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("At least one request must be allowed in flight, provided: " + maxInFlight);
+        }
+        this.inFlight = new Semaphore(maxInFlight);
+        this.channel = SocketChannel.open(address);
+        this.selector = Selector.open();
+        try {
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            channel.configureBlocking(false);
+            this.key = channel.register(selector, SelectionKey.OP_READ);
+        } catch (IOException e) {
+            channel.close();
+            selector.close();
+            throw e;
+        }
+        this.selectorThread = new Thread(this::run, "employee-client-" + address.getPort());
+        selectorThread.setDaemon(true);
+        selectorThread.start();
+    }
+
+    // Asynchronous requests
+
+    public CompletableFuture<Employee<Integer>> getEmployeeAsync(int employeeId) {
+        return send(BinaryProtocol.GET_EMPLOYEE, 4, buffer -> buffer.putInt(employeeId));
+    }
+
+    // The value must have the type updateEmployeeDetails expects, e.g. Double for the salary
+    public CompletableFuture<Void> updateEmployeeDetailsAsync(int employeeId, String field, Object newValue) {
+        EmployeeField employeeField = EmployeeField.fromUpdateFieldName(field);
+        if (employeeField == null) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Invalid field name: " + field));
+        }
+        int valueSize;
+        try {
+            valueSize = BinaryProtocol.valueSize(employeeField, newValue);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return send(BinaryProtocol.UPDATE_EMPLOYEE, 4 + 1 + valueSize, buffer -> {
+            buffer.putInt(employeeId).put((byte) employeeField.ordinal());
+            BinaryProtocol.putValue(buffer, employeeField, newValue);
+        });
+    }
+
+    public CompletableFuture<Void> addEmployeeAsync(Employee<Integer> employee) {
+        if (employee == null || employee.getEmployeeId() == null || employee.getEmployeeDepartment() == null) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Employee, its ID and department cannot be null"));
+        }
+        byte[] name;
+        try {
+            name = EmployeeCodec.encodeName(employee.getEmployeeName());
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return send(BinaryProtocol.ADD_EMPLOYEE, EmployeeCodec.encodedSize(name),
+                buffer -> EmployeeCodec.put(buffer, employee, name));
+    }
+
+    public CompletableFuture<Void> deleteEmployeeAsync(int employeeId) {
+        return send(BinaryProtocol.DELETE_EMPLOYEE, 4, buffer -> buffer.putInt(employeeId));
+    }
+
+    public CompletableFuture<Integer> getEmployeeCountAsync() {
+        return send(BinaryProtocol.COUNT, 0, buffer -> { });
+    }
+
+    // Blocking requests
+
+    public Employee<Integer> getEmployee(int employeeId) throws EmployeeNotFoundException, IOException {
+        try {
+            return await(getEmployeeAsync(employeeId));
+        } catch (EmployeeNotFoundException | IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw unexpected(e);
+        }
+    }
+
+    public void updateEmployeeDetails(int employeeId, String field, Object newValue)
+            throws EmployeeNotFoundException, InvalidSalaryException, InvalidDepartmentException, IOException {
+        try {
+            await(updateEmployeeDetailsAsync(employeeId, field, newValue));
+        } catch (EmployeeNotFoundException | InvalidSalaryException | InvalidDepartmentException | IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw unexpected(e);
+        }
+    }
+
+    public void addEmployee(Employee<Integer> employee) throws InvalidSalaryException, InvalidDepartmentException, IOException {
+        try {
+            await(addEmployeeAsync(employee));
+        } catch (InvalidSalaryException | InvalidDepartmentException | IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw unexpected(e);
+        }
+    }
+
+    public void deleteEmployee(int employeeId) throws EmployeeNotFoundException, IOException {
+        try {
+            await(deleteEmployeeAsync(employeeId));
+        } catch (EmployeeNotFoundException | IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw unexpected(e);
+        }
+    }
+
+    public int getEmployeeCount() throws IOException {
+        try {
+            return await(getEmployeeCountAsync());
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw unexpected(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        fail(new IOException("Client closed"));
+        try {
+            selectorThread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Sending
+
+    // Writes the request body into the frame
+    private interface PayloadWriter {
+        void write(ByteBuffer buffer);
+    }
+
+    private static final class PendingRequest {
+        final int requestId;
+        final byte opcode;
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+
+        PendingRequest(int requestId, byte opcode) {
+            this.requestId = requestId;
+            this.opcode = opcode;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> CompletableFuture<R> send(byte opcode, int payloadSize, PayloadWriter payload) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(new IOException("Interrupted while waiting to send", e));
+        }
+        PendingRequest request;
+        synchronized (lock) {
+            if (failure != null) {
+                inFlight.release();
+                return CompletableFuture.failedFuture(failure);
+            }
+            request = new PendingRequest(nextRequestId++, opcode);
+            outgoing = BinaryProtocol.ensureRemaining(outgoing, BinaryProtocol.LENGTH_SIZE + BinaryProtocol.HEADER_SIZE + payloadSize);
+            int start = BinaryProtocol.beginFrame(outgoing, opcode, request.requestId);
+            payload.write(outgoing);
+            BinaryProtocol.endFrame(outgoing, start);
+            pending.addLast(request);
+            // With an earlier request in flight the selector thread flushes this one when its response arrives
+            if (pending.size() == 1 || outgoing.position() >= BUFFER_SIZE) {
+                flush();
+            }
+        }
+        return (CompletableFuture<R>) (CompletableFuture<?>) request.future;
+    }
+
+    // Writes as much of the send buffer as the socket takes, the selector thread writes the rest. Lock held.
+    private void flush() {
+        if (failure != null || outgoing.position() == 0) {
+            return;
+        }
+        try {
+            outgoing.flip();
+            channel.write(outgoing);
+            outgoing.compact();
+            int interest = outgoing.position() > 0 ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ;
+            if (key.interestOps() != interest) {
+                key.interestOps(interest);
+                selector.wakeup();
+            }
+        } catch (IOException | CancelledKeyException e) {
+            fail(e instanceof IOException ? (IOException) e : new IOException("Connection closed", e));
+        }
+    }
+
+    // Receiving
+
+    private void run() {
+        ByteBuffer in = ByteBuffer.allocate(BUFFER_SIZE);
+        try {
+            while (true) {
+                selector.select();
+                synchronized (lock) {
+                    if (failure != null) {
+                        return;
+                    }
+                }
+                boolean readable = selector.selectedKeys().remove(key) && key.isReadable();
+                if (readable) {
+                    if (channel.read(in) < 0) {
+                        throw new IOException("Server closed the connection");
+                    }
+                    in = readFrames(in);
+                }
+                // Sends what queued up behind the responses just read, and what the socket didn't take before
+                synchronized (lock) {
+                    flush();
+                }
+            }
+        } catch (IOException | ClosedSelectorException | CancelledKeyException e) {
+            fail(e instanceof IOException ? (IOException) e : new IOException("Connection closed", e));
+        }
+    }
+
+    // Completes the requests whose responses are in the buffer, returns the buffer to read into next
+    private ByteBuffer readFrames(ByteBuffer in) throws IOException {
+        in.flip();
+        while (in.remaining() >= BinaryProtocol.LENGTH_SIZE) {
+            int length = in.getInt(in.position());
+            if (length < BinaryProtocol.HEADER_SIZE || length > BinaryProtocol.MAX_FRAME_SIZE) {
+                throw new IOException("Invalid frame length " + length);
+            }
+            if (in.remaining() < BinaryProtocol.LENGTH_SIZE + length) {
+                break;
+            }
+            int frameEnd = in.position() + BinaryProtocol.LENGTH_SIZE + length;
+            in.position(in.position() + BinaryProtocol.LENGTH_SIZE);
+            byte status = in.get();
+            int requestId = in.getInt();
+            ByteBuffer payload = in.slice();
+            payload.limit(frameEnd - in.position());
+            complete(status, requestId, payload);
+            in.position(frameEnd);
+        }
+        in.compact();
+        return in.hasRemaining() ? in : BinaryProtocol.ensureRemaining(in, in.capacity());
+    }
+
+    private void complete(byte status, int requestId, ByteBuffer payload) throws IOException {
+        PendingRequest request;
+        synchronized (lock) {
+            request = pending.pollFirst();
+        }
+        if (request == null || request.requestId != requestId) {
+            throw new IOException("Response " + requestId + " does not match the oldest pending request");
+        }
+        inFlight.release();
+        try {
+            if (status != BinaryProtocol.OK) {
+                request.future.completeExceptionally(error(status, BinaryProtocol.getString(payload)));
+                return;
+            }
+            switch (request.opcode) {
+                case BinaryProtocol.GET_EMPLOYEE:
+                    request.future.complete(EmployeeCodec.get(payload));
+                    break;
+                case BinaryProtocol.COUNT:
+                    request.future.complete(payload.getInt());
+                    break;
+                default:
+                    request.future.complete(null);
+            }
+        } catch (RuntimeException | InvalidDepartmentException e) {
+            request.future.completeExceptionally(new IOException("Malformed response to request " + requestId, e));
+        }
+    }
+
+    private static Exception error(byte status, String message) {
+        switch (status) {
+            case BinaryProtocol.NOT_FOUND:
+                return new EmployeeNotFoundException(message);
+            case BinaryProtocol.INVALID_SALARY:
+                return new InvalidSalaryException(message);
+            case BinaryProtocol.INVALID_DEPARTMENT:
+                return new InvalidDepartmentException(message);
+            case BinaryProtocol.BAD_REQUEST:
+                return new IllegalArgumentException(message);
+            default:
+                return new IOException("Server error: " + message);
+        }
+    }
+
+    // Fails every pending request and closes the connection, later requests fail immediately
+    private void fail(IOException cause) {
+        ArrayDeque<PendingRequest> failed;
+        synchronized (lock) {
+            if (failure == null) {
+                failure = cause;
+            }
+            failed = new ArrayDeque<>(pending);
+            pending.clear();
+        }
+        try {
+            channel.close();
+            selector.close();
+        } catch (IOException ignored) {
+            // Already closed
+        }
+        for (PendingRequest request : failed) {
+            inFlight.release();
+            request.future.completeExceptionally(cause);
+        }
+    }
+
+    private static <R> R await(CompletableFuture<R> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the response", e);
+        }
+    }
+
+    // Unchecked exceptions pass through, checked ones the method doesn't declare cannot happen
+    private static RuntimeException unexpected(Exception e) {
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        }
+        return new IllegalStateException("Unexpected response", e);
+    }
+}
@@ -0,0 +1,447 @@
+package com.employeemanagement.employeemanagementsystem.model.protocol;
+
+import com.employeemanagement.employeemanagementsystem.exceptions.EmployeeNotFoundException;
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidDepartmentException;
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidSalaryException;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeCodec;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
+import com.employeemanagement.employeemanagementsystem.model.history.EmployeeField;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serves an EmployeeDatabase over the BinaryProtocol, with one selector thread for I/O and a pool of workers for the calls
+ * All the complete requests a connection has buffered go to a worker as one batch and run in order, and the selector
+ * writes their responses back together, so pipelined requests cost one read, one handoff and one write per batch.
+ * A connection has at most one batch in flight and isn't read from meanwhile, which keeps its responses in request
+ * order; a call waiting on the write lock only holds up its own connection. A connection whose client stops reading
+ * responses is no longer read from until its output drains.
+ */
+public class EmployeeServer implements AutoCloseable {
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    // Pending output above which the connection stops reading requests
+    private static final int HIGH_WATER_MARK = 1 << 20;
+
+    private final EmployeeDatabase<Integer> database;
+    private final ServerSocketChannel serverChannel;
+    private final Selector selector;
+    // Connections whose batch a worker finished, drained by the selector thread
+    private final Queue<Connection> completedBatches = new ConcurrentLinkedQueue<>();
+    private final AtomicLong requests = new AtomicLong();
+    private volatile Thread selectorThread;
+    private volatile ExecutorService workers;
+    private volatile boolean running;
+    private volatile int connections;
+
+    // Binds to the loopback address, port 0 picks a free port
+    public EmployeeServer(EmployeeDatabase<Integer> database, int port) throws IOException {
+        this(database, new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+    }
+
+    public EmployeeServer(EmployeeDatabase<Integer> database, InetSocketAddress address) throws IOException {
+        if (database == null) {
+            throw new IllegalArgumentException("Database cannot be null");
+        }
+        this.database = database;
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        try {
+            serverChannel.bind(address);
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            serverChannel.close();
+            selector.close();
+            throw e;
+        }
+    }
+
+    // Starts the selector thread and the workers, which size themselves to the machine like a cluster node's
+    public synchronized EmployeeServer start() {
+        if (selectorThread != null) {
+            throw new IllegalStateException("Server is already started");
+        }
+        int port = getAddress().getPort();
+        workers = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()), runnable -> {
+            Thread thread = new Thread(runnable, "employee-server-worker-" + port);
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        Thread thread = new Thread(this::run, "employee-server-" + port);
+        thread.setDaemon(true);
+        selectorThread = thread;
+        thread.start();
+        return this;
+    }
+
+    public InetSocketAddress getAddress() {
+        try {
+            return (InetSocketAddress) serverChannel.getLocalAddress();
+        } catch (IOException e) {
+            throw new IllegalStateException("Server channel is closed", e);
+        }
+    }
+
+    // Requests handled since the server started
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    public int getConnectionCount() {
+        return connections;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        selector.wakeup();
+        Thread thread = selectorThread;
+        if (thread != null && thread.isAlive() && Thread.currentThread() != thread) {
+            try {
+                thread.join(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (workers != null) {
+            workers.shutdownNow();
+        }
+        closeQuietly();
+    }
+
+    // Selector loop
+
+    private void run() {
+        try {
+            while (running) {
+                selector.select();
+                Connection finished;
+                while ((finished = completedBatches.poll()) != null) {
+                    try {
+                        finished.onBatchDone();
+                    } catch (IOException | RuntimeException e) {
+                        finished.close();
+                    }
+                }
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    try {
+                        if (key.isAcceptable()) {
+                            accept();
+                        } else {
+                            Connection connection = (Connection) key.attachment();
+                            if (key.isWritable()) {
+                                connection.onWritable();
+                            }
+                            if (key.isValid() && key.isReadable()) {
+                                connection.onReadable();
+                            }
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        // A broken or misbehaving connection only takes itself down
+                        if (key.attachment() instanceof Connection) {
+                            ((Connection) key.attachment()).close();
+                        }
+                    }
+                }
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            // The server is shutting down
+        } finally {
+            closeQuietly();
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            Connection connection = new Connection(channel);
+            connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+            connections++;
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            if (selector.isOpen()) {
+                for (SelectionKey key : selector.keys()) {
+                    key.channel().close();
+                }
+                selector.close();
+            }
+            serverChannel.close();
+        } catch (IOException | ClosedSelectorException ignored) {
+            // Already closed
+        }
+    }
+
+    /**
+     * One client connection
+     * The selector thread owns the channel and out. While a batch is in flight (busy) a worker owns in and responses,
+     * and the selector leaves them alone; the executor and the completed queue hand them over in both directions.
+     */
+    private final class Connection {
+
+        private final SocketChannel channel;
+        private SelectionKey key;
+        private ByteBuffer in = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        private ByteBuffer out = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+        private ByteBuffer responses = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+        private boolean busy;
+        private boolean closed;
+        // Set by the worker when the batch held an invalid frame
+        private Exception failure;
+
+        Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        void onReadable() throws IOException {
+            // Readiness may have been selected before the batch was handed over
+            if (busy) {
+                return;
+            }
+            int read = channel.read(in);
+            if (read < 0) {
+                close();
+                return;
+            }
+            if (!hasRequest()) {
+                growInputIfFull();
+            }
+            dispatch();
+        }
+
+        void onWritable() throws IOException {
+            flush();
+            // Requests left unprocessed while output was backed up
+            dispatch();
+        }
+
+        // Runs on the selector thread once the worker is done with the batch
+        void onBatchDone() throws IOException {
+            busy = false;
+            if (closed) {
+                return;
+            }
+            if (failure != null) {
+                close();
+                return;
+            }
+            if (out.position() == 0) {
+                // Nothing pending, the responses become the output without a copy
+                ByteBuffer empty = out;
+                out = responses;
+                responses = empty;
+            } else {
+                responses.flip();
+                out = BinaryProtocol.ensureRemaining(out, responses.remaining());
+                out.put(responses);
+                responses.clear();
+            }
+            flush();
+            dispatch();
+        }
+
+        // Hands the buffered requests to a worker, unless a batch is in flight or too much output is pending
+        private void dispatch() throws IOException {
+            if (busy || closed || out.position() >= HIGH_WATER_MARK || !hasRequest()) {
+                updateInterest();
+                return;
+            }
+            busy = true;
+            updateInterest();
+            workers.execute(this::processBatch);
+        }
+
+        // Whether the input holds a complete frame, or a length that processing will reject
+        private boolean hasRequest() {
+            if (in.position() < BinaryProtocol.LENGTH_SIZE) {
+                return false;
+            }
+            int length = in.getInt(0);
+            return length < BinaryProtocol.HEADER_SIZE || length > BinaryProtocol.MAX_FRAME_SIZE
+                    || in.position() >= BinaryProtocol.LENGTH_SIZE + length;
+        }
+
+        // Runs on a worker
+        private void processBatch() {
+            try {
+                processFrames();
+            } catch (IOException | RuntimeException e) {
+                failure = e;
+            }
+            completedBatches.add(this);
+            selector.wakeup();
+        }
+
+        // Executes every complete request in the input buffer, stopping early once the batch has produced enough output
+        private void processFrames() throws IOException {
+            in.flip();
+            while (in.remaining() >= BinaryProtocol.LENGTH_SIZE && responses.position() < HIGH_WATER_MARK) {
+                int length = in.getInt(in.position());
+                if (length < BinaryProtocol.HEADER_SIZE || length > BinaryProtocol.MAX_FRAME_SIZE) {
+                    throw new IOException("Invalid frame length " + length);
+                }
+                if (in.remaining() < BinaryProtocol.LENGTH_SIZE + length) {
+                    break;
+                }
+                int frameEnd = in.position() + BinaryProtocol.LENGTH_SIZE + length;
+                in.position(in.position() + BinaryProtocol.LENGTH_SIZE);
+                byte opcode = in.get();
+                int requestId = in.getInt();
+                // The payload is read through a slice, so a malformed one cannot desynchronize the stream
+                ByteBuffer payload = in.slice();
+                payload.limit(frameEnd - in.position());
+                handle(opcode, requestId, payload);
+                in.position(frameEnd);
+            }
+            in.compact();
+            growInputIfFull();
+        }
+
+        // Makes room for a frame larger than the buffer
+        private void growInputIfFull() {
+            if (!in.hasRemaining() && in.capacity() < BinaryProtocol.MAX_FRAME_SIZE + BinaryProtocol.LENGTH_SIZE) {
+                ByteBuffer larger = ByteBuffer.allocate(Math.min(in.capacity() * 2, BinaryProtocol.MAX_FRAME_SIZE + BinaryProtocol.LENGTH_SIZE));
+                in.flip();
+                in = larger.put(in);
+            }
+        }
+
+        private void handle(byte opcode, int requestId, ByteBuffer payload) {
+            requests.incrementAndGet();
+            // Where this response begins, so a failure halfway through can discard what was written of it
+            int responseStart = responses.position();
+            int start;
+            try {
+                switch (opcode) {
+                    case BinaryProtocol.GET_EMPLOYEE: {
+                        Employee<Integer> employee = database.getEmployee(payload.getInt());
+                        byte[] name = EmployeeCodec.encodeName(employee.getEmployeeName());
+                        reserve(EmployeeCodec.encodedSize(name));
+                        start = BinaryProtocol.beginFrame(responses, BinaryProtocol.OK, requestId);
+                        EmployeeCodec.put(responses, employee, name);
+                        break;
+                    }
+                    case BinaryProtocol.UPDATE_EMPLOYEE: {
+                        int employeeId = payload.getInt();
+                        EmployeeField field = BinaryProtocol.field(payload.get());
+                        database.updateEmployeeDetails(employeeId, field.getUpdateFieldName(), BinaryProtocol.getValue(payload, field));
+                        start = empty(requestId);
+                        break;
+                    }
+                    case BinaryProtocol.ADD_EMPLOYEE:
+                        database.addEmployee(EmployeeCodec.get(payload));
+                        start = empty(requestId);
+                        break;
+                    case BinaryProtocol.DELETE_EMPLOYEE:
+                        database.deleteEmployee(payload.getInt());
+                        start = empty(requestId);
+                        break;
+                    case BinaryProtocol.COUNT:
+                        reserve(4);
+                        start = BinaryProtocol.beginFrame(responses, BinaryProtocol.OK, requestId);
+                        responses.putInt(database.getTotalEmployeeCount());
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown opcode: " + opcode);
+                }
+            } catch (EmployeeNotFoundException e) {
+                start = error(responseStart, requestId, BinaryProtocol.NOT_FOUND, e);
+            } catch (InvalidSalaryException e) {
+                start = error(responseStart, requestId, BinaryProtocol.INVALID_SALARY, e);
+            } catch (InvalidDepartmentException e) {
+                start = error(responseStart, requestId, BinaryProtocol.INVALID_DEPARTMENT, e);
+            } catch (IllegalArgumentException | BufferUnderflowException | ClassCastException e) {
+                start = error(responseStart, requestId, BinaryProtocol.BAD_REQUEST, e);
+            } catch (RuntimeException e) {
+                start = error(responseStart, requestId, BinaryProtocol.SERVER_ERROR, e);
+            }
+            BinaryProtocol.endFrame(responses, start);
+        }
+
+        private int empty(int requestId) {
+            reserve(0);
+            return BinaryProtocol.beginFrame(responses, BinaryProtocol.OK, requestId);
+        }
+
+        // Drops whatever was written of the failed response before writing the error frame in its place
+        private int error(int responseStart, int requestId, byte status, Exception e) {
+            responses.position(responseStart);
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            byte[] encoded = BinaryProtocol.encodeString(message.length() > 1000 ? message.substring(0, 1000) : message);
+            reserve(2 + encoded.length);
+            int start = BinaryProtocol.beginFrame(responses, status, requestId);
+            BinaryProtocol.putString(responses, encoded);
+            return start;
+        }
+
+        // Room for the response header and a payload of the given size
+        private void reserve(int payloadSize) {
+            responses = BinaryProtocol.ensureRemaining(responses, BinaryProtocol.LENGTH_SIZE + BinaryProtocol.HEADER_SIZE + payloadSize);
+        }
+
+        private void flush() throws IOException {
+            out.flip();
+            channel.write(out);
+            out.compact();
+            updateInterest();
+        }
+
+        private void updateInterest() {
+            if (closed) {
+                return;
+            }
+            int interest = 0;
+            if (out.position() > 0) {
+                interest |= SelectionKey.OP_WRITE;
+            }
+            if (!busy && out.position() < HIGH_WATER_MARK) {
+                interest |= SelectionKey.OP_READ;
+            }
+            key.interestOps(interest);
+        }
+
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            key.cancel();
+            connections--;
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // Nothing left to release
+            }
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.employeemanagement.employeemanagementsystem.model.replication;
+
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
+import com.employeemanagement.employeemanagementsystem.model.changelog.ChangeEvent;
+import com.employeemanagement.employeemanagementsystem.model.changelog.ChangeType;
+import com.employeemanagement.employeemanagementsystem.model.history.EmployeeField;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Read-only copy of a primary EmployeeDatabase, kept current by a ReplicationServer
+ * The replica loads the primary's snapshot, then applies its change log events batch by batch, each batch as one
+ * commit, so reads on the replica always see a state the primary went through. Writes to getDatabase() throw
+ * UnsupportedOperationException. If the connection drops the replica keeps serving its data and reconnects,
+ * resuming from the last applied offset.
+ * Lag is reported in change log events and as the time since the replica was last known to be caught up; both are
+ * also exported as the replication_lag_events and replication_lag_seconds gauges of the replica's metrics registry.
+ */
+public class ReadReplica implements AutoCloseable {
+
+    public static final Duration RECONNECT_DELAY = Duration.ofMillis(500);
+    private static final int CONNECT_TIMEOUT_MILLIS = 5000;
+
+    private final InetSocketAddress primaryAddress;
+    private final EmployeeDatabase<Integer> database;
+    private volatile Thread thread;
+    // Notified whenever the applied offset moves
+    private final Object progress = new Object();
+
+    private volatile boolean running;
+    private volatile Socket socket;
+    private volatile boolean connected;
+    // Primary offset of the next event to apply, FRESH until the first snapshot is loaded
+    private volatile long appliedOffset = ReplicationProtocol.FRESH;
+    private volatile long primaryOffset;
+    private volatile long caughtUpAt = System.nanoTime();
+
+    public ReadReplica(InetSocketAddress primaryAddress) {
+        this(primaryAddress, new EmployeeDatabase<>());
+    }
+
+    // The database must be empty, start() makes it read-only and fills it from the primary
+    public ReadReplica(InetSocketAddress primaryAddress, EmployeeDatabase<Integer> database) {
+        if (primaryAddress == null || database == null) {
+            throw new IllegalArgumentException("Primary address and database cannot be null");
+        }
+        if (database.getTotalEmployeeCount() != 0) {
+            throw new IllegalArgumentException("A replica must start from an empty database");
+        }
+        this.primaryAddress = primaryAddress;
+        this.database = database;
+    }
+
+    // Registers the lag gauges and starts replicating, done here so the constructor doesn't publish this
+    public synchronized ReadReplica start() {
+        if (thread != null) {
+            throw new IllegalStateException("Replica is already started");
+        }
+        database.setReadOnly(true);
+        database.getMetrics().gauge("replication_lag_events", "Primary change log events not yet applied.", this::getLagEvents);
+        database.getMetrics().gauge("replication_lag_seconds", "Time since the replica was last caught up.",
+                () -> getLag().toNanos() / 1e9);
+        running = true;
+        Thread replicator = new Thread(this::replicate, "read-replica-" + primaryAddress.getPort());
+        replicator.setDaemon(true);
+        thread = replicator;
+        replicator.start();
+        return this;
+    }
+
+    // Read-only database holding the replicated employees
+    public EmployeeDatabase<Integer> getDatabase() {
+        return database;
+    }
+
+    public boolean isConnected() {
+        return connected;
+    }
+
+    // True once the first snapshot is loaded
+    public boolean isBootstrapped() {
+        return appliedOffset != ReplicationProtocol.FRESH;
+    }
+
+    // Primary change log offset the replica has applied everything before
+    public long getAppliedOffset() {
+        return Math.max(appliedOffset, 0);
+    }
+
+    // End of the primary's change log as last reported by the primary
+    public long getPrimaryOffset() {
+        return primaryOffset;
+    }
+
+    public long getLagEvents() {
+        return Math.max(0, primaryOffset - getAppliedOffset());
+    }
+
+    // Zero while connected and caught up, otherwise how long ago the replica last was
+    public Duration getLag() {
+        if (connected && isBootstrapped() && getLagEvents() == 0) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(System.nanoTime() - caughtUpAt);
+    }
+
+    // Waits until everything before the primary offset is applied, e.g. the primary's next offset after a write
+    public boolean awaitOffset(long offset, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (progress) {
+            while (!isBootstrapped() || appliedOffset < offset) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                progress.wait(Math.max(1, remaining / 1_000_000));
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        Socket current = socket;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (IOException ignored) {
+                // Already closed
+            }
+        }
+        Thread replicator = thread;
+        if (replicator == null) {
+            return;
+        }
+        replicator.interrupt();
+        try {
+            replicator.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Replication loop
+
+    private void replicate() {
+        while (running) {
+            try (Socket connection = new Socket()) {
+                socket = connection;
+                connection.connect(primaryAddress, CONNECT_TIMEOUT_MILLIS);
+                connection.setTcpNoDelay(true);
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(connection.getOutputStream()));
+                out.writeInt(ReplicationProtocol.MAGIC);
+                out.writeByte(ReplicationProtocol.VERSION);
+                out.writeLong(appliedOffset);
+                out.flush();
+                connected = true;
+                DataInputStream in = new DataInputStream(new BufferedInputStream(connection.getInputStream(), 64 * 1024));
+                while (running) {
+                    byte type = in.readByte();
+                    switch (type) {
+                        case ReplicationProtocol.SNAPSHOT:
+                            load(ReplicationProtocol.readSnapshot(in));
+                            break;
+                        case ReplicationProtocol.EVENTS:
+                            apply(ReplicationProtocol.readEvents(in));
+                            break;
+                        case ReplicationProtocol.HEARTBEAT:
+                            primaryOffset = in.readLong();
+                            markIfCaughtUp();
+                            break;
+                        default:
+                            throw new IOException("Unknown message type " + type);
+                    }
+                }
+            } catch (IOException e) {
+                // Primary unreachable or connection lost, retried below
+            } finally {
+                connected = false;
+            }
+            if (running) {
+                try {
+                    Thread.sleep(RECONNECT_DELAY.toMillis());
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+
+    // Replaces the replica's contents with the snapshot in one commit, unchanged employees are left alone
+    private void load(ReplicationProtocol.SnapshotImage image) {
+        Map<Integer, Employee<Integer>> incoming = new HashMap<>(image.employees.size() * 2);
+        for (Employee<Integer> employee : image.employees) {
+            incoming.put(employee.getEmployeeId(), employee);
+        }
+        Instant now = Instant.now();
+        List<ChangeEvent<Integer>> changes = new ArrayList<>();
+        for (Employee<Integer> existing : database.snapshot()) {
+            Employee<Integer> replacement = incoming.remove(existing.getEmployeeId());
+            if (replacement == null) {
+                changes.add(new ChangeEvent<>(image.offset, ChangeType.DELETED, existing.getEmployeeId(), null, null, now));
+            } else if (!sameState(existing, replacement)) {
+                changes.add(new ChangeEvent<>(image.offset, ChangeType.CREATED, replacement.getEmployeeId(), null, replacement, now));
+            }
+        }
+        for (Employee<Integer> added : incoming.values()) {
+            changes.add(new ChangeEvent<>(image.offset, ChangeType.CREATED, added.getEmployeeId(), null, added, now));
+        }
+        database.applyReplicatedChanges(changes);
+        primaryOffset = Math.max(primaryOffset, image.offset);
+        advance(image.offset);
+    }
+
+    private void apply(List<ChangeEvent<Integer>> events) throws IOException {
+        if (events.isEmpty()) {
+            return;
+        }
+        if (events.get(0).getOffset() != appliedOffset) {
+            throw new IOException("Expected offset " + appliedOffset + " but the primary sent " + events.get(0).getOffset());
+        }
+        database.applyReplicatedChanges(events);
+        long next = events.get(events.size() - 1).getOffset() + 1;
+        primaryOffset = Math.max(primaryOffset, next);
+        advance(next);
+    }
+
+    private void advance(long offset) {
+        synchronized (progress) {
+            appliedOffset = offset;
+            progress.notifyAll();
+        }
+        markIfCaughtUp();
+    }
+
+    private void markIfCaughtUp() {
+        if (isBootstrapped() && appliedOffset >= primaryOffset) {
+            caughtUpAt = System.nanoTime();
+        }
+    }
+
+    private static boolean sameState(Employee<Integer> a, Employee<Integer> b) {
+        for (EmployeeField field : EmployeeField.values()) {
+            if (!Objects.equals(field.read(a), field.read(b))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
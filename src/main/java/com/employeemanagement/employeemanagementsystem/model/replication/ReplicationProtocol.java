@@ -0,0 +1,126 @@
+package com.employeemanagement.employeemanagementsystem.model.replication;
+
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeCodec;
+import com.employeemanagement.employeemanagementsystem.model.changelog.ChangeEvent;
+import com.employeemanagement.employeemanagementsystem.model.changelog.ChangeType;
+import com.employeemanagement.employeemanagementsystem.model.history.EmployeeField;
+import com.employeemanagement.employeemanagementsystem.model.mvcc.EmployeeSnapshot;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stream format between a ReplicationServer and its read replicas, written with DataOutput (big-endian)
+ * The replica opens with: int32 MAGIC, uint8 VERSION, int64 offset to resume from (-1 for a fresh replica).
+ * The primary then sends messages, each starting with a type byte:
+ *   SNAPSHOT   int64 offset, int32 count, count employees   state of the primary up to (excluding) offset
+ *   EVENTS     int32 count, count events                    change log events in offset order
+ *   HEARTBEAT  int64 next offset                           end of the primary's change log, after every batch
+ *                                                       of events and while there is nothing to replicate
+ * Employee: EmployeeCodec encoding, which also carries employees without a name or department
+ * Event: int64 offset, uint8 type, int32 ID, int8 field (-1 for none), int64 epoch second, int32 nanos, then the
+ * employee state unless the event is a deletion.
+ */
+final class ReplicationProtocol {
+
+    static final int MAGIC = 0x454D5250;
+    static final int VERSION = 3;
+    static final long FRESH = -1;
+
+    static final byte SNAPSHOT = 'S';
+    static final byte EVENTS = 'E';
+    static final byte HEARTBEAT = 'H';
+
+    private static final ChangeType[] TYPES = ChangeType.values();
+    private static final EmployeeField[] FIELDS = EmployeeField.values();
+
+    private ReplicationProtocol() {
+    }
+
+    // Snapshot received from the primary
+    static final class SnapshotImage {
+        final long offset;
+        final List<Employee<Integer>> employees;
+
+        SnapshotImage(long offset, List<Employee<Integer>> employees) {
+            this.offset = offset;
+            this.employees = employees;
+        }
+    }
+
+    static void writeSnapshot(DataOutput out, EmployeeSnapshot<Integer> snapshot) throws IOException {
+        out.writeByte(SNAPSHOT);
+        out.writeLong(snapshot.getOffset());
+        out.writeInt(snapshot.size());
+        for (Employee<Integer> employee : snapshot) {
+            EmployeeCodec.write(out, employee);
+        }
+    }
+
+    // Reads the body of a SNAPSHOT message, after its type byte
+    static SnapshotImage readSnapshot(DataInput in) throws IOException {
+        long offset = in.readLong();
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Invalid snapshot size " + count);
+        }
+        List<Employee<Integer>> employees = new ArrayList<>(Math.min(count, 1 << 16));
+        for (int i = 0; i < count; i++) {
+            employees.add(EmployeeCodec.read(in));
+        }
+        return new SnapshotImage(offset, employees);
+    }
+
+    static void writeEvents(DataOutput out, List<ChangeEvent<Integer>> events) throws IOException {
+        out.writeByte(EVENTS);
+        out.writeInt(events.size());
+        for (ChangeEvent<Integer> event : events) {
+            out.writeLong(event.getOffset());
+            out.writeByte(event.getType().ordinal());
+            out.writeInt(event.getEmployeeId());
+            out.writeByte(event.getField() != null ? event.getField().ordinal() : -1);
+            out.writeLong(event.getTimestamp().getEpochSecond());
+            out.writeInt(event.getTimestamp().getNano());
+            if (event.getType() != ChangeType.DELETED) {
+                EmployeeCodec.write(out, event.getEmployee());
+            }
+        }
+    }
+
+    // Reads the body of an EVENTS message, after its type byte
+    static List<ChangeEvent<Integer>> readEvents(DataInput in) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Invalid event count " + count);
+        }
+        List<ChangeEvent<Integer>> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long offset = in.readLong();
+            ChangeType type = TYPES[checkIndex(in.readUnsignedByte(), TYPES.length, "change type")];
+            int employeeId = in.readInt();
+            int field = in.readByte();
+            EmployeeField employeeField = field < 0 ? null : FIELDS[checkIndex(field, FIELDS.length, "field")];
+            Instant timestamp = Instant.ofEpochSecond(in.readLong(), in.readInt());
+            Employee<Integer> employee = type != ChangeType.DELETED ? EmployeeCodec.read(in) : null;
+            events.add(new ChangeEvent<>(offset, type, employeeId, employeeField, employee, timestamp));
+        }
+        return events;
+    }
+
+    static void writeHeartbeat(DataOutput out, long nextOffset) throws IOException {
+        out.writeByte(HEARTBEAT);
+        out.writeLong(nextOffset);
+    }
+
+    private static int checkIndex(int index, int length, String what) throws IOException {
+        if (index < 0 || index >= length) {
+            throw new IOException("Invalid " + what + " code " + index);
+        }
+        return index;
+    }
+}
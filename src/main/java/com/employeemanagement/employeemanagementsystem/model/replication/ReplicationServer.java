@@ -0,0 +1,202 @@
+package com.employeemanagement.employeemanagementsystem.model.replication;
+
+import com.employeemanagement.employeemanagementsystem.exceptions.ChangeLogTruncatedException;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
+import com.employeemanagement.employeemanagementsystem.model.changelog.ChangeEvent;
+import com.employeemanagement.employeemanagementsystem.model.changelog.ChangeListener;
+import com.employeemanagement.employeemanagementsystem.model.changelog.ChangeLog;
+import com.employeemanagement.employeemanagementsystem.model.changelog.ChangeSubscription;
+import com.employeemanagement.employeemanagementsystem.model.mvcc.EmployeeSnapshot;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ships a primary EmployeeDatabase to read replicas: a snapshot first, then every change log event as it commits
+ * Each replica connection is served by its own thread, which reads the change log from the replica's position so
+ * a slow replica never holds up the primary or the other replicas. A replica that falls behind the change log's
+ * retention gets a fresh snapshot instead. Replicas reconnecting with a position still in the log resume from it.
+ */
+public class ReplicationServer implements AutoCloseable {
+
+    public static final Duration HEARTBEAT_INTERVAL = Duration.ofMillis(100);
+
+    private final EmployeeDatabase<Integer> primary;
+    private final ServerSocket serverSocket;
+    private final Thread acceptor;
+    private final Set<Session> sessions = ConcurrentHashMap.newKeySet();
+    // Wakes the sessions when the change log grows
+    private final Object newEvents = new Object();
+    private final ChangeSubscription subscription;
+    private volatile boolean running;
+
+    // Listens on the loopback address, port 0 picks a free port
+    public ReplicationServer(EmployeeDatabase<Integer> primary, int port) throws IOException {
+        if (primary == null) {
+            throw new IllegalArgumentException("Primary database cannot be null");
+        }
+        this.primary = primary;
+        this.serverSocket = new ServerSocket();
+        // A restarted primary can take its port back while old connections are in TIME_WAIT
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        this.acceptor = new Thread(this::acceptReplicas, "replication-acceptor-" + serverSocket.getLocalPort());
+        acceptor.setDaemon(true);
+        ChangeLog<Integer> changeLog = primary.getChangeLog();
+        this.subscription = changeLog.subscribe(changeLog.getNextOffset(), new ChangeListener<>() {
+            @Override
+            public void onEvents(List<ChangeEvent<Integer>> events) {
+                synchronized (newEvents) {
+                    newEvents.notifyAll();
+                }
+            }
+
+            @Override
+            public void onTruncated(ChangeSubscription subscription, long firstAvailableOffset) {
+                // Only used as a wake-up, skipping ahead loses nothing
+                subscription.seek(changeLog.getNextOffset());
+            }
+        });
+    }
+
+    public ReplicationServer start() {
+        running = true;
+        acceptor.start();
+        return this;
+    }
+
+    public InetSocketAddress getAddress() {
+        return new InetSocketAddress(serverSocket.getInetAddress(), serverSocket.getLocalPort());
+    }
+
+    public int getReplicaCount() {
+        return sessions.size();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        subscription.cancel();
+        try {
+            serverSocket.close();
+        } catch (IOException ignored) {
+            // Already closed
+        }
+        for (Session session : sessions) {
+            session.close();
+        }
+        synchronized (newEvents) {
+            newEvents.notifyAll();
+        }
+        // The listening socket is only released once the acceptor leaves accept()
+        try {
+            acceptor.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void acceptReplicas() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                Session session = new Session(socket);
+                sessions.add(session);
+                Thread thread = new Thread(session, "replication-" + socket.getRemoteSocketAddress());
+                thread.setDaemon(true);
+                thread.start();
+            } catch (IOException e) {
+                if (!running) {
+                    return;
+                }
+            }
+        }
+    }
+
+    // Streams the primary to one replica
+    private final class Session implements Runnable {
+        private final Socket socket;
+
+        Session(Socket socket) {
+            this.socket = socket;
+        }
+
+        @Override
+        public void run() {
+            try (socket) {
+                DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), 64 * 1024));
+                if (in.readInt() != ReplicationProtocol.MAGIC || in.readUnsignedByte() != ReplicationProtocol.VERSION) {
+                    return;
+                }
+                long position = in.readLong();
+                ChangeLog<Integer> changeLog = primary.getChangeLog();
+                if (position == ReplicationProtocol.FRESH || position < changeLog.getFirstOffset() || position > changeLog.getNextOffset()) {
+                    position = sendSnapshot(out);
+                }
+                while (running) {
+                    List<ChangeEvent<Integer>> events;
+                    try {
+                        events = changeLog.read(position, ChangeLog.MAX_BATCH_SIZE);
+                    } catch (ChangeLogTruncatedException e) {
+                        position = sendSnapshot(out);
+                        continue;
+                    }
+                    if (!events.isEmpty()) {
+                        ReplicationProtocol.writeEvents(out, events);
+                        position = events.get(events.size() - 1).getOffset() + 1;
+                        // Tells the replica how far behind it still is
+                        ReplicationProtocol.writeHeartbeat(out, changeLog.getNextOffset());
+                        out.flush();
+                        continue;
+                    }
+                    synchronized (newEvents) {
+                        if (changeLog.getNextOffset() == position && running) {
+                            newEvents.wait(HEARTBEAT_INTERVAL.toMillis());
+                        }
+                    }
+                    if (changeLog.getNextOffset() == position) {
+                        ReplicationProtocol.writeHeartbeat(out, position);
+                        out.flush();
+                    }
+                }
+            } catch (IOException | InterruptedException e) {
+                // The replica went away or the server is closing, the replica reconnects on its own
+            } catch (RuntimeException e) {
+                // A bug in this session only drops this replica's connection, the server keeps serving the others
+                Thread current = Thread.currentThread();
+                current.getUncaughtExceptionHandler().uncaughtException(current, e);
+            } finally {
+                sessions.remove(this);
+            }
+        }
+
+        // Sends the last committed snapshot and returns the offset replication continues from
+        private long sendSnapshot(DataOutputStream out) throws IOException {
+            EmployeeSnapshot<Integer> snapshot = primary.snapshot();
+            ReplicationProtocol.writeSnapshot(out, snapshot);
+            out.flush();
+            return snapshot.getOffset();
+        }
+
+        void close() {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // Already closed
+            }
+        }
+    }
+}
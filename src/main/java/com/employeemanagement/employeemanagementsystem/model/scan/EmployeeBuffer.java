@@ -0,0 +1,84 @@
+package com.employeemanagement.employeemanagementsystem.model.scan;
+
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Reusable result buffer for the EmployeeDatabase query overloads that fill instead of returning a list
+ * Every query clears the buffer before adding its matches, and the backing array only grows, so once it has
+ * reached the size of the largest result a query fills it without allocating. Read it with size() and get(i).
+ * Not thread-safe, give each thread its own buffer.
+ */
+public final class EmployeeBuffer<T> {
+
+    private Object[] elements;
+    private int size;
+
+    // Constructor
+    public EmployeeBuffer() {
+        this(16);
+    }
+
+    public EmployeeBuffer(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative: " + initialCapacity);
+        }
+        this.elements = new Object[initialCapacity];
+    }
+
+    public void add(Employee<T> employee) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(16, size + (size >> 1)));
+        }
+        elements[size++] = employee;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Employee<T> get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return (Employee<T>) elements[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int capacity() {
+        return elements.length;
+    }
+
+    // Drops the references so the employees can be collected, the capacity is kept
+    public void clear() {
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super Employee<T>> action) {
+        for (int i = 0; i < size; i++) {
+            action.accept((Employee<T>) elements[i]);
+        }
+    }
+
+    // Copies the contents into a new list
+    public List<Employee<T>> toList() {
+        List<Employee<T>> list = new ArrayList<>(size);
+        forEach(list::add);
+        return list;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("EmployeeBuffer{size=%d, capacity=%d}", size, elements.length);
+    }
+}
@@ -0,0 +1,72 @@
+package com.employeemanagement.employeemanagementsystem.model.scan;
+
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.mvcc.PersistentEmployeeMap;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * Reusable iterator over the employees of one database version that match a filter
+ * EmployeeDatabase.iterateMatching re-points the iterator at the current version, which never changes afterwards,
+ * so iterating needs no lock and sees no concurrent writes. The version is walked in place by a trie cursor the
+ * iterator keeps, and iterator() returns the iterator itself, so a for-each loop over a reused instance doesn't
+ * allocate. Not thread-safe.
+ */
+public final class EmployeeScanIterator<T> implements Iterator<Employee<T>>, Iterable<Employee<T>> {
+
+    private final PersistentEmployeeMap.Cursor<T> cursor = new PersistentEmployeeMap.Cursor<>();
+    private Predicate<? super Employee<T>> filter;
+    private Employee<T> next;
+
+    // Starts a new iteration over the version, dropping what was left of the previous one
+    public EmployeeScanIterator<T> open(PersistentEmployeeMap<T> version, Predicate<? super Employee<T>> filter) {
+        if (version == null || filter == null) {
+            throw new IllegalArgumentException("Version and filter cannot be null");
+        }
+        cursor.open(version);
+        this.filter = filter;
+        this.next = null;
+        return this;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (filter == null) {
+            return false;
+        }
+        while (next == null) {
+            Employee<T> employee = cursor.next();
+            if (employee == null) {
+                return false;
+            }
+            if (filter.test(employee)) {
+                next = employee;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Employee<T> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Employee<T> employee = next;
+        next = null;
+        return employee;
+    }
+
+    // Releases the version so it can be collected while the iterator waits for its next use
+    public void close() {
+        cursor.close();
+        filter = null;
+        next = null;
+    }
+
+    @Override
+    public Iterator<Employee<T>> iterator() {
+        return this;
+    }
+}
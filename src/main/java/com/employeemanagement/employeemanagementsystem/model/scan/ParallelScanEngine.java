@@ -0,0 +1,269 @@
+package com.employeemanagement.employeemanagementsystem.model.scan;
+
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Runs filters and aggregates over an array of employees in fixed-size ranges on a fork-join pool
+ * The array is cut into ranges of exactly rangeSize rows (the last one shorter), each range is evaluated on its
+ * own and its partial result stored by range index, then the partials are merged in range order. Filters
+ * therefore return rows in array order, and sums are added up in the same order whether the ranges ran in
+ * parallel or not, so both paths give identical results. Arrays shorter than the parallel threshold, or a pool
+ * with parallelism 1, are scanned on the calling thread. Sums use compensated (Neumaier) summation, within each
+ * range and across the range partials. Callers that don't have an array yet use the Iterable overloads below the
+ * threshold, which give the same results without copying the rows first.
+ */
+public final class ParallelScanEngine {
+
+    // Below this a sequential scan takes under a millisecond, less than splitting saves once the flat copy is paid
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 100_000;
+    // 4096 references plus the employees they point at stay well within a core's L2 cache
+    public static final int DEFAULT_RANGE_SIZE = 4096;
+
+    private static final ParallelScanEngine SHARED = new ParallelScanEngine(ForkJoinPool.commonPool(),
+            DEFAULT_PARALLEL_THRESHOLD, DEFAULT_RANGE_SIZE);
+    private static final ParallelScanEngine SEQUENTIAL = new ParallelScanEngine(ForkJoinPool.commonPool(),
+            Integer.MAX_VALUE, DEFAULT_RANGE_SIZE);
+
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+    private final int rangeSize;
+
+    public ParallelScanEngine(ForkJoinPool pool, int parallelThreshold, int rangeSize) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        if (parallelThreshold < 0) {
+            throw new IllegalArgumentException("Parallel threshold cannot be negative: " + parallelThreshold);
+        }
+        if (rangeSize < 1) {
+            throw new IllegalArgumentException("Range size must be positive: " + rangeSize);
+        }
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+        this.rangeSize = rangeSize;
+    }
+
+    // Engine on the common pool with the default threshold and range size, the default of every database
+    public static ParallelScanEngine shared() {
+        return SHARED;
+    }
+
+    // Engine that never splits a scan, for databases that write between most scans
+    public static ParallelScanEngine sequential() {
+        return SEQUENTIAL;
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    public int getRangeSize() {
+        return rangeSize;
+    }
+
+    // True when a scan of this many rows is split across the pool
+    public boolean isParallel(int rows) {
+        return rows >= parallelThreshold && pool.getParallelism() > 1 && rows > rangeSize;
+    }
+
+    // Rows matching the predicate, in array order
+    @SuppressWarnings("unchecked")
+    public <T> List<Employee<T>> filter(Object[] rows, Predicate<? super Employee<T>> predicate) {
+        int ranges = rangeCount(rows.length);
+        List<Employee<T>>[] partials = (List<Employee<T>>[]) new List<?>[ranges];
+        run(rows.length, ranges, range -> {
+            List<Employee<T>> matches = new ArrayList<>();
+            int end = end(range, rows.length);
+            for (int i = start(range); i < end; i++) {
+                Employee<T> employee = (Employee<T>) rows[i];
+                if (predicate.test(employee)) {
+                    matches.add(employee);
+                }
+            }
+            partials[range] = matches;
+        });
+        int total = 0;
+        for (List<Employee<T>> partial : partials) {
+            total += partial.size();
+        }
+        List<Employee<T>> result = new ArrayList<>(total);
+        for (List<Employee<T>> partial : partials) {
+            result.addAll(partial);
+        }
+        return result;
+    }
+
+    // Rows matching the predicate, in iteration order, scanned on the calling thread
+    public <T> List<Employee<T>> filter(Iterable<? extends Employee<T>> rows, Predicate<? super Employee<T>> predicate) {
+        List<Employee<T>> result = new ArrayList<>();
+        for (Employee<T> employee : rows) {
+            if (predicate.test(employee)) {
+                result.add(employee);
+            }
+        }
+        return result;
+    }
+
+    // Number of rows matching the predicate
+    @SuppressWarnings("unchecked")
+    public <T> long count(Object[] rows, Predicate<? super Employee<T>> predicate) {
+        int ranges = rangeCount(rows.length);
+        long[] counts = new long[ranges];
+        run(rows.length, ranges, range -> {
+            long count = 0;
+            int end = end(range, rows.length);
+            for (int i = start(range); i < end; i++) {
+                if (predicate.test((Employee<T>) rows[i])) {
+                    count++;
+                }
+            }
+            counts[range] = count;
+        });
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    // Count and sum of a value over the rows matching the predicate
+    @SuppressWarnings("unchecked")
+    public <T> ScanAggregate aggregate(Object[] rows, Predicate<? super Employee<T>> predicate,
+                                       ToDoubleFunction<? super Employee<T>> value) {
+        int ranges = rangeCount(rows.length);
+        long[] counts = new long[ranges];
+        double[] sums = new double[ranges];
+        run(rows.length, ranges, range -> {
+            long count = 0;
+            CompensatedSum sum = new CompensatedSum();
+            int end = end(range, rows.length);
+            for (int i = start(range); i < end; i++) {
+                Employee<T> employee = (Employee<T>) rows[i];
+                if (predicate.test(employee)) {
+                    count++;
+                    sum.add(value.applyAsDouble(employee));
+                }
+            }
+            counts[range] = count;
+            sums[range] = sum.value();
+        });
+        long count = 0;
+        CompensatedSum sum = new CompensatedSum();
+        for (int range = 0; range < ranges; range++) {
+            count += counts[range];
+            sum.add(sums[range]);
+        }
+        return new ScanAggregate(count, sum.value());
+    }
+
+    // Same result as the array overload for rows in the same order, scanned on the calling thread
+    public <T> ScanAggregate aggregate(Iterable<? extends Employee<T>> rows, Predicate<? super Employee<T>> predicate,
+                                       ToDoubleFunction<? super Employee<T>> value) {
+        long count = 0;
+        CompensatedSum total = new CompensatedSum();
+        CompensatedSum range = new CompensatedSum();
+        int inRange = 0;
+        for (Employee<T> employee : rows) {
+            if (predicate.test(employee)) {
+                count++;
+                range.add(value.applyAsDouble(employee));
+            }
+            // Partials are folded at the same range boundaries as the array overload
+            if (++inRange == rangeSize) {
+                total.add(range.value());
+                range = new CompensatedSum();
+                inRange = 0;
+            }
+        }
+        if (inRange > 0) {
+            total.add(range.value());
+        }
+        return new ScanAggregate(count, total.value());
+    }
+
+    // Neumaier's variant of Kahan summation, keeps the rounding error of every addition and adds it back at the end
+    private static final class CompensatedSum {
+        private double sum;
+        private double compensation;
+
+        void add(double value) {
+            double total = sum + value;
+            if (Math.abs(sum) >= Math.abs(value)) {
+                compensation += (sum - total) + value;
+            } else {
+                compensation += (value - total) + sum;
+            }
+            sum = total;
+        }
+
+        double value() {
+            return sum + compensation;
+        }
+    }
+
+    // Ranges
+
+    private interface RangeTask {
+        void run(int range);
+    }
+
+    private int rangeCount(int rows) {
+        return (rows + rangeSize - 1) / rangeSize;
+    }
+
+    private int start(int range) {
+        return range * rangeSize;
+    }
+
+    private int end(int range, int rows) {
+        return (int) Math.min(rows, (long) (range + 1) * rangeSize);
+    }
+
+    private void run(int rows, int ranges, RangeTask task) {
+        if (!isParallel(rows)) {
+            for (int range = 0; range < ranges; range++) {
+                task.run(range);
+            }
+            return;
+        }
+        pool.invoke(new RangeAction(task, 0, ranges));
+    }
+
+    // Halves the range interval until a single range is left, idle workers steal the other halves
+    private static final class RangeAction extends RecursiveAction {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final transient RangeTask task;
+        private final int from;
+        private final int to;
+
+        RangeAction(RangeTask task, int from, int to) {
+            this.task = task;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                task.run(from);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RangeAction(task, from, middle), new RangeAction(task, middle, to));
+        }
+    }
+}
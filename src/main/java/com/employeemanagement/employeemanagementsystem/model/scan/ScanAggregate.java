@@ -0,0 +1,33 @@
+package com.employeemanagement.employeemanagementsystem.model.scan;
+
+/**
+ * Count and sum of a value over the rows a scan matched
+ */
+public final class ScanAggregate {
+    private final long count;
+    private final double sum;
+
+    // Constructor
+    public ScanAggregate(long count, double sum) {
+        this.count = count;
+        this.sum = sum;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getSum() {
+        return sum;
+    }
+
+    // 0 when nothing matched
+    public double getAverage() {
+        return count == 0 ? 0 : sum / count;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d rows, sum %.2f, average %.2f", count, sum, getAverage());
+    }
+}
@@ -0,0 +1,218 @@
+package com.employeemanagement.employeemanagementsystem.model.sort;
+
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Packs the columns of a sort order into as few unsigned long words per row as possible
+ * Each column is replaced by a compact order-preserving code: an offset from the minimum for narrow ranges,
+ * otherwise its dense rank among the distinct values, so it needs only ceil(log2(codes)) bits. Columns are packed from the most significant bit down and spill into
+ * a new word when one is full; the employee ID rank is appended as the final tie-break.
+ */
+final class CompositeKeyPacker {
+
+    // Key ranges below this are offset rather than ranked
+    private static final long DIRECT_RANGE = 1 << 16;
+
+    private CompositeKeyPacker() {
+    }
+
+    // Returns words[word][row], word 0 is the most significant
+    static <T> long[][] pack(List<Employee<T>> rows, EmployeeSortOrder order) {
+        int rowCount = rows.size();
+        int columnCount = order.size();
+        long[][] ranks = new long[columnCount + 1][];
+        int[] bits = new int[columnCount + 1];
+
+        for (int c = 0; c < columnCount; c++) {
+            long[] keys = extract(rows, order.getColumn(c));
+            long distinct = denseRank(keys);
+            if (order.isDescending(c)) {
+                for (int i = 0; i < rowCount; i++) {
+                    keys[i] = distinct - 1 - keys[i];
+                }
+            }
+            ranks[c] = keys;
+            bits[c] = bitsFor(distinct);
+        }
+        long[] idKeys = extractIds(rows);
+        ranks[columnCount] = idKeys;
+        bits[columnCount] = idKeys == null ? 0 : bitsFor(denseRank(idKeys));
+
+        // Count words needed
+        int wordCount = 1;
+        int used = 0;
+        for (int bitCount : bits) {
+            if (used + bitCount > Long.SIZE) {
+                wordCount++;
+                used = 0;
+            }
+            used += bitCount;
+        }
+
+        long[][] words = new long[wordCount][rowCount];
+        int word = 0;
+        used = 0;
+        for (int c = 0; c <= columnCount; c++) {
+            if (bits[c] == 0) {
+                continue;
+            }
+            if (used + bits[c] > Long.SIZE) {
+                word++;
+                used = 0;
+            }
+            int shift = Long.SIZE - used - bits[c];
+            long[] target = words[word];
+            long[] source = ranks[c];
+            for (int i = 0; i < rowCount; i++) {
+                target[i] |= source[i] << shift;
+            }
+            used += bits[c];
+        }
+        return words;
+    }
+
+    private static <T> long[] extract(List<Employee<T>> rows, SortColumn column) {
+        long[] keys = new long[rows.size()];
+        switch (column) {
+            case DEPARTMENT:
+                for (int i = 0; i < keys.length; i++) {
+                    Enum<?> department = rows.get(i).getEmployeeDepartment();
+                    keys[i] = department == null ? 0 : department.ordinal() + 1;
+                }
+                return keys;
+            case NAME:
+                return rankNames(rows);
+            case SALARY:
+                for (int i = 0; i < keys.length; i++) {
+                    keys[i] = EmployeeSortKey.sortableBits(rows.get(i).getEmployeeSalary());
+                }
+                return keys;
+            case PERFORMANCE:
+                for (int i = 0; i < keys.length; i++) {
+                    keys[i] = EmployeeSortKey.sortableBits(rows.get(i).getPerformanceRating());
+                }
+                return keys;
+            case EXPERIENCE:
+                for (int i = 0; i < keys.length; i++) {
+                    keys[i] = EmployeeSortKey.sortableBits(rows.get(i).getYearsOfExperience());
+                }
+                return keys;
+            default:
+                for (int i = 0; i < keys.length; i++) {
+                    keys[i] = rows.get(i).isActive() ? 1 : 0;
+                }
+                return keys;
+        }
+    }
+
+    // Names have no primitive form, they are ranked once with a single object sort (nulls first)
+    private static <T> long[] rankNames(List<Employee<T>> rows) {
+        String[] names = new String[rows.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = rows.get(i).getEmployeeName();
+        }
+        return rankComparables(names);
+    }
+
+    // IDs become a tie-break key when they are numbers or mutually comparable, otherwise null
+    private static <T> long[] extractIds(List<Employee<T>> rows) {
+        if (rows.isEmpty()) {
+            return null;
+        }
+        Object[] ids = new Object[rows.size()];
+        boolean numeric = true;
+        Class<?> idClass = null;
+        for (int i = 0; i < ids.length; i++) {
+            Object id = rows.get(i).getEmployeeId();
+            if (id == null || (idClass != null && id.getClass() != idClass)) {
+                return null;
+            }
+            idClass = id.getClass();
+            numeric &= id instanceof Integer || id instanceof Long || id instanceof Short || id instanceof Byte;
+            ids[i] = id;
+        }
+        if (numeric) {
+            long[] keys = new long[ids.length];
+            for (int i = 0; i < ids.length; i++) {
+                keys[i] = ((Number) ids[i]).longValue() ^ Long.MIN_VALUE;
+            }
+            return keys;
+        }
+        return Comparable.class.isAssignableFrom(idClass) ? rankComparables(ids) : null;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static long[] rankComparables(Object[] values) {
+        Integer[] order = new Integer[values.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> {
+            Comparable first = (Comparable) values[a];
+            Object second = values[b];
+            if (first == null || second == null) {
+                return first == null ? (second == null ? 0 : -1) : 1;
+            }
+            return first.compareTo(second);
+        });
+        long[] ranks = new long[values.length];
+        long rank = 0;
+        for (int i = 0; i < order.length; i++) {
+            if (i > 0) {
+                Comparable previous = (Comparable) values[order[i - 1]];
+                Object current = values[order[i]];
+                boolean same = previous == null ? current == null : current != null && previous.compareTo(current) == 0;
+                if (!same) {
+                    rank++;
+                }
+            }
+            ranks[order[i]] = rank;
+        }
+        return ranks;
+    }
+
+    // Replaces unsigned keys by a compact order-preserving code in place, returns the number of codes used
+    private static long denseRank(long[] keys) {
+        if (keys.length == 0) {
+            return 0;
+        }
+        long min = -1L;
+        long max = 0L;
+        for (long key : keys) {
+            if (Long.compareUnsigned(key, min) < 0) {
+                min = key;
+            }
+            if (Long.compareUnsigned(key, max) > 0) {
+                max = key;
+            }
+        }
+        // Narrow ranges (departments, experience, sequential IDs) only need an offset
+        long range = max - min;
+        if (Long.compareUnsigned(range, Math.max(keys.length, DIRECT_RANGE)) < 0) {
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] -= min;
+            }
+            return range + 1;
+        }
+        // Wide ranges (doubles) are ranked with one radix sort pass over the keys
+        int[] order = EmployeeSortEngine.sortPermutation(keys);
+        long rank = 0;
+        long previous = keys[order[0]];
+        for (int index : order) {
+            long key = keys[index];
+            if (key != previous) {
+                rank++;
+                previous = key;
+            }
+            keys[index] = rank;
+        }
+        return rank + 1;
+    }
+
+    private static int bitsFor(long distinct) {
+        return distinct <= 1 ? 0 : Long.SIZE - Long.numberOfLeadingZeros(distinct - 1);
+    }
+}
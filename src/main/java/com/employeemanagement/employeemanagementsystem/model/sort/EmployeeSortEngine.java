@@ -0,0 +1,286 @@
+package com.employeemanagement.employeemanagementsystem.model.sort;
+
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Sort engine over primitive keys
+ * Keys are extracted once per employee into a long[], then sorted with a stable counting sort (small key
+ * ranges) or LSD radix sort, and with a parallel merge of radix-sorted runs above PARALLEL_THRESHOLD.
+ * Results are stable, so they match List.sort with the equivalent comparator, nulls are placed last.
+ */
+public final class EmployeeSortEngine {
+
+    // Lists at least this large are sorted on the common fork-join pool
+    public static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    // Key ranges up to this size use counting sort
+    private static final int COUNTING_SORT_RANGE = 1 << 16;
+
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX_BUCKETS = 1 << RADIX_BITS;
+
+    private EmployeeSortEngine() {
+    }
+
+    // Sorts employees by the key, highest first
+    public static <T> List<Employee<T>> sortDescending(Collection<Employee<T>> employees, EmployeeSortKey key) {
+        return sort(employees, key, true);
+    }
+
+    // Sorts employees by the key, lowest first
+    public static <T> List<Employee<T>> sortAscending(Collection<Employee<T>> employees, EmployeeSortKey key) {
+        return sort(employees, key, false);
+    }
+
+    // Sorts employees by several columns using packed composite keys, nulls last
+    public static <T> List<Employee<T>> sort(Collection<Employee<T>> employees, EmployeeSortOrder order) {
+        if (order == null || order.size() == 0) {
+            throw new IllegalArgumentException("Sort order must have at least one column");
+        }
+        List<Employee<T>> rows = new ArrayList<>(employees.size());
+        int nullCount = 0;
+        for (Employee<T> employee : employees) {
+            if (employee == null) {
+                nullCount++;
+            } else {
+                rows.add(employee);
+            }
+        }
+
+        // LSD over words: sort by the least significant word first, each pass is stable
+        long[][] words = CompositeKeyPacker.pack(rows, order);
+        int[] permutation = null;
+        long[] permutedKeys = new long[rows.size()];
+        for (int word = words.length - 1; word >= 0; word--) {
+            for (int i = 0; i < permutedKeys.length; i++) {
+                permutedKeys[i] = words[word][permutation == null ? i : permutation[i]];
+            }
+            int[] pass = sortPermutation(permutedKeys);
+            if (permutation == null) {
+                permutation = pass;
+            } else {
+                int[] composed = new int[pass.length];
+                for (int i = 0; i < pass.length; i++) {
+                    composed[i] = permutation[pass[i]];
+                }
+                permutation = composed;
+            }
+        }
+
+        List<Employee<T>> sorted = new ArrayList<>(rows.size() + nullCount);
+        for (int index : permutation) {
+            sorted.add(rows.get(index));
+        }
+        for (int i = 0; i < nullCount; i++) {
+            sorted.add(null);
+        }
+        return sorted;
+    }
+
+    private static <T> List<Employee<T>> sort(Collection<Employee<T>> employees, EmployeeSortKey key, boolean descending) {
+        // Nulls are kept aside and appended in their original order
+        List<Employee<T>> rows = new ArrayList<>(employees.size());
+        int nullCount = 0;
+        for (Employee<T> employee : employees) {
+            if (employee == null) {
+                nullCount++;
+            } else {
+                rows.add(employee);
+            }
+        }
+
+        long[] keys = new long[rows.size()];
+        for (int i = 0; i < keys.length; i++) {
+            long extracted = key.extract(rows.get(i));
+            keys[i] = descending ? ~extracted : extracted;
+        }
+
+        int[] permutation = sortPermutation(keys);
+        List<Employee<T>> sorted = new ArrayList<>(rows.size() + nullCount);
+        for (int index : permutation) {
+            sorted.add(rows.get(index));
+        }
+        for (int i = 0; i < nullCount; i++) {
+            sorted.add(null);
+        }
+        return sorted;
+    }
+
+    // Returns the stable permutation that orders the keys as unsigned ascending values, keys are left unchanged
+    public static int[] sortPermutation(long[] keys) {
+        int length = keys.length;
+        int[] permutation = new int[length];
+        for (int i = 0; i < length; i++) {
+            permutation[i] = i;
+        }
+        if (length < 2) {
+            return permutation;
+        }
+        long[] sortedKeys = keys.clone();
+        if (length >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            long[] keyBuffer = new long[length];
+            int[] permutationBuffer = new int[length];
+            ForkJoinPool.commonPool().invoke(new ParallelSortTask(sortedKeys, permutation, keyBuffer, permutationBuffer, 0, length));
+        } else {
+            sortRange(sortedKeys, permutation, 0, length);
+        }
+        return permutation;
+    }
+
+    // Sorts keys[from, to) and carries the permutation along
+    private static void sortRange(long[] keys, int[] permutation, int from, int to) {
+        long min = -1L;
+        long max = 0L;
+        // Bits that differ from the first key in at least one key
+        long differingBits = 0L;
+        for (int i = from; i < to; i++) {
+            differingBits |= keys[i] ^ keys[from];
+            if (Long.compareUnsigned(keys[i], min) < 0) {
+                min = keys[i];
+            }
+            if (Long.compareUnsigned(keys[i], max) > 0) {
+                max = keys[i];
+            }
+        }
+        long range = max - min;
+        if (range == 0) {
+            return;
+        }
+        if (Long.compareUnsigned(range, COUNTING_SORT_RANGE) < 0) {
+            countingSort(keys, permutation, from, to, min, (int) range + 1);
+        } else {
+            radixSort(keys, permutation, from, to, differingBits);
+        }
+    }
+
+    private static void countingSort(long[] keys, int[] permutation, int from, int to, long min, int range) {
+        int length = to - from;
+        int[] counts = new int[range + 1];
+        for (int i = from; i < to; i++) {
+            counts[(int) (keys[i] - min) + 1]++;
+        }
+        for (int i = 1; i <= range; i++) {
+            counts[i] += counts[i - 1];
+        }
+        long[] keyBuffer = new long[length];
+        int[] permutationBuffer = new int[length];
+        for (int i = from; i < to; i++) {
+            int target = counts[(int) (keys[i] - min)]++;
+            keyBuffer[target] = keys[i];
+            permutationBuffer[target] = permutation[i];
+        }
+        System.arraycopy(keyBuffer, 0, keys, from, length);
+        System.arraycopy(permutationBuffer, 0, permutation, from, length);
+    }
+
+    // LSD radix sort, bytes where every key agrees (no bit set in differingBits) are skipped
+    private static void radixSort(long[] keys, int[] permutation, int from, int to, long differingBits) {
+        int length = to - from;
+        long[] sourceKeys = new long[length];
+        int[] sourcePermutation = new int[length];
+        System.arraycopy(keys, from, sourceKeys, 0, length);
+        System.arraycopy(permutation, from, sourcePermutation, 0, length);
+        long[] targetKeys = new long[length];
+        int[] targetPermutation = new int[length];
+        int[] counts = new int[RADIX_BUCKETS];
+
+        for (int shift = 0; shift < Long.SIZE; shift += RADIX_BITS) {
+            if (((differingBits >>> shift) & (RADIX_BUCKETS - 1)) == 0) {
+                continue;
+            }
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < length; i++) {
+                counts[(int) (sourceKeys[i] >>> shift) & (RADIX_BUCKETS - 1)]++;
+            }
+            int position = 0;
+            for (int bucket = 0; bucket < RADIX_BUCKETS; bucket++) {
+                int count = counts[bucket];
+                counts[bucket] = position;
+                position += count;
+            }
+            for (int i = 0; i < length; i++) {
+                int target = counts[(int) (sourceKeys[i] >>> shift) & (RADIX_BUCKETS - 1)]++;
+                targetKeys[target] = sourceKeys[i];
+                targetPermutation[target] = sourcePermutation[i];
+            }
+            long[] swapKeys = sourceKeys;
+            sourceKeys = targetKeys;
+            targetKeys = swapKeys;
+            int[] swapPermutation = sourcePermutation;
+            sourcePermutation = targetPermutation;
+            targetPermutation = swapPermutation;
+        }
+        System.arraycopy(sourceKeys, 0, keys, from, length);
+        System.arraycopy(sourcePermutation, 0, permutation, from, length);
+    }
+
+    // Stable merge of two adjacent sorted runs [from, mid) and [mid, to)
+    private static void merge(long[] keys, int[] permutation, long[] keyBuffer, int[] permutationBuffer,
+                              int from, int mid, int to) {
+        System.arraycopy(keys, from, keyBuffer, from, to - from);
+        System.arraycopy(permutation, from, permutationBuffer, from, to - from);
+        int left = from;
+        int right = mid;
+        int target = from;
+        while (left < mid && right < to) {
+            // Ties take the left run first to keep the sort stable
+            if (Long.compareUnsigned(keyBuffer[right], keyBuffer[left]) < 0) {
+                keys[target] = keyBuffer[right];
+                permutation[target++] = permutationBuffer[right++];
+            } else {
+                keys[target] = keyBuffer[left];
+                permutation[target++] = permutationBuffer[left++];
+            }
+        }
+        while (left < mid) {
+            keys[target] = keyBuffer[left];
+            permutation[target++] = permutationBuffer[left++];
+        }
+        while (right < to) {
+            keys[target] = keyBuffer[right];
+            permutation[target++] = permutationBuffer[right++];
+        }
+    }
+
+    // Radix sorts halves in parallel until they are small enough, then merges them back
+    private static final class ParallelSortTask extends RecursiveAction {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final long[] keys;
+        private final int[] permutation;
+        private final long[] keyBuffer;
+        private final int[] permutationBuffer;
+        private final int from;
+        private final int to;
+
+        ParallelSortTask(long[] keys, int[] permutation, long[] keyBuffer, int[] permutationBuffer, int from, int to) {
+            this.keys = keys;
+            this.permutation = permutation;
+            this.keyBuffer = keyBuffer;
+            this.permutationBuffer = permutationBuffer;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                sortRange(keys, permutation, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ParallelSortTask(keys, permutation, keyBuffer, permutationBuffer, from, mid),
+                    new ParallelSortTask(keys, permutation, keyBuffer, permutationBuffer, mid, to));
+            merge(keys, permutation, keyBuffer, permutationBuffer, from, mid, to);
+        }
+    }
+}
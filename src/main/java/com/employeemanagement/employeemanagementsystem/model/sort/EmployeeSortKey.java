@@ -0,0 +1,36 @@
+package com.employeemanagement.employeemanagementsystem.model.sort;
+
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+
+/**
+ * Primitive sort keys that can be extracted once per employee
+ * Keys are unsigned longs whose unsigned order matches the natural ascending order of the field.
+ */
+public enum EmployeeSortKey {
+    SALARY,
+    PERFORMANCE,
+    EXPERIENCE;
+
+    // Extracts the ascending unsigned key of this field
+    public long extract(Employee<?> employee) {
+        switch (this) {
+            case SALARY:
+                return sortableBits(employee.getEmployeeSalary());
+            case PERFORMANCE:
+                return sortableBits(employee.getPerformanceRating());
+            default:
+                return sortableBits(employee.getYearsOfExperience());
+        }
+    }
+
+    // Maps a double to a long whose unsigned order matches Double.compare (including -0.0 and NaN)
+    public static long sortableBits(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits < 0 ? ~bits : bits ^ Long.MIN_VALUE;
+    }
+
+    // Maps an int to a long whose unsigned order matches Integer.compare
+    public static long sortableBits(int value) {
+        return (value ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+    }
+}
@@ -0,0 +1,100 @@
+package com.employeemanagement.employeemanagementsystem.model.sort;
+
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable multi-column sort order, e.g. department, then rating descending, then salary descending
+ * Ties on every column are broken by employee ID when IDs are comparable, so results are deterministic.
+ */
+public final class EmployeeSortOrder {
+
+    private final List<SortColumn> columns;
+    private final List<Boolean> descending;
+
+    private EmployeeSortOrder(List<SortColumn> columns, List<Boolean> descending) {
+        this.columns = Collections.unmodifiableList(columns);
+        this.descending = Collections.unmodifiableList(descending);
+    }
+
+    // Starts an order with an ascending column
+    public static EmployeeSortOrder by(SortColumn column) {
+        return new EmployeeSortOrder(new ArrayList<>(), new ArrayList<>()).then(column, false);
+    }
+
+    // Starts an order with a descending column
+    public static EmployeeSortOrder byDescending(SortColumn column) {
+        return new EmployeeSortOrder(new ArrayList<>(), new ArrayList<>()).then(column, true);
+    }
+
+    // Adds an ascending column
+    public EmployeeSortOrder then(SortColumn column) {
+        return then(column, false);
+    }
+
+    // Adds a descending column
+    public EmployeeSortOrder thenDescending(SortColumn column) {
+        return then(column, true);
+    }
+
+    private EmployeeSortOrder then(SortColumn column, boolean isDescending) {
+        if (column == null) {
+            throw new IllegalArgumentException("Sort column cannot be null");
+        }
+        List<SortColumn> newColumns = new ArrayList<>(columns);
+        List<Boolean> newDescending = new ArrayList<>(descending);
+        newColumns.add(column);
+        newDescending.add(isDescending);
+        return new EmployeeSortOrder(newColumns, newDescending);
+    }
+
+    public int size() {
+        return columns.size();
+    }
+
+    public SortColumn getColumn(int index) {
+        return columns.get(index);
+    }
+
+    public boolean isDescending(int index) {
+        return descending.get(index);
+    }
+
+    // Equivalent chained comparator, including the ID tie-break
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <T> Comparator<Employee<T>> toComparator() {
+        Comparator<Employee<T>> comparator = null;
+        for (int i = 0; i < columns.size(); i++) {
+            Comparator<Employee<T>> next = columns.get(i).comparator();
+            if (descending.get(i)) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        Comparator<Employee<T>> byId = (a, b) -> {
+            Object first = a.getEmployeeId();
+            Object second = b.getEmployeeId();
+            if (first instanceof Comparable && second != null && first.getClass() == second.getClass()) {
+                return ((Comparable) first).compareTo(second);
+            }
+            return 0;
+        };
+        return comparator.thenComparing(byId);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(columns.get(i)).append(descending.get(i) ? " DESC" : " ASC");
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,35 @@
+package com.employeemanagement.employeemanagementsystem.model.sort;
+
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+
+import java.util.Comparator;
+
+/**
+ * Employee columns available to multi-column sorts
+ */
+public enum SortColumn {
+    DEPARTMENT,
+    NAME,
+    SALARY,
+    PERFORMANCE,
+    EXPERIENCE,
+    ACTIVE;
+
+    // Ascending comparator for this column, used as the reference ordering (nulls first)
+    public <T> Comparator<Employee<T>> comparator() {
+        switch (this) {
+            case DEPARTMENT:
+                return Comparator.comparing(Employee::getEmployeeDepartment, Comparator.nullsFirst(Comparator.naturalOrder()));
+            case NAME:
+                return Comparator.comparing(Employee::getEmployeeName, Comparator.nullsFirst(Comparator.naturalOrder()));
+            case SALARY:
+                return Comparator.comparingDouble(Employee::getEmployeeSalary);
+            case PERFORMANCE:
+                return Comparator.comparingDouble(Employee::getPerformanceRating);
+            case EXPERIENCE:
+                return Comparator.comparingInt(Employee::getYearsOfExperience);
+            default:
+                return (a, b) -> Boolean.compare(a.isActive(), b.isActive());
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.employeemanagement.employeemanagementsystem.model.statistics;
+
+/**
+ * Quantile sketch of a set of salaries that also supports removals, so it can follow salary changes
+ * Added and removed salaries go into two SalaryQuantileSketch instances; the rank of a value is its weight in
+ * the first minus its weight in the second. While nothing has been removed answers are those of a plain sketch.
+ * Each removal adds error relative to the live count, so once more salaries were removed than are live,
+ * needsRebuild() asks the owner to clear the sketch and add the live salaries again.
+ * Updates must not run concurrently with reads or each other; reads may run concurrently.
+ */
+public class SalaryDistributionSketch {
+
+    private final int k;
+    private SalaryQuantileSketch added;
+    private SalaryQuantileSketch removed;
+
+    // Constructor
+    public SalaryDistributionSketch() {
+        this(SalaryQuantileSketch.DEFAULT_K);
+    }
+
+    public SalaryDistributionSketch(int k) {
+        this.k = k;
+        this.added = new SalaryQuantileSketch(k);
+        this.removed = new SalaryQuantileSketch(k);
+    }
+
+    public void add(double salary) {
+        added.update(salary);
+    }
+
+    // Removes a salary that was added before
+    public void remove(double salary) {
+        if (getCount() == 0) {
+            throw new IllegalStateException("No salary left to remove");
+        }
+        if (getCount() == 1) {
+            // Nothing is live any more, start over exactly
+            clear();
+            return;
+        }
+        removed.update(salary);
+    }
+
+    public void clear() {
+        added = new SalaryQuantileSketch(k);
+        removed = new SalaryQuantileSketch(k);
+    }
+
+    // Number of live salaries (exact)
+    public long getCount() {
+        return added.getCount() - removed.getCount();
+    }
+
+    public boolean isEmpty() {
+        return getCount() == 0;
+    }
+
+    public long getRemovedCount() {
+        return removed.getCount();
+    }
+
+    // Whether removals outweigh the live salaries and the sketch should be rebuilt from them
+    public boolean needsRebuild() {
+        return removed.getCount() > getCount();
+    }
+
+    // Estimates the live salary at the given quantile (0.0 = minimum, 0.5 = median, 1.0 = maximum)
+    public double getQuantile(double quantile) {
+        if (Double.isNaN(quantile) || quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1, provided: " + quantile);
+        }
+        long live = getCount();
+        if (live == 0) {
+            return Double.NaN;
+        }
+        if (removed.isEmpty()) {
+            return added.getQuantile(quantile);
+        }
+        // Smallest retained value whose live rank reaches the requested rank
+        long rank = Math.max(1, (long) Math.ceil(quantile * live));
+        double[] candidates = added.sortedValues();
+        int low = 0;
+        int high = candidates.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (liveWeightAtOrBelow(candidates[mid]) >= rank) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return candidates[low];
+    }
+
+    private long liveWeightAtOrBelow(double value) {
+        return added.weightAtOrBelow(value) - removed.weightAtOrBelow(value);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SalaryDistributionSketch{live=%d, removed=%d}", getCount(), removed.getCount());
+    }
+}
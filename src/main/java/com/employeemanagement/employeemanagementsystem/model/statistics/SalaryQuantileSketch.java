@@ -0,0 +1,297 @@
+package com.employeemanagement.employeemanagementsystem.model.statistics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Mergeable streaming quantile sketch (KLL style) for salary values
+ * Keeps a small stack of compactors instead of every salary, so a department's median, p90 or p99
+ * can be answered without sorting the whole department.
+ * Error bound: while fewer than k values were added the answers are exact. Beyond that the rank of the
+ * returned value is within about 1.65% of the requested rank (99% confidence) for the default k = 200,
+ * and the error shrinks roughly as 1/k for larger k.
+ */
+public class SalaryQuantileSketch {
+
+    public static final int DEFAULT_K = 200;
+
+    // Each level keeps its capacity at 2/3 of the level above it
+    private static final double LEVEL_DECAY = 2.0 / 3.0;
+    private static final int MIN_LEVEL_CAPACITY = 2;
+
+    private final int k;
+    private final Random random;
+    private final List<Compactor> levels;
+    private long count;
+    private double minValue;
+    private double maxValue;
+
+    // Sorted view used to answer queries, rebuilt lazily after updates. Published as one immutable object so
+    // concurrent readers never see half of it; updates must not run concurrently with reads or each other
+    private volatile SortedView view;
+
+    // Constructor
+    public SalaryQuantileSketch() {
+        this(DEFAULT_K);
+    }
+
+    public SalaryQuantileSketch(int k) {
+        if (k < 8) {
+            throw new IllegalArgumentException("Sketch size k must be at least 8, provided: " + k);
+        }
+        this.k = k;
+        // Fixed seed keeps results reproducible between runs
+        this.random = new Random(0x5EEDL);
+        this.levels = new ArrayList<>();
+        this.levels.add(new Compactor());
+        this.minValue = Double.NaN;
+        this.maxValue = Double.NaN;
+    }
+
+    // Adds a salary value to the sketch
+    public void update(double value) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("Salary value cannot be NaN");
+        }
+        if (count == 0) {
+            minValue = value;
+            maxValue = value;
+        } else {
+            minValue = Math.min(minValue, value);
+            maxValue = Math.max(maxValue, value);
+        }
+        levels.get(0).add(value);
+        count++;
+        view = null;
+        compressIfNeeded();
+    }
+
+    // Merges another sketch into this one, the other sketch is left unchanged
+    public void merge(SalaryQuantileSketch other) {
+        if (other == null || other.count == 0) {
+            return;
+        }
+        while (levels.size() < other.levels.size()) {
+            levels.add(new Compactor());
+        }
+        for (int h = 0; h < other.levels.size(); h++) {
+            Compactor source = other.levels.get(h);
+            Compactor target = levels.get(h);
+            for (int i = 0; i < source.size; i++) {
+                target.add(source.items[i]);
+            }
+        }
+        minValue = count == 0 ? other.minValue : Math.min(minValue, other.minValue);
+        maxValue = count == 0 ? other.maxValue : Math.max(maxValue, other.maxValue);
+        count += other.count;
+        view = null;
+        compressIfNeeded();
+    }
+
+    // Estimates the value at the given quantile (0.0 = minimum, 0.5 = median, 1.0 = maximum)
+    public double getQuantile(double quantile) {
+        if (Double.isNaN(quantile) || quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1, provided: " + quantile);
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (quantile == 0) {
+            return minValue;
+        }
+        if (quantile == 1) {
+            return maxValue;
+        }
+        SortedView sorted = sortedView();
+
+        // Smallest value whose cumulative weight reaches the requested rank
+        long rank = (long) Math.ceil(quantile * count);
+        int index = Arrays.binarySearch(sorted.cumulativeWeights, rank);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return sorted.values[Math.min(index, sorted.values.length - 1)];
+    }
+
+    // Estimates the fraction of values less than or equal to the given value
+    public double getRank(double value) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        return (double) weightAtOrBelow(value) / count;
+    }
+
+    // Estimated number of values less than or equal to the given value
+    long weightAtOrBelow(double value) {
+        if (count == 0) {
+            return 0;
+        }
+        SortedView sorted = sortedView();
+        int index = upperBound(sorted.values, value);
+        return index == 0 ? 0 : sorted.cumulativeWeights[index - 1];
+    }
+
+    // Retained values in ascending order, the candidates a quantile answer is picked from
+    double[] sortedValues() {
+        return count == 0 ? new double[0] : sortedView().values;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public double getMinValue() {
+        return minValue;
+    }
+
+    public double getMaxValue() {
+        return maxValue;
+    }
+
+    public int getK() {
+        return k;
+    }
+
+    // Number of values physically retained by the sketch
+    public int getRetainedItems() {
+        int retained = 0;
+        for (Compactor level : levels) {
+            retained += level.size;
+        }
+        return retained;
+    }
+
+    // Whether answers are still exact (nothing has been compacted yet)
+    public boolean isExact() {
+        return levels.size() == 1;
+    }
+
+    // Compaction
+
+    private int levelCapacity(int level) {
+        int depth = levels.size() - level - 1;
+        return Math.max(MIN_LEVEL_CAPACITY, (int) Math.ceil(k * Math.pow(LEVEL_DECAY, depth)));
+    }
+
+    private int totalCapacity() {
+        int total = 0;
+        for (int h = 0; h < levels.size(); h++) {
+            total += levelCapacity(h);
+        }
+        return total;
+    }
+
+    private void compressIfNeeded() {
+        while (getRetainedItems() > totalCapacity()) {
+            for (int h = 0; h < levels.size(); h++) {
+                if (levels.get(h).size >= levelCapacity(h)) {
+                    compact(h);
+                    break;
+                }
+            }
+        }
+    }
+
+    // Sorts a level and promotes every other item (random offset) to the next level with double weight
+    private void compact(int level) {
+        if (level + 1 == levels.size()) {
+            levels.add(new Compactor());
+        }
+        Compactor source = levels.get(level);
+        Compactor target = levels.get(level + 1);
+
+        Arrays.sort(source.items, 0, source.size);
+        // An odd item stays behind so total weight is preserved exactly
+        int pairs = source.size / 2;
+        double leftover = source.size % 2 == 1 ? source.items[source.size - 1] : Double.NaN;
+        int offset = random.nextBoolean() ? 1 : 0;
+        for (int i = 0; i < pairs; i++) {
+            target.add(source.items[2 * i + offset]);
+        }
+        source.size = 0;
+        if (!Double.isNaN(leftover)) {
+            source.add(leftover);
+        }
+    }
+
+    private SortedView sortedView() {
+        SortedView current = view;
+        if (current != null) {
+            return current;
+        }
+        int retained = getRetainedItems();
+        double[] values = new double[retained];
+        long[] weights = new long[retained];
+        int position = 0;
+        for (int h = 0; h < levels.size(); h++) {
+            Compactor level = levels.get(h);
+            for (int i = 0; i < level.size; i++) {
+                values[position] = level.items[i];
+                weights[position] = 1L << h;
+                position++;
+            }
+        }
+
+        // Sort values and carry their weights along
+        Integer[] order = new Integer[retained];
+        for (int i = 0; i < retained; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+
+        double[] sorted = new double[retained];
+        long[] cumulative = new long[retained];
+        long running = 0;
+        for (int i = 0; i < retained; i++) {
+            sorted[i] = values[order[i]];
+            running += weights[order[i]];
+            cumulative[i] = running;
+        }
+        current = new SortedView(sorted, cumulative);
+        view = current;
+        return current;
+    }
+
+    private static int upperBound(double[] values, double key) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static final class SortedView {
+        private final double[] values;
+        private final long[] cumulativeWeights;
+
+        SortedView(double[] values, long[] cumulativeWeights) {
+            this.values = values;
+            this.cumulativeWeights = cumulativeWeights;
+        }
+    }
+
+    // Growable buffer of values that all share the same weight
+    private static class Compactor {
+        private double[] items = new double[16];
+        private int size;
+
+        void add(double value) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = value;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.employeemanagement.employeemanagementsystem.model.stream;
+
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+
+/**
+ * Pull-based source of employees feeding an EmployeePublisher, one cursor per subscriber
+ */
+public interface EmployeeCursor<T> {
+
+    // Returns the next employee, or null when there are no more
+    Employee<T> next();
+
+    // Releases anything held by the cursor, called once the subscription ends
+    default void close() {
+    }
+}
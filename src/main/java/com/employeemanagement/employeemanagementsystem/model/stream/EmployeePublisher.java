@@ -0,0 +1,126 @@
+package com.employeemanagement.employeemanagementsystem.model.stream;
+
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cold Flow.Publisher of employees that only pulls rows from its cursor when the subscriber asks for them
+ * Rows are delivered on the thread calling request(), a request made from inside onNext is queued
+ * instead of recursing. At most one row is read ahead, so onComplete arrives as soon as the cursor runs out.
+ */
+public class EmployeePublisher<T> implements Flow.Publisher<Employee<T>> {
+
+    private final Supplier<? extends EmployeeCursor<T>> cursorFactory;
+
+    // Constructor
+    public EmployeePublisher(Supplier<? extends EmployeeCursor<T>> cursorFactory) {
+        this.cursorFactory = Objects.requireNonNull(cursorFactory, "Cursor factory cannot be null");
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super Employee<T>> subscriber) {
+        Objects.requireNonNull(subscriber, "Subscriber cannot be null");
+        CursorSubscription subscription = new CursorSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    private final class CursorSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super Employee<T>> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger pendingDrains = new AtomicInteger();
+        private volatile boolean cancelled;
+
+        // Only touched by the thread currently draining
+        private EmployeeCursor<T> cursor;
+        private Employee<T> readAhead;
+
+        CursorSubscription(Flow.Subscriber<? super Employee<T>> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (cancelled) {
+                return;
+            }
+            if (n <= 0) {
+                cancel();
+                subscriber.onError(new IllegalArgumentException("Requested count must be positive, provided: " + n));
+                return;
+            }
+            // Demand saturates at Long.MAX_VALUE, which means unbounded
+            demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            // Closing is left to the draining thread unless nobody is draining
+            if (pendingDrains.getAndIncrement() == 0) {
+                closeCursor();
+            }
+        }
+
+        private void drain() {
+            if (pendingDrains.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                long requested = demand.get();
+                long emitted = 0;
+                while (true) {
+                    if (cancelled) {
+                        closeCursor();
+                        return;
+                    }
+                    if (readAhead == null) {
+                        try {
+                            if (cursor == null) {
+                                cursor = cursorFactory.get();
+                            }
+                            readAhead = cursor.next();
+                        } catch (RuntimeException e) {
+                            cancelled = true;
+                            closeCursor();
+                            subscriber.onError(e);
+                            return;
+                        }
+                        if (readAhead == null) {
+                            cancelled = true;
+                            closeCursor();
+                            subscriber.onComplete();
+                            return;
+                        }
+                    }
+                    if (emitted == requested) {
+                        break;
+                    }
+                    Employee<T> next = readAhead;
+                    readAhead = null;
+                    subscriber.onNext(next);
+                    emitted++;
+                }
+                if (emitted > 0 && requested != Long.MAX_VALUE) {
+                    demand.addAndGet(-emitted);
+                }
+                missed = pendingDrains.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void closeCursor() {
+            readAhead = null;
+            if (cursor != null) {
+                EmployeeCursor<T> closing = cursor;
+                cursor = null;
+                closing.close();
+            }
+        }
+    }
+}
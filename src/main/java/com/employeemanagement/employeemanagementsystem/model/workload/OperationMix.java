@@ -0,0 +1,129 @@
+package com.employeemanagement.employeemanagementsystem.model.workload;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Relative frequency of each operation in a workload
+ * Immutable, withWeight returns a changed copy.
+ */
+public final class OperationMix {
+
+    private static final WorkloadOperation[] OPERATIONS = WorkloadOperation.values();
+
+    private final Map<WorkloadOperation, Double> weights;
+    private final double[] cumulative;
+
+    private OperationMix(Map<WorkloadOperation, Double> weights) {
+        this.weights = Collections.unmodifiableMap(new EnumMap<>(weights));
+        double total = 0;
+        for (double weight : weights.values()) {
+            total += weight;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("At least one operation must have a positive weight");
+        }
+        this.cumulative = new double[OPERATIONS.length];
+        double running = 0;
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            running += weights.getOrDefault(OPERATIONS[i], 0.0);
+            cumulative[i] = running / total;
+        }
+    }
+
+    // 95% reads, mostly point lookups
+    public static OperationMix readHeavy() {
+        return of(80, 3, 4, 3, 3, 1, 1, 1, 3, 1);
+    }
+
+    // 50% reads, 50% writes
+    public static OperationMix balanced() {
+        return of(40, 2, 2, 2, 2, 1, 1, 10, 30, 10);
+    }
+
+    // 20% reads, 80% writes
+    public static OperationMix writeHeavy() {
+        return of(15, 1, 1, 1, 1, 0.5, 0.5, 15, 50, 15);
+    }
+
+    public static OperationMix readOnly() {
+        return of(80, 4, 4, 4, 4, 2, 2, 0, 0, 0);
+    }
+
+    // Looks up a preset by name: read-heavy, balanced, write-heavy or read-only
+    public static OperationMix named(String name) {
+        switch (name.trim().toLowerCase().replace('_', '-')) {
+            case "read-heavy":
+                return readHeavy();
+            case "balanced":
+                return balanced();
+            case "write-heavy":
+                return writeHeavy();
+            case "read-only":
+                return readOnly();
+            default:
+                throw new IllegalArgumentException("Unknown operation mix: " + name);
+        }
+    }
+
+    public OperationMix withWeight(WorkloadOperation operation, double weight) {
+        if (weight < 0 || Double.isNaN(weight)) {
+            throw new IllegalArgumentException("Operation weight cannot be negative: " + weight);
+        }
+        Map<WorkloadOperation, Double> changed = new EnumMap<>(weights);
+        changed.put(operation, weight);
+        return new OperationMix(changed);
+    }
+
+    // Picks an operation with probability proportional to its weight
+    public WorkloadOperation next(SplittableRandom random) {
+        double draw = random.nextDouble();
+        for (int i = 0; i < cumulative.length - 1; i++) {
+            if (draw < cumulative[i]) {
+                return OPERATIONS[i];
+            }
+        }
+        return OPERATIONS[OPERATIONS.length - 1];
+    }
+
+    public double getWeight(WorkloadOperation operation) {
+        return weights.getOrDefault(operation, 0.0);
+    }
+
+    // Share of operations that modify the database
+    public double getWriteFraction() {
+        double total = 0;
+        double writes = 0;
+        for (Map.Entry<WorkloadOperation, Double> entry : weights.entrySet()) {
+            total += entry.getValue();
+            if (entry.getKey().isWrite()) {
+                writes += entry.getValue();
+            }
+        }
+        return writes / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%.0f%% reads / %.0f%% writes", (1 - getWriteFraction()) * 100, getWriteFraction() * 100);
+    }
+
+    private static OperationMix of(double get, double department, double name, double rating, double salaryRange,
+                                   double topPaid, double averageSalary, double add, double update, double delete) {
+        Map<WorkloadOperation, Double> weights = new EnumMap<>(WorkloadOperation.class);
+        weights.put(WorkloadOperation.GET_EMPLOYEE, get);
+        weights.put(WorkloadOperation.FIND_BY_DEPARTMENT, department);
+        weights.put(WorkloadOperation.FIND_BY_NAME, name);
+        weights.put(WorkloadOperation.FIND_BY_MIN_RATING, rating);
+        weights.put(WorkloadOperation.FIND_BY_SALARY_RANGE, salaryRange);
+        weights.put(WorkloadOperation.TOP_PAID, topPaid);
+        weights.put(WorkloadOperation.AVERAGE_SALARY, averageSalary);
+        weights.put(WorkloadOperation.ADD_EMPLOYEE, add);
+        weights.put(WorkloadOperation.UPDATE_SALARY, update);
+        weights.put(WorkloadOperation.DELETE_EMPLOYEE, delete);
+        weights.put(WorkloadOperation.SALARY_RAISE, 0.0);
+        return new OperationMix(weights);
+    }
+}
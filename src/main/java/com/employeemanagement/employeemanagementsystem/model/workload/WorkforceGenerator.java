@@ -0,0 +1,328 @@
+package com.employeemanagement.employeemanagementsystem.model.workload;
+
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidSalaryException;
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeStore;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Seeded generator of synthetic employee records
+ * Every record is derived from the seed and its ID alone, so employee 123 456 is the same whether it is
+ * generated first, last or on another thread, and two runs with the same settings produce identical datasets.
+ * Department skew, salary and rating distributions and the number of distinct names are configurable.
+ */
+public class WorkforceGenerator {
+
+    private static final String[] SYLLABLES = {
+            "ka", "ma", "ri", "to", "ne", "lu", "sa", "di", "yo", "ga",
+            "be", "mi", "ra", "ko", "ta", "ni", "zu", "fe", "la", "do"
+    };
+    private static final EEmployeeDepartment[] DEPARTMENTS = EEmployeeDepartment.values();
+    private static final int MAX_EXPERIENCE = 40;
+
+    private final long seed;
+    private final double[] departmentCumulative;
+    private final boolean logNormalSalaries;
+    private final double salaryMin;
+    private final double salaryMax;
+    private final double salaryMedian;
+    private final double salarySigma;
+    private final boolean normalRatings;
+    private final double ratingMean;
+    private final double ratingStdDev;
+    private final double meanExperience;
+    private final double activeRatio;
+    private final String[] firstNames;
+    private final String[] lastNames;
+
+    private WorkforceGenerator(Builder builder) {
+        this.seed = builder.seed;
+        this.departmentCumulative = cumulative(builder.departmentWeights);
+        this.logNormalSalaries = builder.logNormalSalaries;
+        this.salaryMin = builder.salaryMin;
+        this.salaryMax = builder.salaryMax;
+        this.salaryMedian = builder.salaryMedian;
+        this.salarySigma = builder.salarySigma;
+        this.normalRatings = builder.normalRatings;
+        this.ratingMean = builder.ratingMean;
+        this.ratingStdDev = builder.ratingStdDev;
+        this.meanExperience = builder.meanExperience;
+        this.activeRatio = builder.activeRatio;
+        this.firstNames = names(builder.firstNameCount, 0);
+        this.lastNames = names(builder.lastNameCount, 7);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // Default settings: Zipf-skewed departments, log-normal salaries, ratings clustered around 3.5
+    public static WorkforceGenerator withSeed(long seed) {
+        return builder().seed(seed).build();
+    }
+
+    // Generates the employee with the given ID
+    public Employee<Integer> employee(int employeeId) {
+        SplittableRandom random = new SplittableRandom(mix64(seed ^ mix64(employeeId)));
+        String name = firstNames[random.nextInt(firstNames.length)] + " " + lastNames[random.nextInt(lastNames.length)];
+        return new Employee<>(employeeId, name,
+                department(random),
+                salary(random),
+                rating(random),
+                experience(random),
+                random.nextDouble() < activeRatio);
+    }
+
+    // Employees with IDs 0 to count - 1, in order; the stream may be made parallel without changing the records
+    public Stream<Employee<Integer>> stream(int count) {
+        return stream(0, count);
+    }
+
+    public Stream<Employee<Integer>> stream(int firstId, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Employee count cannot be negative: " + count);
+        }
+        return IntStream.range(firstId, firstId + count).mapToObj(this::employee);
+    }
+
+    public List<Employee<Integer>> generate(int count) {
+        return stream(count).collect(Collectors.toList());
+    }
+
+    // Adds employees 0 to count - 1 to the database
+    public void populate(EmployeeStore<Integer> database, int count) throws InvalidSalaryException {
+        for (int id = 0; id < count; id++) {
+            database.addEmployee(employee(id));
+        }
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getFirstNameCount() {
+        return firstNames.length;
+    }
+
+    public int getLastNameCount() {
+        return lastNames.length;
+    }
+
+    // Attribute sampling
+
+    private EEmployeeDepartment department(SplittableRandom random) {
+        double draw = random.nextDouble();
+        for (int i = 0; i < departmentCumulative.length - 1; i++) {
+            if (draw < departmentCumulative[i]) {
+                return DEPARTMENTS[i];
+            }
+        }
+        return DEPARTMENTS[DEPARTMENTS.length - 1];
+    }
+
+    private double salary(SplittableRandom random) {
+        if (!logNormalSalaries) {
+            return Math.round(salaryMin + random.nextDouble() * (salaryMax - salaryMin));
+        }
+        return Math.round(salaryMedian * Math.exp(salarySigma * gaussian(random)));
+    }
+
+    private double rating(SplittableRandom random) {
+        double rating = normalRatings ? ratingMean + ratingStdDev * gaussian(random) : random.nextDouble() * 5;
+        return Math.round(Math.max(0, Math.min(5, rating)) * 10) / 10.0;
+    }
+
+    private int experience(SplittableRandom random) {
+        if (meanExperience == 0) {
+            return 0;
+        }
+        return (int) Math.min(MAX_EXPERIENCE, -meanExperience * Math.log(1 - random.nextDouble()));
+    }
+
+    // Box-Muller transform
+    private static double gaussian(SplittableRandom random) {
+        double u = 1 - random.nextDouble();
+        double v = random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * v);
+    }
+
+    // Stafford variant 13 finalizer, spreads neighbouring IDs over unrelated random streams
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static double[] cumulative(double[] weights) {
+        double total = Arrays.stream(weights).sum();
+        double[] cumulative = new double[weights.length];
+        double running = 0;
+        for (int i = 0; i < weights.length; i++) {
+            running += weights[i];
+            cumulative[i] = running / total;
+        }
+        return cumulative;
+    }
+
+    // Distinct pronounceable names, each index written in base 20 with one syllable per digit
+    private static String[] names(int count, int rotation) {
+        int length = 2;
+        long combinations = (long) SYLLABLES.length * SYLLABLES.length;
+        while (combinations < count) {
+            length++;
+            combinations *= SYLLABLES.length;
+        }
+        String[] names = new String[count];
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            name.setLength(0);
+            int remaining = i;
+            for (int position = 0; position < length; position++) {
+                name.append(SYLLABLES[(remaining + rotation) % SYLLABLES.length]);
+                remaining /= SYLLABLES.length;
+            }
+            name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+            names[i] = name.toString();
+        }
+        return names;
+    }
+
+    /**
+     * Settings for a WorkforceGenerator
+     */
+    public static class Builder {
+        private long seed = 42;
+        private double[] departmentWeights = zipfWeights(1.0);
+        private boolean logNormalSalaries = true;
+        private double salaryMin = 30_000;
+        private double salaryMax = 150_000;
+        private double salaryMedian = 60_000;
+        private double salarySigma = 0.4;
+        private boolean normalRatings = true;
+        private double ratingMean = 3.5;
+        private double ratingStdDev = 0.8;
+        private double meanExperience = 8;
+        private double activeRatio = 0.95;
+        private int firstNameCount = 400;
+        private int lastNameCount = 2_000;
+
+        private Builder() {
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        // Zipf exponent over the departments in declaration order, 0 spreads staff evenly
+        public Builder departmentSkew(double exponent) {
+            if (exponent < 0 || Double.isNaN(exponent)) {
+                throw new IllegalArgumentException("Department skew cannot be negative: " + exponent);
+            }
+            this.departmentWeights = zipfWeights(exponent);
+            return this;
+        }
+
+        // Relative share of each department, in declaration order
+        public Builder departmentWeights(double... weights) {
+            if (weights.length != DEPARTMENTS.length) {
+                throw new IllegalArgumentException("Expected " + DEPARTMENTS.length + " department weights, provided: " + weights.length);
+            }
+            double total = 0;
+            for (double weight : weights) {
+                if (weight < 0 || Double.isNaN(weight)) {
+                    throw new IllegalArgumentException("Department weights cannot be negative: " + weight);
+                }
+                total += weight;
+            }
+            if (total == 0) {
+                throw new IllegalArgumentException("At least one department weight must be positive");
+            }
+            this.departmentWeights = weights.clone();
+            return this;
+        }
+
+        public Builder uniformSalaries(double min, double max) {
+            if (min < 0 || max < min) {
+                throw new IllegalArgumentException("Invalid salary range: " + min + " to " + max);
+            }
+            this.logNormalSalaries = false;
+            this.salaryMin = min;
+            this.salaryMax = max;
+            return this;
+        }
+
+        // Salaries spread around the median, sigma is the standard deviation of the log salary
+        public Builder logNormalSalaries(double median, double sigma) {
+            if (median <= 0 || sigma < 0) {
+                throw new IllegalArgumentException("Invalid log-normal salary settings: median " + median + ", sigma " + sigma);
+            }
+            this.logNormalSalaries = true;
+            this.salaryMedian = median;
+            this.salarySigma = sigma;
+            return this;
+        }
+
+        public Builder uniformRatings() {
+            this.normalRatings = false;
+            return this;
+        }
+
+        // Normal ratings clipped to 0-5 and rounded to one decimal
+        public Builder normalRatings(double mean, double stdDev) {
+            if (stdDev < 0) {
+                throw new IllegalArgumentException("Rating standard deviation cannot be negative: " + stdDev);
+            }
+            this.normalRatings = true;
+            this.ratingMean = mean;
+            this.ratingStdDev = stdDev;
+            return this;
+        }
+
+        // Exponentially distributed years of experience, capped at 40
+        public Builder meanExperience(double years) {
+            if (years < 0) {
+                throw new IllegalArgumentException("Mean experience cannot be negative: " + years);
+            }
+            this.meanExperience = years;
+            return this;
+        }
+
+        public Builder activeRatio(double ratio) {
+            if (ratio < 0 || ratio > 1) {
+                throw new IllegalArgumentException("Active ratio must be between 0 and 1, provided: " + ratio);
+            }
+            this.activeRatio = ratio;
+            return this;
+        }
+
+        // Number of distinct first and last names, so at most firstNames * lastNames distinct full names
+        public Builder nameCardinality(int firstNames, int lastNames) {
+            if (firstNames < 1 || lastNames < 1) {
+                throw new IllegalArgumentException("Name cardinality must be positive: " + firstNames + " x " + lastNames);
+            }
+            this.firstNameCount = firstNames;
+            this.lastNameCount = lastNames;
+            return this;
+        }
+
+        public WorkforceGenerator build() {
+            return new WorkforceGenerator(this);
+        }
+
+        private static double[] zipfWeights(double exponent) {
+            double[] weights = new double[DEPARTMENTS.length];
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] = 1 / Math.pow(i + 1, exponent);
+            }
+            return weights;
+        }
+    }
+}
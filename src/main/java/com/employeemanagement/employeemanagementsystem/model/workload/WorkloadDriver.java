@@ -0,0 +1,234 @@
+package com.employeemanagement.employeemanagementsystem.model.workload;
+
+import com.employeemanagement.employeemanagementsystem.exceptions.EmployeeNotFoundException;
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeStore;
+import com.employeemanagement.employeemanagementsystem.model.metrics.LatencyHistogram;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Replays a mixed read/write workload against an employee store
+ * Each thread draws operations from the mix and arguments from its own seeded random stream. Employee IDs are
+ * picked uniformly from the IDs handed out so far, so lookups, updates and deletes also hit employees that were
+ * deleted earlier; those count as misses rather than errors. New employees come from the generator, continuing
+ * after the highest ID already in the database.
+ */
+public class WorkloadDriver {
+
+    private static final EEmployeeDepartment[] DEPARTMENTS = EEmployeeDepartment.values();
+    private static final int TOP_PAID_COUNT = 10;
+
+    private final EmployeeStore<Integer> database;
+    private final WorkforceGenerator generator;
+    private final OperationMix mix;
+    private final int threads;
+    private final AtomicInteger nextEmployeeId;
+    private final SplittableRandom seeds;
+
+    public WorkloadDriver(EmployeeStore<Integer> database, WorkforceGenerator generator, OperationMix mix, int threads) {
+        if (database == null || generator == null || mix == null) {
+            throw new IllegalArgumentException("Database, generator and operation mix are required");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be positive: " + threads);
+        }
+        this.database = database;
+        this.generator = generator;
+        this.mix = mix;
+        this.threads = threads;
+        AtomicInteger maxId = new AtomicInteger(-1);
+        database.forEachEmployee(employee -> maxId.accumulateAndGet(employee.getEmployeeId(), Math::max));
+        this.nextEmployeeId = new AtomicInteger(maxId.get() + 1);
+        this.seeds = new SplittableRandom(generator.getSeed());
+    }
+
+    // Runs until every thread has issued the given number of operations
+    public WorkloadReport run(long operationsPerThread) throws InterruptedException {
+        if (operationsPerThread < 0) {
+            throw new IllegalArgumentException("Operation count cannot be negative: " + operationsPerThread);
+        }
+        return execute(operationsPerThread, Long.MAX_VALUE);
+    }
+
+    // Runs every thread until the duration has passed
+    public WorkloadReport run(Duration duration) throws InterruptedException {
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("Duration cannot be negative: " + duration);
+        }
+        return execute(Long.MAX_VALUE, duration.toNanos());
+    }
+
+    private WorkloadReport execute(long operationsPerThread, long durationNanos) throws InterruptedException {
+        Recorder recorder = new Recorder();
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            // Split in a fixed order, so every thread gets the same stream on every run
+            SplittableRandom random = seeds.split();
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                    long deadline = durationNanos == Long.MAX_VALUE ? Long.MAX_VALUE : System.nanoTime() + durationNanos;
+                    for (long n = 0; n < operationsPerThread && System.nanoTime() < deadline; n++) {
+                        issue(mix.next(random), random, recorder);
+                    }
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                }
+            }, "workload-driver-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+
+        long started = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - started;
+        if (failure.get() != null) {
+            throw new IllegalStateException("Workload thread failed", failure.get());
+        }
+        return recorder.report(mix, threads, elapsed);
+    }
+
+    // Draws the arguments, then times only the database call
+    private void issue(WorkloadOperation operation, SplittableRandom random, Recorder recorder) {
+        DatabaseCall call = prepare(operation, random);
+        long start = System.nanoTime();
+        int outcome = Recorder.OK;
+        try {
+            call.run();
+        } catch (EmployeeNotFoundException e) {
+            outcome = Recorder.MISS;
+        } catch (Exception e) {
+            outcome = Recorder.ERROR;
+        }
+        recorder.record(operation, System.nanoTime() - start, outcome);
+    }
+
+    private DatabaseCall prepare(WorkloadOperation operation, SplittableRandom random) {
+        switch (operation) {
+            case GET_EMPLOYEE: {
+                int id = randomId(random);
+                return () -> database.getEmployee(id);
+            }
+            case FIND_BY_DEPARTMENT: {
+                String department = randomDepartment(random);
+                return () -> database.findEmployeesByDepartment(department);
+            }
+            case FIND_BY_NAME: {
+                // First name of a generated employee, so the search term always has matches
+                String name = generator.employee(randomId(random)).getEmployeeName();
+                String term = name.substring(0, name.indexOf(' '));
+                return () -> database.findEmployeesByName(term);
+            }
+            case FIND_BY_MIN_RATING: {
+                double minRating = 4 + random.nextInt(11) / 10.0;
+                return () -> database.findEmployeesByMinRating(minRating);
+            }
+            case FIND_BY_SALARY_RANGE: {
+                double minSalary = 30_000 + random.nextInt(90_000);
+                return () -> database.findEmployeesBySalaryRange(minSalary, minSalary + 10_000);
+            }
+            case TOP_PAID:
+                return () -> database.getTopPaidEmployees(TOP_PAID_COUNT);
+            case AVERAGE_SALARY: {
+                String department = randomDepartment(random);
+                return () -> database.calculateAverageSalaryByDepartment(department);
+            }
+            case ADD_EMPLOYEE: {
+                Employee<Integer> employee = generator.employee(nextEmployeeId.getAndIncrement());
+                return () -> database.addEmployee(employee);
+            }
+            case UPDATE_SALARY: {
+                int id = randomId(random);
+                double salary = 30_000 + random.nextInt(120_000);
+                return () -> database.updateEmployeeDetails(id, "employeeSalary", salary);
+            }
+            case DELETE_EMPLOYEE: {
+                int id = randomId(random);
+                return () -> database.deleteEmployee(id);
+            }
+            case SALARY_RAISE:
+                return database::giveSalaryRaiseToHighPerformers;
+            default:
+                throw new IllegalArgumentException("Unsupported operation: " + operation);
+        }
+    }
+
+    private int randomId(SplittableRandom random) {
+        return random.nextInt(Math.max(1, nextEmployeeId.get()));
+    }
+
+    private static String randomDepartment(SplittableRandom random) {
+        return DEPARTMENTS[random.nextInt(DEPARTMENTS.length)].name();
+    }
+
+    @FunctionalInterface
+    private interface DatabaseCall {
+        void run() throws Exception;
+    }
+
+    // Latency histograms and outcome counters shared by all worker threads
+    private static final class Recorder {
+        static final int OK = 0;
+        static final int MISS = 1;
+        static final int ERROR = 2;
+
+        private final LatencyHistogram overall = new LatencyHistogram();
+        private final Map<WorkloadOperation, LatencyHistogram> latencies = new EnumMap<>(WorkloadOperation.class);
+        private final Map<WorkloadOperation, LongAdder> misses = new EnumMap<>(WorkloadOperation.class);
+        private final Map<WorkloadOperation, LongAdder> errors = new EnumMap<>(WorkloadOperation.class);
+
+        Recorder() {
+            // Filled up front, the maps are only read while the workers run
+            for (WorkloadOperation operation : WorkloadOperation.values()) {
+                latencies.put(operation, new LatencyHistogram());
+                misses.put(operation, new LongAdder());
+                errors.put(operation, new LongAdder());
+            }
+        }
+
+        void record(WorkloadOperation operation, long nanos, int outcome) {
+            latencies.get(operation).record(nanos);
+            overall.record(nanos);
+            if (outcome == MISS) {
+                misses.get(operation).increment();
+            } else if (outcome == ERROR) {
+                errors.get(operation).increment();
+            }
+        }
+
+        WorkloadReport report(OperationMix mix, int threads, long elapsedNanos) {
+            Map<WorkloadOperation, WorkloadReport.OperationStats> operations = new EnumMap<>(WorkloadOperation.class);
+            long totalMisses = 0;
+            long totalErrors = 0;
+            for (WorkloadOperation operation : WorkloadOperation.values()) {
+                LatencyHistogram.Snapshot snapshot = latencies.get(operation).snapshot();
+                long operationMisses = misses.get(operation).sum();
+                long operationErrors = errors.get(operation).sum();
+                totalMisses += operationMisses;
+                totalErrors += operationErrors;
+                if (snapshot.getCount() > 0) {
+                    operations.put(operation, new WorkloadReport.OperationStats(snapshot, operationMisses, operationErrors));
+                }
+            }
+            WorkloadReport.OperationStats all = new WorkloadReport.OperationStats(overall.snapshot(), totalMisses, totalErrors);
+            return new WorkloadReport(mix, threads, elapsedNanos, all, operations);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.employeemanagement.employeemanagementsystem.model.workload;
+
+/**
+ * Database operations the workload driver can issue
+ */
+public enum WorkloadOperation {
+    GET_EMPLOYEE(false),
+    FIND_BY_DEPARTMENT(false),
+    FIND_BY_NAME(false),
+    FIND_BY_MIN_RATING(false),
+    FIND_BY_SALARY_RANGE(false),
+    TOP_PAID(false),
+    AVERAGE_SALARY(false),
+    ADD_EMPLOYEE(true),
+    UPDATE_SALARY(true),
+    DELETE_EMPLOYEE(true),
+    SALARY_RAISE(true);
+
+    private final boolean write;
+
+    WorkloadOperation(boolean write) {
+        this.write = write;
+    }
+
+    public boolean isWrite() {
+        return write;
+    }
+}
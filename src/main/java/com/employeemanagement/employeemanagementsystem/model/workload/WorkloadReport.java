@@ -0,0 +1,148 @@
+package com.employeemanagement.employeemanagementsystem.model.workload;
+
+import com.employeemanagement.employeemanagementsystem.model.metrics.LatencyHistogram;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Throughput and latency percentiles of one workload run
+ */
+public class WorkloadReport {
+
+    private final OperationMix mix;
+    private final int threads;
+    private final long elapsedNanos;
+    private final OperationStats overall;
+    private final Map<WorkloadOperation, OperationStats> operations;
+
+    WorkloadReport(OperationMix mix, int threads, long elapsedNanos, OperationStats overall,
+                   Map<WorkloadOperation, OperationStats> operations) {
+        this.mix = mix;
+        this.threads = threads;
+        this.elapsedNanos = elapsedNanos;
+        this.overall = overall;
+        this.operations = Collections.unmodifiableMap(new EnumMap<>(operations));
+    }
+
+    public OperationMix getMix() {
+        return mix;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getTotalOperations() {
+        return overall.getCount();
+    }
+
+    // Completed operations per second of wall-clock time, across all threads
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : overall.getCount() * 1e9 / elapsedNanos;
+    }
+
+    public OperationStats getOverall() {
+        return overall;
+    }
+
+    // Statistics of every operation that ran at least once
+    public Map<WorkloadOperation, OperationStats> getOperations() {
+        return operations;
+    }
+
+    public OperationStats getOperationStats(WorkloadOperation operation) {
+        return operations.get(operation);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Workload: %s, %d thread(s), %,d operations in %.2f s, %,.0f ops/s%n",
+                mix, threads, getTotalOperations(), elapsedNanos / 1e9, getThroughput()));
+        report.append(String.format("%-22s %10s %8s %8s %10s %10s %10s %10s %10s%n",
+                "operation", "count", "misses", "errors", "p50 us", "p90 us", "p99 us", "p99.9 us", "max us"));
+        for (Map.Entry<WorkloadOperation, OperationStats> entry : operations.entrySet()) {
+            appendRow(report, entry.getKey().name(), entry.getValue());
+        }
+        appendRow(report, "ALL", overall);
+        return report.toString();
+    }
+
+    private static void appendRow(StringBuilder report, String name, OperationStats stats) {
+        report.append(String.format("%-22s %,10d %,8d %,8d %10.1f %10.1f %10.1f %10.1f %10.1f%n",
+                name, stats.getCount(), stats.getMisses(), stats.getErrors(),
+                stats.getP50() / 1e3, stats.getP90() / 1e3, stats.getP99() / 1e3, stats.getP999() / 1e3,
+                stats.getMax() / 1e3));
+    }
+
+    /**
+     * Count, outcome and latency percentiles (nanoseconds) of one kind of operation
+     */
+    public static final class OperationStats {
+        private final long count;
+        private final long misses;
+        private final long errors;
+        private final double mean;
+        private final long p50;
+        private final long p90;
+        private final long p99;
+        private final long p999;
+        private final long max;
+
+        OperationStats(LatencyHistogram.Snapshot latencies, long misses, long errors) {
+            this.count = latencies.getCount();
+            this.misses = misses;
+            this.errors = errors;
+            this.mean = latencies.getMean();
+            this.p50 = latencies.getValueAtPercentile(50);
+            this.p90 = latencies.getValueAtPercentile(90);
+            this.p99 = latencies.getValueAtPercentile(99);
+            this.p999 = latencies.getValueAtPercentile(99.9);
+            this.max = latencies.getMax();
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        // Operations that targeted an employee that no longer exists
+        public long getMisses() {
+            return misses;
+        }
+
+        // Operations that failed with any other exception
+        public long getErrors() {
+            return errors;
+        }
+
+        public double getMean() {
+            return mean;
+        }
+
+        public long getP50() {
+            return p50;
+        }
+
+        public long getP90() {
+            return p90;
+        }
+
+        public long getP99() {
+            return p99;
+        }
+
+        public long getP999() {
+            return p999;
+        }
+
+        public long getMax() {
+            return max;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.employeemanagement.employeemanagementsystem.view;
+
+import javafx.geometry.Insets;
+import javafx.scene.control.Button;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+
+/**
+ * JavaFX view component for bulk operations (offboarding and deactivation)
+ */
+public class BulkOperationsView extends VBox {
+
+    private ComboBox<String> departmentComboBox;
+    private Button offboardButton;
+    private TextField ratingThresholdField;
+    private Button deactivateButton;
+
+    // Constructor
+    public BulkOperationsView() {
+        setPadding(new Insets(20));
+        setSpacing(15);
+
+        setupBulkControls();
+    }
+
+    private void setupBulkControls() {
+        // Title with style
+        Label titleLabel = new Label("Bulk Operations");
+        titleLabel.setStyle("-fx-font-size: 18px; -fx-font-weight: bold; -fx-text-fill: #2c3e50;");
+
+        // Section labels with style
+        Label offboardLabel = new Label("Offboard a department (deletes all of its employees):");
+        offboardLabel.setStyle("-fx-font-size: 13px; -fx-text-fill: #34495e;");
+
+        Label deactivateLabel = new Label("Deactivate all employees rated below a threshold:");
+        deactivateLabel.setStyle("-fx-font-size: 13px; -fx-text-fill: #34495e;");
+
+        // Offboard department section
+        HBox offboardBox = new HBox(10);
+        offboardBox.setStyle("-fx-alignment: center-left;");
+
+        Label deptLabel = new Label("Department:");
+        deptLabel.setStyle("-fx-font-weight: bold; -fx-text-fill: #2c3e50;");
+
+        departmentComboBox = new ComboBox<>();
+        departmentComboBox.setStyle("-fx-background-radius: 5; -fx-border-radius: 5;");
+        departmentComboBox.setPrefWidth(150);
+
+        offboardButton = new Button("Offboard Department");
+        offboardButton.setStyle("-fx-background-color: #E74C3C; -fx-text-fill: white; -fx-font-weight: bold; -fx-background-radius: 5;");
+        offboardButton.setPrefWidth(170);
+
+        // Button hover effects
+        offboardButton.setOnMouseEntered(e -> offboardButton.setStyle("-fx-background-color: #C0392B; -fx-text-fill: white; -fx-font-weight: bold; -fx-background-radius: 5;"));
+        offboardButton.setOnMouseExited(e -> offboardButton.setStyle("-fx-background-color: #E74C3C; -fx-text-fill: white; -fx-font-weight: bold; -fx-background-radius: 5;"));
+
+        offboardBox.getChildren().addAll(deptLabel, departmentComboBox, offboardButton);
+
+        // Deactivate below rating section
+        HBox deactivateBox = new HBox(10);
+        deactivateBox.setStyle("-fx-alignment: center-left;");
+
+        Label ratingLabel = new Label("Rating below:");
+        ratingLabel.setStyle("-fx-font-weight: bold; -fx-text-fill: #2c3e50;");
+
+        ratingThresholdField = new TextField("2.0");
+        ratingThresholdField.setPrefWidth(50);
+        ratingThresholdField.setStyle("-fx-background-radius: 5; -fx-border-radius: 5;");
+
+        deactivateButton = new Button("Deactivate");
+        deactivateButton.setStyle("-fx-background-color: #95A5A6; -fx-text-fill: white; -fx-font-weight: bold; -fx-background-radius: 5;");
+        deactivateButton.setPrefWidth(170);
+
+        deactivateButton.setOnMouseEntered(e -> deactivateButton.setStyle("-fx-background-color: #7F8C8D; -fx-text-fill: white; -fx-font-weight: bold; -fx-background-radius: 5;"));
+        deactivateButton.setOnMouseExited(e -> deactivateButton.setStyle("-fx-background-color: #95A5A6; -fx-text-fill: white; -fx-font-weight: bold; -fx-background-radius: 5;"));
+
+        deactivateBox.getChildren().addAll(ratingLabel, ratingThresholdField, deactivateButton);
+
+        // Add all to the view
+        getChildren().addAll(
+                titleLabel,
+                offboardLabel,
+                offboardBox,
+                deactivateLabel,
+                deactivateBox
+        );
+    }
+
+    // Populate department combo box
+    public void populateDepartments(String[] departments) {
+        departmentComboBox.getItems().clear();
+        departmentComboBox.getItems().addAll(departments);
+        if (departments.length > 0) {
+            departmentComboBox.setValue(departments[0]);
+        }
+    }
+
+    // Getters
+    public ComboBox<String> getDepartmentComboBox() {
+        return departmentComboBox;
+    }
+
+    public Button getOffboardButton() {
+        return offboardButton;
+    }
+
+    public TextField getRatingThresholdField() {
+        return ratingThresholdField;
+    }
+
+    public Button getDeactivateButton() {
+        return deactivateButton;
+    }
+}
@@ -18,6 +18,8 @@ public class EmployeeSearchView extends HBox {
     private TextField searchField;
     private ComboBox<String> searchTypeComboBox;
     private ComboBox<String> sortComboBox;
+    private ComboBox<String> thenByComboBox;
+    private ComboBox<String> thenByComboBox2;
     private Button searchButton;
     private Button sortButton;
     private Button resetButton;
@@ -47,10 +49,21 @@ public class EmployeeSearchView extends HBox {
 
         // Sort dropdown with style
         sortComboBox = new ComboBox<>();
-        sortComboBox.getItems().addAll("Experience", "Salary", "Performance");
+        sortComboBox.getItems().addAll("Experience", "Salary", "Performance", "Department", "Name");
         sortComboBox.setValue("Experience");
         sortComboBox.setStyle("-fx-background-radius: 5; -fx-border-radius: 5;");
 
+        // Secondary sort dropdowns, "None" keeps a single-column sort
+        thenByComboBox = new ComboBox<>();
+        thenByComboBox.getItems().addAll("None", "Department", "Name", "Experience", "Salary", "Performance");
+        thenByComboBox.setValue("None");
+        thenByComboBox.setStyle("-fx-background-radius: 5; -fx-border-radius: 5;");
+
+        thenByComboBox2 = new ComboBox<>();
+        thenByComboBox2.getItems().addAll("None", "Department", "Name", "Experience", "Salary", "Performance");
+        thenByComboBox2.setValue("None");
+        thenByComboBox2.setStyle("-fx-background-radius: 5; -fx-border-radius: 5;");
+
         // Style labels
         Label searchLabel = new Label("Search:");
         searchLabel.setStyle("-fx-font-weight: bold; -fx-text-fill: #2c3e50;");
@@ -58,6 +71,9 @@ public class EmployeeSearchView extends HBox {
         Label sortLabel = new Label("Sort by:");
         sortLabel.setStyle("-fx-font-weight: bold; -fx-text-fill: #2c3e50;");
 
+        Label thenByLabel = new Label("then:");
+        thenByLabel.setStyle("-fx-font-weight: bold; -fx-text-fill: #2c3e50;");
+
         // Button styles
         String buttonStyle = "-fx-font-weight: bold; -fx-background-radius: 5;";
 
@@ -95,6 +111,9 @@ public class EmployeeSearchView extends HBox {
                 new Spacer(), // Add flexible space
                 sortLabel,
                 sortComboBox,
+                thenByLabel,
+                thenByComboBox,
+                thenByComboBox2,
                 sortButton,
                 resetButton,
                 refreshButton
@@ -126,6 +145,14 @@ public class EmployeeSearchView extends HBox {
         return sortComboBox;
     }
 
+    public ComboBox<String> getThenByComboBox() {
+        return thenByComboBox;
+    }
+
+    public ComboBox<String> getThenByComboBox2() {
+        return thenByComboBox2;
+    }
+
     public Button getSearchButton() {
         return searchButton;
     }
@@ -13,6 +13,8 @@ public class MainView extends BorderPane {
     private EmployeeFormView formView;
     private EmployeeSearchView searchView;
     private SalaryManagementView salaryManagementView;
+    private BulkOperationsView bulkOperationsView;
+    private MetricsView metricsView;
 
     // Constructor
     public MainView() {
@@ -25,6 +27,8 @@ public class MainView extends BorderPane {
         formView = new EmployeeFormView();
         searchView = new EmployeeSearchView();
         salaryManagementView = new SalaryManagementView();
+        bulkOperationsView = new BulkOperationsView();
+        metricsView = new MetricsView();
 
         // Create a ScrollPane for the center content
         ScrollPane scrollPane = new ScrollPane();
@@ -35,13 +39,15 @@ public class MainView extends BorderPane {
         VBox contentContainer = new VBox(15);
         contentContainer.setStyle("-fx-background-color: transparent;");
         VBox.setVgrow(tableView, Priority.ALWAYS);
-        contentContainer.getChildren().addAll(tableView, salaryManagementView);
+        contentContainer.getChildren().addAll(tableView, salaryManagementView, bulkOperationsView, metricsView);
 
         // Apply drop shadow to major components
         tableView.setStyle("-fx-effect: dropshadow(gaussian, rgba(0,0,0,0.2), 10, 0, 0, 5); -fx-background-color: white; -fx-background-radius: 8;");
         formView.setStyle("-fx-effect: dropshadow(gaussian, rgba(0,0,0,0.2), 10, 0, 0, 5); -fx-background-color: white; -fx-background-radius: 8;");
         searchView.setStyle("-fx-effect: dropshadow(gaussian, rgba(0,0,0,0.2), 10, 0, 0, 5); -fx-background-color: white; -fx-background-radius: 8; -fx-padding: 15;");
         salaryManagementView.setStyle("-fx-effect: dropshadow(gaussian, rgba(0,0,0,0.2), 10, 0, 0, 5); -fx-background-color: white; -fx-background-radius: 8;");
+        bulkOperationsView.setStyle("-fx-effect: dropshadow(gaussian, rgba(0,0,0,0.2), 10, 0, 0, 5); -fx-background-color: white; -fx-background-radius: 8;");
+        metricsView.setStyle("-fx-effect: dropshadow(gaussian, rgba(0,0,0,0.2), 10, 0, 0, 5); -fx-background-color: white; -fx-background-radius: 8;");
 
         // Set the content container to the scroll pane
         scrollPane.setContent(contentContainer);
@@ -72,4 +78,12 @@ public class MainView extends BorderPane {
     public SalaryManagementView getSalaryManagementView() {
         return salaryManagementView;
     }
+
+    public BulkOperationsView getBulkOperationsView() {
+        return bulkOperationsView;
+    }
+
+    public MetricsView getMetricsView() {
+        return metricsView;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,96 @@
+package com.employeemanagement.employeemanagementsystem.view;
+
+import com.employeemanagement.employeemanagementsystem.model.metrics.MetricsSnapshot;
+import com.employeemanagement.employeemanagementsystem.model.metrics.MetricsSnapshot.TimerStats;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.VBox;
+
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * JavaFX view component showing operation latencies from the latest metrics snapshot
+ */
+public class MetricsView extends VBox {
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+    private TableView<TimerStats> metricsTable;
+    private final ObservableList<TimerStats> metricsData = FXCollections.observableArrayList();
+    private Label statusLabel;
+    private Label endpointLabel;
+
+    // Constructor
+    public MetricsView() {
+        setPadding(new Insets(20));
+        setSpacing(10);
+
+        setupMetricsControls();
+    }
+
+    private void setupMetricsControls() {
+        Label titleLabel = new Label("Operation Metrics");
+        titleLabel.setStyle("-fx-font-size: 18px; -fx-font-weight: bold; -fx-text-fill: #2c3e50;");
+
+        statusLabel = new Label("Waiting for the first snapshot...");
+        statusLabel.setStyle("-fx-font-size: 13px; -fx-text-fill: #34495e;");
+
+        endpointLabel = new Label("Prometheus endpoint not running");
+        endpointLabel.setStyle("-fx-font-size: 12px; -fx-text-fill: #7f8c8d;");
+
+        metricsTable = new TableView<>(metricsData);
+        metricsTable.setStyle("-fx-font-size: 12px; -fx-border-color: #E0E0E0; -fx-border-width: 1px;");
+        metricsTable.setPrefHeight(260);
+        metricsTable.setPlaceholder(new Label("No operations recorded in the last interval"));
+
+        metricsTable.getColumns().add(column("Component", 100, TimerStats::getComponent));
+        metricsTable.getColumns().add(column("Operation", 190, TimerStats::getOperation));
+        metricsTable.getColumns().add(column("Calls", 80, timer -> String.format("%,d", timer.getCount())));
+        metricsTable.getColumns().add(column("Total", 90, timer -> String.format("%,d", timer.getTotalCount())));
+        metricsTable.getColumns().add(column("Per sec", 80, timer -> String.format("%.1f", timer.getRatePerSecond())));
+        metricsTable.getColumns().add(column("p50 ms", 80, timer -> millis(timer.getP50())));
+        metricsTable.getColumns().add(column("p90 ms", 80, timer -> millis(timer.getP90())));
+        metricsTable.getColumns().add(column("p99 ms", 80, timer -> millis(timer.getP99())));
+        metricsTable.getColumns().add(column("Max ms", 80, timer -> millis(timer.getMax())));
+
+        getChildren().addAll(titleLabel, statusLabel, metricsTable, endpointLabel);
+    }
+
+    private static TableColumn<TimerStats, String> column(String title, double width, Function<TimerStats, String> value) {
+        TableColumn<TimerStats, String> column = new TableColumn<>(title);
+        column.setCellValueFactory(data -> new SimpleStringProperty(value.apply(data.getValue())));
+        column.setPrefWidth(width);
+        return column;
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.3f", nanos / 1e6);
+    }
+
+    // Shows the operations that ran during the snapshot interval, must be called on the FX thread
+    public void showSnapshot(MetricsSnapshot snapshot) {
+        metricsData.setAll(snapshot.getTimers().stream()
+                .filter(timer -> timer.getCount() > 0)
+                .collect(Collectors.toList()));
+        statusLabel.setText(String.format("Last %.0f s, updated at %s", snapshot.getIntervalNanos() / 1e9,
+                LocalTime.ofInstant(snapshot.getTimestamp(), ZoneId.systemDefault()).format(TIME_FORMAT)));
+    }
+
+    public void setEndpoint(String url) {
+        endpointLabel.setText(url == null ? "Prometheus endpoint not running" : "Prometheus metrics: " + url);
+    }
+
+    // Getters
+    public TableView<TimerStats> getMetricsTable() {
+        return metricsTable;
+    }
+}
@@ -17,6 +17,7 @@ public class SalaryManagementView extends VBox {
     private Button topPaidButton;
     private TextField topNField;
     private Button avgSalaryButton;
+    private Button percentilesButton;
     private ComboBox<String> departmentComboBox;
 
     // Constructor
@@ -39,7 +40,7 @@ public class SalaryManagementView extends VBox {
         Label topPaidLabel = new Label("View top paid employees:");
         topPaidLabel.setStyle("-fx-font-size: 13px; -fx-text-fill: #34495e;");
 
-        Label avgSalaryLabel = new Label("Calculate average salary by department:");
+        Label avgSalaryLabel = new Label("Calculate average salary or salary percentiles (median, p90, p99) by department:");
         avgSalaryLabel.setStyle("-fx-font-size: 13px; -fx-text-fill: #34495e;");
 
         // High performer salary raise section
@@ -89,7 +90,15 @@ public class SalaryManagementView extends VBox {
         avgSalaryButton.setOnMouseEntered(e -> avgSalaryButton.setStyle("-fx-background-color: #00ACC1; -fx-text-fill: white; -fx-font-weight: bold; -fx-background-radius: 5;"));
         avgSalaryButton.setOnMouseExited(e -> avgSalaryButton.setStyle("-fx-background-color: #00BCD4; -fx-text-fill: white; -fx-font-weight: bold; -fx-background-radius: 5;"));
 
-        avgSalaryBox.getChildren().addAll(deptLabel, departmentComboBox, avgSalaryButton);
+        // Salary percentiles for the selected department
+        percentilesButton = new Button("Salary Percentiles");
+        percentilesButton.setStyle("-fx-background-color: #3F51B5; -fx-text-fill: white; -fx-font-weight: bold; -fx-background-radius: 5;");
+        percentilesButton.setPrefWidth(150);
+
+        percentilesButton.setOnMouseEntered(e -> percentilesButton.setStyle("-fx-background-color: #303F9F; -fx-text-fill: white; -fx-font-weight: bold; -fx-background-radius: 5;"));
+        percentilesButton.setOnMouseExited(e -> percentilesButton.setStyle("-fx-background-color: #3F51B5; -fx-text-fill: white; -fx-font-weight: bold; -fx-background-radius: 5;"));
+
+        avgSalaryBox.getChildren().addAll(deptLabel, departmentComboBox, avgSalaryButton, percentilesButton);
 
         // Add all to the view with better spacing
         getChildren().addAll(
@@ -138,6 +147,10 @@ public class SalaryManagementView extends VBox {
         return avgSalaryButton;
     }
 
+    public Button getPercentilesButton() {
+        return percentilesButton;
+    }
+
     public ComboBox<String> getDepartmentComboBox() {
         return departmentComboBox;
     }
@@ -3,6 +3,9 @@ module com.employeemanagement.employeemanagementsystem {
     requires javafx.fxml;
 
     requires com.dlsc.formsfx;
+    requires jdk.httpserver;
+    requires java.net.http;
+    requires jdk.jfr;
 
     opens com.employeemanagement.employeemanagementsystem to javafx.fxml;
     exports com.employeemanagement.employeemanagementsystem;
@@ -0,0 +1,101 @@
+package com.employeemanagement.employeemanagementsystem.model;
+
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidDepartmentException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the EmployeeCodec class
+ */
+class EmployeeCodecTest {
+
+    private static final List<Employee<Integer>> EMPLOYEES = List.of(
+            new Employee<>(1, "Ama Owusu", EEmployeeDepartment.IT, 6100.0, 4.4, 3, true),
+            new Employee<>(2, "Kevin Ganza", null, 5000.0, 4.0, 7, false),
+            new Employee<>(3, null, EEmployeeDepartment.HR, 5100.0, 2.5, 0, true),
+            new Employee<>(4, null, null, 0.0, 0.0, 0, false),
+            new Employee<>(5, "Zoë Ngũgĩ 😀", EEmployeeDepartment.FINANCE, 7200.5, 5.0, 30, true));
+
+    private static byte[] write(Employee<Integer> employee) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        EmployeeCodec.write(new DataOutputStream(bytes), employee);
+        return bytes.toByteArray();
+    }
+
+    private static Employee<Integer> read(byte[] bytes) throws IOException {
+        return EmployeeCodec.read(new DataInputStream(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    @DisplayName("Employees with and without a name or department survive a stream round trip")
+    void testStreamRoundTrip() throws Exception {
+        for (Employee<Integer> employee : EMPLOYEES) {
+            byte[] bytes = write(employee);
+            assertEquals(EmployeeCodec.encodedSize(EmployeeCodec.encodeName(employee.getEmployeeName())), bytes.length);
+            assertEquals(employee.toString(), read(bytes).toString());
+        }
+    }
+
+    @Test
+    @DisplayName("The buffer variant writes the same bytes as the stream variant")
+    void testBufferMatchesStream() throws Exception {
+        for (Employee<Integer> employee : EMPLOYEES) {
+            byte[] name = EmployeeCodec.encodeName(employee.getEmployeeName());
+            ByteBuffer buffer = ByteBuffer.allocate(EmployeeCodec.encodedSize(name));
+            EmployeeCodec.put(buffer, employee, name);
+            assertFalse(buffer.hasRemaining());
+            assertArrayEquals(write(employee), buffer.array());
+
+            buffer.flip();
+            assertEquals(employee.toString(), EmployeeCodec.get(buffer).toString());
+            assertFalse(buffer.hasRemaining());
+        }
+    }
+
+    @Test
+    @DisplayName("The fields variant leaves out the ID")
+    void testFieldsWithoutId() throws Exception {
+        Employee<Integer> employee = EMPLOYEES.get(1);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        EmployeeCodec.writeFields(new DataOutputStream(bytes), employee);
+        byte[] full = write(employee);
+        assertEquals(full.length - 4, bytes.size());
+
+        Employee<Integer> decoded = EmployeeCodec.readFields(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), 2);
+        assertEquals(employee.toString(), decoded.toString());
+    }
+
+    @Test
+    @DisplayName("An unknown department code is rejected")
+    void testInvalidDepartment() throws Exception {
+        byte[] bytes = write(EMPLOYEES.get(0));
+        // ID, name length and "Ama Owusu" come before the department
+        bytes[4 + 2 + 9] = (byte) EEmployeeDepartment.values().length;
+        assertThrows(IOException.class, () -> read(bytes));
+        assertThrows(InvalidDepartmentException.class, () -> EmployeeCodec.get(ByteBuffer.wrap(bytes)));
+    }
+
+    @Test
+    @DisplayName("Names that are too long or run past the buffer are rejected")
+    void testNameLength() {
+        String longName = "x".repeat(EmployeeCodec.MAX_NAME_BYTES + 1);
+        assertThrows(IllegalArgumentException.class, () -> EmployeeCodec.encodeName(longName));
+        assertEquals(EmployeeCodec.MAX_NAME_BYTES, EmployeeCodec.encodeName(longName.substring(1)).length);
+        Employee<Integer> tooLong = new Employee<>(6, longName, EEmployeeDepartment.IT, 1.0, 1.0, 1, true);
+        assertThrows(IllegalArgumentException.class, () -> write(tooLong));
+
+        ByteBuffer truncated = ByteBuffer.allocate(8).putInt(7).putShort((short) 100);
+        truncated.flip();
+        assertThrows(IllegalArgumentException.class, () -> EmployeeCodec.get(truncated));
+    }
+}
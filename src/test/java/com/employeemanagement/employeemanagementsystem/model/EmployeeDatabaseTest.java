@@ -3,11 +3,27 @@ package com.employeemanagement.employeemanagementsystem.model;
 import com.employeemanagement.employeemanagementsystem.exceptions.EmployeeNotFoundException;
 import com.employeemanagement.employeemanagementsystem.exceptions.InvalidDepartmentException;
 import com.employeemanagement.employeemanagementsystem.exceptions.InvalidSalaryException;
+import com.employeemanagement.employeemanagementsystem.model.changelog.ChangeEvent;
+import com.employeemanagement.employeemanagementsystem.model.changelog.ChangeType;
+import com.employeemanagement.employeemanagementsystem.model.history.EmployeeField;
+import com.employeemanagement.employeemanagementsystem.model.metrics.MetricsSnapshot;
+import com.employeemanagement.employeemanagementsystem.model.mvcc.EmployeeSnapshot;
+import com.employeemanagement.employeemanagementsystem.model.packed.PackedEmployee;
+import com.employeemanagement.employeemanagementsystem.model.scan.EmployeeBuffer;
+import com.employeemanagement.employeemanagementsystem.model.scan.EmployeeScanIterator;
+import com.employeemanagement.employeemanagementsystem.model.sort.EmployeeSortOrder;
+import com.employeemanagement.employeemanagementsystem.model.sort.SortColumn;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Flow;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -51,6 +67,17 @@ class EmployeeDatabaseTest {
         }
     }
 
+    @Test
+    @DisplayName("Changing the added object afterwards doesn't change the stored employee")
+    void testAddEmployeeStoresCopy() throws InvalidSalaryException, EmployeeNotFoundException {
+        employeeDB.addEmployee(employee1);
+        employee1.setEmployeeSalary(99999.0);
+        employee1.setActive(false);
+
+        assertEquals(6000.0, employeeDB.getEmployee(101).getEmployeeSalary());
+        assertEquals(1, employeeDB.getActiveEmployeeCount());
+    }
+
     @Test
     @DisplayName("Add employee with negative salary should throw InvalidSalaryException")
     void testAddEmployeeWithNegativeSalary() {
@@ -127,6 +154,55 @@ class EmployeeDatabaseTest {
         });
     }
 
+    @Test
+    @DisplayName("Bulk delete employees by department")
+    void testDeleteEmployeesByDepartment() throws InvalidSalaryException, InvalidDepartmentException {
+        // Add employees
+        employeeDB.addEmployee(employee1);
+        employeeDB.addEmployee(employee2);
+        employeeDB.addEmployee(employee3);
+        employeeDB.addEmployee(new Employee<>(104, "Another IT", EEmployeeDepartment.IT, 8000.0, 3.9, 6, true));
+
+        // Offboard the IT department
+        int deleted = employeeDB.deleteEmployeesByDepartment("IT");
+
+        // Verify result
+        assertEquals(2, deleted);
+        assertEquals(2, employeeDB.getTotalEmployeeCount());
+        assertTrue(employeeDB.findEmployeesByDepartment("IT").isEmpty());
+        assertEquals(0, employeeDB.getEmployeeCountByDepartment("IT"));
+
+        // Invalid department
+        assertThrows(InvalidDepartmentException.class, () -> {
+            employeeDB.deleteEmployeesByDepartment("ENGINEERING");
+        });
+    }
+
+    @Test
+    @DisplayName("Bulk deactivate employees below a rating threshold")
+    void testDeactivateEmployeesBelowRating() throws InvalidSalaryException {
+        // Add employees
+        employeeDB.addEmployee(employee1); // Rating 2.2
+        employeeDB.addEmployee(employee2); // Rating 3.8
+        employeeDB.addEmployee(employee3); // Rating 4.5
+
+        // Deactivate employees rated below 4.0
+        int deactivated = employeeDB.deactivateEmployeesBelowRating(4.0);
+
+        // Verify result
+        assertEquals(2, deactivated);
+        assertEquals(1, employeeDB.getActiveEmployeeCount());
+        assertEquals(3, employeeDB.getTotalEmployeeCount());
+
+        // Already inactive employees are not counted again
+        assertEquals(0, employeeDB.deactivateEmployeesBelowRating(4.0));
+
+        // Predicate variant and invalid input
+        assertEquals(1, employeeDB.deactivateEmployeesMatching(employee -> employee.getEmployeeId() == 103));
+        assertThrows(IllegalArgumentException.class, () -> employeeDB.deactivateEmployeesBelowRating(6.0));
+        assertThrows(IllegalArgumentException.class, () -> employeeDB.deleteEmployeesMatching(null));
+    }
+
     @Test
     @DisplayName("Update employee details successfully")
     void testUpdateEmployeeDetails() throws InvalidSalaryException, EmployeeNotFoundException, InvalidDepartmentException {
@@ -354,6 +430,31 @@ class EmployeeDatabaseTest {
         assertTrue(bySalary.isEmpty());
     }
 
+    @Test
+    @DisplayName("Get employees sorted by several columns")
+    void testGetEmployeesSortedByMultipleColumns() throws InvalidSalaryException {
+        // Add employees
+        employeeDB.addEmployee(employee1); // IT, 2.2
+        employeeDB.addEmployee(employee2); // FINANCE, 3.8
+        employeeDB.addEmployee(employee3); // HR, 4.5
+        employeeDB.addEmployee(new Employee<>(105, "Second IT", EEmployeeDepartment.IT, 6000.0, 4.0, 2, true));
+        employeeDB.addEmployee(new Employee<>(104, "Third IT", EEmployeeDepartment.IT, 6000.0, 4.0, 9, true));
+
+        // Department, then rating descending, then salary descending (ties by ID)
+        List<Employee<Integer>> sortedEmployees = employeeDB.getEmployeesSortedBy(
+                EmployeeSortOrder.by(SortColumn.DEPARTMENT)
+                        .thenDescending(SortColumn.PERFORMANCE)
+                        .thenDescending(SortColumn.SALARY));
+
+        // Verify order (HR, IT, FINANCE follow the enum order)
+        assertEquals(5, sortedEmployees.size());
+        assertEquals(103, sortedEmployees.get(0).getEmployeeId());
+        assertEquals(104, sortedEmployees.get(1).getEmployeeId());
+        assertEquals(105, sortedEmployees.get(2).getEmployeeId());
+        assertEquals(101, sortedEmployees.get(3).getEmployeeId());
+        assertEquals(102, sortedEmployees.get(4).getEmployeeId());
+    }
+
     @Test
     @DisplayName("Give salary raise to high performers")
     void testGiveSalaryRaiseToHighPerformers() throws InvalidSalaryException, EmployeeNotFoundException {
@@ -399,6 +500,109 @@ class EmployeeDatabaseTest {
         assertEquals(0.0, marketingAvg);
     }
 
+    @Test
+    @DisplayName("Estimate salary percentiles by department")
+    void testEstimateSalaryQuantileByDepartment() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        // Add employees
+        employeeDB.addEmployee(employee1);
+        employeeDB.addEmployee(employee2);
+        employeeDB.addEmployee(employee3);
+        employeeDB.addEmployee(new Employee<>(104, "Another IT", EEmployeeDepartment.IT, 8000.0, 3.9, 6, true));
+        employeeDB.addEmployee(new Employee<>(105, "Third IT", EEmployeeDepartment.IT, 9000.0, 4.1, 2, true));
+
+        // Small departments are answered exactly
+        assertEquals(3, employeeDB.getEmployeeCountByDepartment("IT"));
+        assertEquals(8000.0, employeeDB.estimateSalaryQuantileByDepartment("IT", 0.5));
+        assertEquals(9000.0, employeeDB.estimateSalaryQuantileByDepartment("IT", 0.99));
+
+        // Percentiles follow salary changes and deletions
+        employeeDB.updateEmployeeDetails(101, "employeeSalary", 10000.0);
+        assertEquals(9000.0, employeeDB.estimateSalaryQuantileByDepartment("IT", 0.5));
+        employeeDB.deleteEmployee(105);
+        assertEquals(2, employeeDB.getEmployeeCountByDepartment("IT"));
+        assertEquals(8000.0, employeeDB.estimateSalaryQuantileByDepartment("IT", 0.5));
+
+        // Raises and department moves are applied to the sketches as they happen
+        for (int round = 0; round < 3; round++) {
+            employeeDB.giveSalaryRaiseToHighPerformers();
+        }
+        assertEquals(8000.0 * 1.02 * 1.02 * 1.02, employeeDB.estimateSalaryQuantileByDepartment("IT", 0.5), 1e-6);
+        employeeDB.updateEmployeeDetails(103, "employeeDepartment", EEmployeeDepartment.IT);
+        assertEquals(3, employeeDB.getEmployeeCountByDepartment("IT"));
+        assertEquals(0, employeeDB.getEmployeeCountByDepartment("HR"));
+
+        // Empty and invalid departments
+        assertEquals(0.0, employeeDB.estimateSalaryQuantileByDepartment("MARKETING", 0.5));
+        assertThrows(InvalidDepartmentException.class, () -> {
+            employeeDB.estimateSalaryQuantileByDepartment("ENGINEERING", 0.5);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            employeeDB.estimateSalaryQuantileByDepartment("IT", 1.5);
+        });
+    }
+
+    @Test
+    @DisplayName("Read employees as of an earlier timestamp")
+    void testEmployeeHistoryAsOf() throws InvalidSalaryException, EmployeeNotFoundException, InvalidDepartmentException {
+        TestClock clock = new TestClock(1_000);
+        EmployeeDatabase<Integer> historyDB = new EmployeeDatabase<>(clock);
+
+        historyDB.addEmployee(employee1); // t=1000, salary 6000
+        historyDB.addEmployee(employee2); // t=1000, rating 3.8
+        clock.advance(1_000);
+        historyDB.updateEmployeeDetails(101, "employeeSalary", 6500.0); // t=2000
+        historyDB.giveSalaryRaiseToHighPerformers(); // t=2000, employee2 raised
+        clock.advance(1_000);
+        historyDB.deleteEmployee(102); // t=3000
+        historyDB.updateEmployeeDetails(101, "performanceRating", 4.0); // t=3000
+
+        // Single employee
+        assertEquals(6000.0, historyDB.getEmployeeAsOf(101, Instant.ofEpochMilli(1_500)).getEmployeeSalary());
+        assertEquals(6500.0, historyDB.getEmployeeAsOf(101, Instant.ofEpochMilli(2_500)).getEmployeeSalary());
+        assertEquals(2.2, historyDB.getEmployeeAsOf(101, Instant.ofEpochMilli(2_500)).getPerformanceRating());
+        assertEquals(4.0, historyDB.getEmployeeAsOf(101, Instant.ofEpochMilli(3_000)).getPerformanceRating());
+        assertEquals(5610.0, historyDB.getEmployeeAsOf(102, Instant.ofEpochMilli(2_500)).getEmployeeSalary());
+        assertThrows(EmployeeNotFoundException.class, () -> historyDB.getEmployeeAsOf(102, Instant.ofEpochMilli(3_000)));
+        assertThrows(EmployeeNotFoundException.class, () -> historyDB.getEmployeeAsOf(101, Instant.ofEpochMilli(500)));
+
+        // Whole database
+        assertEquals(2, historyDB.getAllEmployeesAsOf(Instant.ofEpochMilli(2_000)).size());
+        assertEquals(1, historyDB.getAllEmployeesAsOf(Instant.ofEpochMilli(3_000)).size());
+        assertTrue(historyDB.getAllEmployeesAsOf(Instant.ofEpochMilli(999)).isEmpty());
+
+        // Unchanged values don't create versions
+        int versions = historyDB.getHistoryVersionCount();
+        historyDB.updateEmployeeDetails(101, "employeeName", "Kevin Ganza");
+        assertEquals(versions, historyDB.getHistoryVersionCount());
+    }
+
+    @Test
+    @DisplayName("Compacting history keeps reads after the cutoff intact")
+    void testCompactHistory() throws InvalidSalaryException, EmployeeNotFoundException, InvalidDepartmentException {
+        TestClock clock = new TestClock(0);
+        EmployeeDatabase<Integer> historyDB = new EmployeeDatabase<>(clock);
+        historyDB.addEmployee(employee1);
+        historyDB.addEmployee(employee2);
+
+        for (int i = 1; i <= 40; i++) {
+            clock.advance(10);
+            historyDB.updateEmployeeDetails(101, "employeeSalary", 6000.0 + i);
+        }
+        clock.advance(10);
+        historyDB.deleteEmployee(102);
+
+        int versionsBefore = historyDB.getHistoryVersionCount();
+        int removed = historyDB.compactHistoryBefore(Instant.ofEpochMilli(300));
+
+        assertTrue(removed > 0);
+        assertTrue(historyDB.getHistoryVersionCount() < versionsBefore);
+        assertEquals(6030.0, historyDB.getEmployeeAsOf(101, Instant.ofEpochMilli(300)).getEmployeeSalary());
+        assertEquals(6035.0, historyDB.getEmployeeAsOf(101, Instant.ofEpochMilli(355)).getEmployeeSalary());
+        assertEquals(6040.0, historyDB.getEmployee(101).getEmployeeSalary());
+        assertEquals(2, historyDB.getAllEmployeesAsOf(Instant.ofEpochMilli(400)).size());
+        assertEquals(1, historyDB.getAllEmployeesAsOf(Instant.ofEpochMilli(410)).size());
+    }
+
     @Test
     @DisplayName("Get top paid employees")
     void testGetTopPaidEmployees() throws InvalidSalaryException {
@@ -434,4 +638,342 @@ class EmployeeDatabaseTest {
         assertEquals(2, employeeDB.getActiveEmployeeCount());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Packed reads follow every change")
+    void testPackedReads() throws InvalidSalaryException, EmployeeNotFoundException, InvalidDepartmentException {
+        employeeDB.addEmployee(employee1);
+        employeeDB.addEmployee(employee2);
+
+        // Packed reads are opt-in
+        PackedEmployee<Integer> flyweight = new PackedEmployee<>();
+        assertThrows(IllegalStateException.class, () -> employeeDB.readEmployee(101, flyweight));
+
+        employeeDB.enablePackedReads();
+        employeeDB.addEmployee(employee3);
+        employeeDB.updateEmployeeDetails(101, "employeeSalary", 6500.0);
+        employeeDB.deleteEmployee(102);
+
+        assertTrue(employeeDB.readEmployee(101, flyweight));
+        assertEquals("Kevin Ganza", flyweight.getEmployeeName());
+        assertEquals(6500.0, flyweight.getEmployeeSalary());
+        assertEquals(2.2, flyweight.getPerformanceRating(), 1e-9);
+        assertFalse(employeeDB.readEmployee(102, flyweight));
+
+        List<Integer> itIds = new ArrayList<>();
+        employeeDB.forEachEmployeeInDepartment("IT", flyweight, e -> itIds.add(e.getEmployeeId()));
+        assertEquals(List.of(101), itIds);
+    }
+
+    @Test
+    @DisplayName("Cached query results never outlive a write")
+    void testQueryCacheInvalidation() throws InvalidSalaryException, EmployeeNotFoundException, InvalidDepartmentException {
+        employeeDB.addEmployee(employee1);
+        employeeDB.addEmployee(employee2);
+
+        // Second run of the same queries is served from the cache
+        assertEquals(1, employeeDB.findEmployeesByDepartment("it").size());
+        assertEquals(1, employeeDB.findEmployeesByDepartment("IT").size());
+        assertEquals(101, employeeDB.getEmployeesSortedBySalary().get(0).getEmployeeId());
+        assertEquals(101, employeeDB.getTopPaidEmployees(1).get(0).getEmployeeId());
+        assertEquals(2, employeeDB.getQueryCacheStats().getHitCount());
+
+        // Returned lists are copies
+        employeeDB.getEmployeesSortedBySalary().clear();
+        assertEquals(2, employeeDB.getEmployeesSortedBySalary().size());
+
+        employeeDB.updateEmployeeDetails(102, "employeeSalary", 9000.0);
+        assertEquals(102, employeeDB.getEmployeesSortedBySalary().get(0).getEmployeeId());
+        assertEquals(9000.0, employeeDB.calculateAverageSalaryByDepartment("FINANCE"));
+
+        employeeDB.updateEmployeeDetails(102, "employeeDepartment", EEmployeeDepartment.IT);
+        assertEquals(2, employeeDB.findEmployeesByDepartment("IT").size());
+        assertEquals(0, employeeDB.calculateAverageSalaryByDepartment("FINANCE"));
+
+        employeeDB.deleteEmployee(101);
+        assertEquals(1, employeeDB.findEmployeesByDepartment("IT").size());
+    }
+
+    @Test
+    @DisplayName("Streamed results match the list queries")
+    void testStreamingQueries() throws InvalidSalaryException, EmployeeNotFoundException, InvalidDepartmentException {
+        employeeDB.addEmployee(employee1);
+        employeeDB.addEmployee(employee2);
+        employeeDB.addEmployee(employee3);
+
+        assertEquals(employeeDB.getEmployeesSortedBySalary(), collect(employeeDB.streamEmployeesSortedBySalary()));
+        assertEquals(employeeDB.findEmployeesByMinRating(3.0), collect(employeeDB.streamEmployeesByMinRating(3.0)));
+        assertEquals(List.of(employee1), collect(employeeDB.streamEmployeesByDepartment("it")));
+
+        // A scan that outlives a write keeps reading the version it started on
+        List<Integer> streamedIds = new ArrayList<>();
+        employeeDB.streamEmployeesBySalaryRange(0, 10_000).subscribe(new Flow.Subscriber<>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(Employee<Integer> item) {
+                streamedIds.add(item.getEmployeeId());
+                try {
+                    employeeDB.deleteEmployee(102);
+                } catch (EmployeeNotFoundException e) {
+                    // Already deleted on an earlier row
+                }
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                fail(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        assertEquals(3, streamedIds.size());
+        assertEquals(2, employeeDB.getTotalEmployeeCount());
+    }
+
+    @Test
+    @DisplayName("Snapshots are isolated from later writes")
+    void testSnapshotIsolation() throws InvalidSalaryException, EmployeeNotFoundException, InvalidDepartmentException {
+        employeeDB.addEmployee(employee1);
+        employeeDB.addEmployee(employee3);
+        EmployeeSnapshot<Integer> before = employeeDB.snapshot();
+
+        employeeDB.giveSalaryRaiseToHighPerformers();
+        employeeDB.updateEmployeeDetails(101, "employeeName", "Kevin G.");
+        employeeDB.deleteEmployee(101);
+        employeeDB.addEmployee(employee2);
+
+        // The old snapshot still answers with the old values
+        assertEquals(2, before.size());
+        assertEquals("Kevin Ganza", before.getEmployee(101).getEmployeeName());
+        assertEquals(7000.0, before.getEmployee(103).getEmployeeSalary());
+        assertFalse(before.containsEmployee(102));
+
+        EmployeeSnapshot<Integer> after = employeeDB.snapshot();
+        assertEquals(7140.0, after.getEmployee(103).getEmployeeSalary(), 1e-9);
+        assertFalse(after.containsEmployee(101));
+        assertEquals(after.size(), employeeDB.getAllEmployees().size());
+    }
+
+    @Test
+    @DisplayName("Every mutation is published to the change log")
+    void testChangeLog() throws Exception {
+        employeeDB.addEmployee(employee1);
+        employeeDB.addEmployee(employee2);
+        EmployeeSnapshot<Integer> snapshot = employeeDB.snapshot();
+        assertEquals(2, snapshot.size());
+        assertEquals(2, snapshot.getOffset());
+
+        employeeDB.updateEmployeeDetails(101, "performanceRating", 4.0);
+        employeeDB.giveSalaryRaiseToHighPerformers();
+        employeeDB.deleteEmployee(102);
+
+        // Reading from the snapshot offset gives exactly the later changes
+        List<ChangeEvent<Integer>> events = employeeDB.getChangeLog().read(snapshot.getOffset(), 100);
+        assertEquals(4, events.size());
+        assertEquals(ChangeType.UPDATED, events.get(0).getType());
+        assertEquals(EmployeeField.RATING, events.get(0).getField());
+        assertEquals(EmployeeField.SALARY, events.get(1).getField());
+        assertEquals(6120.0, events.get(1).getEmployee().getEmployeeSalary(), 1e-9);
+        assertEquals(ChangeType.DELETED, events.get(3).getType());
+        assertEquals(102, events.get(3).getEmployeeId());
+    }
+
+    @Test
+    @DisplayName("Operation latencies and database gauges are recorded in the metrics registry")
+    void testOperationMetrics() throws Exception {
+        employeeDB.addEmployee(employee1);
+        employeeDB.addEmployee(employee2);
+        employeeDB.findEmployeesByName("kevin");
+        employeeDB.findEmployeesByName("kevin");
+        assertThrows(InvalidSalaryException.class, () -> employeeDB.findEmployeesBySalaryRange(10, 5));
+
+        MetricsSnapshot snapshot = employeeDB.getMetrics().snapshot();
+        assertEquals(2, snapshot.getTimer("database", "add_employee").getCount());
+        assertEquals(2, snapshot.getTimer("database", "find_by_name").getCount());
+        // Failed calls are timed too
+        assertEquals(1, snapshot.getTimer("database", "find_by_salary_range").getCount());
+        assertEquals(0, snapshot.getTimer("database", "salary_raise").getCount());
+        assertEquals(2.0, snapshot.getValues().get("employees"));
+        assertEquals(1.0, snapshot.getValues().get("query_cache_hits"));
+
+        String exposition = employeeDB.getMetrics().toPrometheusText();
+        assertTrue(exposition.contains("employee_management_operation_duration_seconds_count{component=\"database\",operation=\"add_employee\"} 2"));
+        assertTrue(exposition.contains("employee_management_change_log_events_total 2"));
+    }
+
+    @Test
+    @DisplayName("Buffer queries return the same employees as the list queries")
+    void testBufferQueries() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        employeeDB.addEmployee(employee1);
+        employeeDB.addEmployee(employee2);
+        employeeDB.addEmployee(employee3);
+        EmployeeBuffer<Integer> buffer = new EmployeeBuffer<>(1);
+
+        assertEquals(1, employeeDB.findEmployeesByDepartment("it", buffer));
+        assertEquals("Kevin Ganza", buffer.get(0).getEmployeeName());
+        assertEquals(2, employeeDB.findEmployeesByName("  KE ", buffer));
+        assertEquals(employeeDB.findEmployeesByName("ke").size(), buffer.size());
+        assertEquals(0, employeeDB.findEmployeesByName("kevinganza", buffer));
+        assertTrue(buffer.isEmpty());
+        assertEquals(2, employeeDB.findEmployeesByMinRating(3.5, buffer));
+        assertEquals(2, employeeDB.findEmployeesBySalaryRange(5000, 6000, buffer));
+        assertEquals(employeeDB.findEmployeesBySalaryRange(5000, 6000).size(), buffer.toList().size());
+
+        // Buffers see every write and keep their capacity
+        int capacity = buffer.capacity();
+        employeeDB.deleteEmployee(102);
+        assertEquals(1, employeeDB.findEmployeesBySalaryRange(5000, 6000, buffer));
+        assertEquals(capacity, buffer.capacity());
+
+        assertThrows(InvalidDepartmentException.class, () -> employeeDB.findEmployeesByDepartment("Sales", buffer));
+        assertThrows(InvalidSalaryException.class, () -> employeeDB.findEmployeesBySalaryRange(100, 50, buffer));
+        assertThrows(IllegalArgumentException.class, () -> employeeDB.findEmployeesByMinRating(6, buffer));
+        assertThrows(IllegalArgumentException.class, () -> employeeDB.findEmployeesByName(" ", buffer));
+    }
+
+    @Test
+    @DisplayName("Visitors and iterators see the matching employees of one version")
+    void testVisitorQueries() throws InvalidSalaryException, EmployeeNotFoundException {
+        employeeDB.addEmployee(employee1);
+        employeeDB.addEmployee(employee2);
+        employeeDB.addEmployee(employee3);
+
+        double[] total = new double[1];
+        assertEquals(2, employeeDB.forEachMatching(e -> e.getPerformanceRating() >= 3.5, Employee::getEmployeeSalary,
+                salary -> total[0] += salary));
+        assertEquals(12500.0, total[0]);
+        List<Integer> ids = new ArrayList<>();
+        assertEquals(3, employeeDB.forEachMatching(e -> true, e -> ids.add(e.getEmployeeId())));
+        assertEquals(3, ids.size());
+
+        // The iterator keeps the version it was opened on
+        EmployeeScanIterator<Integer> iterator = employeeDB.iterateMatching(e -> e.getEmployeeSalary() > 5800, new EmployeeScanIterator<>());
+        employeeDB.deleteEmployee(103);
+        int seen = 0;
+        for (Employee<Integer> employee : iterator) {
+            assertTrue(employee.getEmployeeSalary() > 5800);
+            seen++;
+        }
+        assertEquals(2, seen);
+        assertFalse(employeeDB.iterateMatching(e -> e.getEmployeeSalary() > 5800, iterator).next().getEmployeeId() == 103);
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    @DisplayName("Visitor queries nested in a visitor's action walk the version on their own")
+    void testNestedVisitorQueries() throws InvalidSalaryException, EmployeeNotFoundException, InvalidDepartmentException {
+        employeeDB.addEmployee(employee1);
+        employeeDB.addEmployee(employee2);
+        employeeDB.addEmployee(employee3);
+
+        int[] pairs = new int[1];
+        EmployeeBuffer<Integer> buffer = new EmployeeBuffer<>();
+        assertEquals(3, employeeDB.forEachMatching(e -> true, outer -> pairs[0] += employeeDB.findMatching(e -> true, buffer)));
+        assertEquals(9, pairs[0]);
+
+        // Each call walks the version current at the call, writes in between are seen by the next one
+        assertEquals(1, employeeDB.findEmployeesByMinRating(4.0, buffer));
+        employeeDB.updateEmployeeDetails(101, "performanceRating", 4.8);
+        assertEquals(2, employeeDB.findEmployeesByMinRating(4.0, buffer));
+        employeeDB.deleteEmployee(102);
+        assertEquals(2, employeeDB.forEachMatching(e -> true, e -> { }));
+    }
+
+    @Test
+    @DisplayName("Visitor, buffer and iterator queries are timed like the list queries")
+    void testVisitorQueryMetrics() throws Exception {
+        employeeDB.addEmployee(employee1);
+        employeeDB.addEmployee(employee2);
+        EmployeeBuffer<Integer> buffer = new EmployeeBuffer<>();
+
+        employeeDB.findEmployeesByName("kevin", buffer);
+        employeeDB.findMatching(e -> true, buffer);
+        employeeDB.forEachMatching(e -> true, e -> { });
+        employeeDB.forEachMatching(e -> true, Employee::getEmployeeSalary, salary -> { });
+        employeeDB.iterateMatching(e -> true, new EmployeeScanIterator<>());
+        assertThrows(IllegalArgumentException.class, () -> employeeDB.findEmployeesByMinRating(6, buffer));
+
+        MetricsSnapshot snapshot = employeeDB.getMetrics().snapshot();
+        assertEquals(1, snapshot.getTimer("database", "find_by_name").getCount());
+        assertEquals(1, snapshot.getTimer("database", "find_matching").getCount());
+        assertEquals(2, snapshot.getTimer("database", "for_each_matching").getCount());
+        assertEquals(1, snapshot.getTimer("database", "iterate_matching").getCount());
+        assertEquals(1, snapshot.getTimer("database", "find_by_min_rating").getCount());
+    }
+
+    @Test
+    @DisplayName("Name searches fold case the same way in every variant")
+    void testNameSearchCaseFolding() throws InvalidSalaryException {
+        // String.toLowerCase turns İ into i plus a combining dot, Character.toLowerCase into a plain i
+        employeeDB.addEmployee(new Employee<>(110, "İlker Demir", EEmployeeDepartment.IT, 5000.0, 4.0, 3, true));
+        EmployeeBuffer<Integer> buffer = new EmployeeBuffer<>();
+
+        for (String term : new String[]{"İlker", "ilker", "ILKER", "r dem"}) {
+            assertEquals(1, employeeDB.findEmployeesByName(term).size(), term);
+            assertEquals(1, employeeDB.findEmployeesByName(term, buffer), term);
+        }
+    }
+
+    // Requests everything and collects the streamed employees
+    private static List<Employee<Integer>> collect(Flow.Publisher<Employee<Integer>> publisher) {
+        List<Employee<Integer>> result = new ArrayList<>();
+        publisher.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(Employee<Integer> item) {
+                result.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                fail(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        return result;
+    }
+
+    // Clock that only moves when a test advances it
+    private static class TestClock extends Clock {
+        private long millis;
+
+        TestClock(long millis) {
+            this.millis = millis;
+        }
+
+        void advance(long deltaMillis) {
+            millis += deltaMillis;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.employeemanagement.employeemanagementsystem.model.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ArcCache class
+ */
+class ArcCacheTest {
+
+    @Test
+    @DisplayName("Filled values are served until they are evicted")
+    void testFillAndGet() {
+        ArcCache<Integer, String> cache = new ArcCache<>(100);
+        assertNull(cache.get(1));
+        cache.fill(1, "one", 10, cache.stamp());
+        assertEquals("one", cache.get(1));
+
+        RecordCacheStats stats = cache.getStats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(1, stats.getFrequentCount());
+        assertEquals(10, stats.getRetainedBytes());
+    }
+
+    @Test
+    @DisplayName("The byte budget is never exceeded")
+    void testByteBudget() {
+        ArcCache<Integer, String> cache = new ArcCache<>(100);
+        for (int key = 0; key < 50; key++) {
+            cache.fill(key, "v" + key, 10, cache.stamp());
+            assertTrue(cache.getStats().getRetainedBytes() <= 100);
+        }
+        assertEquals(10, cache.getStats().getEntryCount());
+        assertEquals(40, cache.getStats().getEvictionCount());
+        assertNull(cache.get(0));
+        assertEquals("v49", cache.get(49));
+
+        cache.fill(100, "too big", 101, cache.stamp());
+        assertNull(cache.get(100));
+    }
+
+    @Test
+    @DisplayName("A scan of keys seen once doesn't evict keys hit repeatedly")
+    void testScanResistance() {
+        ArcCache<Integer, String> cache = new ArcCache<>(100);
+        for (int key = 0; key < 5; key++) {
+            cache.fill(key, "hot" + key, 10, cache.stamp());
+            cache.get(key);
+        }
+        for (int key = 1000; key < 2000; key++) {
+            if (cache.get(key) == null) {
+                cache.fill(key, "cold" + key, 10, cache.stamp());
+            }
+        }
+        for (int key = 0; key < 5; key++) {
+            assertEquals("hot" + key, cache.get(key));
+        }
+    }
+
+    @Test
+    @DisplayName("The recent target grows after misses on recently evicted keys")
+    void testAdaptation() {
+        ArcCache<Integer, String> cache = new ArcCache<>(100);
+        for (int key = 0; key < 10; key++) {
+            cache.fill(key, "v" + key, 10, cache.stamp());
+            cache.get(key);
+        }
+        for (int key = 100; key < 110; key++) {
+            cache.fill(key, "v" + key, 10, cache.stamp());
+        }
+        assertEquals(0, cache.getStats().getRecentTargetBytes());
+        // The recent list was left no room, so key 100 was pushed out by 101; asking for it again is a recent ghost hit
+        assertNull(cache.get(100));
+        cache.fill(100, "v100", 10, cache.stamp());
+        assertTrue(cache.getStats().getRecentTargetBytes() > 0);
+        assertEquals("v100", cache.get(100));
+    }
+
+    @Test
+    @DisplayName("Writes go through and stale fills are dropped")
+    void testWriteThrough() {
+        ArcCache<Integer, String> cache = new ArcCache<>(100);
+        long loadedAt = cache.stamp();
+        cache.put(1, "new", 10);
+        cache.fill(1, "old", 10, loadedAt);
+        assertEquals("new", cache.get(1));
+
+        loadedAt = cache.stamp();
+        cache.remove(1);
+        cache.fill(1, "old", 10, loadedAt);
+        assertNull(cache.get(1));
+
+        cache.put(2, "two", 10);
+        cache.put(2, "zwei", 20);
+        assertEquals("zwei", cache.get(2));
+        assertEquals(20, cache.getStats().getRetainedBytes());
+    }
+
+    @Test
+    @DisplayName("Writes to other keys don't drop a fill")
+    void testFillAfterUnrelatedWrites() {
+        ArcCache<Integer, String> cache = new ArcCache<>(100_000);
+        long loadedAt = cache.stamp();
+        cache.put(2, "two", 10);
+        cache.remove(3);
+        cache.fill(1, "one", 10, loadedAt);
+        assertEquals("one", cache.get(1));
+
+        // Once the writes during a load are too many to remember, the fill is dropped to stay safe
+        loadedAt = cache.stamp();
+        for (int key = 10; key < 5_000; key++) {
+            cache.remove(key);
+        }
+        cache.fill(4, "four", 10, loadedAt);
+        assertNull(cache.get(4));
+
+        cache.clear();
+        loadedAt = cache.stamp();
+        cache.put(6, "six", 10);
+        cache.fill(5, "five", 10, loadedAt);
+        assertEquals("five", cache.get(5));
+    }
+}
@@ -0,0 +1,76 @@
+package com.employeemanagement.employeemanagementsystem.model.cache;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the QueryResultCache class
+ */
+class QueryResultCacheTest {
+
+    @Test
+    @DisplayName("Invalidating a department only drops its own and dataset-wide entries")
+    void testPartitionInvalidation() {
+        QueryResultCache cache = new QueryResultCache();
+        cache.put("department:IT", EEmployeeDepartment.IT, "it", 1);
+        cache.put("department:HR", EEmployeeDepartment.HR, "hr", 1);
+        cache.put("sorted:SALARY", null, "all", 1);
+
+        cache.invalidate(EEmployeeDepartment.IT);
+
+        assertNull(cache.get("department:IT"));
+        assertEquals("hr", cache.get("department:HR"));
+        assertNull(cache.get("sorted:SALARY"));
+    }
+
+    @Test
+    @DisplayName("Least recently used entries are evicted first")
+    void testLruEviction() {
+        QueryResultCache cache = new QueryResultCache(2, QueryResultCache.DEFAULT_MAX_BYTES);
+        cache.put("a", null, "A", 0);
+        cache.put("b", null, "B", 0);
+        cache.get("a");
+        cache.put("c", null, "C", 0);
+
+        assertEquals("A", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("C", cache.get("c"));
+        assertEquals(1, cache.getStats().getEvictionCount());
+    }
+
+    @Test
+    @DisplayName("Byte budget bounds retained memory")
+    void testByteBudget() {
+        QueryResultCache cache = new QueryResultCache(100, 10_000);
+        cache.put("small", null, "s", 10);
+        cache.put("huge", null, "h", 1_000_000);
+        assertNull(cache.get("huge"));
+
+        for (int i = 0; i < 50; i++) {
+            cache.put("list" + i, null, "l", 500);
+        }
+        QueryCacheStats stats = cache.getStats();
+        assertTrue(stats.getRetainedBytes() <= 10_000);
+        assertTrue(stats.getEntryCount() < 50);
+    }
+
+    @Test
+    @DisplayName("Hit rate counts hits and misses")
+    void testHitRate() {
+        QueryResultCache cache = new QueryResultCache();
+        assertEquals(0, cache.getStats().getHitRate());
+        cache.get("x");
+        cache.put("x", null, "X", 0);
+        cache.get("x");
+        cache.get("x");
+        cache.get("x");
+
+        QueryCacheStats stats = cache.getStats();
+        assertEquals(3, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(0.75, stats.getHitRate());
+    }
+}
@@ -0,0 +1,83 @@
+package com.employeemanagement.employeemanagementsystem.model.changelog;
+
+import com.employeemanagement.employeemanagementsystem.exceptions.ChangeLogTruncatedException;
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ChangeLog class
+ */
+class ChangeLogTest {
+
+    private static final Employee<Integer> EMPLOYEE =
+            new Employee<>(1, "Kevin Ganza", EEmployeeDepartment.IT, 6000.0, 2.2, 5, true);
+
+    @Test
+    @DisplayName("Batches are read in offset order")
+    void testBatchRead() throws ChangeLogTruncatedException {
+        ChangeLog<Integer> log = new ChangeLog<>(16);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, log.append(ChangeType.CREATED, i, null, EMPLOYEE, Instant.EPOCH));
+        }
+
+        List<ChangeEvent<Integer>> first = log.read(0, 4);
+        List<ChangeEvent<Integer>> rest = log.read(4, 100);
+        assertEquals(4, first.size());
+        assertEquals(6, rest.size());
+        assertEquals(3, first.get(3).getOffset());
+        assertEquals(9, rest.get(5).getEmployeeId());
+        assertTrue(log.read(10, 100).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Readers behind retention are told where the log now starts")
+    void testTruncation() {
+        ChangeLog<Integer> log = new ChangeLog<>(8);
+        for (int i = 0; i < 20; i++) {
+            log.append(ChangeType.UPDATED, 1, null, EMPLOYEE, Instant.EPOCH);
+        }
+        assertEquals(12, log.getFirstOffset());
+
+        ChangeLogTruncatedException e = assertThrows(ChangeLogTruncatedException.class, () -> log.read(5, 10));
+        assertEquals(12, e.getFirstAvailableOffset());
+    }
+
+    @Test
+    @DisplayName("Subscribers receive events pushed from their offset")
+    void testSubscribe() throws InterruptedException {
+        ChangeLog<Integer> log = new ChangeLog<>(1024);
+        log.append(ChangeType.CREATED, 1, null, EMPLOYEE, Instant.EPOCH);
+
+        List<Long> offsets = new CopyOnWriteArrayList<>();
+        CountDownLatch received = new CountDownLatch(3);
+        log.subscribe(0, new ChangeListener<>() {
+            @Override
+            public void onEvents(List<ChangeEvent<Integer>> events) {
+                for (ChangeEvent<Integer> event : events) {
+                    offsets.add(event.getOffset());
+                    received.countDown();
+                }
+            }
+
+            @Override
+            public void onTruncated(ChangeSubscription subscription, long firstAvailableOffset) {
+                fail("Subscription should not fall behind");
+            }
+        });
+        log.append(ChangeType.UPDATED, 1, null, EMPLOYEE, Instant.EPOCH);
+        log.append(ChangeType.DELETED, 1, null, EMPLOYEE, Instant.EPOCH);
+
+        assertTrue(received.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(0L, 1L, 2L), offsets);
+    }
+}
@@ -0,0 +1,157 @@
+package com.employeemanagement.employeemanagementsystem.model.checkpoint;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the CheckpointStore class
+ */
+class CheckpointStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private EmployeeDatabase<Integer> database;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        database = new EmployeeDatabase<>();
+        for (int id = 1; id <= 200; id++) {
+            database.addEmployee(new Employee<>(id, "Employee " + id, EEmployeeDepartment.values()[id % 5], 4000.0 + id, id % 6 * 1.0, id % 30, true));
+        }
+    }
+
+    @Test
+    @DisplayName("Only records changed since the last checkpoint are written")
+    void testIncrementalCheckpoint() throws Exception {
+        try (CheckpointStore store = new CheckpointStore(directory, 0)) {
+            CheckpointResult base = store.checkpoint(database);
+            assertTrue(base.isBase());
+            assertEquals(200, base.getRecords());
+
+            database.updateEmployeeDetails(5, "employeeSalary", 9000.0);
+            database.addEmployee(new Employee<>(500, "Nia Achieng", EEmployeeDepartment.IT, 5100.0, 4.0, 2, true));
+            database.deleteEmployee(9);
+            CheckpointResult increment = store.checkpoint(database);
+            assertFalse(increment.isBase());
+            assertEquals(2, increment.getRecords());
+            assertEquals(1, increment.getTombstones());
+            assertTrue(increment.getBytes() < base.getBytes() / 20);
+
+            // Every employee with a rating of at least 3.5 gets a raise
+            int raised = database.giveSalaryRaiseToHighPerformers();
+            assertEquals(raised, store.checkpoint(database).getRecords());
+            assertEquals(0, store.checkpoint(database).getBytes());
+            assertEquals(2, store.getIncrementCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Recovery replays increments on top of the base image")
+    void testRestore() throws Exception {
+        try (CheckpointStore store = new CheckpointStore(directory, 0)) {
+            store.checkpoint(database);
+            database.updateEmployeeDetails(5, "employeeDepartment", EEmployeeDepartment.HR);
+            database.deleteEmployee(9);
+            store.checkpoint(database);
+            database.deleteEmployee(10);
+            database.addEmployee(new Employee<>(9, "Employee 9 again", EEmployeeDepartment.IT, 5100.0, 4.0, 2, false));
+            store.checkpoint(database);
+        }
+
+        EmployeeDatabase<Integer> restored = new EmployeeDatabase<>();
+        try (CheckpointStore reopened = new CheckpointStore(directory, 0)) {
+            assertEquals(199, reopened.restore(restored));
+            assertEquals(EEmployeeDepartment.HR, restored.getEmployee(5).getEmployeeDepartment());
+            assertEquals("Employee 9 again", restored.getEmployee(9).getEmployeeName());
+            assertFalse(restored.getEmployee(9).isActive());
+            assertEquals(database.getEmployeeCountByDepartment("HR"), restored.getEmployeeCountByDepartment("HR"));
+
+            // The restored database carries on with increments
+            restored.updateEmployeeDetails(1, "employeeName", "Renamed");
+            CheckpointResult next = reopened.checkpoint(restored);
+            assertFalse(next.isBase());
+            assertEquals(1, next.getRecords());
+            assertEquals("Renamed", reopened.recover().get(1).getEmployeeName());
+        }
+    }
+
+    @Test
+    @DisplayName("Compaction merges increments into a new base image")
+    void testCompaction() throws Exception {
+        try (CheckpointStore store = new CheckpointStore(directory, 0)) {
+            store.checkpoint(database);
+            for (int round = 0; round < 5; round++) {
+                database.updateEmployeeDetails(round + 1, "employeeSalary", 7000.0 + round);
+                database.deleteEmployee(100 + round);
+                store.checkpoint(database);
+            }
+            Map<Integer, Employee<Integer>> before = store.recover();
+            assertEquals(5, store.getIncrementCount());
+
+            store.compact();
+            assertEquals(0, store.getIncrementCount());
+            assertEquals(5, store.getBaseSequence());
+            assertEquals(1, fileCount());
+            Map<Integer, Employee<Integer>> after = store.recover();
+            assertEquals(before.keySet(), after.keySet());
+            assertEquals(7004.0, after.get(5).getEmployeeSalary());
+        }
+    }
+
+    @Test
+    @DisplayName("Compaction runs in the background once enough increments exist")
+    void testBackgroundCompaction() throws Exception {
+        try (CheckpointStore store = new CheckpointStore(directory, 3)) {
+            store.checkpoint(database);
+            for (int round = 0; round < 3; round++) {
+                database.updateEmployeeDetails(1, "performanceRating", 2.0 + round);
+                store.checkpoint(database);
+            }
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (store.getIncrementCount() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, store.getIncrementCount());
+            assertEquals(4.0, store.recover().get(1).getPerformanceRating());
+        }
+    }
+
+    @Test
+    @DisplayName("A damaged checkpoint file is detected")
+    void testDetectsCorruption() throws Exception {
+        try (CheckpointStore store = new CheckpointStore(directory, 0)) {
+            store.checkpoint(database);
+            Path base = onlyFile();
+            byte[] bytes = Files.readAllBytes(base);
+            bytes[bytes.length / 2] ^= 0x20;
+            Files.write(base, bytes);
+            assertThrows(IOException.class, store::recover);
+        }
+    }
+
+    private long fileCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private Path onlyFile() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.findFirst().orElseThrow();
+        }
+    }
+}
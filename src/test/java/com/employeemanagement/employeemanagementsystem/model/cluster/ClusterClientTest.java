@@ -0,0 +1,140 @@
+package com.employeemanagement.employeemanagementsystem.model.cluster;
+
+import com.employeemanagement.employeemanagementsystem.exceptions.EmployeeNotFoundException;
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidSalaryException;
+import com.employeemanagement.employeemanagementsystem.exceptions.NodeUnavailableException;
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ClusterClient class, against nodes running in this JVM
+ */
+class ClusterClientTest {
+
+    private static final int EMPLOYEES = 200;
+
+    private final Map<String, ClusterNode> nodes = new LinkedHashMap<>();
+    private final ClusterClient client = new ClusterClient(2, 2, ConsistentHashRing.DEFAULT_VIRTUAL_NODES, Duration.ofSeconds(5));
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        nodes.values().forEach(ClusterNode::close);
+    }
+
+    private RebalanceResult startNode(String nodeId) throws Exception {
+        ClusterNode node = new ClusterNode(nodeId, 0).start();
+        nodes.put(nodeId, node);
+        return client.addNode(nodeId, node.getAddress());
+    }
+
+    private static Employee<Integer> employee(int id) {
+        EEmployeeDepartment[] departments = EEmployeeDepartment.values();
+        return new Employee<>(id, "Employee " + id, departments[id % departments.length], 4000.0 + id, 3.0, id % 20, true);
+    }
+
+    private void populate() throws Exception {
+        for (int id = 1; id <= EMPLOYEES; id++) {
+            client.addEmployee(employee(id));
+        }
+    }
+
+    // Every employee is stored on its replicas and nowhere else
+    private void assertPlacement() throws Exception {
+        for (ClusterNode node : nodes.values()) {
+            if (!client.getRing().getNodes().contains(node.getNodeId())) {
+                continue;
+            }
+            Set<Integer> stored = new HashSet<>();
+            for (Employee<Integer> employee : node.getDatabase().getAllEmployees()) {
+                stored.add(employee.getEmployeeId());
+            }
+            for (int id = 1; id <= EMPLOYEES; id++) {
+                boolean replica = client.getReplicas(id).contains(node.getNodeId());
+                assertEquals(replica, stored.contains(id), "Employee " + id + " on " + node.getNodeId());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Writes reach every replica and reads survive a node going down")
+    void testReplicatedReadsAndWrites() throws Exception {
+        startNode("node-1");
+        startNode("node-2");
+        startNode("node-3");
+        populate();
+        assertPlacement();
+
+        client.updateEmployeeDetails(7, "employeeSalary", 9100.0);
+        client.updateEmployeeDetails(7, "yearOfExperience", 12);
+        client.updateEmployeeDetails(7, "employeeDepartment", EEmployeeDepartment.HR);
+        client.deleteEmployee(8);
+        assertEquals(EMPLOYEES - 1, client.getAllEmployees().size());
+        assertThrows(EmployeeNotFoundException.class, () -> client.getEmployee(8));
+        assertThrows(InvalidSalaryException.class, () -> client.addEmployee(new Employee<>(900, "Broke", EEmployeeDepartment.IT, -1, 3.0, 1, true)));
+        assertThrows(IllegalArgumentException.class, () -> client.addEmployee(employee(7)));
+
+        nodes.get(client.getReplicas(7).get(0)).close();
+        Employee<Integer> updated = client.getEmployee(7);
+        assertEquals(9100.0, updated.getEmployeeSalary());
+        assertEquals(12, updated.getYearsOfExperience());
+        assertEquals(EEmployeeDepartment.HR, updated.getEmployeeDepartment());
+        assertEquals(EMPLOYEES - 1, client.getAllEmployees().size());
+        // Both replicas must acknowledge, so writes to the dead node's ranges fail
+        assertThrows(NodeUnavailableException.class, () -> client.updateEmployeeDetails(7, "employeeSalary", 9200.0));
+    }
+
+    @Test
+    @DisplayName("A joining node receives only the ranges it now replicates")
+    void testAddNodeRebalances() throws Exception {
+        startNode("node-1");
+        startNode("node-2");
+        startNode("node-3");
+        populate();
+
+        RebalanceResult result = startNode("node-4");
+
+        assertFalse(result.getTransfers().isEmpty());
+        assertEquals(nodes.get("node-4").getDatabase().getTotalEmployeeCount(), result.getCopiedEmployees());
+        assertEquals(result.getCopiedEmployees(), result.getDroppedEmployees());
+        assertTrue(result.getCopiedEmployees() < EMPLOYEES, "Copied " + result.getCopiedEmployees());
+        assertPlacement();
+        assertEquals(EMPLOYEES, client.getAllEmployees().size());
+    }
+
+    @Test
+    @DisplayName("A leaving node hands its ranges over, even once it is down")
+    void testRemoveNodeRebalances() throws Exception {
+        startNode("node-1");
+        startNode("node-2");
+        startNode("node-3");
+        startNode("node-4");
+        populate();
+        int stored = nodes.get("node-2").getDatabase().getTotalEmployeeCount();
+
+        RebalanceResult result = client.removeNode("node-2");
+        assertEquals(stored, result.getCopiedEmployees());
+        assertEquals(stored, result.getDroppedEmployees());
+        assertPlacement();
+
+        nodes.get("node-3").close();
+        RebalanceResult crashed = client.removeNode("node-3");
+        assertEquals(0, crashed.getDroppedEmployees());
+        assertPlacement();
+        List<Employee<Integer>> all = client.getAllEmployees();
+        assertEquals(EMPLOYEES, all.size());
+        assertEquals(employee(42).getEmployeeName(), client.getEmployee(42).getEmployeeName());
+    }
+}
@@ -0,0 +1,127 @@
+package com.employeemanagement.employeemanagementsystem.model.cluster;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ConsistentHashRing class
+ */
+class ConsistentHashRingTest {
+
+    private static final int IDS = 20_000;
+
+    private static ConsistentHashRing ring(String... nodes) {
+        ConsistentHashRing ring = new ConsistentHashRing();
+        for (String node : nodes) {
+            ring = ring.withNode(node);
+        }
+        return ring;
+    }
+
+    private static boolean sameSet(List<String> a, List<String> b) {
+        return new HashSet<>(a).equals(new HashSet<>(b));
+    }
+
+    @Test
+    @DisplayName("Virtual nodes spread the IDs evenly across the nodes")
+    void testBalance() {
+        ConsistentHashRing ring = ring("node-1", "node-2", "node-3", "node-4");
+        Map<String, Integer> primaries = new HashMap<>();
+        for (int id = 1; id <= IDS; id++) {
+            primaries.merge(ring.getReplicas(id, 1).get(0), 1, Integer::sum);
+        }
+
+        assertEquals(4, primaries.size());
+        for (int count : primaries.values()) {
+            assertTrue(count > IDS * 0.15 && count < IDS * 0.35, "Unbalanced ring: " + primaries);
+        }
+        double total = ring.getOwnership().values().stream().mapToDouble(Double::doubleValue).sum();
+        assertEquals(1.0, total, 1e-9);
+    }
+
+    @Test
+    @DisplayName("Replicas are distinct nodes, capped by the cluster size")
+    void testReplicas() {
+        ConsistentHashRing ring = ring("a", "b", "c");
+        for (int id = 1; id <= 1000; id++) {
+            List<String> replicas = ring.getReplicas(id, 2);
+            assertEquals(2, replicas.size());
+            assertNotEquals(replicas.get(0), replicas.get(1));
+            assertEquals(replicas.get(0), ring.getReplicas(id, 1).get(0));
+            assertEquals(3, ring.getReplicas(id, 5).size());
+        }
+        assertTrue(new ConsistentHashRing().getReplicas(1, 2).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> ring.withNode("a"));
+        assertThrows(IllegalArgumentException.class, () -> ring.withoutNode("d"));
+    }
+
+    @Test
+    @DisplayName("A joining node only takes IDs from existing nodes, about its share of them")
+    void testJoinMovesOnlyItsShare() {
+        ConsistentHashRing before = ring("node-1", "node-2", "node-3", "node-4");
+        ConsistentHashRing after = before.withNode("node-5");
+        int moved = 0;
+        for (int id = 1; id <= IDS; id++) {
+            List<String> oldReplicas = before.getReplicas(id, 2);
+            List<String> newReplicas = after.getReplicas(id, 2);
+            if (!sameSet(oldReplicas, newReplicas)) {
+                moved++;
+                // The only new owner of a changed ID is the joining node
+                assertTrue(newReplicas.contains("node-5"));
+                Set<String> kept = new HashSet<>(newReplicas);
+                kept.remove("node-5");
+                assertTrue(oldReplicas.containsAll(kept));
+            }
+        }
+        // With two replicas the new node stores about 2/5 of the IDs, the rest stay where they were
+        assertTrue(moved > IDS * 0.25 && moved < IDS * 0.55, "Moved " + moved + " of " + IDS);
+    }
+
+    @Test
+    @DisplayName("Transfers cover exactly the IDs whose replica set changed")
+    void testTransfers() {
+        ConsistentHashRing before = ring("node-1", "node-2", "node-3");
+        for (ConsistentHashRing after : List.of(before.withNode("node-4"), before.withoutNode("node-2"))) {
+            List<RangeTransfer> transfers = ConsistentHashRing.transfers(before, after, 2);
+            assertFalse(transfers.isEmpty());
+            for (int id = 1; id <= IDS; id++) {
+                long token = ConsistentHashRing.token(id);
+                RangeTransfer match = null;
+                for (RangeTransfer transfer : transfers) {
+                    if (transfer.getRange().contains(token)) {
+                        assertNull(match, "Overlapping transfers for ID " + id);
+                        match = transfer;
+                    }
+                }
+                List<String> oldReplicas = before.getReplicas(id, 2);
+                List<String> newReplicas = after.getReplicas(id, 2);
+                if (sameSet(oldReplicas, newReplicas)) {
+                    assertNull(match, "ID " + id + " did not change replicas but is transferred");
+                } else {
+                    assertNotNull(match, "ID " + id + " changed replicas but is not transferred");
+                    assertTrue(sameSet(oldReplicas, match.getPreviousReplicas()));
+                    assertTrue(sameSet(newReplicas, match.getReplicas()));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("The ring depends only on its members, not on the order they joined or left in")
+    void testDeterministicMembership() {
+        ConsistentHashRing joined = ring("c", "a", "b");
+        ConsistentHashRing shrunk = ring("b", "d", "a", "c").withoutNode("d");
+        for (int id = 1; id <= 1000; id++) {
+            assertEquals(joined.getReplicas(id, 2), shrunk.getReplicas(id, 2));
+        }
+        assertTrue(ConsistentHashRing.transfers(joined, shrunk, 2).isEmpty());
+    }
+}
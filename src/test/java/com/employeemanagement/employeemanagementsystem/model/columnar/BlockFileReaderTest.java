@@ -0,0 +1,156 @@
+package com.employeemanagement.employeemanagementsystem.model.columnar;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the BlockFileReader class
+ */
+class BlockFileReaderTest {
+
+    @TempDir
+    Path directory;
+
+    private EmployeeDatabase<Integer> database;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        database = new EmployeeDatabase<>();
+        for (int id = 1; id <= 1000; id++) {
+            database.addEmployee(new Employee<>(id, "Employee " + id, EEmployeeDepartment.values()[id % 5], 3000.0 + id * 37 % 5000, id % 11 * 0.5, id % 30, id % 3 != 0));
+        }
+    }
+
+    private static List<String> describe(List<Employee<Integer>> employees) {
+        return employees.stream().map(Employee::toString).sorted().collect(Collectors.toList());
+    }
+
+    private Path export(Comparator<Employee<Integer>> order) throws IOException {
+        Path file = directory.resolve("employees.ebc");
+        List<Employee<Integer>> rows = database.snapshot().stream().sorted(order).collect(Collectors.toList());
+        assertEquals(1000, BlockFileWriter.export(rows, file, 100));
+        return file;
+    }
+
+    @Test
+    @DisplayName("Every employee survives the round trip")
+    void testRoundTrip() throws Exception {
+        try (BlockFileReader reader = BlockFileReader.open(export(Comparator.comparing(Employee::getEmployeeId)))) {
+            assertEquals(1000, reader.getRowCount());
+            assertEquals(10, reader.getBlockCount());
+            assertEquals(describe(database.getAllEmployees()), describe(reader.findEmployees(ScanPredicate.all())));
+        }
+    }
+
+    @Test
+    @DisplayName("Blocks outside a salary range are skipped")
+    void testSalaryRangeSkipsBlocks() throws Exception {
+        try (BlockFileReader reader = BlockFileReader.open(export(Comparator.comparingDouble(Employee::getEmployeeSalary)))) {
+            List<Employee<Integer>> found = new ArrayList<>();
+            BlockScanResult result = reader.scan(ScanPredicate.all().withSalaryRange(4000, 4500), found::add);
+
+            assertEquals(describe(database.findEmployeesBySalaryRange(4000, 4500)), describe(found));
+            assertTrue(result.getBlocksSkipped() >= 7);
+            assertEquals(found.size(), result.getRowsMatched());
+        }
+    }
+
+    @Test
+    @DisplayName("The department mask skips blocks without the department")
+    void testDepartmentSkipsBlocks() throws Exception {
+        try (BlockFileReader reader = BlockFileReader.open(export(Comparator.comparing(Employee::getEmployeeDepartment)))) {
+            List<Employee<Integer>> found = new ArrayList<>();
+            BlockScanResult result = reader.scan(ScanPredicate.all().withDepartments(EnumSet.of(EEmployeeDepartment.IT)), found::add);
+
+            assertEquals(describe(database.findEmployeesByDepartment("IT")), describe(found));
+            assertEquals(2, result.getBlocksRead());
+            assertEquals(8, result.getBlocksSkipped());
+            for (BlockStatistics block : reader.getBlockStatistics()) {
+                assertEquals(1, Integer.bitCount(block.getDepartmentMask()));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Combined predicates match row by row")
+    void testCombinedPredicate() throws Exception {
+        try (BlockFileReader reader = BlockFileReader.open(export(Comparator.comparing(Employee::getEmployeeId)))) {
+            ScanPredicate predicate = ScanPredicate.all().withMinRating(4.0).withExperienceRange(10, 20)
+                    .withDepartments(EnumSet.of(EEmployeeDepartment.HR, EEmployeeDepartment.FINANCE));
+            List<String> expected = describe(database.findEmployeesByMinRating(4.0).stream()
+                    .filter(e -> e.getYearsOfExperience() >= 10 && e.getYearsOfExperience() <= 20)
+                    .filter(e -> e.getEmployeeDepartment() == EEmployeeDepartment.HR || e.getEmployeeDepartment() == EEmployeeDepartment.FINANCE)
+                    .collect(Collectors.toList()));
+            assertEquals(expected, describe(reader.findEmployees(predicate)));
+            assertTrue(reader.findEmployees(ScanPredicate.all().withMinRating(5.1)).isEmpty());
+            assertEquals(10, reader.scan(ScanPredicate.all().withMinRating(5.1), e -> { }).getBlocksSkipped());
+        }
+    }
+
+    @Test
+    @DisplayName("A damaged block is detected when it is read")
+    void testDamagedBlock() throws Exception {
+        Path file = export(Comparator.comparing(Employee::getEmployeeId));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3}), 100);
+        }
+        try (BlockFileReader reader = BlockFileReader.open(file)) {
+            assertThrows(IOException.class, () -> reader.findEmployees(ScanPredicate.all()));
+        }
+    }
+
+    @Test
+    @DisplayName("Employees without a department are kept and only match scans without a department filter")
+    void testMissingDepartment() throws Exception {
+        Path file = directory.resolve("employees.ebc");
+        List<Employee<Integer>> rows = List.of(
+                new Employee<>(1, "Kevin Ganza", null, 5000.0, 4.0, 3, true),
+                new Employee<>(2, "Ama Owusu", EEmployeeDepartment.IT, 6100.0, 4.4, 3, true));
+        assertEquals(2, BlockFileWriter.export(rows, file, 100));
+        try (BlockFileReader reader = BlockFileReader.open(file)) {
+            assertEquals(describe(rows), describe(reader.findEmployees(ScanPredicate.all())));
+            List<Employee<Integer>> assigned = reader.findEmployees(ScanPredicate.all().withDepartments(EnumSet.allOf(EEmployeeDepartment.class)));
+            assertEquals(List.of(2), assigned.stream().map(Employee::getEmployeeId).collect(Collectors.toList()));
+            assertFalse(reader.getBlockStatistics().get(0).containsDepartment(EEmployeeDepartment.HR));
+        }
+    }
+
+    @Test
+    @DisplayName("A failed export leaves the previous file in place")
+    void testFailedExportKeepsPreviousFile() throws Exception {
+        Path file = export(Comparator.comparing(Employee::getEmployeeId));
+        Iterable<Employee<Integer>> failing = () -> database.snapshot().stream()
+                .map(employee -> {
+                    if (employee.getEmployeeId() == 500) {
+                        throw new IllegalStateException("Source failed");
+                    }
+                    return employee;
+                }).iterator();
+
+        assertThrows(IllegalStateException.class, () -> BlockFileWriter.export(failing, file, 100));
+        assertFalse(Files.exists(directory.resolve("employees.ebc.tmp")));
+        try (BlockFileReader reader = BlockFileReader.open(file)) {
+            assertEquals(1000, reader.getRowCount());
+            assertEquals(describe(database.getAllEmployees()), describe(reader.findEmployees(ScanPredicate.all())));
+        }
+    }
+}
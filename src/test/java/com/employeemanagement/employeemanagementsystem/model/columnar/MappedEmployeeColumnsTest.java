@@ -0,0 +1,142 @@
+package com.employeemanagement.employeemanagementsystem.model.columnar;
+
+import com.employeemanagement.employeemanagementsystem.exceptions.EmployeeNotFoundException;
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidDepartmentException;
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidSalaryException;
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
+import com.employeemanagement.employeemanagementsystem.model.mvcc.EmployeeSnapshot;
+import com.employeemanagement.employeemanagementsystem.model.mvcc.PersistentEmployeeMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the MappedEmployeeColumns class
+ */
+class MappedEmployeeColumnsTest {
+
+    @TempDir
+    Path directory;
+
+    private EmployeeDatabase<Integer> database;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        database = new EmployeeDatabase<>();
+        for (int id = 500; id > 0; id--) {
+            database.addEmployee(new Employee<>(id, "Employee " + id, EEmployeeDepartment.values()[id % 5], 3000.0 + id * 11 % 4000, id % 11 * 0.5, id % 30, id % 4 != 0));
+        }
+        database.updateEmployeeDetails(42, "employeeName", "Zoë Ngozi Ådalen");
+    }
+
+    private static List<String> describe(List<Employee<Integer>> employees) {
+        return employees.stream().map(Employee::toString).sorted().collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("Queries over the mapped columns match the database")
+    void testQueriesMatchDatabase() throws Exception {
+        assertEquals(500, ColumnExporter.export(database.snapshot(), directory));
+        MappedEmployeeColumns columns = MappedEmployeeColumns.open(directory);
+
+        assertEquals(500, columns.size());
+        assertEquals(describe(database.findEmployeesByMinRating(3.5)), describe(columns.findEmployeesByMinRating(3.5)));
+        assertEquals(describe(database.findEmployeesBySalaryRange(4000, 5000)), describe(columns.findEmployeesBySalaryRange(4000, 5000)));
+        assertEquals(describe(database.findEmployeesByDepartment("it")), describe(columns.findEmployeesByDepartment("it")));
+        for (EEmployeeDepartment department : EEmployeeDepartment.values()) {
+            assertEquals(database.getEmployeeCountByDepartment(department.name()), columns.getEmployeeCountByDepartment(department.name()));
+            assertEquals(database.calculateAverageSalaryByDepartment(department.name()),
+                    columns.calculateAverageSalaryByDepartment(department.name()), 1e-9);
+        }
+    }
+
+    @Test
+    @DisplayName("Rows are sorted by ID and decode every field")
+    void testRowsAndLookups() throws Exception {
+        ColumnExporter.export(database.snapshot(), directory);
+        MappedEmployeeColumns columns = MappedEmployeeColumns.open(directory);
+
+        for (int row = 1; row < columns.size(); row++) {
+            assertTrue(columns.getEmployeeId(row - 1) < columns.getEmployeeId(row));
+        }
+        Employee<Integer> expected = database.getEmployee(42);
+        Employee<Integer> actual = columns.getEmployee(42);
+        assertEquals(expected.toString(), actual.toString());
+        assertEquals("Zoë Ngozi Ådalen", columns.getEmployeeName(columns.rowOf(42)));
+        assertEquals(-1, columns.rowOf(501));
+        assertThrows(EmployeeNotFoundException.class, () -> columns.getEmployee(0));
+    }
+
+    @Test
+    @DisplayName("A new export replaces the old one without disturbing open readers")
+    void testReexport() throws Exception {
+        ColumnExporter.export(database.snapshot(), directory);
+        MappedEmployeeColumns before = MappedEmployeeColumns.open(directory);
+
+        database.deleteEmployee(1);
+        database.updateEmployeeDetails(2, "employeeSalary", 99000.0);
+        ColumnExporter.export(database.snapshot(), directory);
+        MappedEmployeeColumns after = MappedEmployeeColumns.open(directory);
+
+        assertEquals(500, before.size());
+        assertEquals(1, before.getEmployeeId(0));
+        assertEquals(499, after.size());
+        assertEquals(99000.0, after.getEmployee(2).getEmployeeSalary());
+        assertTrue(after.getChangeLogOffset() > before.getChangeLogOffset());
+    }
+
+    @Test
+    @DisplayName("Invalid arguments and incomplete exports are rejected")
+    void testValidation() throws Exception {
+        assertThrows(IOException.class, () -> MappedEmployeeColumns.open(directory));
+        ColumnExporter.export(database.snapshot(), directory);
+        MappedEmployeeColumns columns = MappedEmployeeColumns.open(directory);
+        assertThrows(IllegalArgumentException.class, () -> columns.findEmployeesByMinRating(6.0));
+        assertThrows(InvalidSalaryException.class, () -> columns.findEmployeesBySalaryRange(10, 5));
+        assertThrows(InvalidDepartmentException.class, () -> columns.findEmployeesByDepartment("Sales"));
+
+        Files.write(directory.resolve(ColumnExporter.ACTIVE), new byte[3]);
+        assertThrows(IOException.class, () -> MappedEmployeeColumns.open(directory));
+    }
+
+    @Test
+    @DisplayName("An employee without a department is exported and never matches a department")
+    void testMissingDepartment() throws Exception {
+        PersistentEmployeeMap<Integer> employees = PersistentEmployeeMap.<Integer>empty()
+                .with(new Employee<>(1, "Kevin Ganza", null, 4000, 3.0, 2, true))
+                .with(new Employee<>(2, "Kelly Gwiza", EEmployeeDepartment.HR, 5000, 4.0, 3, true));
+        assertEquals(2, ColumnExporter.export(new EmployeeSnapshot<>(employees, 0), directory));
+        MappedEmployeeColumns columns = MappedEmployeeColumns.open(directory);
+
+        assertNull(columns.getEmployee(1).getEmployeeDepartment());
+        assertEquals(EEmployeeDepartment.HR, columns.getEmployee(2).getEmployeeDepartment());
+        for (EEmployeeDepartment department : EEmployeeDepartment.values()) {
+            assertEquals(department == EEmployeeDepartment.HR ? 1 : 0, columns.getEmployeeCountByDepartment(department.name()));
+        }
+    }
+
+    @Test
+    @DisplayName("Name offsets that don't span names.dat are rejected")
+    void testCorruptNameOffsets() throws Exception {
+        ColumnExporter.export(database.snapshot(), directory);
+        Path offsets = directory.resolve(ColumnExporter.NAME_OFFSETS);
+        byte[] bytes = Files.readAllBytes(offsets);
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putLong(bytes.length - Long.BYTES, 1L << 40);
+        Files.write(offsets, bytes);
+
+        assertThrows(IOException.class, () -> MappedEmployeeColumns.open(directory));
+    }
+}
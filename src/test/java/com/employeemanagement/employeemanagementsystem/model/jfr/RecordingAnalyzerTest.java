@@ -0,0 +1,106 @@
+package com.employeemanagement.employeemanagementsystem.model.jfr;
+
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidSalaryException;
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the DatabaseOperationEvent and RecordingAnalyzer classes
+ */
+class RecordingAnalyzerTest {
+
+    // Records every database call, not only the ones above the default threshold
+    private static RecordingReport record(EmployeeDatabase<Integer> db, int slowest, Runnable calls) throws Exception {
+        Path file = Files.createTempFile("employee-operations", ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                recording.enable(DatabaseOperationEvent.NAME).withThreshold(Duration.ZERO).withStackTrace();
+                recording.start();
+                calls.run();
+                recording.stop();
+                recording.dump(file);
+            }
+            return RecordingAnalyzer.analyze(file, slowest);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static EmployeeDatabase<Integer> database() throws InvalidSalaryException {
+        EmployeeDatabase<Integer> db = new EmployeeDatabase<>();
+        db.addEmployee(new Employee<>(101, "Kevin Ganza", EEmployeeDepartment.IT, 6000.0, 2.2, 5, true));
+        db.addEmployee(new Employee<>(102, "Hyguette Imfura", EEmployeeDepartment.FINANCE, 5500.0, 3.8, 3, true));
+        db.addEmployee(new Employee<>(103, "Kelly Gwiza", EEmployeeDepartment.HR, 7000.0, 4.5, 8, true));
+        return db;
+    }
+
+    @Test
+    @DisplayName("Events carry the operation, parameters and the rows scanned and returned")
+    void testOperationEvents() throws Exception {
+        EmployeeDatabase<Integer> db = database();
+        RecordingReport report = record(db, 20, () -> {
+            db.findEmployeesByName("ke");
+            // Served from the query cache, so nothing is scanned
+            db.findEmployeesByName("ke");
+            db.giveSalaryRaiseToHighPerformers();
+            assertThrows(InvalidSalaryException.class, () -> db.findEmployeesBySalaryRange(10, 5));
+        });
+
+        assertEquals(4, report.getEventCount());
+        RecordingReport.OperationSummary byName = report.getOperation("find_by_name");
+        assertEquals(2, byName.getCount());
+        assertEquals("Query", byName.getKind());
+        assertEquals(3, byName.getRowsScanned());
+        assertEquals(4, byName.getRowsReturned());
+
+        RecordingReport.OperationSummary raise = report.getOperation("salary_raise");
+        assertEquals("Bulk Update", raise.getKind());
+        assertEquals(3, raise.getRowsScanned());
+        assertEquals(2, raise.getRowsReturned());
+
+        RecordingReport.OperationSummary range = report.getOperation("find_by_salary_range");
+        assertEquals(1, range.getFailures());
+
+        List<RecordingReport.SlowCall> calls = report.getSlowestCalls();
+        assertEquals(4, calls.size());
+        for (int i = 1; i < calls.size(); i++) {
+            assertTrue(calls.get(i - 1).getDurationNanos() >= calls.get(i).getDurationNanos());
+        }
+        RecordingReport.SlowCall failed = calls.stream()
+                .filter(call -> !call.isSucceeded())
+                .findFirst()
+                .orElseThrow();
+        assertEquals("minSalary=10.0, maxSalary=5.0", failed.getParameters());
+        assertTrue(failed.getCaller().startsWith("RecordingAnalyzerTest."), failed.getCaller());
+        assertTrue(report.toString().contains("find_by_name"));
+    }
+
+    @Test
+    @DisplayName("Only the requested number of slowest calls is kept")
+    void testSlowestCallsLimit() throws Exception {
+        EmployeeDatabase<Integer> db = database();
+        RecordingReport report = record(db, 2, () -> {
+            for (int i = 0; i < 10; i++) {
+                db.getTopPaidEmployees(i);
+            }
+        });
+
+        assertEquals(10, report.getEventCount());
+        assertEquals(10, report.getOperation("top_paid").getCount());
+        assertEquals(2, report.getSlowestCalls().size());
+        assertEquals(report.getOperation("top_paid").getMax(), report.getSlowestCalls().get(0).getDurationNanos(),
+                report.getOperation("top_paid").getMax() * 0.0625);
+        assertTrue(report.getSlowestCalls().get(0).getParameters().startsWith("n="));
+    }
+}
@@ -0,0 +1,242 @@
+package com.employeemanagement.employeemanagementsystem.model.lsm;
+
+import com.employeemanagement.employeemanagementsystem.exceptions.EmployeeNotFoundException;
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeStore;
+import com.employeemanagement.employeemanagementsystem.model.cache.RecordCacheStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the LsmEmployeeStore class
+ */
+class LsmEmployeeStoreTest {
+
+    // Small enough that a few thousand employees spread over several levels
+    private static final long MEMTABLE_BYTES = 16 * 1024;
+
+    @TempDir
+    Path directory;
+
+    private static Employee<Integer> employee(int id) {
+        return new Employee<>(id, "Employee " + id, EEmployeeDepartment.values()[id % 5], 4000.0 + id % 997 * 7, id % 6 * 1.0, id % 30, true);
+    }
+
+    // Adds 0..count-1, raises every third salary and deletes every seventh employee
+    private static void apply(EmployeeStore<Integer> store, int count) throws Exception {
+        for (int id = 0; id < count; id++) {
+            store.addEmployee(employee(id));
+        }
+        for (int id = 0; id < count; id += 3) {
+            store.updateEmployeeDetails(id, "employeeSalary", 20000.0 + id);
+        }
+        for (int id = 0; id < count; id += 7) {
+            store.deleteEmployee(id);
+        }
+    }
+
+    private static List<String> describe(List<Employee<Integer>> employees) {
+        return employees.stream().map(Employee::toString).sorted().collect(Collectors.toList());
+    }
+
+    private static List<String> describeAll(EmployeeStore<Integer> store) {
+        List<Employee<Integer>> all = new ArrayList<>();
+        store.forEachEmployee(all::add);
+        return describe(all);
+    }
+
+    @Test
+    @DisplayName("Queries return the same employees as EmployeeDatabase")
+    void testQueriesMatchDatabase() throws Exception {
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        try (LsmEmployeeStore store = new LsmEmployeeStore(directory, MEMTABLE_BYTES)) {
+            apply(database, 3000);
+            apply(store, 3000);
+            assertEquals(database.giveSalaryRaiseToHighPerformers(), store.giveSalaryRaiseToHighPerformers());
+
+            assertEquals(database.getTotalEmployeeCount(), store.getTotalEmployeeCount());
+            assertEquals(describeAll(database), describeAll(store));
+            assertEquals(describe(database.findEmployeesByDepartment("it")), describe(store.findEmployeesByDepartment("it")));
+            assertEquals(describe(database.findEmployeesByName("employee 12")), describe(store.findEmployeesByName("employee 12")));
+            assertEquals(describe(database.findEmployeesByMinRating(4.0)), describe(store.findEmployeesByMinRating(4.0)));
+            assertEquals(describe(database.findEmployeesBySalaryRange(5000, 8000)), describe(store.findEmployeesBySalaryRange(5000, 8000)));
+            assertEquals(database.calculateAverageSalaryByDepartment("HR"), store.calculateAverageSalaryByDepartment("HR"), 1e-6);
+            assertEquals(database.getEmployeeCountByDepartment("finance"), store.getEmployeeCountByDepartment("finance"));
+            List<Double> expectedTop = database.getTopPaidEmployees(25).stream().map(Employee::getEmployeeSalary).collect(Collectors.toList());
+            List<Double> actualTop = store.getTopPaidEmployees(25).stream().map(Employee::getEmployeeSalary).collect(Collectors.toList());
+            assertEquals(expectedTop, actualTop);
+            assertTrue(store.getFlushCount() > 0);
+        }
+    }
+
+    @Test
+    @DisplayName("Writes that were never flushed are replayed from the log on reopen")
+    void testReopenReplaysLog() throws Exception {
+        List<String> expected;
+        try (LsmEmployeeStore store = new LsmEmployeeStore(directory, MEMTABLE_BYTES)) {
+            apply(store, 1000);
+            store.updateEmployeeDetails(1, "employeeName", "Amara Okafor");
+            expected = describeAll(store);
+        }
+        try (LsmEmployeeStore store = new LsmEmployeeStore(directory, MEMTABLE_BYTES)) {
+            assertEquals(expected, describeAll(store));
+            assertEquals(expected.size(), store.getTotalEmployeeCount());
+            assertEquals("Amara Okafor", store.getEmployee(1).getEmployeeName());
+            assertThrows(EmployeeNotFoundException.class, () -> store.getEmployee(7));
+        }
+    }
+
+    @Test
+    @DisplayName("Compaction moves data out of level 0 and drops deleted employees")
+    void testLeveledCompaction() throws Exception {
+        try (LsmEmployeeStore store = new LsmEmployeeStore(directory, MEMTABLE_BYTES)) {
+            apply(store, 5000);
+            store.flush();
+            store.compact();
+
+            assertTrue(store.getSegmentCount(0) < LsmEmployeeStore.LEVEL0_COMPACTION_TRIGGER);
+            assertTrue(store.getCompactionCount() > 0);
+            int deeper = 0;
+            for (int level = 1; level < LsmEmployeeStore.MAX_LEVELS; level++) {
+                deeper += store.getSegmentCount(level);
+            }
+            assertTrue(deeper > 0);
+
+            for (int id = 0; id < 5000; id += 7) {
+                int deleted = id;
+                assertThrows(EmployeeNotFoundException.class, () -> store.getEmployee(deleted));
+            }
+
+            // An ID between two flushed ones is ruled out by the segment's Bloom filter
+            for (int id = 10000; id <= 10400; id += 2) {
+                store.addEmployee(employee(id));
+            }
+            store.flush();
+            assertThrows(EmployeeNotFoundException.class, () -> store.getEmployee(10001));
+            assertTrue(store.getBloomFilterSkips() > 0);
+            assertEquals(4000.0 + 4999 % 997 * 7, store.getEmployee(4999).getEmployeeSalary());
+            assertEquals(20000.0 + 4995, store.getEmployee(4995).getEmployeeSalary());
+        }
+    }
+
+    @Test
+    @DisplayName("A scan keeps reading segments compacted away under it, their files go once it is done")
+    void testCompactionDuringScan() throws Exception {
+        try (LsmEmployeeStore store = new LsmEmployeeStore(directory, MEMTABLE_BYTES)) {
+            apply(store, 3000);
+            store.flush();
+            long compactionsBefore = store.getCompactionCount();
+            List<Integer> seen = new ArrayList<>();
+            store.forEachEmployee(employee -> {
+                if (seen.isEmpty()) {
+                    // Enough new level 0 segments to compact the ones this scan is reading
+                    try {
+                        for (int id = 10000; id < 14000; id++) {
+                            store.addEmployee(employee(id));
+                        }
+                        store.flush();
+                        store.compact();
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+                seen.add(employee.getEmployeeId());
+            });
+            assertTrue(store.getCompactionCount() > compactionsBefore);
+
+            List<Integer> expected = new ArrayList<>();
+            for (int id = 0; id < 3000; id++) {
+                if (id % 7 != 0) {
+                    expected.add(id);
+                }
+            }
+            assertEquals(expected, seen.stream().filter(id -> id < 10000).collect(Collectors.toList()));
+
+            store.compact();
+            int live = 0;
+            for (int level = 0; level < LsmEmployeeStore.MAX_LEVELS; level++) {
+                live += store.getSegmentCount(level);
+            }
+            try (Stream<Path> files = Files.list(directory)) {
+                assertEquals(live, files.filter(file -> file.getFileName().toString().endsWith(".sst")).count());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Lookups are served from the record cache and writes go through to it")
+    void testRecordCache() throws Exception {
+        try (LsmEmployeeStore store = new LsmEmployeeStore(directory, MEMTABLE_BYTES, 64 * 1024)) {
+            apply(store, 3000);
+            store.flush();
+            for (int round = 0; round < 3; round++) {
+                for (int id = 1; id <= 50; id++) {
+                    if (id % 7 != 0) {
+                        store.getEmployee(id);
+                    }
+                }
+            }
+            store.updateEmployeeDetails(1, "employeeSalary", 12345.0);
+            assertEquals(12345.0, store.getEmployee(1).getEmployeeSalary());
+            store.deleteEmployee(2);
+            assertThrows(EmployeeNotFoundException.class, () -> store.getEmployee(2));
+
+            RecordCacheStats stats = store.getRecordCacheStats();
+            assertTrue(stats.getHitCount() >= 2 * 43);
+            assertTrue(stats.getRetainedBytes() <= 64 * 1024);
+            assertTrue(stats.getEvictionCount() > 0);
+        }
+    }
+
+    @Test
+    @DisplayName("Range scans return live employees in ID order")
+    void testRangeScan() throws Exception {
+        try (LsmEmployeeStore store = new LsmEmployeeStore(directory, MEMTABLE_BYTES)) {
+            apply(store, 2000);
+            store.flush();
+            store.addEmployee(employee(5000));
+            store.deleteEmployee(150);
+
+            List<Integer> ids = store.getEmployeesInRange(100, 199).stream().map(Employee::getEmployeeId).collect(Collectors.toList());
+            List<Integer> expected = new ArrayList<>();
+            for (int id = 100; id <= 199; id++) {
+                if (id % 7 != 0 && id != 150) {
+                    expected.add(id);
+                }
+            }
+            assertEquals(expected, ids);
+            assertEquals(List.of(5000), store.getEmployeesInRange(1990, 6000).stream()
+                    .map(Employee::getEmployeeId).filter(id -> id >= 2000).collect(Collectors.toList()));
+            assertThrows(IllegalArgumentException.class, () -> store.getEmployeesInRange(10, 5));
+        }
+    }
+
+    @Test
+    @DisplayName("Invalid operations fail the same way as in EmployeeDatabase")
+    void testValidation() throws Exception {
+        try (LsmEmployeeStore store = new LsmEmployeeStore(directory, MEMTABLE_BYTES)) {
+            store.addEmployee(employee(1));
+            assertThrows(IllegalArgumentException.class, () -> store.addEmployee(employee(1)));
+            assertThrows(EmployeeNotFoundException.class, () -> store.deleteEmployee(2));
+            assertThrows(IllegalArgumentException.class, () -> store.updateEmployeeDetails(1, "salaryBand", 1));
+            store.deleteEmployee(1);
+            store.addEmployee(employee(1));
+            assertEquals(1, store.getTotalEmployeeCount());
+        }
+        LsmEmployeeStore closed = new LsmEmployeeStore(directory, MEMTABLE_BYTES);
+        closed.close();
+        assertThrows(IllegalStateException.class, () -> closed.addEmployee(employee(2)));
+    }
+}
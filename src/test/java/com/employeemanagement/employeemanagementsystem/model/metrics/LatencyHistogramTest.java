@@ -0,0 +1,70 @@
+package com.employeemanagement.employeemanagementsystem.model.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the LatencyHistogram class
+ */
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("Percentiles stay within the bucket precision of the exact values")
+    void testPercentilePrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        SplittableRandom random = new SplittableRandom(7);
+        long[] values = new long[100_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.exp(5 + 10 * random.nextDouble());
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double percentile : new double[]{50, 90, 99, 99.9}) {
+            long exact = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+            long estimate = histogram.getValueAtPercentile(percentile);
+            assertEquals(exact, estimate, exact * 0.0625, "p" + percentile);
+        }
+        assertEquals(values.length, histogram.getCount());
+        assertEquals(values[values.length - 1], histogram.getMax());
+        assertEquals(values[values.length - 1], histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    @DisplayName("Small values are recorded exactly and every bucket boundary round-trips")
+    void testBuckets() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int value = 0; value < 16; value++) {
+            histogram.record(value);
+        }
+        assertEquals(7, histogram.getValueAtPercentile(50));
+        assertEquals(0, histogram.getValueAtPercentile(0));
+
+        for (int bucket = 1; bucket < 960; bucket++) {
+            long lower = LatencyHistogram.lowerBound(bucket);
+            assertEquals(bucket, LatencyHistogram.bucketOf(lower));
+            assertEquals(bucket - 1, LatencyHistogram.bucketOf(lower - 1));
+        }
+        assertEquals(959, LatencyHistogram.bucketOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("Reset clears all counters and an empty histogram reports zero")
+    void testReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000);
+        histogram.record(-5);
+        assertEquals(2, histogram.getCount());
+        assertEquals(500, histogram.getMean(), 0.001);
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101));
+    }
+}
@@ -0,0 +1,87 @@
+package com.employeemanagement.employeemanagementsystem.model.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the MetricsRegistry class
+ */
+class MetricsRegistryTest {
+
+    @Test
+    @DisplayName("Interval snapshots only cover operations since the previous snapshot")
+    void testIntervalSnapshots() {
+        MetricsRegistry registry = new MetricsRegistry("test", Clock.systemUTC(), 2);
+        OperationTimer timer = registry.timer("database", "get_employee");
+        for (int i = 0; i < 100; i++) {
+            timer.record(1_000);
+        }
+        MetricsSnapshot first = registry.takeIntervalSnapshot();
+        timer.record(5_000_000);
+        MetricsSnapshot second = registry.takeIntervalSnapshot();
+
+        assertEquals(100, first.getTimer("database", "get_employee").getCount());
+        assertEquals(1_000, first.getTimer("database", "get_employee").getP99(), 1_000 * 0.0625);
+        MetricsSnapshot.TimerStats latest = second.getTimer("database", "get_employee");
+        assertEquals(1, latest.getCount());
+        assertEquals(101, latest.getTotalCount());
+        assertEquals(5_000_000, latest.getP50(), 5_000_000 * 0.0625);
+
+        registry.takeIntervalSnapshot();
+        assertEquals(2, registry.getSnapshotHistory().size());
+        assertEquals(0, registry.getLatestSnapshot().getTimer("database", "get_employee").getCount());
+        assertSame(timer, registry.timer("database", "get_employee"));
+    }
+
+    @Test
+    @DisplayName("The Prometheus exposition lists summaries, counters and gauges")
+    void testPrometheusText() {
+        MetricsRegistry registry = new MetricsRegistry("test", Clock.systemUTC(), 1);
+        registry.timer("controller", "search").record(2_000_000);
+        LongAdder errors = registry.counter("errors", "Failed operations.");
+        errors.add(3);
+        registry.gauge("employees", "Employees.", () -> 42);
+
+        String text = registry.toPrometheusText();
+        assertTrue(text.contains("# TYPE test_operation_duration_seconds summary"));
+        assertTrue(text.contains("test_operation_duration_seconds{component=\"controller\",operation=\"search\",quantile=\"0.99\"} 0.002\n"));
+        assertTrue(text.contains("test_operation_duration_seconds_count{component=\"controller\",operation=\"search\"} 1"));
+        assertTrue(text.contains("# TYPE test_errors_total counter\ntest_errors_total 3\n"));
+        assertTrue(text.contains("# TYPE test_employees gauge\ntest_employees 42\n"));
+        assertThrows(IllegalArgumentException.class, () -> registry.timer("database", "find by name"));
+    }
+
+    @Test
+    @DisplayName("Periodic snapshots reach listeners and the endpoint serves the exposition")
+    void testPeriodicSnapshotsAndEndpoint() throws Exception {
+        try (MetricsRegistry registry = new MetricsRegistry()) {
+            registry.timer("database", "add_employee").record(10_000);
+            CountDownLatch snapshots = new CountDownLatch(2);
+            registry.addSnapshotListener(snapshot -> snapshots.countDown());
+            registry.startPeriodicSnapshots(Duration.ofMillis(20));
+            assertTrue(snapshots.await(5, TimeUnit.SECONDS));
+
+            try (MetricsHttpServer server = new MetricsHttpServer(registry, 0).start()) {
+                HttpURLConnection connection = (HttpURLConnection) URI.create(server.getUrl()).toURL().openConnection();
+                assertEquals(200, connection.getResponseCode());
+                assertTrue(connection.getContentType().startsWith("text/plain; version=0.0.4"));
+                try (InputStream body = connection.getInputStream()) {
+                    String text = new String(body.readAllBytes(), StandardCharsets.UTF_8);
+                    assertTrue(text.contains("operation=\"add_employee\""));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.employeemanagement.employeemanagementsystem.model.mvcc;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PersistentEmployeeMap class
+ */
+class PersistentEmployeeMapTest {
+
+    @Test
+    @DisplayName("Random updates match a HashMap")
+    void testAgainstHashMap() {
+        Random random = new Random(42);
+        Map<Integer, Employee<Integer>> expected = new HashMap<>();
+        PersistentEmployeeMap<Integer> map = PersistentEmployeeMap.empty();
+
+        for (int i = 0; i < 50_000; i++) {
+            // Wide spread of IDs, including negative ones, so every trie level gets used
+            int id = random.nextInt(4_000) * 1_000_003;
+            if (random.nextInt(3) == 0) {
+                expected.remove(id);
+                map = map.without(id);
+            } else {
+                Employee<Integer> employee = employee(id, i);
+                expected.put(id, employee);
+                map = map.with(employee);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (Map.Entry<Integer, Employee<Integer>> entry : expected.entrySet()) {
+            assertSame(entry.getValue(), map.get(entry.getKey()));
+        }
+        Set<Integer> iterated = new HashSet<>();
+        for (Employee<Integer> employee : map) {
+            assertTrue(iterated.add(employee.getEmployeeId()));
+        }
+        assertEquals(expected.keySet(), iterated);
+    }
+
+    @Test
+    @DisplayName("Older versions are unaffected by later updates")
+    void testPersistence() {
+        PersistentEmployeeMap<Integer> empty = PersistentEmployeeMap.empty();
+        PersistentEmployeeMap<Integer> one = empty.with(employee(1, 100));
+        PersistentEmployeeMap<Integer> two = one.with(employee(2, 200));
+        PersistentEmployeeMap<Integer> replaced = two.with(employee(1, 300));
+        PersistentEmployeeMap<Integer> removed = replaced.without(2);
+
+        assertEquals(0, empty.size());
+        assertEquals(100, one.get(1).getEmployeeSalary());
+        assertNull(one.get(2));
+        assertEquals(100, two.get(1).getEmployeeSalary());
+        assertEquals(300, replaced.get(1).getEmployeeSalary());
+        assertEquals(2, replaced.size());
+        assertEquals(1, removed.size());
+        assertNotNull(replaced.get(2));
+        assertSame(removed, removed.without(99));
+    }
+
+    @Test
+    @DisplayName("Keys with equal hash codes are kept apart")
+    void testCollisions() {
+        // "Aa" and "BB" share a hash code, and so does every mix of them
+        String[] keys = {"AaAa", "AaBB", "BBAa", "BBBB"};
+        PersistentEmployeeMap<String> map = PersistentEmployeeMap.empty();
+        for (String key : keys) {
+            map = map.with(new Employee<>(key, key, EEmployeeDepartment.IT, 1, 1, 1, true));
+        }
+        assertEquals(4, map.size());
+        for (String key : keys) {
+            assertEquals(key, map.get(key).getEmployeeName());
+        }
+
+        map = map.without("AaBB").without("BBBB").without("AaAa");
+        assertEquals(1, map.size());
+        assertEquals("BBAa", map.get("BBAa").getEmployeeName());
+        assertNull(map.get("AaAa"));
+    }
+
+    @Test
+    @DisplayName("An editor batches updates without touching the base map")
+    void testEditor() {
+        PersistentEmployeeMap<Integer> base = PersistentEmployeeMap.empty();
+        for (int id = 0; id < 1_000; id++) {
+            base = base.with(employee(id, id));
+        }
+
+        PersistentEmployeeMap.Editor<Integer> editor = base.edit();
+        for (int id = 0; id < 1_000; id++) {
+            if (id % 2 == 0) {
+                editor.put(employee(id, id * 2));
+            } else {
+                editor.remove(id);
+            }
+        }
+        PersistentEmployeeMap<Integer> edited = editor.toMap();
+
+        assertEquals(1_000, base.size());
+        assertEquals(500, edited.size());
+        assertEquals(10, base.get(10).getEmployeeSalary());
+        assertEquals(20, edited.get(10).getEmployeeSalary());
+        assertNull(edited.get(11));
+        assertThrows(IllegalStateException.class, () -> editor.put(employee(1, 1)));
+    }
+
+    private static Employee<Integer> employee(int id, double salary) {
+        return new Employee<>(id, "Employee " + id, EEmployeeDepartment.HR, salary, 3.0, 2, true);
+    }
+}
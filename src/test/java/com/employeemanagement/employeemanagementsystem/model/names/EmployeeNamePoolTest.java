@@ -0,0 +1,114 @@
+package com.employeemanagement.employeemanagementsystem.model.names;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the EmployeeNamePool class
+ */
+class EmployeeNamePoolTest {
+
+    private static String roundTrip(EmployeeNamePool pool, String name) {
+        return EmployeeNamePool.resolve(pool.internFirstName(name), pool.internLastName(name));
+    }
+
+    @Test
+    @DisplayName("Names round trip exactly")
+    void testRoundTrip() {
+        EmployeeNamePool pool = new EmployeeNamePool();
+        String[] names = {"Kevin Ganza", "Kelly", "", " Leading", "Trailing ", "Jean  Paul Murinda",
+                "Zoë Ångström", "Łukasz Żółć", "李 小龍", "Kevin Gwiza"};
+
+        for (String name : names) {
+            assertEquals(name, roundTrip(pool, name));
+        }
+        assertNull(roundTrip(pool, null));
+    }
+
+    @Test
+    @DisplayName("Repeated name parts are stored once")
+    void testDeduplication() {
+        EmployeeNamePool pool = new EmployeeNamePool();
+        NameToken kevin = pool.internFirstName("Kevin Ganza");
+        NameToken ganza = pool.internLastName("Kevin Ganza");
+
+        // Tokens are held weakly, the test keeps every one it counts
+        NameToken kelly = pool.internFirstName("Kelly Ganza");
+        NameToken gwiza = pool.internLastName("Kevin Gwiza");
+
+        assertSame(kevin, pool.internFirstName("Kevin Gwiza"));
+        assertSame(ganza, pool.internLastName("Kelly Ganza"));
+        assertNotSame(kevin, kelly);
+        assertNotSame(ganza, gwiza);
+        assertEquals(2, pool.getFirstNameCount());
+        assertEquals(2, pool.getLastNameCount());
+    }
+
+    @Test
+    @DisplayName("Dictionaries keep working after growing")
+    void testGrowth() {
+        EmployeeNamePool pool = new EmployeeNamePool();
+        List<NameToken> tokens = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            String name = "First" + (i % 5_000) + " Last" + i;
+            tokens.add(pool.internFirstName(name));
+            tokens.add(pool.internLastName(name));
+        }
+
+        for (int i = 0; i < 20_000; i++) {
+            assertEquals("First" + (i % 5_000) + " Last" + i, EmployeeNamePool.resolve(tokens.get(2 * i), tokens.get(2 * i + 1)));
+        }
+        assertEquals(5_000, pool.getFirstNameCount());
+        assertEquals(20_000, pool.getLastNameCount());
+    }
+
+    @Test
+    @DisplayName("Name parts nobody uses any more are reclaimed")
+    void testReclamation() throws InterruptedException {
+        EmployeeNamePool pool = new EmployeeNamePool();
+        NameToken kept = pool.internLastName("Kevin Ganza");
+        for (int i = 0; i < 10_000; i++) {
+            pool.internLastName("Temporary Name" + i);
+        }
+
+        for (int attempt = 0; attempt < 50 && pool.getLastNameCount() > 1; attempt++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertEquals(1, pool.getLastNameCount());
+        assertSame(kept, pool.internLastName("Kelly Ganza"));
+    }
+
+    @Test
+    @DisplayName("Names are searched without building a String")
+    void testNameContains() {
+        EmployeeNamePool pool = new EmployeeNamePool();
+        String name = "Kevin Ganza";
+        NameToken first = pool.internFirstName(name);
+        NameToken last = pool.internLastName(name);
+
+        assertTrue(EmployeeNamePool.nameContains(first, last, "n g"));
+        assertTrue(EmployeeNamePool.nameContains(first, last, "ganza"));
+        assertFalse(EmployeeNamePool.nameContains(first, last, "kevinganza"));
+        assertFalse(EmployeeNamePool.nameContains(null, null, "k"));
+    }
+
+    @Test
+    @DisplayName("Search terms are lower-cased char by char, like the names they are compared with")
+    void testToLowerCase() {
+        String lowerCase = "kevin ganza";
+        assertSame(lowerCase, EmployeeNamePool.toLowerCase(lowerCase));
+        assertEquals("kevin ganza", EmployeeNamePool.toLowerCase("Kevin GANZA"));
+        assertEquals("ilker", EmployeeNamePool.toLowerCase("İlker"));
+
+        EmployeeNamePool pool = new EmployeeNamePool();
+        String name = "İlker Demir";
+        assertTrue(EmployeeNamePool.nameContains(pool.internFirstName(name), pool.internLastName(name),
+                EmployeeNamePool.toLowerCase("İLKER")));
+    }
+}
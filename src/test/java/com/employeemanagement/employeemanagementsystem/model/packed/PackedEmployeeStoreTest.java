@@ -0,0 +1,99 @@
+package com.employeemanagement.employeemanagementsystem.model.packed;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PackedEmployeeStore class
+ */
+class PackedEmployeeStoreTest {
+
+    @Test
+    @DisplayName("Packed records round trip")
+    void testRoundTrip() {
+        PackedEmployeeStore<Integer> store = new PackedEmployeeStore<>();
+        store.put(new Employee<>(1, "Kevin Ganza", EEmployeeDepartment.IT, 6000.5, 4.1234, 12, true));
+        store.put(new Employee<>(2, "Kelly Gwiza", EEmployeeDepartment.MARKETING, 0.0, 0.0, 0, false));
+
+        PackedEmployee<Integer> flyweight = new PackedEmployee<>();
+        assertTrue(store.read(1, flyweight));
+        assertEquals(1, flyweight.getEmployeeId());
+        assertEquals("Kevin Ganza", flyweight.getEmployeeName());
+        assertEquals(EEmployeeDepartment.IT, flyweight.getEmployeeDepartment());
+        assertEquals(6000.5, flyweight.getEmployeeSalary());
+        assertEquals(4.1234, flyweight.getPerformanceRating(), 1e-9);
+        assertEquals(12, flyweight.getYearsOfExperience());
+        assertTrue(flyweight.isActive());
+
+        assertTrue(store.read(2, flyweight));
+        assertEquals(EEmployeeDepartment.MARKETING, flyweight.getEmployeeDepartment());
+        assertFalse(flyweight.isActive());
+
+        // Copying out gives an independent Employee
+        Employee<Integer> copy = flyweight.toEmployee();
+        assertEquals("Kelly Gwiza", copy.getEmployeeName());
+        assertFalse(store.read(3, flyweight));
+    }
+
+    @Test
+    @DisplayName("Removed records free their slot and keep lookups correct")
+    void testRemoveAndReuse() {
+        PackedEmployeeStore<Integer> store = new PackedEmployeeStore<>(4);
+        for (int id = 0; id < 10_000; id++) {
+            store.put(new Employee<>(id, "Name " + id, EEmployeeDepartment.HR, id, 3.0, 1, true));
+        }
+        for (int id = 0; id < 10_000; id += 3) {
+            assertTrue(store.remove(id));
+        }
+        assertFalse(store.remove(0));
+
+        PackedEmployee<Integer> flyweight = new PackedEmployee<>();
+        for (int id = 0; id < 10_000; id++) {
+            assertEquals(id % 3 != 0, store.read(id, flyweight), "id " + id);
+            if (id % 3 != 0) {
+                assertEquals(id, flyweight.getEmployeeSalary());
+            }
+        }
+
+        // Re-adding reuses freed slots instead of growing
+        long bytes = store.getRetainedBytes();
+        for (int id = 0; id < 10_000; id += 3) {
+            store.put(new Employee<>(id, "Name " + id, EEmployeeDepartment.HR, id, 3.0, 1, true));
+        }
+        assertEquals(10_000, store.size());
+        assertEquals(bytes, store.getRetainedBytes());
+    }
+
+    @Test
+    @DisplayName("Scans visit matching records through one flyweight")
+    void testScans() {
+        PackedEmployeeStore<Integer> store = new PackedEmployeeStore<>();
+        store.put(new Employee<>(1, "A", EEmployeeDepartment.IT, 3000, 2.0, 1, true));
+        store.put(new Employee<>(2, "B", EEmployeeDepartment.IT, 5000, 4.5, 1, true));
+        store.put(new Employee<>(3, "C", EEmployeeDepartment.HR, 7000, 4.0, 1, true));
+
+        PackedEmployee<Integer> flyweight = new PackedEmployee<>();
+        List<Integer> seen = new ArrayList<>();
+        store.forEachWithMinRating(4.0, flyweight, e -> {
+            assertSame(flyweight, e);
+            seen.add(e.getEmployeeId());
+        });
+        assertEquals(2, seen.size());
+        assertTrue(seen.containsAll(List.of(2, 3)));
+
+        seen.clear();
+        store.forEachInSalaryRange(4000, 6000, flyweight, e -> seen.add(e.getEmployeeId()));
+        assertEquals(List.of(2), seen);
+
+        seen.clear();
+        store.forEachInDepartment(EEmployeeDepartment.IT, flyweight, e -> seen.add(e.getEmployeeId()));
+        assertEquals(2, seen.size());
+    }
+}
@@ -0,0 +1,220 @@
+package com.employeemanagement.employeemanagementsystem.model.protocol;
+
+import com.employeemanagement.employeemanagementsystem.exceptions.EmployeeNotFoundException;
+import com.employeemanagement.employeemanagementsystem.exceptions.InvalidSalaryException;
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the EmployeeServer and EmployeeClient classes
+ */
+class EmployeeServerTest {
+
+    private EmployeeDatabase<Integer> database;
+    private EmployeeServer server;
+    private EmployeeClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        database = new EmployeeDatabase<>();
+        for (int id = 1; id <= 1000; id++) {
+            database.addEmployee(new Employee<>(id, "Employee " + id, EEmployeeDepartment.values()[id % 5], 4000.0 + id, 3.5, id % 30, true));
+        }
+        server = new EmployeeServer(database, 0).start();
+        client = new EmployeeClient(server.getAddress());
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.close();
+    }
+
+    @Test
+    @DisplayName("Blocking calls behave like the database they are served from")
+    void testRoundTrip() throws Exception {
+        Employee<Integer> employee = client.getEmployee(42);
+        assertEquals("Employee 42", employee.getEmployeeName());
+        assertEquals(EEmployeeDepartment.FINANCE, employee.getEmployeeDepartment());
+        assertEquals(4042.0, employee.getEmployeeSalary());
+
+        client.addEmployee(new Employee<>(5000, "Zoë Ngabo", EEmployeeDepartment.FINANCE, 7200.0, 4.1, 6, false));
+        client.updateEmployeeDetails(5000, "employeeSalary", 7300.0);
+        client.updateEmployeeDetails(5000, "yearOfExperience", 7);
+        client.updateEmployeeDetails(5000, "employeeDepartment", EEmployeeDepartment.HR);
+        client.updateEmployeeDetails(5000, "active", true);
+        Employee<Integer> added = database.getEmployee(5000);
+        assertEquals("Zoë Ngabo", added.getEmployeeName());
+        assertEquals(7300.0, added.getEmployeeSalary());
+        assertEquals(7, added.getYearsOfExperience());
+        assertEquals(EEmployeeDepartment.HR, added.getEmployeeDepartment());
+        assertTrue(added.isActive());
+
+        client.deleteEmployee(5000);
+        assertEquals(1000, client.getEmployeeCount());
+        assertThrows(EmployeeNotFoundException.class, () -> client.getEmployee(5000));
+        assertThrows(InvalidSalaryException.class, () -> client.updateEmployeeDetails(1, "employeeSalary", -1.0));
+        assertThrows(IllegalArgumentException.class, () -> client.updateEmployeeDetails(1, "salary", 1.0));
+        assertThrows(IllegalArgumentException.class, () -> client.updateEmployeeDetails(1, "employeeSalary", 1));
+        assertThrows(IllegalArgumentException.class, () -> client.updateEmployeeDetails(1, "employeeName", " "));
+        // Errors don't break the connection
+        assertEquals(1000, client.getEmployeeCount());
+    }
+
+    @Test
+    @DisplayName("Pipelined requests complete in order with their own responses")
+    void testPipelining() throws Exception {
+        List<CompletableFuture<Employee<Integer>>> reads = new ArrayList<>();
+        List<CompletableFuture<Void>> writes = new ArrayList<>();
+        for (int round = 0; round < 10; round++) {
+            for (int id = 1; id <= 1000; id++) {
+                reads.add(client.getEmployeeAsync(id));
+                if (round == 0) {
+                    writes.add(client.updateEmployeeDetailsAsync(id, "performanceRating", (double) (id % 5)));
+                }
+            }
+        }
+        CompletableFuture<Employee<Integer>> missing = client.getEmployeeAsync(4321);
+
+        for (int i = 0; i < reads.size(); i++) {
+            assertEquals(i % 1000 + 1, reads.get(i).get().getEmployeeId());
+        }
+        for (CompletableFuture<Void> write : writes) {
+            write.get();
+        }
+        ExecutionException e = assertThrows(ExecutionException.class, missing::get);
+        assertTrue(e.getCause() instanceof EmployeeNotFoundException);
+        assertEquals(2.0, database.getEmployee(7).getPerformanceRating());
+        assertTrue(server.getRequestCount() >= 11_001);
+    }
+
+    @Test
+    @DisplayName("Threads sharing a client with a small in-flight window all get their answers")
+    void testSharedClient() throws Exception {
+        try (EmployeeClient shared = new EmployeeClient(server.getAddress(), 4)) {
+            List<Thread> threads = new ArrayList<>();
+            List<Throwable> errors = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int offset = t * 250;
+                Thread thread = new Thread(() -> {
+                    try {
+                        for (int id = offset + 1; id <= offset + 250; id++) {
+                            assertEquals(id, shared.getEmployeeAsync(id).get().getEmployeeId());
+                        }
+                    } catch (Throwable e) {
+                        synchronized (errors) {
+                            errors.add(e);
+                        }
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertTrue(errors.isEmpty(), errors.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("A call waiting on the write lock doesn't hold up other connections")
+    void testBlockedCallIsolated() throws Exception {
+        CountDownLatch lockHeld = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // A bulk delete whose predicate waits keeps the write lock until released
+        Thread writer = new Thread(() -> database.deleteEmployeesMatching(employee -> {
+            lockHeld.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }));
+        writer.start();
+        assertTrue(lockHeld.await(5, TimeUnit.SECONDS));
+
+        try (EmployeeClient other = new EmployeeClient(server.getAddress())) {
+            CompletableFuture<Void> blocked = client.updateEmployeeDetailsAsync(1, "employeeSalary", 5000.0);
+            assertEquals(42, other.getEmployeeAsync(42).get(5, TimeUnit.SECONDS).getEmployeeId());
+            assertFalse(blocked.isDone());
+
+            release.countDown();
+            blocked.get(5, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            writer.join();
+        }
+        assertEquals(5000.0, database.getEmployee(1).getEmployeeSalary());
+    }
+
+    @Test
+    @DisplayName("Employees without a name or department are served and the connection keeps working")
+    void testMissingDepartment() throws Exception {
+        database.addEmployee(new Employee<>(2001, "Kevin Ganza", null, 5000.0, 4.0, 3, true));
+        database.addEmployee(new Employee<>(2002, null, EEmployeeDepartment.IT, 5000.0, 4.0, 3, true));
+        database.addEmployee(new Employee<>(2003, "x".repeat(70_000), EEmployeeDepartment.IT, 5000.0, 4.0, 3, true));
+
+        Employee<Integer> employee = client.getEmployee(2001);
+        assertNull(employee.getEmployeeDepartment());
+        assertEquals("Kevin Ganza", employee.getEmployeeName());
+        assertNull(client.getEmployee(2002).getEmployeeName());
+        // A response that can't be encoded fails alone, the next call on the connection still succeeds
+        assertThrows(IllegalArgumentException.class, () -> client.getEmployee(2003));
+        assertEquals("Employee 2", client.getEmployee(2).getEmployeeName());
+    }
+
+    @Test
+    @DisplayName("Frames split across writes are reassembled, invalid frames only close their own connection")
+    void testFraming() throws Exception {
+        try (Socket socket = new Socket(server.getAddress().getAddress(), server.getAddress().getPort())) {
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            byte[] frame = {0, 0, 0, 9, BinaryProtocol.GET_EMPLOYEE, 0, 0, 0, 77, 0, 0, 0, 3};
+            for (byte b : frame) {
+                out.write(b);
+                out.flush();
+            }
+            int length = in.readInt();
+            assertEquals(BinaryProtocol.OK, in.readByte());
+            assertEquals(77, in.readInt());
+            assertEquals(3, in.readInt());
+            in.skipBytes(length - 9);
+
+            out.writeInt(-5);
+            out.flush();
+            assertEquals(-1, in.read());
+        }
+        // Other connections keep working
+        assertEquals(1000, client.getEmployeeCount());
+    }
+
+    @Test
+    @DisplayName("Requests fail once the connection is gone")
+    void testServerShutdown() throws Exception {
+        assertEquals(1000, client.getEmployeeCount());
+        server.close();
+        assertThrows(IOException.class, () -> client.getEmployee(1));
+        ExecutionException e = assertThrows(ExecutionException.class, () -> client.getEmployeeAsync(1).get());
+        assertTrue(e.getCause() instanceof IOException);
+    }
+}
@@ -0,0 +1,131 @@
+package com.employeemanagement.employeemanagementsystem.model.replication;
+
+import com.employeemanagement.employeemanagementsystem.exceptions.EmployeeNotFoundException;
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ReplicationServer and ReadReplica classes
+ */
+class ReadReplicaTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private EmployeeDatabase<Integer> primary;
+    private ReplicationServer server;
+    private ReadReplica replica;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        primary = new EmployeeDatabase<>();
+        for (int id = 1; id <= 500; id++) {
+            primary.addEmployee(new Employee<>(id, "Employee " + id, EEmployeeDepartment.values()[id % 5], 4000.0 + id, 3.5, id % 30, true));
+        }
+        server = new ReplicationServer(primary, 0).start();
+        replica = new ReadReplica(server.getAddress()).start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        replica.close();
+        server.close();
+    }
+
+    @Test
+    @DisplayName("A new replica loads the primary's snapshot")
+    void testBootstrap() throws Exception {
+        assertTrue(replica.awaitOffset(primary.getChangeLog().getNextOffset(), TIMEOUT));
+        EmployeeDatabase<Integer> copy = replica.getDatabase();
+        assertEquals(500, copy.getTotalEmployeeCount());
+        assertEquals("Employee 42", copy.getEmployee(42).getEmployeeName());
+        assertEquals(primary.calculateAverageSalaryByDepartment("HR"), copy.calculateAverageSalaryByDepartment("HR"));
+        assertEquals(100, copy.findEmployeesByDepartment("FINANCE").size());
+    }
+
+    @Test
+    @DisplayName("Writes on the primary reach the replica in order")
+    void testTailsChanges() throws Exception {
+        assertTrue(replica.awaitOffset(primary.getChangeLog().getNextOffset(), TIMEOUT));
+        primary.updateEmployeeDetails(42, "employeeSalary", 9100.0);
+        primary.updateEmployeeDetails(42, "employeeDepartment", EEmployeeDepartment.HR);
+        primary.addEmployee(new Employee<>(900, "Ama Owusu", EEmployeeDepartment.IT, 6100.0, 4.4, 3, true));
+        primary.deleteEmployee(7);
+        primary.deleteEmployeesByDepartment("MARKETING");
+
+        assertTrue(replica.awaitOffset(primary.getChangeLog().getNextOffset(), TIMEOUT));
+        EmployeeDatabase<Integer> copy = replica.getDatabase();
+        Employee<Integer> moved = copy.getEmployee(42);
+        assertEquals(9100.0, moved.getEmployeeSalary());
+        assertEquals(EEmployeeDepartment.HR, moved.getEmployeeDepartment());
+        assertEquals("Ama Owusu", copy.getEmployee(900).getEmployeeName());
+        assertThrows(EmployeeNotFoundException.class, () -> copy.getEmployee(7));
+        assertEquals(primary.getTotalEmployeeCount(), copy.getTotalEmployeeCount());
+        assertEquals(primary.getEmployeeCountByDepartment("HR"), copy.getEmployeeCountByDepartment("HR"));
+        assertEquals(0, copy.getEmployeeCountByDepartment("MARKETING"));
+        assertEquals(0, replica.getLagEvents());
+        assertEquals(Duration.ZERO, replica.getLag());
+    }
+
+    @Test
+    @DisplayName("The replica rejects writes")
+    void testReadOnly() throws Exception {
+        assertTrue(replica.awaitOffset(primary.getChangeLog().getNextOffset(), TIMEOUT));
+        EmployeeDatabase<Integer> copy = replica.getDatabase();
+        assertTrue(copy.isReadOnly());
+        assertThrows(UnsupportedOperationException.class,
+                () -> copy.addEmployee(new Employee<>(901, "Kofi Mensah", EEmployeeDepartment.IT, 5000.0, 3.0, 1, true)));
+        assertThrows(UnsupportedOperationException.class, () -> copy.updateEmployeeDetails(1, "employeeSalary", 1.0));
+        assertThrows(UnsupportedOperationException.class, () -> copy.deleteEmployee(1));
+        assertThrows(UnsupportedOperationException.class, copy::giveSalaryRaiseToHighPerformers);
+        assertEquals(500, copy.getTotalEmployeeCount());
+    }
+
+    @Test
+    @DisplayName("A replica reconnects and resumes from where it stopped")
+    void testResumesAfterReconnect() throws Exception {
+        assertTrue(replica.awaitOffset(primary.getChangeLog().getNextOffset(), TIMEOUT));
+        int port = server.getAddress().getPort();
+        server.close();
+        primary.updateEmployeeDetails(1, "employeeSalary", 8800.0);
+        primary.deleteEmployee(2);
+
+        // Still serving the last replicated state while the primary is unreachable
+        assertEquals(4001.0, replica.getDatabase().getEmployee(1).getEmployeeSalary());
+        server = new ReplicationServer(primary, port).start();
+        assertTrue(replica.awaitOffset(primary.getChangeLog().getNextOffset(), TIMEOUT));
+        assertEquals(8800.0, replica.getDatabase().getEmployee(1).getEmployeeSalary());
+        assertThrows(EmployeeNotFoundException.class, () -> replica.getDatabase().getEmployee(2));
+        assertEquals(499, replica.getDatabase().getTotalEmployeeCount());
+    }
+
+    @Test
+    @DisplayName("Employees without a name or department replicate through events and snapshots")
+    void testMissingNameAndDepartment() throws Exception {
+        assertTrue(replica.awaitOffset(primary.getChangeLog().getNextOffset(), TIMEOUT));
+        primary.addEmployee(new Employee<>(2001, "Kevin Ganza", null, 5000.0, 4.0, 3, true));
+        primary.addEmployee(new Employee<>(2002, null, EEmployeeDepartment.IT, 5100.0, 4.0, 3, true));
+
+        assertTrue(replica.awaitOffset(primary.getChangeLog().getNextOffset(), TIMEOUT));
+        assertNull(replica.getDatabase().getEmployee(2001).getEmployeeDepartment());
+        assertNull(replica.getDatabase().getEmployee(2002).getEmployeeName());
+
+        try (ReadReplica fresh = new ReadReplica(server.getAddress()).start()) {
+            assertTrue(fresh.awaitOffset(primary.getChangeLog().getNextOffset(), TIMEOUT));
+            EmployeeDatabase<Integer> copy = fresh.getDatabase();
+            assertEquals(502, copy.getTotalEmployeeCount());
+            assertEquals("Kevin Ganza", copy.getEmployee(2001).getEmployeeName());
+            assertNull(copy.getEmployee(2001).getEmployeeDepartment());
+            assertNull(copy.getEmployee(2002).getEmployeeName());
+            assertEquals(5100.0, copy.getEmployee(2002).getEmployeeSalary());
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.employeemanagement.employeemanagementsystem.model.scan;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ParallelScanEngine class
+ */
+class ParallelScanEngineTest {
+
+    private ForkJoinPool pool;
+    private ParallelScanEngine sequential;
+    private ParallelScanEngine parallel;
+    private Object[] rows;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        sequential = new ParallelScanEngine(pool, Integer.MAX_VALUE, 64);
+        parallel = new ParallelScanEngine(pool, 0, 64);
+        rows = new Object[10_000];
+        for (int id = 0; id < rows.length; id++) {
+            rows[id] = new Employee<>(id, "Employee " + id, EEmployeeDepartment.values()[id % 5], 3000.0 + id * 37 % 5000, id % 11 * 0.5, id % 30, id % 3 != 0);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    private static List<String> describe(List<Employee<Integer>> employees) {
+        return employees.stream().map(Employee::toString).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("Parallel filters return the sequential result in array order")
+    void testFilterMatchesSequential() {
+        assertTrue(parallel.isParallel(rows.length));
+        assertFalse(sequential.isParallel(rows.length));
+        Predicate<Employee<Integer>> highRated = employee -> employee.getPerformanceRating() >= 3.5;
+
+        List<Employee<Integer>> expected = sequential.filter(rows, highRated);
+        List<Employee<Integer>> actual = parallel.filter(rows, highRated);
+
+        assertEquals(describe(expected), describe(actual));
+        for (int i = 1; i < actual.size(); i++) {
+            assertTrue(actual.get(i - 1).getEmployeeId() < actual.get(i).getEmployeeId());
+        }
+    }
+
+    @Test
+    @DisplayName("Parallel counts and sums are identical to sequential ones")
+    void testAggregateMatchesSequential() {
+        Predicate<Employee<Integer>> finance = employee -> employee.getEmployeeDepartment() == EEmployeeDepartment.FINANCE;
+
+        ScanAggregate expected = sequential.aggregate(rows, finance, Employee::getEmployeeSalary);
+        ScanAggregate actual = parallel.aggregate(rows, finance, Employee::getEmployeeSalary);
+
+        assertEquals(2000, actual.getCount());
+        assertEquals(expected.getSum(), actual.getSum());
+        assertEquals(expected.getAverage(), actual.getAverage());
+        assertEquals(sequential.count(rows, finance), parallel.count(rows, finance));
+    }
+
+    @Test
+    @DisplayName("Scans over an Iterable give the same rows and sums as scans over the array")
+    void testIterableMatchesArray() {
+        @SuppressWarnings("unchecked")
+        List<Employee<Integer>> list = (List<Employee<Integer>>) (List<?>) Arrays.asList(rows);
+        Predicate<Employee<Integer>> finance = employee -> employee.getEmployeeDepartment() == EEmployeeDepartment.FINANCE;
+
+        assertEquals(describe(parallel.filter(rows, finance)), describe(sequential.filter(list, finance)));
+        ScanAggregate expected = parallel.aggregate(rows, finance, Employee::getEmployeeSalary);
+        ScanAggregate actual = sequential.aggregate(list, finance, Employee::getEmployeeSalary);
+        assertEquals(expected.getCount(), actual.getCount());
+        assertEquals(expected.getSum(), actual.getSum());
+    }
+
+    @Test
+    @DisplayName("Sums keep the small values a naive sum rounds away")
+    void testCompensatedSum() {
+        Object[] values = new Object[10_001];
+        values[0] = new Employee<>(0, "Large", EEmployeeDepartment.IT, 1e16, 0, 0, true);
+        for (int id = 1; id < values.length; id++) {
+            values[id] = new Employee<>(id, "Small " + id, EEmployeeDepartment.IT, 1.0, 0, 0, true);
+        }
+        Predicate<Employee<Integer>> all = employee -> true;
+
+        // Adding 1.0 to 1e16 rounds back to 1e16, a naive sum would lose all 10,000 of them
+        assertEquals(1e16 + 10_000, sequential.aggregate(values, all, Employee::getEmployeeSalary).getSum());
+        assertEquals(1e16 + 10_000, parallel.aggregate(values, all, Employee::getEmployeeSalary).getSum());
+    }
+
+    @Test
+    @DisplayName("Empty arrays and ranges shorter than the range size are handled")
+    void testSmallInputs() {
+        Predicate<Employee<Integer>> all = employee -> true;
+        assertTrue(parallel.filter(new Object[0], all).isEmpty());
+        assertEquals(0, parallel.aggregate(new Object[0], all, Employee::getEmployeeSalary).getAverage());
+
+        Object[] few = new Object[]{rows[1], rows[2], rows[3]};
+        assertEquals(3, parallel.count(few, all));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelScanEngine(pool, 0, 0));
+    }
+
+    @Test
+    @DisplayName("The database answers the same queries with a parallel engine")
+    void testDatabaseWithParallelEngine() throws Exception {
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        for (Object row : rows) {
+            @SuppressWarnings("unchecked")
+            Employee<Integer> employee = (Employee<Integer>) row;
+            database.addEmployee(employee);
+        }
+        double average = database.calculateAverageSalaryByDepartment("IT");
+        List<String> highRated = describe(database.findEmployeesByMinRating(4.0)).stream().sorted().collect(Collectors.toList());
+
+        database.setScanEngine(parallel);
+        database.clearQueryCache();
+        assertEquals(average, database.calculateAverageSalaryByDepartment("IT"), 1e-6);
+        assertEquals(highRated, describe(database.findEmployeesByMinRating(4.0)).stream().sorted().collect(Collectors.toList()));
+
+        database.deleteEmployee(9997);
+        assertEquals(1999, database.findEmployeesByDepartment("FINANCE").size());
+    }
+
+    @Test
+    @DisplayName("Databases split large scans on the common pool unless given another engine")
+    void testDefaultEngineIsShared() {
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        ParallelScanEngine engine = database.getScanEngine();
+        assertSame(ParallelScanEngine.shared(), engine);
+        assertFalse(engine.isParallel(ParallelScanEngine.DEFAULT_PARALLEL_THRESHOLD - 1));
+        assertEquals(engine.getParallelism() > 1, engine.isParallel(ParallelScanEngine.DEFAULT_PARALLEL_THRESHOLD));
+        assertFalse(ParallelScanEngine.sequential().isParallel(Integer.MAX_VALUE - 1));
+    }
+}
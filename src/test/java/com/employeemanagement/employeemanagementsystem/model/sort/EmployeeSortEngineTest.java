@@ -0,0 +1,131 @@
+package com.employeemanagement.employeemanagementsystem.model.sort;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.comparator.EmployeePerformanceComparator;
+import com.employeemanagement.employeemanagementsystem.model.comparator.EmployeeSalaryComparator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the EmployeeSortEngine class
+ */
+class EmployeeSortEngineTest {
+
+    @Test
+    @DisplayName("Radix and counting sorts match the comparator orderings")
+    void testMatchesComparators() {
+        List<Employee<Integer>> employees = randomEmployees(5_000, new Random(1));
+
+        assertSameOrder(sortedCopy(employees, new EmployeeSalaryComparator<>()),
+                EmployeeSortEngine.sortDescending(employees, EmployeeSortKey.SALARY));
+        assertSameOrder(sortedCopy(employees, new EmployeePerformanceComparator<>()),
+                EmployeeSortEngine.sortDescending(employees, EmployeeSortKey.PERFORMANCE));
+
+        List<Employee<Integer>> byExperience = new ArrayList<>(employees);
+        Collections.sort(byExperience);
+        assertSameOrder(byExperience, EmployeeSortEngine.sortDescending(employees, EmployeeSortKey.EXPERIENCE));
+    }
+
+    @Test
+    @DisplayName("Parallel sort above the threshold matches the comparator ordering")
+    void testParallelMatchesComparator() {
+        List<Employee<Integer>> employees = randomEmployees(EmployeeSortEngine.PARALLEL_THRESHOLD * 3 + 17, new Random(2));
+
+        assertSameOrder(sortedCopy(employees, new EmployeeSalaryComparator<>()),
+                EmployeeSortEngine.sortDescending(employees, EmployeeSortKey.SALARY));
+    }
+
+    @Test
+    @DisplayName("Nulls go last and special doubles follow Double.compare")
+    void testNullsAndSpecialValues() {
+        List<Employee<Integer>> employees = new ArrayList<>();
+        employees.add(new Employee<>(1, "Zero", EEmployeeDepartment.IT, 0.0, 1.0, 1, true));
+        employees.add(null);
+        employees.add(new Employee<>(2, "Negative Zero", EEmployeeDepartment.IT, -0.0, 1.0, 1, true));
+        employees.add(new Employee<>(3, "Big", EEmployeeDepartment.IT, Double.MAX_VALUE, 1.0, 1, true));
+        employees.add(new Employee<>(4, "Not A Number", EEmployeeDepartment.IT, Double.NaN, 1.0, 1, true));
+
+        List<Employee<Integer>> sorted = EmployeeSortEngine.sortDescending(employees, EmployeeSortKey.SALARY);
+
+        assertSameOrder(sortedCopy(employees, new EmployeeSalaryComparator<>()), sorted);
+        assertNull(sorted.get(4));
+        assertEquals(2, sorted.get(3).getEmployeeId());
+    }
+
+    @Test
+    @DisplayName("Ascending sort is the stable reverse of the key order")
+    void testAscending() {
+        List<Employee<Integer>> employees = randomEmployees(1_000, new Random(3));
+        List<Employee<Integer>> expected = new ArrayList<>(employees);
+        expected.sort((a, b) -> Double.compare(a.getEmployeeSalary(), b.getEmployeeSalary()));
+
+        assertSameOrder(expected, EmployeeSortEngine.sortAscending(employees, EmployeeSortKey.SALARY));
+    }
+
+    @Test
+    @DisplayName("Multi-column packed sort matches the chained comparator")
+    void testMultiColumnMatchesChainedComparator() {
+        List<Employee<Integer>> employees = randomEmployees(5_000, new Random(4));
+        Collections.shuffle(employees, new Random(5));
+        EmployeeSortOrder order = EmployeeSortOrder.by(SortColumn.DEPARTMENT)
+                .thenDescending(SortColumn.PERFORMANCE)
+                .thenDescending(SortColumn.SALARY);
+
+        assertSameOrder(sortedCopy(employees, order.toComparator()), EmployeeSortEngine.sort(employees, order));
+    }
+
+    @Test
+    @DisplayName("Keys wider than one long spill into extra words")
+    void testMultiWordKeys() {
+        Random random = new Random(6);
+        List<Employee<Integer>> employees = new ArrayList<>();
+        for (int i = 0; i < 3_000; i++) {
+            // Unique salaries, names and IDs need more than 64 bits together
+            employees.add(new Employee<>(random.nextInt(), "Name " + random.nextInt(100),
+                    EEmployeeDepartment.values()[random.nextInt(5)], random.nextDouble() * 100_000,
+                    random.nextInt(6), random.nextInt(3), random.nextBoolean()));
+        }
+        EmployeeSortOrder order = EmployeeSortOrder.by(SortColumn.ACTIVE)
+                .thenDescending(SortColumn.EXPERIENCE)
+                .then(SortColumn.NAME)
+                .thenDescending(SortColumn.SALARY)
+                .then(SortColumn.DEPARTMENT);
+
+        assertSameOrder(sortedCopy(employees, order.toComparator()), EmployeeSortEngine.sort(employees, order));
+    }
+
+    private static List<Employee<Integer>> randomEmployees(int count, Random random) {
+        EEmployeeDepartment[] departments = EEmployeeDepartment.values();
+        List<Employee<Integer>> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // Coarse values so there are plenty of ties
+            double salary = 3000 + random.nextInt(500) * 25.5;
+            double rating = random.nextInt(51) / 10.0;
+            employees.add(new Employee<>(i, "Employee " + i, departments[i % departments.length],
+                    salary, rating, random.nextInt(41), random.nextBoolean()));
+        }
+        return employees;
+    }
+
+    private static List<Employee<Integer>> sortedCopy(List<Employee<Integer>> employees,
+                                                      java.util.Comparator<Employee<Integer>> comparator) {
+        List<Employee<Integer>> copy = new ArrayList<>(employees);
+        copy.sort(comparator);
+        return copy;
+    }
+
+    private static void assertSameOrder(List<Employee<Integer>> expected, List<Employee<Integer>> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), actual.get(i));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.employeemanagement.employeemanagementsystem.model.statistics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SalaryDistributionSketch class
+ */
+class SalaryDistributionSketchTest {
+
+    @Test
+    @DisplayName("Small inputs stay exact across removals")
+    void testExactWithRemovals() {
+        SalaryDistributionSketch sketch = new SalaryDistributionSketch();
+        for (int salary = 1; salary <= 10; salary++) {
+            sketch.add(salary * 1000.0);
+        }
+        sketch.remove(1000.0);
+        sketch.remove(10000.0);
+
+        assertEquals(8, sketch.getCount());
+        assertEquals(2000.0, sketch.getQuantile(0.0));
+        assertEquals(5000.0, sketch.getQuantile(0.5));
+        assertEquals(9000.0, sketch.getQuantile(1.0));
+        assertFalse(sketch.needsRebuild());
+    }
+
+    @Test
+    @DisplayName("Salary changes on a large input keep the rank error small")
+    void testRankErrorAfterChanges() {
+        SalaryDistributionSketch sketch = new SalaryDistributionSketch();
+        Random random = new Random(7);
+        double[] salaries = new double[100_000];
+        for (int i = 0; i < salaries.length; i++) {
+            salaries[i] = 3000 + random.nextDouble() * 7000;
+            sketch.add(salaries[i]);
+        }
+        // Give half of them a raise
+        for (int i = 0; i < salaries.length; i += 2) {
+            sketch.remove(salaries[i]);
+            salaries[i] *= 1.5;
+            sketch.add(salaries[i]);
+        }
+        Arrays.sort(salaries);
+
+        assertEquals(salaries.length, sketch.getCount());
+        for (double quantile : new double[]{0.1, 0.5, 0.9}) {
+            double estimate = sketch.getQuantile(quantile);
+            double trueRank = (double) Math.abs(Arrays.binarySearch(salaries, estimate) + 1) / salaries.length;
+            assertEquals(quantile, trueRank, 0.05, "Rank error too large for quantile " + quantile);
+        }
+    }
+
+    @Test
+    @DisplayName("A rebuild is requested once removals outweigh live salaries")
+    void testNeedsRebuild() {
+        SalaryDistributionSketch sketch = new SalaryDistributionSketch();
+        for (int i = 0; i < 10; i++) {
+            sketch.add(i);
+        }
+        for (int i = 0; i < 6; i++) {
+            sketch.remove(i);
+        }
+        assertTrue(sketch.needsRebuild());
+
+        sketch.clear();
+        assertTrue(sketch.isEmpty());
+        assertTrue(Double.isNaN(sketch.getQuantile(0.5)));
+        assertThrows(IllegalStateException.class, () -> sketch.remove(1.0));
+    }
+}
@@ -0,0 +1,94 @@
+package com.employeemanagement.employeemanagementsystem.model.statistics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SalaryQuantileSketch class
+ */
+class SalaryQuantileSketchTest {
+
+    // Allowed rank error for the default k (documented bound is about 1.65%)
+    private static final double RANK_TOLERANCE = 0.02;
+
+    @Test
+    @DisplayName("Small inputs are answered exactly")
+    void testExactForSmallInputs() {
+        SalaryQuantileSketch sketch = new SalaryQuantileSketch();
+        for (int salary = 1; salary <= 100; salary++) {
+            sketch.update(salary * 1000.0);
+        }
+
+        assertTrue(sketch.isExact());
+        assertEquals(50000.0, sketch.getQuantile(0.5));
+        assertEquals(90000.0, sketch.getQuantile(0.9));
+        assertEquals(99000.0, sketch.getQuantile(0.99));
+        assertEquals(1000.0, sketch.getQuantile(0.0));
+        assertEquals(100000.0, sketch.getQuantile(1.0));
+    }
+
+    @Test
+    @DisplayName("Large inputs stay within the documented rank error")
+    void testRankErrorOnLargeInput() {
+        SalaryQuantileSketch sketch = new SalaryQuantileSketch();
+        Random random = new Random(42);
+        double[] salaries = new double[200_000];
+        for (int i = 0; i < salaries.length; i++) {
+            salaries[i] = 3000 + Math.exp(random.nextGaussian()) * 2000;
+            sketch.update(salaries[i]);
+        }
+        Arrays.sort(salaries);
+
+        assertFalse(sketch.isExact());
+        assertTrue(sketch.getRetainedItems() < 1000, "Sketch should retain far fewer items than it was given");
+        for (double quantile : new double[]{0.5, 0.9, 0.99}) {
+            double estimate = sketch.getQuantile(quantile);
+            double trueRank = (double) upperBound(salaries, estimate) / salaries.length;
+            assertEquals(quantile, trueRank, RANK_TOLERANCE, "Rank error too large for quantile " + quantile);
+        }
+    }
+
+    @Test
+    @DisplayName("Merged sketches answer like a sketch over the combined data")
+    void testMerge() {
+        SalaryQuantileSketch first = new SalaryQuantileSketch();
+        SalaryQuantileSketch second = new SalaryQuantileSketch();
+        for (int i = 0; i < 50_000; i++) {
+            first.update(i);
+            second.update(50_000 + i);
+        }
+
+        first.merge(second);
+
+        assertEquals(100_000, first.getCount());
+        assertEquals(0.0, first.getQuantile(0.0));
+        assertEquals(99_999.0, first.getQuantile(1.0));
+        assertEquals(0.5, first.getQuantile(0.5) / 100_000, RANK_TOLERANCE);
+        assertEquals(0.9, first.getQuantile(0.9) / 100_000, RANK_TOLERANCE);
+    }
+
+    @Test
+    @DisplayName("Invalid quantiles are rejected and empty sketches return NaN")
+    void testInvalidQueries() {
+        SalaryQuantileSketch sketch = new SalaryQuantileSketch();
+        assertTrue(Double.isNaN(sketch.getQuantile(0.5)));
+        assertThrows(IllegalArgumentException.class, () -> sketch.getQuantile(1.5));
+        assertThrows(IllegalArgumentException.class, () -> sketch.update(Double.NaN));
+    }
+
+    private static int upperBound(double[] sorted, double key) {
+        int index = Arrays.binarySearch(sorted, key);
+        if (index < 0) {
+            return -index - 1;
+        }
+        while (index < sorted.length && sorted[index] == key) {
+            index++;
+        }
+        return index;
+    }
+}
@@ -0,0 +1,113 @@
+package com.employeemanagement.employeemanagementsystem.model.stream;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the EmployeePublisher class
+ */
+class EmployeePublisherTest {
+
+    @Test
+    @DisplayName("Rows are only pulled as the subscriber requests them")
+    void testDemand() {
+        int[] pulled = {0};
+        EmployeePublisher<Integer> publisher = new EmployeePublisher<>(() -> countingCursor(10, pulled));
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        assertEquals(0, pulled[0]);
+
+        subscriber.subscription.request(3);
+        assertEquals(3, subscriber.received.size());
+        // One row of read-ahead to detect the end early
+        assertEquals(4, pulled[0]);
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(7);
+        assertEquals(10, subscriber.received.size());
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    @DisplayName("Requesting from inside onNext doesn't recurse")
+    void testReentrantRequest() {
+        int[] pulled = {0};
+        EmployeePublisher<Integer> publisher = new EmployeePublisher<>(() -> countingCursor(200_000, pulled));
+        RecordingSubscriber subscriber = new RecordingSubscriber() {
+            @Override
+            public void onNext(Employee<Integer> item) {
+                super.onNext(item);
+                subscription.request(1);
+            }
+        };
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        assertEquals(200_000, subscriber.received.size());
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    @DisplayName("Cancel stops delivery and invalid requests signal an error")
+    void testCancelAndInvalidRequest() {
+        int[] pulled = {0};
+        EmployeePublisher<Integer> publisher = new EmployeePublisher<>(() -> countingCursor(10, pulled));
+        RecordingSubscriber cancelling = new RecordingSubscriber();
+        publisher.subscribe(cancelling);
+        cancelling.subscription.request(2);
+        cancelling.subscription.cancel();
+        cancelling.subscription.request(5);
+        assertEquals(2, cancelling.received.size());
+        assertFalse(cancelling.completed);
+
+        RecordingSubscriber invalid = new RecordingSubscriber();
+        publisher.subscribe(invalid);
+        invalid.subscription.request(0);
+        assertInstanceOf(IllegalArgumentException.class, invalid.error);
+    }
+
+    private static EmployeeCursor<Integer> countingCursor(int size, int[] pulled) {
+        return () -> {
+            if (pulled[0] == size) {
+                return null;
+            }
+            pulled[0]++;
+            return new Employee<>(pulled[0], "Employee " + pulled[0], EEmployeeDepartment.IT, 1000, 3.0, 1, true);
+        };
+    }
+
+    private static class RecordingSubscriber implements Flow.Subscriber<Employee<Integer>> {
+        Flow.Subscription subscription;
+        final List<Employee<Integer>> received = new ArrayList<>();
+        boolean completed;
+        Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Employee<Integer> item) {
+            received.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
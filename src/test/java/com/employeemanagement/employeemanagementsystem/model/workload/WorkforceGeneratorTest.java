@@ -0,0 +1,83 @@
+package com.employeemanagement.employeemanagementsystem.model.workload;
+
+import com.employeemanagement.employeemanagementsystem.model.EEmployeeDepartment;
+import com.employeemanagement.employeemanagementsystem.model.Employee;
+import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the WorkforceGenerator class
+ */
+class WorkforceGeneratorTest {
+
+    @Test
+    @DisplayName("The same seed always produces the same employees, in any order")
+    void testDeterminism() {
+        WorkforceGenerator first = WorkforceGenerator.withSeed(11);
+        WorkforceGenerator second = WorkforceGenerator.withSeed(11);
+
+        List<Employee<Integer>> sequential = first.generate(1_000);
+        List<Employee<Integer>> parallel = second.stream(1_000).parallel().collect(Collectors.toList());
+        for (int i = 0; i < sequential.size(); i++) {
+            assertEquals(sequential.get(i).toString(), parallel.get(i).toString());
+        }
+        assertEquals(sequential.get(500).toString(), first.employee(500).toString());
+
+        Employee<Integer> other = WorkforceGenerator.withSeed(12).employee(500);
+        assertNotEquals(sequential.get(500).toString(), other.toString());
+    }
+
+    @Test
+    @DisplayName("Department skew, name cardinality and value ranges follow the settings")
+    void testDistributions() {
+        WorkforceGenerator generator = WorkforceGenerator.builder()
+                .seed(3)
+                .departmentSkew(1.5)
+                .uniformSalaries(40_000, 50_000)
+                .normalRatings(4, 0.5)
+                .nameCardinality(5, 7)
+                .activeRatio(1)
+                .build();
+
+        Map<EEmployeeDepartment, Integer> departments = new EnumMap<>(EEmployeeDepartment.class);
+        Set<String> names = new HashSet<>();
+        for (Employee<Integer> employee : generator.generate(20_000)) {
+            departments.merge(employee.getEmployeeDepartment(), 1, Integer::sum);
+            names.add(employee.getEmployeeName());
+            assertTrue(employee.getEmployeeSalary() >= 40_000 && employee.getEmployeeSalary() <= 50_000);
+            assertTrue(employee.getPerformanceRating() >= 0 && employee.getPerformanceRating() <= 5);
+            assertTrue(employee.isActive());
+        }
+
+        assertEquals(35, names.size());
+        // Zipf order: each department is larger than the next
+        EEmployeeDepartment[] order = EEmployeeDepartment.values();
+        for (int i = 1; i < order.length; i++) {
+            assertTrue(departments.get(order[i - 1]) > departments.get(order[i]));
+        }
+        assertTrue(WorkforceGenerator.builder().departmentSkew(0).build().generate(20_000).stream()
+                .filter(e -> e.getEmployeeDepartment() == EEmployeeDepartment.HR).count() < 4_500);
+    }
+
+    @Test
+    @DisplayName("Populate fills a database with consecutive IDs")
+    void testPopulate() throws Exception {
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        WorkforceGenerator generator = WorkforceGenerator.withSeed(5);
+        generator.populate(database, 2_000);
+
+        assertEquals(2_000, database.getTotalEmployeeCount());
+        assertEquals(generator.employee(1_999).toString(), database.getEmployee(1_999).toString());
+        assertThrows(IllegalArgumentException.class, () -> WorkforceGenerator.builder().departmentWeights(1, 2));
+    }
+}
@@ -0,0 +1,74 @@
+package com.employeemanagement.employeemanagementsystem.model.workload;
+
+import com.employeemanagement.employeemanagementsystem.model.EmployeeDatabase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the WorkloadDriver class
+ */
+class WorkloadDriverTest {
+
+    @Test
+    @DisplayName("A run issues the requested operations and reports their latencies")
+    void testOperationCountRun() throws Exception {
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>();
+        WorkforceGenerator generator = WorkforceGenerator.withSeed(9);
+        generator.populate(database, 1_000);
+
+        WorkloadReport report = new WorkloadDriver(database, generator, OperationMix.balanced(), 2).run(1_000);
+
+        assertEquals(2_000, report.getTotalOperations());
+        long sum = report.getOperations().values().stream().mapToLong(WorkloadReport.OperationStats::getCount).sum();
+        assertEquals(2_000, sum);
+        assertEquals(0, report.getOverall().getErrors());
+        assertTrue(report.getThroughput() > 0);
+        WorkloadReport.OperationStats overall = report.getOverall();
+        assertTrue(overall.getP50() <= overall.getP99() && overall.getP99() <= overall.getMax());
+        assertTrue(report.toString().contains("GET_EMPLOYEE"));
+    }
+
+    @Test
+    @DisplayName("A single-threaded run is reproducible and a read-only mix never writes")
+    void testReproducibleRun() throws Exception {
+        WorkforceGenerator generator = WorkforceGenerator.withSeed(4);
+        EmployeeDatabase<Integer> first = new EmployeeDatabase<>();
+        EmployeeDatabase<Integer> second = new EmployeeDatabase<>();
+        generator.populate(first, 500);
+        generator.populate(second, 500);
+
+        new WorkloadDriver(first, generator, OperationMix.writeHeavy(), 1).run(2_000);
+        new WorkloadDriver(second, generator, OperationMix.writeHeavy(), 1).run(2_000);
+        assertEquals(first.getAllEmployees().toString(), second.getAllEmployees().toString());
+
+        int before = first.getTotalEmployeeCount();
+        WorkloadReport report = new WorkloadDriver(first, generator, OperationMix.readOnly(), 1).run(Duration.ofMillis(50));
+        assertEquals(before, first.getTotalEmployeeCount());
+        assertNull(report.getOperationStats(WorkloadOperation.ADD_EMPLOYEE));
+    }
+
+    @Test
+    @DisplayName("Operation mixes pick operations in proportion to their weights")
+    void testOperationMix() {
+        OperationMix mix = OperationMix.readOnly()
+                .withWeight(WorkloadOperation.GET_EMPLOYEE, 0)
+                .withWeight(WorkloadOperation.UPDATE_SALARY, 100);
+        assertEquals(100.0 / 120, mix.getWriteFraction(), 1e-9);
+
+        SplittableRandom random = new SplittableRandom(1);
+        int writes = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (mix.next(random).isWrite()) {
+                writes++;
+            }
+        }
+        assertEquals(8_333, writes, 300);
+        assertEquals(0.05, OperationMix.named("read-heavy").getWriteFraction(), 1e-9);
+        assertThrows(IllegalArgumentException.class, () -> OperationMix.named("chaos"));
+    }
+}